@@ -155,25 +155,7 @@ register_services() {
     local ATTRIBUTE_NAME="$1"
     local sub_path="$2"
 
-    # Create META-INF dirs and add entries (add_service_entry handles dry-run)
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer" \
-        "org.purpleBean.kmip.codec.json.serializer.kmip.${sub_path}.${ATTRIBUTE_NAME}AttributeJsonSerializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer" \
-        "org.purpleBean.kmip.codec.json.deserializer.kmip.${sub_path}.${ATTRIBUTE_NAME}AttributeJsonDeserializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer" \
-        "org.purpleBean.kmip.codec.xml.serializer.kmip.${sub_path}.${ATTRIBUTE_NAME}AttributeXmlSerializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer" \
-        "org.purpleBean.kmip.codec.xml.deserializer.kmip.${sub_path}.${ATTRIBUTE_NAME}AttributeXmlDeserializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer" \
-        "org.purpleBean.kmip.codec.ttlv.serializer.kmip.${sub_path}.${ATTRIBUTE_NAME}AttributeTtlvSerializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer" \
-        "org.purpleBean.kmip.codec.ttlv.deserializer.kmip.${sub_path}.${ATTRIBUTE_NAME}AttributeTtlvDeserializer"
-
+    # Codecs are picked up by the build-time KmipCodecIndex; only the benchmark subject needs a service entry
     add_service_entry "src/test/resources/META-INF/services/org.purpleBean.kmip.benchmark.api.KmipBenchmarkSubject" \
         "org.purpleBean.kmip.benchmark.subjects.${sub_path}.${ATTRIBUTE_NAME}AttributeBenchmarkSubject"
 }
@@ -282,6 +264,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.${SUB_PATH}.${ATTRIBUTE_NAME}Attribute;
 
@@ -305,9 +288,11 @@ public class ${ATTRIBUTE_NAME}AttributeJsonSerializer extends KmipDataTypeJsonSe
         }
 
         gen.writeStartObject();
-        gen.writeObject(value.getKmipTag());
-        gen.writeStringField("type", value.getEncodingType().getDescription());
-        gen.writeStringField("value", value.getDateTime().toString());
+        writeTag(gen, value.getKmipTag());
+        gen.writeFieldName(KmipFieldNames.TYPE);
+        gen.writeString(value.getEncodingType().getSerializedDescription());
+        gen.writeFieldName(KmipFieldNames.VALUE);
+        gen.writeString(value.getDateTime().toString());
         gen.writeEndObject();
     }
 }
@@ -330,12 +315,12 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.${SUB_PATH};
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.${SUB_PATH}.${ATTRIBUTE_NAME}Attribute;
 
 import java.io.IOException;
@@ -351,57 +336,42 @@ public class ${ATTRIBUTE_NAME}AttributeJsonDeserializer extends KmipDataTypeJson
 
     @Override
     public ${ATTRIBUTE_NAME}Attribute deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-
-        if (node == null) {
-            ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, String.format("JSON node cannot be null for ${ATTRIBUTE_NAME}Attribute deserialization"));
-            return null;
-        }
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ${ATTRIBUTE_NAME}Attribute.class);
 
         // Validation: Extract and validate KMIP tag
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, String.format("Invalid KMIP tag for ${ATTRIBUTE_NAME}Attribute"));
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, String.format("Failed to parse KMIP tag for ${ATTRIBUTE_NAME}Attribute: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, "Expected object for ${ATTRIBUTE_NAME}Attribute");
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, String.format("Missing or non-text 'type' field for ${ATTRIBUTE_NAME}Attribute"));
             return null;
         }
 
         // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (!fields.isTextual()) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, "Missing or non-text 'value' for ${ATTRIBUTE_NAME}Attribute");
             return null;
         }
 
         // TODO : update the field type and name
-        OffsetDateTime dateTime = OffsetDateTime.parse(valueNode.asText());
+        OffsetDateTime dateTime = OffsetDateTime.parse(fields.asText());
         ${ATTRIBUTE_NAME}Attribute attribute = ${ATTRIBUTE_NAME}Attribute.builder().dateTime(dateTime).build();
 
         KmipSpec spec = KmipContext.getSpec();
         if (!attribute.isSupportedFor(spec)) {
             throw new NoSuchElementException(
-                    String.format("${ATTRIBUTE_NAME}Attribute '%s' is not supported for KMIP spec %s", valueNode.asText(), spec)
+                    String.format("${ATTRIBUTE_NAME}Attribute '%s' is not supported for KMIP spec %s", fields.asText(), spec)
             );
         }
         return attribute;
@@ -429,10 +399,10 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.${SUB_PATH}.${ATTRIBUTE_NAME}Attribute;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -453,14 +423,15 @@ public class ${ATTRIBUTE_NAME}AttributeXmlSerializer extends KmipDataTypeXmlSeri
         }
 
         // Start element with name from kmipTag
-        String elementName = value.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(value.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(value);
 
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("type", value.getEncodingType().getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+        xmlGen.writeString(value.getEncodingType().getSerializedDescription());
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("value", value.getDateTime().toString());
+        xmlGen.writeFieldName(KmipFieldNames.VALUE);
+        xmlGen.writeString(value.getDateTime().toString());
         xmlGen.writeEndObject();
     }
 }
@@ -482,15 +453,13 @@ generate_xml_deserializer() {
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.${SUB_PATH};
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.${SUB_PATH}.${ATTRIBUTE_NAME}Attribute;
 
 import java.io.IOException;
@@ -506,35 +475,30 @@ public class ${ATTRIBUTE_NAME}AttributeXmlDeserializer extends KmipDataTypeXmlDe
 
     @Override
     public ${ATTRIBUTE_NAME}Attribute deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipXmlFields fields = KmipXmlFields.read(p);
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, "Expected XML element object for ${ATTRIBUTE_NAME}Attribute");
             return null;
         }
 
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
+        if (!fields.isElement(kmipTag)) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, "Invalid Tag for ${ATTRIBUTE_NAME}Attribute");
             return null;
         }
 
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
+        if (!encodingType.getDescription().equals(fields.type())) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class, "Missing or invalid '@type' attribute for ${ATTRIBUTE_NAME}Attribute");
             return null;
         }
 
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (fields.value() == null) {
             ctxt.reportInputMismatch(${ATTRIBUTE_NAME}Attribute.class,
                 "Missing or non-text 'value' for ${ATTRIBUTE_NAME}Attribute");
             return null;
         }
 
-        OffsetDateTime dateTime = OffsetDateTime.parse(valueNode.asText());
+        OffsetDateTime dateTime = OffsetDateTime.parse(fields.value());
         ${ATTRIBUTE_NAME}Attribute attribute = ${ATTRIBUTE_NAME}Attribute.builder()
             .dateTime(dateTime)
             .build();
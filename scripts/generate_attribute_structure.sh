@@ -181,24 +181,7 @@ register_services() {
         return 0
     fi
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer" \
-        "org.purpleBean.kmip.codec.json.serializer.kmip.${PACKAGE_DOT}.${STRUCT_NAME}JsonSerializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer" \
-        "org.purpleBean.kmip.codec.json.deserializer.kmip.${PACKAGE_DOT}.${STRUCT_NAME}JsonDeserializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer" \
-        "org.purpleBean.kmip.codec.xml.serializer.kmip.${PACKAGE_DOT}.${STRUCT_NAME}XmlSerializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer" \
-        "org.purpleBean.kmip.codec.xml.deserializer.kmip.${PACKAGE_DOT}.${STRUCT_NAME}XmlDeserializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer" \
-        "org.purpleBean.kmip.codec.ttlv.serializer.kmip.${PACKAGE_DOT}.${STRUCT_NAME}TtlvSerializer"
-
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer" \
-        "org.purpleBean.kmip.codec.ttlv.deserializer.kmip.${PACKAGE_DOT}.${STRUCT_NAME}TtlvDeserializer"
-
+    # Codecs are picked up by the build-time KmipCodecIndex; only the benchmark subject needs a service entry
     add_service_entry "src/test/resources/META-INF/services/org.purpleBean.kmip.benchmark.api.KmipBenchmarkSubject" \
         "org.purpleBean.kmip.benchmark.subjects.${PACKAGE_DOT}.${STRUCT_NAME}BenchmarkSubject"
 }
@@ -429,6 +412,7 @@ package org.purpleBean.kmip.codec.json.serializer.kmip.${pkg_dot};
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.*;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.${pkg_dot}.${class_name};
 
@@ -462,8 +446,9 @@ public class ${class_name}JsonSerializer extends KmipDataTypeJsonSerializer<${cl
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(${class_lower}.getKmipTag());
-        jsonGenerator.writeStringField("type", ${class_lower}.getEncodingType().getDescription());
+        writeTag(jsonGenerator, ${class_lower}.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(${class_lower}.getEncodingType().getSerializedDescription());
         jsonGenerator.writeFieldName("value");
         jsonGenerator.writeStartArray();
         for (KmipDataType field : fields) {
@@ -504,9 +489,9 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.${pkg_dot};
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.${pkg_dot}.${class_name};
 
 import java.io.IOException;
@@ -518,56 +503,42 @@ public class ${class_name}JsonDeserializer extends KmipDataTypeJsonDeserializer<
 
     @Override
     public ${class_name} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(${class_name}.class, "JSON node cannot be null for ${class_name} deserialization");
-            return null;
-        }
+        ${class_name}.${class_name}Builder builder = ${class_name}.builder();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ${class_name}.class, (f, parser, c) ->
+                KmipJsonFields.forEachElement(parser, c, ${class_name}.class, element -> {
+                    if (!element.hasTag()) {
+                        return;
+                    }
+                    try {
+                        setValue(builder, element.tagValue(), element);
+                    } catch (Exception e) {
+                        c.reportInputMismatch(${class_name}.class, String.format("Failed to process field in ${class_name}: %s", e.getMessage()));
+                    }
+                }));
 
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(${class_name}.class, "Invalid KMIP tag for ${class_name}");
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(${class_name}.class, String.format("Failed to parse KMIP tag for ${class_name}: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(${class_name}.class, "Expected object for ${class_name}");
             return null;
         }
 
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() || !encodingType.getDescription().equals(typeNode.asText())) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(${class_name}.class, String.format("Invalid or missing type field for ${class_name}, expected: %s", encodingType.getDescription()));
             return null;
         }
 
-        JsonNode valuesNode = node.get("value");
-        if (valuesNode == null || !valuesNode.isArray()) {
+        if (fields.value() == null) {
             ctxt.reportInputMismatch(${class_name}.class, "Missing or invalid 'value' array for ${class_name}");
             return null;
         }
 
-        ${class_name}.${class_name}Builder builder = ${class_name}.builder();
-
-        for (JsonNode valueNode : valuesNode) {
-            if (valueNode == null || !valueNode.has("tag")) {
-                continue;
-            }
-            try {
-                KmipTag.Value nodeTag = p.getCodec().treeToValue(valueNode, KmipTag.class).getValue();
-                setValue(builder, nodeTag, valueNode, p, ctxt);
-            } catch (Exception e) {
-                ctxt.reportInputMismatch(${class_name}.class, String.format("Failed to process field in ${class_name}: %s", e.getMessage()));
-                return null;
-            }
-        }
-
         ${class_name} ${class_lower} = builder.build();
 
         if (!${class_lower}.isSupportedFor(KmipContext.getSpec())) {
@@ -579,9 +550,7 @@ public class ${class_name}JsonDeserializer extends KmipDataTypeJsonDeserializer<
 
     protected void setValue(${class_name}.${class_name}Builder builder,
                           KmipTag.Value nodeTag,
-                          JsonNode node,
-                          JsonParser p,
-                          DeserializationContext ctxt) throws IOException {
+                          KmipJsonFields.Element element) throws IOException {
         throw new UnsupportedOperationException("Field deserialization not implemented for tag: " + nodeTag);
     }
 }
@@ -617,7 +586,6 @@ import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.${pkg_dot}.${class_name};
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -635,14 +603,13 @@ public class ${class_name}XmlSerializer extends KmipDataTypeXmlSerializer<${clas
             throw new IllegalStateException("Expected ToXmlGenerator");
         }
 
-        String elementName = ${class_lower}.getKmipTag().getDescription();
-        ((ToXmlGenerator) gen).setNextName(QName.valueOf(elementName));
+        ((ToXmlGenerator) gen).setNextName(${class_lower}.getKmipTag().getValue().getQName());
         gen.writeStartObject(${class_lower});
 
         List<KmipDataType> values = ${class_lower}.getValues();
         for (KmipDataType kmipDataType : values) {
             if (kmipDataType != null && kmipDataType.getKmipTag() != null) {
-                serializers.defaultSerializeField(kmipDataType.getKmipTag().getDescription(), kmipDataType, gen);
+                writeChild(gen, serializers, kmipDataType);
             }
         }
 
@@ -677,16 +644,13 @@ generate_xml_deserializer() {
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.${pkg_dot};
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.${pkg_dot}.${class_name};
 
 import java.io.IOException;
-import java.util.Map;
 import java.util.NoSuchElementException;
 
 public class ${class_name}XmlDeserializer extends KmipDataTypeXmlDeserializer<${class_name}> {
@@ -695,29 +659,21 @@ public class ${class_name}XmlDeserializer extends KmipDataTypeXmlDeserializer<${
 
     @Override
     public ${class_name} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipSpec spec = KmipContext.getSpec();
+        ${class_name}.${class_name}Builder builder = ${class_name}.builder();
+        KmipXmlFields fields = KmipXmlFields.read(p, (name, child) ->
+                setValue(builder, KmipTag.fromName(spec, name), child, ctxt));
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(${class_name}.class, "Expected XML object for ${class_name}");
             return null;
         }
 
-        if (p instanceof FromXmlParser && !kmipTag.getDescription().equalsIgnoreCase(((FromXmlParser)p).getStaxReader().getLocalName())) {
+        if (!fields.isElement(kmipTag)) {
             ctxt.reportInputMismatch(${class_name}.class, "Invalid Tag for ${class_name}");
             return null;
         }
 
-        KmipSpec spec = KmipContext.getSpec();
-        ${class_name}.${class_name}Builder builder = ${class_name}.builder();
-
-        java.util.Iterator<java.util.Map.Entry<String, JsonNode>> fields = node.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> entry = fields.next();
-            KmipTag.Value nodeTag = KmipTag.fromName(spec, entry.getKey());
-            setValue(builder, nodeTag, entry.getValue(), p, ctxt);
-        }
-
         ${class_name} ${class_lower} = builder.build();
         if (!${class_lower}.isSupportedFor(spec)) {
             throw new NoSuchElementException(String.format("${class_name} is not supported for KMIP spec %s", spec));
@@ -727,7 +683,6 @@ public class ${class_name}XmlDeserializer extends KmipDataTypeXmlDeserializer<${
 
     protected void setValue(${class_name}.${class_name}Builder builder,
                           KmipTag.Value nodeTag,
-                          JsonNode node,
                           JsonParser p,
                           DeserializationContext ctxt) throws IOException {
         throw new UnsupportedOperationException("Field deserialization not implemented for tag: " + nodeTag);
@@ -43,18 +43,18 @@ To actually create files pass one or more generation flags.
 
 Options:
   --class         Generate the  class
-  --json-ser      Generate JSON serializer
-  --json-des      Generate JSON deserializer
-  --xml-ser       Generate XML serializer
-  --xml-des       Generate XML deserializer
-  --ttlv-ser      Generate TTLV serializer
-  --ttlv-des      Generate TTLV deserializer
+  --json-ser      Generate handwritten JSON serializer (not needed for @KmipType classes)
+  --json-des      Generate handwritten JSON deserializer (not needed for @KmipType classes)
+  --xml-ser       Generate handwritten XML serializer (not needed for @KmipType classes)
+  --xml-des       Generate handwritten XML deserializer (not needed for @KmipType classes)
+  --ttlv-ser      Generate handwritten TTLV serializer (not needed for @KmipType classes)
+  --ttlv-des      Generate handwritten TTLV deserializer (not needed for @KmipType classes)
   --domain-test   Generate domain/unit test
   --json-test     Generate JSON serialization test
   --xml-test      Generate XML serialization test
   --ttlv-test     Generate TTLV serialization test
   --benchmark     Generate benchmark subject
-  --all           Generate everything
+  --all           Generate everything except the codecs, which KmipTypeProcessor generates
   -h, --help      Show this help
 EOF
     exit 1
@@ -314,6 +314,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * KMIP ${DATA_NAME} dataType.
  */
+@KmipType(tag = KmipTag.Standard.${DATA_NAME_SNAKE}, encoding = EncodingType.DATE_TIME)
 @Data
 @Builder
 public class ${DATA_NAME} implements KmipDataType {
@@ -383,6 +384,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.${pdot}.${DATA_NAME};
 
@@ -409,17 +411,16 @@ public class ${DATA_NAME}JsonSerializer extends KmipDataTypeJsonSerializer<${DAT
         }
 
         gen.writeStartObject();
-        gen.writeObject(${varname}.getKmipTag());
-        gen.writeStringField("type", ${varname}.getEncodingType().getDescription());
-        gen.writeObjectField("value", ${varname}.getValue());
+        writeTag(gen, ${varname}.getKmipTag());
+        gen.writeFieldName(KmipFieldNames.TYPE);
+        gen.writeString(${varname}.getEncodingType().getSerializedDescription());
+        gen.writeFieldName(KmipFieldNames.VALUE);
+        gen.writeObject(${varname}.getValue());
         gen.writeEndObject();
     }
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer" \
-        "org.purpleBean.kmip.codec.json.serializer.kmip.${pdot}.${DATA_NAME}JsonSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -444,11 +445,11 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.${pdot};
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.${pdot}.${DATA_NAME};
 
 import java.io.IOException;
@@ -461,52 +462,37 @@ public class ${DATA_NAME}JsonDeserializer extends KmipDataTypeJsonDeserializer<$
 
     @Override
     public ${DATA_NAME} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-
-        if (node == null) {
-            ctxt.reportInputMismatch(${DATA_NAME}.class, String.format("JSON node cannot be null for ${DATA_NAME} deserialization"));
-            return null;
-        }
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ${DATA_NAME}.class);
 
         // Validation: Extract and validate KMIP tag
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(${DATA_NAME}.class, String.format("Invalid KMIP tag for ${DATA_NAME}"));
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(${DATA_NAME}.class, String.format("Failed to parse KMIP tag for ${DATA_NAME}: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(${DATA_NAME}.class,
                     String.format("Expected object with %s tag for ${DATA_NAME}, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(${DATA_NAME}.class, String.format("Missing or non-text 'type' field for ${DATA_NAME}"));
             return null;
         }
 
         // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (!fields.isTextual()) {
             ctxt.reportInputMismatch(${DATA_NAME}.class, "${DATA_NAME} 'value' must be a non-empty array");
             return null;
         }
 
         // TODO: update with required java type
-        OffsetDateTime dateTime = p.getCodec().treeToValue(valueNode, OffsetDateTime.class);
+        OffsetDateTime dateTime = ctxt.readTreeAsValue(ctxt.getNodeFactory().textNode(fields.asText()), OffsetDateTime.class);
         ${DATA_NAME} ${varname} = ${DATA_NAME}.builder().value(dateTime).build();
 
         // Validate KMIP spec compatibility
@@ -522,9 +508,6 @@ public class ${DATA_NAME}JsonDeserializer extends KmipDataTypeJsonDeserializer<$
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer" \
-        "org.purpleBean.kmip.codec.json.deserializer.kmip.${pdot}.${DATA_NAME}JsonDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -552,10 +535,10 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.${pdot}.${DATA_NAME};
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.time.OffsetDateTime;
@@ -576,22 +559,20 @@ public class ${DATA_NAME}XmlSerializer extends KmipDataTypeXmlSerializer<${DATA_
         }
 
         // Start element with name from kmipTag
-        String elementName = ${varname}.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(${varname}.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(${varname});
 
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("type", ${varname}.getEncodingType().getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+        xmlGen.writeString(${varname}.getEncodingType().getSerializedDescription());
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeObjectField("value", ${varname}.getValue());
+        xmlGen.writeFieldName(KmipFieldNames.VALUE);
+        xmlGen.writeObject(${varname}.getValue());
         xmlGen.writeEndObject();
     }
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer" \
-        "org.purpleBean.kmip.codec.xml.serializer.kmip.${pdot}.${DATA_NAME}XmlSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -615,19 +596,16 @@ generate_xml_deserializer() {
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.${pdot};
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.${pdot}.${DATA_NAME};
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
-import java.util.Map;
 
 public class ${DATA_NAME}XmlDeserializer extends KmipDataTypeXmlDeserializer<${DATA_NAME}> {
     private final KmipTag kmipTag = ${DATA_NAME}.kmipTag;
@@ -635,35 +613,30 @@ public class ${DATA_NAME}XmlDeserializer extends KmipDataTypeXmlDeserializer<${D
 
     @Override
     public ${DATA_NAME} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipXmlFields fields = KmipXmlFields.read(p);
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(${DATA_NAME}.class, "Expected XML object for ${DATA_NAME}");
             return null;
         }
 
-        if (p instanceof FromXmlParser xmlParser
-              && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
+        if (!fields.isElement(kmipTag)) {
             ctxt.reportInputMismatch(${DATA_NAME}.class, "Invalid Tag for ${DATA_NAME}");
             return null;
         }
 
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
+        if (!encodingType.getDescription().equals(fields.type())) {
             ctxt.reportInputMismatch(${DATA_NAME}.class, "Missing or invalid '@type' attribute for ${DATA_NAME}");
             return null;
         }
 
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (fields.value() == null) {
             ctxt.reportInputMismatch(${DATA_NAME}.class,
                 "Missing or non-text 'value' for ${DATA_NAME}");
             return null;
         }
 
-        OffsetDateTime dateTime = OffsetDateTime.parse(valueNode.asText());
+        OffsetDateTime dateTime = OffsetDateTime.parse(fields.value());
         ${DATA_NAME} ${varname} = ${DATA_NAME}.builder().value(dateTime).build();
 
         KmipSpec spec = KmipContext.getSpec();
@@ -678,9 +651,6 @@ public class ${DATA_NAME}XmlDeserializer extends KmipDataTypeXmlDeserializer<${D
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer" \
-        "org.purpleBean.kmip.codec.xml.deserializer.kmip.${pdot}.${DATA_NAME}XmlDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -746,9 +716,6 @@ public class ${DATA_NAME}TtlvSerializer extends KmipDataTypeTtlvSerializer<${DAT
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer" \
-        "org.purpleBean.kmip.codec.ttlv.serializer.kmip.${pdot}.${DATA_NAME}TtlvSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -813,9 +780,6 @@ public class ${DATA_NAME}TtlvDeserializer extends KmipDataTypeTtlvDeserializer<$
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer" \
-        "org.purpleBean.kmip.codec.ttlv.deserializer.kmip.${pdot}.${DATA_NAME}TtlvDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -1043,8 +1007,7 @@ while [ $# -gt 0 ]; do
         --ttlv-test) GEN_TTLV_TEST=true; any_flag=true; shift ;;
         --benchmark) GEN_BENCHMARK=true; any_flag=true; shift ;;
         --all)
-            GEN_CLASS=true; GEN_JSON_SER=true; GEN_JSON_DES=true; GEN_XML_SER=true; GEN_XML_DES=true;
-            GEN_TTLV_SER=true; GEN_TTLV_DES=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true;
+            GEN_CLASS=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true;
             GEN_TTLV_TEST=true; GEN_BENCHMARK=true;
             any_flag=true; shift ;;
         -h|--help) usage ;;
@@ -1062,8 +1025,7 @@ fi
 if [ "${any_flag}" = "false" ]; then
     DRY_RUN=true
     echo "No generation flags provided -> performing DRY RUN (no files will be written)."
-    GEN_CLASS=true; GEN_JSON_SER=true; GEN_JSON_DES=true; GEN_XML_SER=true; GEN_XML_DES=true
-    GEN_TTLV_SER=true; GEN_TTLV_DES=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true
+    GEN_CLASS=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true
     GEN_TTLV_TEST=true; GEN_BENCHMARK=true
 fi
 
@@ -44,18 +44,18 @@ To actually create files pass one or more generation flags.
 
 Options:
   --class         Generate the Enum class
-  --json-ser      Generate JSON serializer
-  --json-des      Generate JSON deserializer
-  --xml-ser       Generate XML serializer
-  --xml-des       Generate XML deserializer
-  --ttlv-ser      Generate TTLV serializer
-  --ttlv-des      Generate TTLV deserializer
+  --json-ser      Generate handwritten JSON serializer (not needed for @KmipType classes)
+  --json-des      Generate handwritten JSON deserializer (not needed for @KmipType classes)
+  --xml-ser       Generate handwritten XML serializer (not needed for @KmipType classes)
+  --xml-des       Generate handwritten XML deserializer (not needed for @KmipType classes)
+  --ttlv-ser      Generate handwritten TTLV serializer (not needed for @KmipType classes)
+  --ttlv-des      Generate handwritten TTLV deserializer (not needed for @KmipType classes)
   --domain-test   Generate domain/unit test
   --json-test     Generate JSON serialization test
   --xml-test      Generate XML serialization test
   --ttlv-test     Generate TTLV serialization test
   --benchmark     Generate benchmark subject
-  --all           Generate everything
+  --all           Generate everything except the codecs, which KmipTypeProcessor generates
   -h, --help      Show this help
 
 Examples:
@@ -222,27 +222,21 @@ import lombok.*;
 import org.purpleBean.kmip.*;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * KMIP ${ENUM_NAME} enumeration.
  */
+@KmipType(tag = KmipTag.Standard.${ENUM_NAME_SNAKE}, encoding = EncodingType.ENUMERATION)
 @Data
 @Builder
 public class ${ENUM_NAME} implements KmipEnumeration {
     public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.${ENUM_NAME_SNAKE});
     public static final EncodingType encodingType = EncodingType.ENUMERATION;
     private static final Set<KmipSpec> supportedVersions = Set.of(KmipSpec.UnknownVersion);
-    private static final Map<Integer, Value> VALUE_REGISTRY = new ConcurrentHashMap<>();
-    private static final Map<String, Value> DESCRIPTION_REGISTRY = new ConcurrentHashMap<>();
-    private static final Map<String, Value> EXTENSION_DESCRIPTION_REGISTRY = new ConcurrentHashMap<>();
+    private static final EnumerationRegistry<Value> REGISTRY = new EnumerationRegistry<>(
+            Standard.values(), Value::getValue, Value::getDescription, Value::getSupportedVersions);
 
     static {
-        for (Standard s : Standard.values()) {
-            VALUE_REGISTRY.put(s.value, s);
-            DESCRIPTION_REGISTRY.put(s.description, s);
-        }
-
         for (KmipSpec spec : supportedVersions) {
             if (spec == KmipSpec.UnknownVersion || spec == KmipSpec.UnsupportedVersion) continue;
             KmipDataType.register(spec, kmipTag.getValue(), encodingType, ${ENUM_NAME}.class);
@@ -283,16 +277,7 @@ public class ${ENUM_NAME} implements KmipEnumeration {
         if (supportedVersions.isEmpty()) {
             throw new IllegalArgumentException("At least one supported version must be specified");
         }
-        Value existingEnumByValue = VALUE_REGISTRY.get(value);
-        Value existingEnumByDescription = EXTENSION_DESCRIPTION_REGISTRY.get(description);
-        if (existingEnumByValue != null || existingEnumByDescription != null) {
-            return existingEnumByValue != null ? existingEnumByValue : existingEnumByDescription;
-        }
-        Extension custom = new Extension(value, description, supportedVersions);
-        VALUE_REGISTRY.putIfAbsent(custom.getValue(), custom);
-        DESCRIPTION_REGISTRY.putIfAbsent(custom.getDescription(), custom);
-        EXTENSION_DESCRIPTION_REGISTRY.putIfAbsent(custom.getDescription(), custom);
-        return custom;
+        return REGISTRY.register(new Extension(value, description, supportedVersions));
     }
 
     /**
@@ -300,12 +285,13 @@ public class ${ENUM_NAME} implements KmipEnumeration {
      */
     public static Value fromName(String name) {
         KmipSpec spec = KmipContext.getSpec();
-        Value v = DESCRIPTION_REGISTRY.get(name);
-        return Optional.ofNullable(v)
-                .filter(Value::isSupported)
-                .orElseThrow(() -> new NoSuchElementException(
-                        String.format("No ${ENUM_NAME} value found for '%s' in KMIP spec %s", name, spec)
-                ));
+        Value v = REGISTRY.fromName(name, spec);
+        if (v == null) {
+            throw new NoSuchElementException(
+                    String.format("No ${ENUM_NAME} value found for '%s' in KMIP spec %s", name, spec)
+            );
+        }
+        return v;
     }
 
     /**
@@ -313,19 +299,20 @@ public class ${ENUM_NAME} implements KmipEnumeration {
      */
     public static Value fromValue(int value) {
         KmipSpec spec = KmipContext.getSpec();
-        Value v = VALUE_REGISTRY.get(value);
-        return Optional.ofNullable(v)
-                .filter(Value::isSupported)
-                .orElseThrow(() -> new NoSuchElementException(
-                        String.format("No ${ENUM_NAME} value found for %d in KMIP spec %s", value, spec)
-                ));
+        Value v = REGISTRY.fromValue(value, spec);
+        if (v == null) {
+            throw new NoSuchElementException(
+                    String.format("No ${ENUM_NAME} value found for %d in KMIP spec %s", value, spec)
+            );
+        }
+        return v;
     }
 
     /**
      * Get registered values.
      */
     public static Collection<Value> registeredValues() {
-        return List.copyOf(EXTENSION_DESCRIPTION_REGISTRY.values());
+        return REGISTRY.extensions();
     }
 
     @Override
@@ -384,6 +371,8 @@ public class ${ENUM_NAME} implements KmipEnumeration {
 
         String getDescription();
 
+        Set<KmipSpec> getSupportedVersions();
+
         boolean isSupported();
 
         boolean isCustom();
@@ -440,6 +429,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.${pdot}.${ENUM_NAME};
 
@@ -472,17 +462,16 @@ public class ${ENUM_NAME}JsonSerializer extends KmipDataTypeJsonSerializer<${ENU
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(value.getKmipTag());
-        jsonGenerator.writeStringField("type", value.getEncodingType().getDescription());
-        jsonGenerator.writeStringField("value", value.getDescription());
+        writeTag(jsonGenerator, value.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(value.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
+        jsonGenerator.writeString(value.getDescription());
         jsonGenerator.writeEndObject();
     }
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer" \
-        "org.purpleBean.kmip.codec.json.serializer.kmip.${pdot}.${ENUM_NAME}JsonSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -509,12 +498,12 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.${pdot};
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.${pdot}.${ENUM_NAME};
 
 import java.io.IOException;
@@ -529,50 +518,36 @@ public class ${ENUM_NAME}JsonDeserializer extends KmipDataTypeJsonDeserializer<$
 
     @Override
     public ${ENUM_NAME} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(${ENUM_NAME}.class, "JSON node cannot be null for ${ENUM_NAME} deserialization");
-            return null;
-        }
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ${ENUM_NAME}.class);
 
         // Validation: Extract and validate KMIP tag
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(${ENUM_NAME}.class, "Invalid KMIP tag for ${ENUM_NAME}");
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, String.format("Failed to parse KMIP tag for ${ENUM_NAME}: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class,
                     String.format("Expected object with %s tag for ${ENUM_NAME}, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, "Missing or non-text 'type' field for ${ENUM_NAME}");
             return null;
         }
 
         // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (!fields.isTextual()) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
             return null;
         }
 
-        String description = valueNode.asText();
+        String description = fields.asText();
         if (description == null || description.trim().isEmpty()) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
             return null;
@@ -603,9 +578,6 @@ public class ${ENUM_NAME}JsonDeserializer extends KmipDataTypeJsonDeserializer<$
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer" \
-        "org.purpleBean.kmip.codec.json.deserializer.kmip.${pdot}.${ENUM_NAME}JsonDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -633,10 +605,10 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.${pdot}.${ENUM_NAME};
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -660,23 +632,21 @@ public class ${ENUM_NAME}XmlSerializer extends KmipDataTypeXmlSerializer<${ENUM_
         }
 
         // Start element with name from kmipTag
-        String elementName = value.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(value.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(value);
 
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("type", value.getEncodingType().getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+        xmlGen.writeString(value.getEncodingType().getSerializedDescription());
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("value", value.getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.VALUE);
+        xmlGen.writeString(value.getDescription());
         xmlGen.writeEndObject();
     }
 }
 
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer" \
-        "org.purpleBean.kmip.codec.xml.serializer.kmip.${pdot}.${ENUM_NAME}XmlSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -702,15 +672,13 @@ generate_xml_deserializer() {
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.${pdot};
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.${pdot}.${ENUM_NAME};
 
 import java.io.IOException;
@@ -725,34 +693,29 @@ public class ${ENUM_NAME}XmlDeserializer extends KmipDataTypeXmlDeserializer<${E
 
     @Override
     public ${ENUM_NAME} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipXmlFields fields = KmipXmlFields.read(p);
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, "Expected XML element object for ${ENUM_NAME}");
             return null;
         }
 
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
+        if (!fields.isElement(kmipTag)) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, "Invalid Tag for ${ENUM_NAME}");
             return null;
         }
 
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
+        if (!encodingType.getDescription().equals(fields.type())) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, "Missing or invalid '@type' attribute for ${ENUM_NAME}");
             return null;
         }
 
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (fields.value() == null) {
             ctxt.reportInputMismatch(${ENUM_NAME}.class, "Missing or non-text '@value' attribute for ${ENUM_NAME}");
             return null;
         }
 
-        String description = valueNode.asText();
+        String description = fields.value();
         KmipSpec spec = KmipContext.getSpec();
 
         ${ENUM_NAME} ${enum_lower} = new ${ENUM_NAME}(${ENUM_NAME}.fromName(description));
@@ -766,9 +729,6 @@ public class ${ENUM_NAME}XmlDeserializer extends KmipDataTypeXmlDeserializer<${E
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer" \
-        "org.purpleBean.kmip.codec.xml.deserializer.kmip.${pdot}.${ENUM_NAME}XmlDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -832,9 +792,6 @@ public class ${ENUM_NAME}TtlvSerializer extends KmipDataTypeTtlvSerializer<${ENU
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer" \
-        "org.purpleBean.kmip.codec.ttlv.serializer.kmip.${pdot}.${ENUM_NAME}TtlvSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -903,9 +860,6 @@ public class ${ENUM_NAME}TtlvDeserializer extends KmipDataTypeTtlvDeserializer<$
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer" \
-            "org.purpleBean.kmip.codec.ttlv.deserializer.kmip.${pdot}.${ENUM_NAME}TtlvDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -1177,8 +1131,7 @@ while [ $# -gt 0 ]; do
         --ttlv-test) GEN_TTLV_TEST=true; any_flag=true; shift ;;
         --benchmark) GEN_BENCHMARK=true; any_flag=true; shift ;;
         --all)
-            GEN_CLASS=true; GEN_JSON_SER=true; GEN_JSON_DES=true; GEN_XML_SER=true; GEN_XML_DES=true;
-            GEN_TTLV_SER=true; GEN_TTLV_DES=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true;
+            GEN_CLASS=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true;
             GEN_TTLV_TEST=true; GEN_BENCHMARK=true; GEN_SERVICES=true;
             any_flag=true; shift ;;
         -h|--help) usage ;;
@@ -1196,8 +1149,7 @@ fi
 if [ "${any_flag}" = "false" ]; then
     DRY_RUN=true
     echo "No generation flags provided -> performing DRY RUN (no files will be written)."
-    GEN_CLASS=true; GEN_JSON_SER=true; GEN_JSON_DES=true; GEN_XML_SER=true; GEN_XML_DES=true
-    GEN_TTLV_SER=true; GEN_TTLV_DES=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true
+    GEN_CLASS=true; GEN_DOMAIN_TEST=true; GEN_JSON_TEST=true; GEN_XML_TEST=true
     GEN_TTLV_TEST=true; GEN_BENCHMARK=true; GEN_SERVICES=true
 fi
 
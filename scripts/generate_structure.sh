@@ -422,6 +422,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.${pdot}.${STRUCTURE_NAME};
 
@@ -454,8 +455,9 @@ public class ${STRUCTURE_NAME}JsonSerializer extends KmipDataTypeJsonSerializer<
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(${varname}.getKmipTag());
-        jsonGenerator.writeStringField("type", ${varname}.getEncodingType().getDescription());
+        writeTag(jsonGenerator, ${varname}.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(${varname}.getEncodingType().getSerializedDescription());
         jsonGenerator.writeFieldName("value");
         jsonGenerator.writeStartArray();
         for (KmipDataType fieldValue : fields) {
@@ -469,9 +471,6 @@ public class ${STRUCTURE_NAME}JsonSerializer extends KmipDataTypeJsonSerializer<
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer" \
-        "org.purpleBean.kmip.codec.json.serializer.kmip.${pdot}.${STRUCTURE_NAME}JsonSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -496,11 +495,11 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.${pdot};
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.${pdot}.${STRUCTURE_NAME};
 
 import java.io.IOException;
@@ -512,59 +511,42 @@ public class ${STRUCTURE_NAME}JsonDeserializer extends KmipDataTypeJsonDeseriali
 
     @Override
     public ${STRUCTURE_NAME} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, String.format("JSON node cannot be null for ${STRUCTURE_NAME} deserialization"));
-            return null;
-        }
+        ${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder = ${STRUCTURE_NAME}.builder();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ${STRUCTURE_NAME}.class, (f, parser, c) ->
+                KmipJsonFields.forEachElement(parser, c, ${STRUCTURE_NAME}.class, element -> {
+                    if (element.hasTag()) {
+                        setValue(builder, element.tagValue(), element);
+                    }
+                }));
 
         // Validation: Extract and validate KMIP tag
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, String.format("Invalid KMIP tag for ${STRUCTURE_NAME}"));
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, String.format("Failed to parse KMIP tag for ${STRUCTURE_NAME}: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(${STRUCTURE_NAME}.class,
                     String.format("Expected object with %s tag for ${STRUCTURE_NAME}, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, String.format("Missing or non-text 'type' field for ${STRUCTURE_NAME}"));
             return null;
         }
 
         // Validation: Extract and validate fields
-        JsonNode values = node.get("value");
-        if (values == null || !values.isArray() || values.isEmpty()) {
+        Integer count = fields.value();
+        if (count == null || count == 0) {
             ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, "${STRUCTURE_NAME} 'value' must be a non-empty array");
             return null;
         }
 
-        ${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder = ${STRUCTURE_NAME}.builder();
-
-        for (JsonNode valueNode : values) {
-            if (!valueNode.has("tag")) {
-                continue;
-            }
-            KmipTag.Value nodeTag = p.getCodec().treeToValue(valueNode, KmipTag.class).getValue();
-            setValue(builder, nodeTag, valueNode, p, ctxt);
-        }
-
         ${STRUCTURE_NAME} ${varname} = builder.build();
 
         // Validate KMIP spec compatibility
@@ -581,26 +563,21 @@ public class ${STRUCTURE_NAME}JsonDeserializer extends KmipDataTypeJsonDeseriali
      *
      * @param builder the builder to set the field on
      * @param nodeTag the tag identifying the field to set
-     * @param node    the JSON node containing the field value
-     * @param p       the JsonParser
-     * @param ctxt    the DeserializationContext
+     * @param element the array element holding the field value
      * @throws IOException if there is an error deserializing the value
      */
-    private void setValue(${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder, KmipTag.Value nodeTag, JsonNode node, JsonParser p, DeserializationContext ctxt) throws IOException {
+    private void setValue(${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder, KmipTag.Value nodeTag, KmipJsonFields.Element element) throws IOException {
         // TODO: Implement field deserialization based on tag, preferably using switch case expression
         // Example:
         switch (nodeTag) {
-            case KmipTag.Standard.ACTIVATION_DATE -> builder.activationDate(p.getCodec().treeToValue(node, ActivationDate.class));
-            case KmipTag.Standard.STATE -> builder.state(p.getCodec().treeToValue(node, State.class));
+            case KmipTag.Standard.ACTIVATION_DATE -> builder.activationDate(element.readAs(ActivationDate.class));
+            case KmipTag.Standard.STATE -> builder.state(element.readAs(State.class));
             default -> throw new IllegalArgumentException("Unsupported tag: " + nodeTag);
         }
     }
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer" \
-        "org.purpleBean.kmip.codec.json.deserializer.kmip.${pdot}.${STRUCTURE_NAME}JsonDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -632,7 +609,6 @@ import org.purpleBean.kmip.common.structure.*;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.${pdot}.${STRUCTURE_NAME};
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -652,15 +628,14 @@ public class ${STRUCTURE_NAME}XmlSerializer extends KmipDataTypeXmlSerializer<${
         }
 
         // Start element with name from kmipTag
-        String elementName = ${varname}.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(${varname}.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(${varname});
 
         // Serialize all fields
         List<KmipDataType> values = ${varname}.getValues();
         for (KmipDataType kmipDataType : values) {
             if (kmipDataType != null && kmipDataType.getKmipTag() != null) {
-                serializers.defaultSerializeField(kmipDataType.getKmipTag().getDescription(), kmipDataType, gen);
+                writeChild(gen, serializers, kmipDataType);
             }
         }
 
@@ -669,9 +644,6 @@ public class ${STRUCTURE_NAME}XmlSerializer extends KmipDataTypeXmlSerializer<${
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer" \
-        "org.purpleBean.kmip.codec.xml.serializer.kmip.${pdot}.${STRUCTURE_NAME}XmlSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -695,19 +667,16 @@ generate_xml_deserializer() {
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.${pdot};
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.*;
 import org.purpleBean.kmip.common.enumeration.*;
 import org.purpleBean.kmip.common.structure.*;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.${pdot}.${STRUCTURE_NAME};
 
 import java.io.IOException;
-import java.util.Map;
 
 public class ${STRUCTURE_NAME}XmlDeserializer extends KmipDataTypeXmlDeserializer<${STRUCTURE_NAME}> {
     private final KmipTag kmipTag = ${STRUCTURE_NAME}.kmipTag;
@@ -715,31 +684,21 @@ public class ${STRUCTURE_NAME}XmlDeserializer extends KmipDataTypeXmlDeserialize
 
     @Override
     public ${STRUCTURE_NAME} deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipSpec spec = KmipContext.getSpec();
+        ${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder = ${STRUCTURE_NAME}.builder();
+        KmipXmlFields fields = KmipXmlFields.read(p, (name, child) ->
+                setValue(builder, KmipTag.fromName(spec, name), child, ctxt));
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, "Expected XML object for ${STRUCTURE_NAME}");
             return null;
         }
 
-        if (p instanceof FromXmlParser xmlParser
-              && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
+        if (!fields.isElement(kmipTag)) {
             ctxt.reportInputMismatch(${STRUCTURE_NAME}.class, "Invalid Tag for ${STRUCTURE_NAME}");
             return null;
         }
 
-        KmipSpec spec = KmipContext.getSpec();
-        ${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder = ${STRUCTURE_NAME}.builder();
-
-        // Process all fields in the XML
-        var fields = node.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> entry = fields.next();
-            KmipTag.Value nodeTag = KmipTag.fromName(spec, entry.getKey());
-            setValue(builder, nodeTag, entry.getValue(), p, ctxt);
-        }
-
         ${STRUCTURE_NAME} ${varname} = builder.build();
 
         if (!${varname}.isSupported()) {
@@ -755,26 +714,22 @@ public class ${STRUCTURE_NAME}XmlDeserializer extends KmipDataTypeXmlDeserialize
      *
      * @param builder the builder to set the field on
      * @param nodeTag the tag identifying the field to set
-     * @param node    the XML node containing the field value
-     * @param p       the JsonParser
+     * @param p       the JsonParser positioned on the child element
      * @param ctxt    the DeserializationContext
      * @throws IOException if there is an error deserializing the value
      */
-    private void setValue(${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder, KmipTag.Value nodeTag, JsonNode node, JsonParser p, DeserializationContext ctxt) throws IOException {
+    private void setValue(${STRUCTURE_NAME}.${STRUCTURE_NAME}Builder builder, KmipTag.Value nodeTag, JsonParser p, DeserializationContext ctxt) throws IOException {
         // TODO: Implement field deserialization based on nodeTag
         // Example:
         switch (nodeTag) {
-            case KmipTag.Standard.ACTIVATION_DATE -> builder.activationDate(p.getCodec().treeToValue(node, ActivationDate.class));
-            case KmipTag.Standard.STATE -> builder.state(p.getCodec().treeToValue(node, State.class));
+            case KmipTag.Standard.ACTIVATION_DATE -> builder.activationDate(ctxt.readValue(p, ActivationDate.class));
+            case KmipTag.Standard.STATE -> builder.state(ctxt.readValue(p, State.class));
             default -> throw new IllegalArgumentException();
         }
     }
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer" \
-        "org.purpleBean.kmip.codec.xml.deserializer.kmip.${pdot}.${STRUCTURE_NAME}XmlDeserializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -844,9 +799,6 @@ public class ${STRUCTURE_NAME}TtlvSerializer extends KmipDataTypeTtlvSerializer<
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer" \
-        "org.purpleBean.kmip.codec.ttlv.serializer.kmip.${pdot}.${STRUCTURE_NAME}TtlvSerializer"
-
     echo "Created: ${out_file}"
 }
 
@@ -924,9 +876,6 @@ public class ${STRUCTURE_NAME}TtlvDeserializer extends KmipDataTypeTtlvDeseriali
 }
 EOF
 
-    add_service_entry "src/main/resources/META-INF/services/org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer" \
-        "org.purpleBean.kmip.codec.ttlv.deserializer.kmip.${pdot}.${STRUCTURE_NAME}TtlvDeserializer"
-
     echo "Created: ${out_file}"
 }
 
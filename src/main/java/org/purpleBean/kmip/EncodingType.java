@@ -1,6 +1,7 @@
 package org.purpleBean.kmip;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.io.SerializedString;
 import lombok.Getter;
 
 import java.util.HashMap;
@@ -88,6 +89,10 @@ public enum EncodingType {
      * The raw byte size (excluding padding). -1 indicates variable-length encoding
      */
     private final int rawByteSize;
+    /**
+     * The description pre-encoded for JSON and XML output
+     */
+    private final SerializedString serializedDescription;
 
     /**
      * Constructs an EncodingType with the specified parameters.
@@ -100,6 +105,7 @@ public enum EncodingType {
         this.typeValue = typeValue;
         this.description = description;
         this.rawByteSize = rawByteSize;
+        this.serializedDescription = new SerializedString(description);
     }
 
     /**
@@ -119,12 +125,15 @@ public enum EncodingType {
      * @return an Optional containing the EncodingType if found, empty otherwise
      */
     public static Optional<EncodingType> fromName(String name) {
-        // First try to find by enum name
+        // Codecs write the description, so look that up first and avoid the exception from valueOf
+        EncodingType byDescription = DESCRIPTION_MAP.get(name);
+        if (byDescription != null) {
+            return Optional.of(byDescription);
+        }
         try {
             return Optional.of(EncodingType.valueOf(name));
         } catch (IllegalArgumentException e) {
-            // If not found by enum name, try by description
-            return Optional.ofNullable(DESCRIPTION_MAP.get(name));
+            return Optional.empty();
         }
     }
 
@@ -0,0 +1,178 @@
+package org.purpleBean.kmip;
+
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Value and name lookups for a {@link KmipEnumeration}, shared by every enumeration class.
+ * <p>
+ * Values are held in a sorted {@code int[]} searched by bisection, names in a table built up front, and the
+ * specs each value supports as a bitmask over {@link KmipSpec#ordinal()}, so lookups neither box nor
+ * allocate. The tables are an immutable snapshot: extension registration builds a new snapshot and
+ * publishes it with a compare-and-set, so readers never lock. After {@link #freeze()}, or
+ * {@link #freezeAll()} once startup is done, new extension values are rejected.
+ *
+ * @param <V> the enumeration's {@code Value} type
+ */
+public final class EnumerationRegistry<V> {
+    private static volatile boolean allFrozen;
+
+    private final ToIntFunction<V> valueOf;
+    private final Function<V, String> descriptionOf;
+    private final Function<V, Set<KmipSpec>> supportedVersionsOf;
+    private final AtomicReference<Table> table = new AtomicReference<>();
+    private volatile boolean frozen;
+
+    public EnumerationRegistry(@NonNull V[] standardValues,
+                               @NonNull ToIntFunction<V> valueOf,
+                               @NonNull Function<V, String> descriptionOf,
+                               @NonNull Function<V, Set<KmipSpec>> supportedVersionsOf) {
+        this.valueOf = valueOf;
+        this.descriptionOf = descriptionOf;
+        this.supportedVersionsOf = supportedVersionsOf;
+        Map<Integer, V> byValue = new HashMap<>();
+        Map<String, V> byName = new HashMap<>();
+        for (V standard : standardValues) {
+            byValue.put(valueOf.applyAsInt(standard), standard);
+            byName.put(descriptionOf.apply(standard), standard);
+        }
+        table.set(new Table(byValue, byName, Map.of(), List.of()));
+    }
+
+    /**
+     * Rejects new extension values in every registry, for applications that register their extensions at
+     * startup.
+     */
+    public static void freezeAll() {
+        allFrozen = true;
+    }
+
+    /**
+     * @return the value, or {@code null} if it is not registered or not supported for the spec
+     */
+    @SuppressWarnings("unchecked")
+    public V fromValue(int value, KmipSpec spec) {
+        Table current = table.get();
+        int i = Arrays.binarySearch(current.values, value);
+        return i >= 0 && supports(current.masks[i], spec) ? (V) current.entries[i] : null;
+    }
+
+    /**
+     * @return the value, or {@code null} if no value has the description or it is not supported for the spec
+     */
+    @SuppressWarnings("unchecked")
+    public V fromName(String name, KmipSpec spec) {
+        Named named = table.get().named.get(name);
+        return named != null && supports(named.mask(), spec) ? (V) named.value() : null;
+    }
+
+    /**
+     * Registers an extension value, unless a value with the same number or extension description exists.
+     *
+     * @return the registered extension, or the existing value
+     * @throws IllegalStateException if the registry is frozen and the extension is new
+     */
+    public V register(@NonNull V extension) {
+        int value = valueOf.applyAsInt(extension);
+        String description = descriptionOf.apply(extension);
+        while (true) {
+            Table current = table.get();
+            V existing = current.find(value);
+            if (existing == null) {
+                existing = current.byExtensionName.get(description);
+            }
+            if (existing != null) {
+                return existing;
+            }
+            if (isFrozen()) {
+                throw new IllegalStateException(String.format("Cannot register '%s': enumeration registry is frozen", description));
+            }
+            if (table.compareAndSet(current, current.with(value, description, extension))) {
+                return extension;
+            }
+        }
+    }
+
+    /**
+     * @return the extension values in registration order
+     */
+    public List<V> extensions() {
+        return table.get().extensions;
+    }
+
+    public void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen || allFrozen;
+    }
+
+    private static boolean supports(long mask, KmipSpec spec) {
+        return (mask & (1L << spec.ordinal())) != 0;
+    }
+
+    private static long mask(Set<KmipSpec> specs) {
+        long mask = 0;
+        for (KmipSpec spec : specs) {
+            mask |= 1L << spec.ordinal();
+        }
+        return mask;
+    }
+
+    private final class Table {
+        private final int[] values;
+        private final Object[] entries;
+        private final long[] masks;
+        private final Map<String, V> byName;
+        private final Map<String, Named> named;
+        private final Map<String, V> byExtensionName;
+        private final List<V> extensions;
+
+        private Table(Map<Integer, V> byValue, Map<String, V> byName, Map<String, V> byExtensionName, List<V> extensions) {
+            int[] sorted = byValue.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            this.values = sorted;
+            this.entries = new Object[sorted.length];
+            this.masks = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                V v = byValue.get(sorted[i]);
+                entries[i] = v;
+                masks[i] = mask(supportedVersionsOf.apply(v));
+            }
+            this.byName = byName;
+            this.named = new HashMap<>();
+            byName.forEach((name, v) -> named.put(name, new Named(v, mask(supportedVersionsOf.apply(v)))));
+            this.byExtensionName = byExtensionName;
+            this.extensions = extensions;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V find(int value) {
+            int i = Arrays.binarySearch(values, value);
+            return i >= 0 ? (V) entries[i] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Table with(int value, String description, V extension) {
+            Map<Integer, V> byValue = new HashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                byValue.put(values[i], (V) entries[i]);
+            }
+            byValue.put(value, extension);
+            Map<String, V> names = new HashMap<>(byName);
+            names.putIfAbsent(description, extension);
+            Map<String, V> extensionNames = new HashMap<>(byExtensionName);
+            extensionNames.put(description, extension);
+            List<V> registered = new ArrayList<>(extensions);
+            registered.add(extension);
+            return new Table(byValue, names, extensionNames, List.copyOf(registered));
+        }
+    }
+
+    private record Named(Object value, long mask) {
+    }
+}
@@ -4,14 +4,12 @@ import org.purpleBean.kmip.common.AttributeName;
 import org.purpleBean.kmip.common.AttributeValue;
 import org.purpleBean.kmip.common.enumeration.State;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 public interface KmipAttribute extends KmipDataType {
     // registry for mapping
-    Map<RegistryKey, Class<? extends KmipAttribute>> ATTRIBUTE_REGISTRY = new ConcurrentHashMap<>(); // TODO : remove attribute_registry ?
-    Map<RegistryKey, BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute>> ATTRIBUTE_BUILDER_REGISTRY = new ConcurrentHashMap<>();
+    KmipTagRegistry<Class<? extends KmipAttribute>> ATTRIBUTE_REGISTRY = new KmipTagRegistry<>(); // TODO : remove attribute_registry ?
+    KmipTagRegistry<BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute>> ATTRIBUTE_BUILDER_REGISTRY = new KmipTagRegistry<>();
 
     static void register(
             KmipSpec spec,
@@ -20,18 +18,29 @@ public interface KmipAttribute extends KmipDataType {
             Class<? extends KmipAttribute> clazz,
             BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> attributeBuilder
     ) {
-        ATTRIBUTE_REGISTRY.put(new RegistryKey(spec, kmipTagValue, encodingType), clazz);
-        ATTRIBUTE_BUILDER_REGISTRY.put(new RegistryKey(spec, kmipTagValue, encodingType), attributeBuilder);
+        ATTRIBUTE_REGISTRY.register(spec, kmipTagValue, encodingType, clazz);
+        ATTRIBUTE_BUILDER_REGISTRY.register(spec, kmipTagValue, encodingType, attributeBuilder);
     }
 
     static Class<? extends KmipAttribute> getClassFromRegistry(KmipTag.Value kmipTagValue, EncodingType encodingType) {
         KmipSpec spec = KmipContext.getSpec();
-        return ATTRIBUTE_REGISTRY.get(new RegistryKey(spec, kmipTagValue, encodingType));
+        Class<? extends KmipAttribute> clazz = ATTRIBUTE_REGISTRY.get(spec, kmipTagValue, encodingType);
+        if (clazz == null && KmipDataTypeIndex.initialize(kmipTagValue)) {
+            clazz = ATTRIBUTE_REGISTRY.get(spec, kmipTagValue, encodingType);
+        }
+        return clazz;
     }
 
     static BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> getAttributeBuilderFromRegistry(KmipTag.Value kmipTagValue, EncodingType encodingType) {
-        KmipSpec spec = KmipContext.getSpec();
-        return ATTRIBUTE_BUILDER_REGISTRY.get(new RegistryKey(spec, kmipTagValue, encodingType));
+        return getAttributeBuilderFromRegistry(KmipContext.getSpec(), kmipTagValue, encodingType);
+    }
+
+    static BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> getAttributeBuilderFromRegistry(KmipSpec spec, KmipTag.Value kmipTagValue, EncodingType encodingType) {
+        BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> builder = ATTRIBUTE_BUILDER_REGISTRY.get(spec, kmipTagValue, encodingType);
+        if (builder == null && KmipDataTypeIndex.initialize(kmipTagValue)) {
+            builder = ATTRIBUTE_BUILDER_REGISTRY.get(spec, kmipTagValue, encodingType);
+        }
+        return builder;
     }
 
     boolean isAlwaysPresent();
@@ -53,7 +62,4 @@ public interface KmipAttribute extends KmipDataType {
     AttributeName getAttributeName();
 
     String getCanonicalName();
-
-    record RegistryKey(KmipSpec spec, KmipTag.Value kmipTagValue, EncodingType encodingType) {
-    }
 }
@@ -0,0 +1,103 @@
+package org.purpleBean.kmip;
+
+import lombok.NonNull;
+import org.purpleBean.kmip.common.AttributeName;
+import org.purpleBean.kmip.common.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * Attribute name resolution for {@code Attribute.toKmipAttribute} and the attribute classes, without regex work.
+ * <p>
+ * Title-case names ({@code "Activation Date"}) of the standard tags are computed once, indexed by
+ * {@link KmipTag.Value#getIndex()}. Name-to-tag tables are built once per spec and hold both the title-case and
+ * PascalCase form of every tag the spec supports; the tag then selects the builder from
+ * {@link KmipAttribute#ATTRIBUTE_BUILDER_REGISTRY}. Custom {@code x-}/{@code y-} names are recognized by their
+ * first two characters.
+ */
+public final class KmipAttributeNames {
+    private static final String[] STANDARD_TITLE_NAMES = new String[KmipTag.Standard.values().length];
+    private static final AtomicReferenceArray<Map<String, KmipTag.Value>> TAGS_BY_NAME =
+            new AtomicReferenceArray<>(KmipSpec.values().length);
+
+    static {
+        for (KmipTag.Standard tag : KmipTag.Standard.values()) {
+            STANDARD_TITLE_NAMES[tag.ordinal()] = StringUtils.covertPascalToTitleCase(tag.getDescription());
+        }
+    }
+
+    private KmipAttributeNames() {
+    }
+
+    /**
+     * @return the attribute name of a tag in title case, e.g. {@code "Activation Date"} for {@code ActivationDate}
+     */
+    public static String titleName(@NonNull KmipTag.Value tag) {
+        int index = tag.getIndex();
+        if (!tag.isCustom() && index < STANDARD_TITLE_NAMES.length) {
+            return STANDARD_TITLE_NAMES[index];
+        }
+        return StringUtils.covertPascalToTitleCase(tag.getDescription());
+    }
+
+    public static boolean isCustomServerAttribute(@NonNull String name) {
+        return hasPrefix(name, 'y');
+    }
+
+    public static boolean isCustomClientAttribute(@NonNull String name) {
+        return hasPrefix(name, 'x');
+    }
+
+    public static boolean isCustomAttribute(@NonNull String name) {
+        return isCustomServerAttribute(name) || isCustomClientAttribute(name);
+    }
+
+    /**
+     * Resolves an attribute name in title case or PascalCase to its tag; custom names resolve to
+     * {@link KmipTag.Standard#ATTRIBUTE}.
+     *
+     * @throws java.util.NoSuchElementException if no tag supported by the spec has the name
+     */
+    public static KmipTag.Value tag(@NonNull KmipSpec spec, @NonNull String name) {
+        if (isCustomAttribute(name)) {
+            return KmipTag.Standard.ATTRIBUTE;
+        }
+        KmipTag.Value tag = tagsByName(spec).get(name);
+        // Extension tags are not in the table, so fall back to the tag registry
+        return tag != null ? tag : KmipTag.fromName(spec, StringUtils.covertTitleToPascalCase(name));
+    }
+
+    /**
+     * @return the builder registered for the named attribute and encoding type, or {@code null}
+     */
+    public static BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> builder(
+            @NonNull KmipSpec spec, @NonNull String name, @NonNull EncodingType encodingType) {
+        return KmipAttribute.getAttributeBuilderFromRegistry(spec, tag(spec, name), encodingType);
+    }
+
+    private static boolean hasPrefix(String name, char lowerCaseLetter) {
+        return name.length() >= 2
+                && Character.toLowerCase(name.charAt(0)) == lowerCaseLetter
+                && name.charAt(1) == '-';
+    }
+
+    private static Map<String, KmipTag.Value> tagsByName(KmipSpec spec) {
+        Map<String, KmipTag.Value> tags = TAGS_BY_NAME.get(spec.ordinal());
+        if (tags == null) {
+            Map<String, KmipTag.Value> built = new HashMap<>();
+            for (KmipTag.Standard tag : KmipTag.Standard.values()) {
+                if (tag.isSupportedFor(spec)) {
+                    built.put(tag.getDescription(), tag);
+                    built.putIfAbsent(STANDARD_TITLE_NAMES[tag.ordinal()], tag);
+                }
+            }
+            // Tables built concurrently are equal, so whichever is published first is kept
+            TAGS_BY_NAME.compareAndSet(spec.ordinal(), null, Map.copyOf(built));
+            tags = TAGS_BY_NAME.get(spec.ordinal());
+        }
+        return tags;
+    }
+}
@@ -1,19 +1,27 @@
 package org.purpleBean.kmip;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 public interface KmipDataType {
     // registry for mapping
-    Map<RegistryKey, Class<? extends KmipDataType>> TAG_REGISTRY = new ConcurrentHashMap<>();
+    KmipTagRegistry<Class<? extends KmipDataType>> TAG_REGISTRY = new KmipTagRegistry<>();
 
     static void register(KmipSpec spec, KmipTag.Value kmipTagValue, EncodingType encodingType, Class<? extends KmipDataType> clazz) {
-        TAG_REGISTRY.put(new RegistryKey(spec, kmipTagValue, encodingType), clazz);
+        TAG_REGISTRY.register(spec, kmipTagValue, encodingType, clazz);
     }
 
     static Class<? extends KmipDataType> getClassFromRegistry(KmipTag.Value kmipTagValue, EncodingType encodingType) {
-        KmipSpec spec = KmipContext.getSpec();
-        return TAG_REGISTRY.get(new RegistryKey(spec, kmipTagValue, encodingType));
+        return getClassFromRegistry(KmipContext.getSpec(), kmipTagValue, encodingType);
+    }
+
+    /**
+     * Looks up the class for an explicit spec, for callers resolving many values under the spec they already read.
+     */
+    static Class<? extends KmipDataType> getClassFromRegistry(KmipSpec spec, KmipTag.Value kmipTagValue, EncodingType encodingType) {
+        Class<? extends KmipDataType> clazz = TAG_REGISTRY.get(spec, kmipTagValue, encodingType);
+        // Classes register when initialized, so load the ones declaring this tag and look again
+        if (clazz == null && KmipDataTypeIndex.initialize(kmipTagValue)) {
+            clazz = TAG_REGISTRY.get(spec, kmipTagValue, encodingType);
+        }
+        return clazz;
     }
 
     KmipTag getKmipTag();
@@ -21,7 +29,4 @@ public interface KmipDataType {
     EncodingType getEncodingType();
 
     boolean isSupported();
-
-    record RegistryKey(KmipSpec spec, KmipTag.Value kmipTagValue, EncodingType encodingType) {
-    }
 }
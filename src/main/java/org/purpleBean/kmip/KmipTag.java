@@ -1,11 +1,14 @@
 package org.purpleBean.kmip;
 
+import com.fasterxml.jackson.core.io.SerializedString;
 import lombok.*;
 import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
 
+import javax.xml.namespace.QName;
 import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Data
 @EqualsAndHashCode
@@ -14,6 +17,8 @@ public class KmipTag {
     private static final Map<Integer, Value> VALUE_REGISTRY = new ConcurrentHashMap<>();
     private static final Map<String, Value> DESCRIPTION_REGISTRY = new ConcurrentHashMap<>();
     private static final Map<String, Value> EXTENSION_DESCRIPTION_REGISTRY = new ConcurrentHashMap<>();
+    private static final Map<Integer, Integer> EXTENSION_INDEX = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_EXTENSION_INDEX = new AtomicInteger(Standard.values().length);
 
     static {
         for (Standard s : Standard.values()) {
@@ -42,7 +47,9 @@ public class KmipTag {
         if (supportedVersions.isEmpty()) {
             throw new IllegalArgumentException("At least one supported version must be specified");
         }
-        Value custom = new Extension(value, description, supportedVersions);
+        // Re-registering a value keeps its index, so tables filled for the earlier instance still match
+        int index = EXTENSION_INDEX.computeIfAbsent(value, v -> NEXT_EXTENSION_INDEX.getAndIncrement());
+        Value custom = new Extension(value, description, supportedVersions, index);
         VALUE_REGISTRY.put(custom.getValue(), custom);
         DESCRIPTION_REGISTRY.put(custom.getDescription(), custom);
         EXTENSION_DESCRIPTION_REGISTRY.put(custom.getDescription(), custom);
@@ -539,6 +546,10 @@ public class KmipTag {
         private final int value;
         private final String description;
         private final Set<KmipSpec> supportedVersions;
+        @ToString.Exclude
+        private final SerializedString serializedDescription;
+        @ToString.Exclude
+        private final QName qName;
 
         private final boolean custom = false;
 
@@ -546,6 +557,13 @@ public class KmipTag {
             this.value = value;
             this.description = description;
             this.supportedVersions = Set.of(supportedVersions);
+            this.serializedDescription = new SerializedString(description);
+            this.qName = new QName(description);
+        }
+
+        @Override
+        public int getIndex() {
+            return ordinal();
         }
 
         @Override
@@ -559,6 +577,22 @@ public class KmipTag {
 
         String getDescription();
 
+        /**
+         * The description pre-encoded for JSON output, so it is written as a raw byte copy.
+         */
+        SerializedString getSerializedDescription();
+
+        /**
+         * The description as an XML element name.
+         */
+        QName getQName();
+
+        /**
+         * Dense index of the tag: standard tags use their ordinal and extensions are numbered after them in
+         * registration order, so per-tag tables can be plain arrays.
+         */
+        int getIndex();
+
         boolean isSupportedFor(KmipSpec spec);
 
         boolean isCustom();
@@ -566,16 +600,33 @@ public class KmipTag {
 
     @Getter
     @ToString
-    @RequiredArgsConstructor
     @EqualsAndHashCode
     private static final class Extension implements Value {
         @EqualsAndHashCode.Include
         private final int value;
         private final String description;
         private final Set<KmipSpec> supportedVersions;
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private final SerializedString serializedDescription;
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private final QName qName;
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private final int index;
 
         private final boolean custom = true;
 
+        private Extension(int value, String description, Set<KmipSpec> supportedVersions, int index) {
+            this.value = value;
+            this.description = description;
+            this.supportedVersions = supportedVersions;
+            this.serializedDescription = new SerializedString(description);
+            this.qName = new QName(description);
+            this.index = index;
+        }
+
         @Override
         public boolean isSupportedFor(KmipSpec spec) {
             return supportedVersions.contains(spec);
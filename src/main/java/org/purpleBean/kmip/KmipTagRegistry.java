@@ -0,0 +1,69 @@
+package org.purpleBean.kmip;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Registry of values keyed by spec, tag and encoding type, stored as arrays indexed by
+ * {@link KmipSpec#ordinal()}, {@link EncodingType#ordinal()} and {@link KmipTag.Value#getIndex()}, so a
+ * lookup is three array reads and allocates nothing.
+ * <p>
+ * Until {@link #freeze()} registrations write into the current arrays. Afterwards the arrays are never
+ * written again: a late registration copies the spec, encoding and tag arrays on its path and publishes the
+ * new table, leaving readers of the old one unaffected.
+ *
+ * @param <V> the registered value type
+ */
+public final class KmipTagRegistry<V> {
+    private static final int SPECS = KmipSpec.values().length;
+    private static final int ENCODINGS = EncodingType.values().length;
+    private static final int STANDARD_TAGS = KmipTag.Standard.values().length;
+
+    private volatile Object[][][] table = new Object[SPECS][ENCODINGS][];
+    private volatile boolean frozen;
+
+    public synchronized void register(@NonNull KmipSpec spec, @NonNull KmipTag.Value tag,
+                                      @NonNull EncodingType encodingType, @NonNull V value) {
+        int s = spec.ordinal();
+        int e = encodingType.ordinal();
+        int t = tag.getIndex();
+        Object[][][] current = table;
+        Object[] tags = current[s][e];
+        if (!frozen && tags != null && t < tags.length) {
+            tags[t] = value;
+            // Republish so readers that see the new table also see the write
+            table = current;
+            return;
+        }
+        Object[] updatedTags = tags == null
+                ? new Object[Math.max(STANDARD_TAGS, t + 1)]
+                : Arrays.copyOf(tags, Math.max(tags.length, t + 1));
+        updatedTags[t] = value;
+        Object[][][] updated = frozen ? current.clone() : current;
+        updated[s] = frozen ? current[s].clone() : current[s];
+        updated[s][e] = updatedTags;
+        table = updated;
+    }
+
+    /**
+     * @return the value registered for the spec, tag and encoding type, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V get(KmipSpec spec, KmipTag.Value tag, EncodingType encodingType) {
+        Object[] tags = table[spec.ordinal()][encodingType.ordinal()];
+        int t = tag.getIndex();
+        return tags != null && t < tags.length ? (V) tags[t] : null;
+    }
+
+    /**
+     * Stops in-place writes, so every later registration is copy-on-write.
+     */
+    public synchronized void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+}
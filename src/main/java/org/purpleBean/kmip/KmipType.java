@@ -0,0 +1,33 @@
+package org.purpleBean.kmip;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a single-value KMIP data type whose TTLV, JSON and XML serializers and deserializers are generated
+ * at compile time by {@code org.purpleBean.kmip.codec.processor.KmipTypeProcessor}.
+ * <p>
+ * The annotated class must hold its payload in a field named {@code value} of the Java type matching the
+ * encoding ({@code int}/{@code Integer} for Integer and Interval, {@code long}/{@code Long} for LongInteger,
+ * {@code boolean}/{@code Boolean}, {@code String} for TextString, {@code OffsetDateTime} for DateTime), and
+ * expose a Lombok-style {@code builder()}. A DateTime type may instead hold the encoded seconds since the epoch
+ * in a {@code long} field named {@code epochSecond}, which the codecs then read and write directly. An
+ * Enumeration type holds its nested {@code Value} in the {@code value} field and exposes the static
+ * {@code fromValue(int)} and {@code fromName(String)} lookups and a constructor taking the value.
+ * <p>
+ * A decoded value is passed through a public static {@code of} factory taking the value when the type declares
+ * one, so the codecs apply the same validation as callers do. The generated codecs are listed in the
+ * build-time {@code KmipCodecIndex} like every other codec of the library.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface KmipType {
+
+    KmipTag.Standard tag();
+
+    EncodingType encoding();
+}
@@ -12,9 +12,9 @@ import java.util.Set;
 @Data
 @Builder
 public class ProtocolVersion implements KmipStructure {
+    public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION);
+    public static final EncodingType encodingType = EncodingType.STRUCTURE;
     private static final Set<KmipSpec> supportedVersions = Set.of(KmipSpec.UnknownVersion, KmipSpec.V1_2);
-    private final KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION);
-    private final EncodingType encodingType = EncodingType.STRUCTURE;
     @NonNull
     private final ProtocolVersionMajor protocolVersionMajor;
     @NonNull
@@ -37,6 +37,16 @@ public class ProtocolVersion implements KmipStructure {
                 .build();
     }
 
+    @Override
+    public KmipTag getKmipTag() {
+        return kmipTag;
+    }
+
+    @Override
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
     public List<KmipDataType> getValues() {
         return List.of(protocolVersionMajor, protocolVersionMinor);
     }
@@ -63,8 +73,8 @@ public class ProtocolVersion implements KmipStructure {
     @Data
     @Builder
     public static class ProtocolVersionMajor implements KmipDataType {
-        private final KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION_MAJOR);
-        private final EncodingType encodingType = EncodingType.INTEGER;
+        public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION_MAJOR);
+        public static final EncodingType encodingType = EncodingType.INTEGER;
 
         @EqualsAndHashCode.Include
         private final int value;
@@ -75,6 +85,16 @@ public class ProtocolVersion implements KmipStructure {
                     .build();
         }
 
+        @Override
+        public KmipTag getKmipTag() {
+            return kmipTag;
+        }
+
+        @Override
+        public EncodingType getEncodingType() {
+            return encodingType;
+        }
+
         @Override
         public String toString() {
             return String.valueOf(value);
@@ -90,8 +110,8 @@ public class ProtocolVersion implements KmipStructure {
     @Data
     @Builder
     public static class ProtocolVersionMinor implements KmipDataType {
-        private final KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION_MINOR);
-        private final EncodingType encodingType = EncodingType.INTEGER;
+        public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION_MINOR);
+        public static final EncodingType encodingType = EncodingType.INTEGER;
 
         @EqualsAndHashCode.Include
         private final int value;
@@ -102,6 +122,16 @@ public class ProtocolVersion implements KmipStructure {
                     .build();
         }
 
+        @Override
+        public KmipTag getKmipTag() {
+            return kmipTag;
+        }
+
+        @Override
+        public EncodingType getEncodingType() {
+            return encodingType;
+        }
+
         @Override
         public String toString() {
             return String.valueOf(value);
@@ -2,11 +2,43 @@ package org.purpleBean.kmip;
 
 public class StringUtils {
 
+    /**
+     * Inserts a space between each lowercase and following uppercase ASCII letter, e.g. {@code "ActivationDate"}
+     * to {@code "Activation Date"}.
+     */
     public static String covertPascalToTitleCase(String name) {
-        return name.replaceAll("([a-z])([A-Z])", "$1 $2");
+        StringBuilder title = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            title.append(c);
+            if (isLower(c) && i + 1 < name.length() && isUpper(name.charAt(i + 1))) {
+                title.append(' ');
+            }
+        }
+        return title.toString();
     }
 
+    /**
+     * Removes each space between a lowercase and an uppercase ASCII letter, the inverse of
+     * {@link #covertPascalToTitleCase(String)}.
+     */
     public static String covertTitleToPascalCase(String name) {
-        return name.replaceAll("([a-z]) ([A-Z])", "$1$2");
+        StringBuilder pascal = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == ' ' && i > 0 && i + 1 < name.length() && isLower(name.charAt(i - 1)) && isUpper(name.charAt(i + 1))) {
+                continue;
+            }
+            pascal.append(c);
+        }
+        return pascal.toString();
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
     }
 }
@@ -0,0 +1,205 @@
+package org.purpleBean.kmip.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import lombok.Getter;
+import lombok.NonNull;
+import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
+import org.purpleBean.kmip.codec.ttlv.TtlvStreams;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvDeserializer;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec for one type across the JSON, XML, Smile, CBOR and TTLV encodings, with the Jackson readers and writers
+ * and the TTLV serializer and deserializer resolved up front. Handles are immutable and thread-safe; obtain one from
+ * {@link KmipCodecManager#codecFor(Class)} and keep it for repeated use.
+ *
+ * @param <T> the type encoded and decoded
+ */
+public final class KmipCodec<T> {
+    @Getter
+    private final Class<T> type;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader jsonReader;
+    private final ObjectWriter xmlWriter;
+    private final ObjectReader xmlReader;
+    private final ObjectWriter smileWriter;
+    private final ObjectReader smileReader;
+    private final ObjectWriter cborWriter;
+    private final ObjectReader cborReader;
+    private final TtlvMapper ttlvMapper;
+    // Resolved on first use, as not every type has a TTLV codec
+    private volatile TtlvSerializer<T> ttlvSerializer;
+    private volatile TtlvDeserializer<T> ttlvDeserializer;
+
+    KmipCodec(@NonNull Class<T> type, @NonNull JsonMapper jsonMapper, @NonNull XmlMapper xmlMapper,
+              @NonNull SmileMapper smileMapper, @NonNull CBORMapper cborMapper, @NonNull TtlvMapper ttlvMapper) {
+        this.type = type;
+        // Streams passed in are left open for the caller
+        this.jsonWriter = jsonMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.jsonReader = jsonMapper.readerFor(type).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.xmlWriter = xmlMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.xmlReader = xmlMapper.readerFor(type).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.smileWriter = smileMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.smileReader = smileMapper.readerFor(type).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.cborWriter = cborMapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.cborReader = cborMapper.readerFor(type).without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.ttlvMapper = ttlvMapper;
+    }
+
+    public String toJson(@NonNull T value) throws IOException {
+        return jsonWriter.writeValueAsString(value);
+    }
+
+    public T fromJson(@NonNull String json) throws IOException {
+        return jsonReader.readValue(json);
+    }
+
+    public String toXml(@NonNull T value) throws IOException {
+        return xmlWriter.writeValueAsString(value);
+    }
+
+    public T fromXml(@NonNull String xml) throws IOException {
+        return xmlReader.readValue(xml);
+    }
+
+    /**
+     * Encodes the value as one TTLV frame, positioned for reading.
+     *
+     * @throws IllegalArgumentException if no TTLV serializer is registered for the type
+     */
+    public ByteBuffer toTtlv(@NonNull T value) throws IOException {
+        if (value.getClass() != type) {
+            // Subtypes may have serializers of their own
+            return ttlvMapper.writeValueAsByteBuffer(value);
+        }
+        ByteBuffer buffer = ttlvSerializer().serialize(value, ttlvMapper);
+        buffer.rewind();
+        return buffer;
+    }
+
+    public byte[] toTtlvBytes(@NonNull T value) throws IOException {
+        ByteBuffer buffer = toTtlv(value);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes one TTLV frame.
+     *
+     * @throws IllegalArgumentException if no TTLV deserializer is registered for the type
+     */
+    public T fromTtlv(@NonNull ByteBuffer ttlv) throws IOException {
+        return ttlvDeserializer().deserialize(ttlv, ttlvMapper);
+    }
+
+    public T fromTtlv(byte @NonNull [] ttlv) throws IOException {
+        return fromTtlv(ByteBuffer.wrap(ttlv).order(TtlvConstants.BYTE_ORDER));
+    }
+
+    /**
+     * Encodes the value in the given format. JSON and XML are written as UTF-8 without an intermediate String.
+     */
+    public byte[] toBytes(@NonNull T value, @NonNull KmipCodecManager.MapperType mapperType) throws IOException {
+        if (mapperType == KmipCodecManager.MapperType.TTLV) {
+            return toTtlvBytes(value);
+        }
+        return writer(mapperType).writeValueAsBytes(value);
+    }
+
+    public ByteBuffer toByteBuffer(@NonNull T value, @NonNull KmipCodecManager.MapperType mapperType) throws IOException {
+        return mapperType == KmipCodecManager.MapperType.TTLV ? toTtlv(value) : ByteBuffer.wrap(toBytes(value, mapperType));
+    }
+
+    /**
+     * Writes the value to the stream in the given format. The stream is not closed.
+     */
+    public void write(@NonNull T value, @NonNull KmipCodecManager.MapperType mapperType, @NonNull OutputStream out) throws IOException {
+        if (mapperType == KmipCodecManager.MapperType.TTLV) {
+            TtlvStreams.writeFrame(toTtlv(value), out);
+        } else {
+            writer(mapperType).writeValue(out, value);
+        }
+    }
+
+    public T fromBytes(byte @NonNull [] data, @NonNull KmipCodecManager.MapperType mapperType) throws IOException {
+        if (mapperType == KmipCodecManager.MapperType.TTLV) {
+            return fromTtlv(data);
+        }
+        return reader(mapperType).readValue(data);
+    }
+
+    /**
+     * Decodes the buffer's remaining bytes. Heap buffers are read in place.
+     */
+    public T fromByteBuffer(@NonNull ByteBuffer data, @NonNull KmipCodecManager.MapperType mapperType) throws IOException {
+        if (mapperType == KmipCodecManager.MapperType.TTLV) {
+            return fromTtlv(data);
+        }
+        ObjectReader reader = reader(mapperType);
+        if (data.hasArray()) {
+            return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+        return reader.readValue(new ByteBufferBackedInputStream(data.duplicate()));
+    }
+
+    /**
+     * Reads one value from the stream. For TTLV exactly one frame is consumed; the stream is not closed.
+     */
+    public T read(@NonNull InputStream in, @NonNull KmipCodecManager.MapperType mapperType) throws IOException {
+        if (mapperType == KmipCodecManager.MapperType.TTLV) {
+            return ttlvMapper.readValue(in, type);
+        }
+        return reader(mapperType).readValue(in);
+    }
+
+    private ObjectWriter writer(KmipCodecManager.MapperType mapperType) {
+        return switch (mapperType) {
+            case XML -> xmlWriter;
+            case JSON -> jsonWriter;
+            case SMILE -> smileWriter;
+            case CBOR -> cborWriter;
+            case TTLV -> throw new IllegalArgumentException("TTLV is not written through Jackson");
+        };
+    }
+
+    private ObjectReader reader(KmipCodecManager.MapperType mapperType) {
+        return switch (mapperType) {
+            case XML -> xmlReader;
+            case JSON -> jsonReader;
+            case SMILE -> smileReader;
+            case CBOR -> cborReader;
+            case TTLV -> throw new IllegalArgumentException("TTLV is not read through Jackson");
+        };
+    }
+
+    private TtlvSerializer<T> ttlvSerializer() {
+        TtlvSerializer<T> serializer = ttlvSerializer;
+        if (serializer == null) {
+            ttlvSerializer = serializer = ttlvMapper.serializerFor(type);
+        }
+        return serializer;
+    }
+
+    private TtlvDeserializer<T> ttlvDeserializer() {
+        TtlvDeserializer<T> deserializer = ttlvDeserializer;
+        if (deserializer == null) {
+            ttlvDeserializer = deserializer = ttlvMapper.deserializerFor(type);
+        }
+        return deserializer;
+    }
+}
@@ -2,9 +2,12 @@ package org.purpleBean.kmip.codec;
 
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.Setter;
 import org.apache.commons.text.StringEscapeUtils;
 import org.purpleBean.kmip.codec.json.KmipJsonModule;
@@ -13,64 +16,141 @@ import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
 import org.purpleBean.kmip.codec.xml.KmipXmlModule;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Manager class for KMIP codec.
+ * <p>
+ * The shared mappers are created once each, on first use, through holder classes, so concurrent callers
+ * never build duplicates. Per-type {@link KmipCodec} handles are cached for the life of their class.
+ * <p>
+ * {@link MapperType#SMILE} and {@link MapperType#CBOR} are binary encodings of the JSON profile: they use the
+ * {@link KmipJsonModule} serializers and deserializers unchanged, so the same tree shape is written without
+ * the text overhead.
  */
 public final class KmipCodecManager {
-    private static TtlvMapper ttlvMapper;
-    private static XmlMapper xmlMapper;
-    private static JsonMapper jsonMapper;
+    private static final ClassValue<KmipCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        protected KmipCodec<?> computeValue(Class<?> type) {
+            return new KmipCodec<>(type, getJsonMapper(), getXmlMapper(), getSmileMapper(), getCborMapper(), getTtlvMapper());
+        }
+    };
+
+    @Getter
+    @Setter
+    private static volatile MapperType defaultType = MapperType.XML;
 
+    /**
+     * Whether {@link #serialize(Object)} escapes XML and JSON text, and {@link #deserialize(Object, Class)}
+     * unescapes it, as was always done before. Off by default.
+     */
     @Getter
     @Setter
-    private static MapperType defaultType = MapperType.XML;
+    private static volatile boolean escapeText = false;
 
     public static TtlvMapper getTtlvMapper() {
-        if (ttlvMapper == null) {
-            ttlvMapper = createTtlvMapper();
-        }
-        return ttlvMapper;
+        return TtlvMapperHolder.INSTANCE;
     }
 
     public static XmlMapper getXmlMapper() {
-        if (xmlMapper == null) {
-            xmlMapper = createXmlMapper();
-        }
-        return xmlMapper;
+        return XmlMapperHolder.INSTANCE;
     }
 
     public static JsonMapper getJsonMapper() {
-        if (jsonMapper == null) {
-            jsonMapper = createJsonMapper();
-        }
-        return jsonMapper;
+        return JsonMapperHolder.INSTANCE;
     }
 
-    // Convenience method to serialize using default mapper
-    public static <T> Object serialize(T obj) throws IOException {
+    public static SmileMapper getSmileMapper() {
+        return SmileMapperHolder.INSTANCE;
+    }
 
+    public static CBORMapper getCborMapper() {
+        return CborMapperHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the cached codec for a type, built against the shared mappers.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> KmipCodec<T> codecFor(@NonNull Class<T> type) {
+        return (KmipCodec<T>) CODECS.get(type);
+    }
+
+    /**
+     * Serializes with the default mapper: a String for XML and JSON, escaped only if {@link #isEscapeText()},
+     * or a ByteBuffer for TTLV, Smile and CBOR.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Object serialize(T obj) throws IOException {
+        KmipCodec<T> codec = codecFor((Class<T>) obj.getClass());
         return switch (defaultType) {
-//            TODO: Add TTLV support
-//            case TTLV -> {}
-            case XML -> StringEscapeUtils.escapeXml11(getXmlMapper().writeValueAsString(obj));
-            case JSON -> StringEscapeUtils.escapeJson(getJsonMapper().writeValueAsString(obj));
-            default -> throw new IllegalArgumentException("Unsupported mapper type: " + defaultType);
+            case TTLV -> codec.toTtlv(obj);
+            case XML -> escapeText ? StringEscapeUtils.escapeXml11(codec.toXml(obj)) : codec.toXml(obj);
+            case JSON -> escapeText ? StringEscapeUtils.escapeJson(codec.toJson(obj)) : codec.toJson(obj);
+            case SMILE, CBOR -> codec.toByteBuffer(obj, defaultType);
         };
     }
 
-    // Convenience method to serialize using default mapper
+    /**
+     * Deserializes a value produced by {@link #serialize(Object)} with the default mapper. Byte arrays and
+     * buffers are decoded directly.
+     */
     public static <T> T deserialize(Object value, Class<T> type) throws IOException {
-
-        return switch (defaultType) {
-//            TODO: Add TTLV support
-//            case TTLV -> {}
-            case XML -> getXmlMapper().readValue(StringEscapeUtils.unescapeXml((String) value), type);
-            case JSON -> getJsonMapper().readValue(StringEscapeUtils.unescapeJson((String) value), type);
-            default -> throw new IllegalArgumentException("Unsupported mapper type: " + defaultType);
+        KmipCodec<T> codec = codecFor(type);
+        return switch (value) {
+            case byte[] bytes -> codec.fromBytes(bytes, defaultType);
+            case ByteBuffer buffer -> codec.fromByteBuffer(buffer, defaultType);
+            case String text when defaultType == MapperType.XML ->
+                    codec.fromXml(escapeText ? StringEscapeUtils.unescapeXml(text) : text);
+            case String text when defaultType == MapperType.JSON ->
+                    codec.fromJson(escapeText ? StringEscapeUtils.unescapeJson(text) : text);
+            default -> throw new IllegalArgumentException("Unsupported value for mapper type " + defaultType + ": "
+                    + value.getClass().getName());
         };
     }
 
+    public static <T> byte[] serializeToBytes(T obj) throws IOException {
+        return serializeToBytes(obj, defaultType);
+    }
+
+    /**
+     * Serializes to bytes in the given format; JSON and XML are UTF-8.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> byte[] serializeToBytes(@NonNull T obj, @NonNull MapperType mapperType) throws IOException {
+        return codecFor((Class<T>) obj.getClass()).toBytes(obj, mapperType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ByteBuffer serializeToByteBuffer(@NonNull T obj, @NonNull MapperType mapperType) throws IOException {
+        return codecFor((Class<T>) obj.getClass()).toByteBuffer(obj, mapperType);
+    }
+
+    /**
+     * Serializes to the stream in the given format. The stream is not closed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void serialize(@NonNull T obj, @NonNull MapperType mapperType, @NonNull OutputStream out) throws IOException {
+        codecFor((Class<T>) obj.getClass()).write(obj, mapperType, out);
+    }
+
+    public static <T> T deserialize(byte @NonNull [] data, @NonNull Class<T> type, @NonNull MapperType mapperType) throws IOException {
+        return codecFor(type).fromBytes(data, mapperType);
+    }
+
+    public static <T> T deserialize(@NonNull ByteBuffer data, @NonNull Class<T> type, @NonNull MapperType mapperType) throws IOException {
+        return codecFor(type).fromByteBuffer(data, mapperType);
+    }
+
+    /**
+     * Reads one value from the stream in the given format. The stream is not closed.
+     */
+    public static <T> T deserialize(@NonNull InputStream in, @NonNull Class<T> type, @NonNull MapperType mapperType) throws IOException {
+        return codecFor(type).read(in, mapperType);
+    }
+
     public static JsonMapper createJsonMapper() {
         JsonMapper jsonMapper = new JsonMapper();
         jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -79,6 +159,22 @@ public final class KmipCodecManager {
         return jsonMapper;
     }
 
+    public static SmileMapper createSmileMapper() {
+        SmileMapper smileMapper = new SmileMapper();
+        smileMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        smileMapper.registerModule(new KmipJsonModule());
+        smileMapper.registerModule(new JavaTimeModule());
+        return smileMapper;
+    }
+
+    public static CBORMapper createCborMapper() {
+        CBORMapper cborMapper = new CBORMapper();
+        cborMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cborMapper.registerModule(new KmipJsonModule());
+        cborMapper.registerModule(new JavaTimeModule());
+        return cborMapper;
+    }
+
     public static XmlMapper createXmlMapper() {
         XmlMapper xmlMapper = new XmlMapper();
         xmlMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -93,9 +189,31 @@ public final class KmipCodecManager {
         return ttlvMapper;
     }
 
+    private static final class TtlvMapperHolder {
+        private static final TtlvMapper INSTANCE = createTtlvMapper();
+    }
+
+    private static final class XmlMapperHolder {
+        private static final XmlMapper INSTANCE = createXmlMapper();
+    }
+
+    private static final class JsonMapperHolder {
+        private static final JsonMapper INSTANCE = createJsonMapper();
+    }
+
+    private static final class SmileMapperHolder {
+        private static final SmileMapper INSTANCE = createSmileMapper();
+    }
+
+    private static final class CborMapperHolder {
+        private static final CBORMapper INSTANCE = createCborMapper();
+    }
+
     public enum MapperType {
         TTLV,
         XML,
-        JSON
+        JSON,
+        SMILE,
+        CBOR
     }
 }
@@ -0,0 +1,17 @@
+package org.purpleBean.kmip.codec;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Field and attribute names shared by the KMIP JSON and XML profiles, pre-encoded so generators copy their
+ * bytes instead of encoding the names on every write.
+ */
+public final class KmipFieldNames {
+    public static final SerializedString TAG = new SerializedString("tag");
+    public static final SerializedString NAME = new SerializedString("name");
+    public static final SerializedString TYPE = new SerializedString("type");
+    public static final SerializedString VALUE = new SerializedString("value");
+
+    private KmipFieldNames() {
+    }
+}
@@ -0,0 +1,168 @@
+package org.purpleBean.kmip.codec;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.type.CollectionLikeType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.type.MapLikeType;
+import com.fasterxml.jackson.databind.type.MapType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Jackson lookups over {@link KmipCodecIndex}, so the JSON and XML modules create each codec the first time
+ * its type is seen instead of instantiating every codec when the module is built.
+ * <p>
+ * Matching follows {@code SimpleModule}: serializers are found for the type or a superclass, deserializers
+ * for the exact type. The value classes of a sealed type, such as {@code AttributeValue.IntValue}, are read by
+ * the sealed type's deserializer, which picks the class from the input. Codecs are created once per lookup and reused, as Jackson does not cache every
+ * deserializer it resolves.
+ */
+public final class KmipIndexedCodecs {
+
+    private KmipIndexedCodecs() {
+    }
+
+    /**
+     * @param index returns a new serializer for a type's binary name, or {@code null}
+     */
+    public static Serializers serializers(Function<String, Object> index) {
+        return new IndexedSerializers(index);
+    }
+
+    /**
+     * @param index returns a new deserializer for a type's binary name, or {@code null}
+     */
+    public static Deserializers deserializers(Function<String, Object> index) {
+        return new IndexedDeserializers(index);
+    }
+
+    private static final class Codecs<C> {
+        private final Function<String, Object> index;
+        private final Map<Class<?>, C> created = new ConcurrentHashMap<>();
+
+        private Codecs(Function<String, Object> index) {
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        C get(Class<?> type) {
+            C codec = created.get(type);
+            if (codec == null) {
+                codec = (C) index.apply(type.getName());
+                if (codec != null) {
+                    C existing = created.putIfAbsent(type, codec);
+                    return existing != null ? existing : codec;
+                }
+            }
+            return codec;
+        }
+    }
+
+    private static final class IndexedSerializers extends Serializers.Base {
+        private final Codecs<JsonSerializer<?>> codecs;
+
+        private IndexedSerializers(Function<String, Object> index) {
+            this.codecs = new Codecs<>(index);
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            for (Class<?> current = type.getRawClass(); current != null && current != Object.class; current = current.getSuperclass()) {
+                JsonSerializer<?> serializer = codecs.get(current);
+                if (serializer != null) {
+                    return serializer;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public JsonSerializer<?> findCollectionSerializer(SerializationConfig config, CollectionType type, BeanDescription beanDesc,
+                                                          TypeSerializer elementTypeSerializer, JsonSerializer<Object> elementValueSerializer) {
+            return findSerializer(config, type, beanDesc);
+        }
+
+        @Override
+        public JsonSerializer<?> findCollectionLikeSerializer(SerializationConfig config, CollectionLikeType type, BeanDescription beanDesc,
+                                                              TypeSerializer elementTypeSerializer, JsonSerializer<Object> elementValueSerializer) {
+            return findSerializer(config, type, beanDesc);
+        }
+
+        @Override
+        public JsonSerializer<?> findMapSerializer(SerializationConfig config, MapType type, BeanDescription beanDesc,
+                                                   JsonSerializer<Object> keySerializer, TypeSerializer elementTypeSerializer,
+                                                   JsonSerializer<Object> elementValueSerializer) {
+            return findSerializer(config, type, beanDesc);
+        }
+
+        @Override
+        public JsonSerializer<?> findMapLikeSerializer(SerializationConfig config, MapLikeType type, BeanDescription beanDesc,
+                                                       JsonSerializer<Object> keySerializer, TypeSerializer elementTypeSerializer,
+                                                       JsonSerializer<Object> elementValueSerializer) {
+            return findSerializer(config, type, beanDesc);
+        }
+    }
+
+    private static final class IndexedDeserializers extends Deserializers.Base {
+        private final Codecs<JsonDeserializer<?>> codecs;
+
+        private IndexedDeserializers(Function<String, Object> index) {
+            this.codecs = new Codecs<>(index);
+        }
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+            JsonDeserializer<?> deserializer = codecs.get(type.getRawClass());
+            Class<?> parent = type.getRawClass().getSuperclass();
+            return deserializer == null && parent != null && parent.isSealed() ? codecs.get(parent) : deserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config, BeanDescription beanDesc) {
+            return codecs.get(type);
+        }
+
+        @Override
+        public JsonDeserializer<?> findCollectionDeserializer(CollectionType type, DeserializationConfig config, BeanDescription beanDesc,
+                                                              TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer) {
+            return codecs.get(type.getRawClass());
+        }
+
+        @Override
+        public JsonDeserializer<?> findCollectionLikeDeserializer(CollectionLikeType type, DeserializationConfig config, BeanDescription beanDesc,
+                                                                  TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer) {
+            return codecs.get(type.getRawClass());
+        }
+
+        @Override
+        public JsonDeserializer<?> findMapDeserializer(MapType type, DeserializationConfig config, BeanDescription beanDesc,
+                                                       KeyDeserializer keyDeserializer, TypeDeserializer elementTypeDeserializer,
+                                                       JsonDeserializer<?> elementDeserializer) {
+            return codecs.get(type.getRawClass());
+        }
+
+        @Override
+        public JsonDeserializer<?> findMapLikeDeserializer(MapLikeType type, DeserializationConfig config, BeanDescription beanDesc,
+                                                           KeyDeserializer keyDeserializer, TypeDeserializer elementTypeDeserializer,
+                                                           JsonDeserializer<?> elementDeserializer) {
+            return codecs.get(type.getRawClass());
+        }
+
+        @Override
+        public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+            return codecs.get(valueType) != null;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package org.purpleBean.kmip.codec;
+
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.KmipEnumeration;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.KmipTag;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Textual forms of TTLV tags and values shared by the JSON and XML profiles, for code that converts
+ * between encodings without decoding into KMIP objects.
+ * <p>
+ * Enumeration names are looked up through the enumeration class registered for the tag, which is found in
+ * {@link KmipDataType#TAG_REGISTRY}. Classes register their tags when they are loaded, which the registry
+ * lookup triggers through the build-time {@code KmipDataTypeIndex}.
+ */
+public final class KmipTextForms {
+    private static final String HEX_PREFIX = "0x";
+    private static final HexFormat HEX = HexFormat.of();
+    private static final Map<KmipTag.Value, EnumerationLookup> ENUMERATIONS = new ConcurrentHashMap<>();
+
+    private KmipTextForms() {
+    }
+
+    /**
+     * Resolves a TTLV tag against the current spec.
+     *
+     * @return the tag, or {@code null} if it is not registered or not supported
+     */
+    public static KmipTag.Value tag(int tag) {
+        try {
+            return KmipTag.fromValue(KmipContext.getSpec(), tag);
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Formats a tag as the hex string used for custom and unknown tags, e.g. {@code 0x540001}.
+     */
+    public static String formatTag(int tag) {
+        return String.format("0x%06X", tag);
+    }
+
+    /**
+     * Parses a tag from its description or hex string.
+     *
+     * @throws NoSuchElementException   if a description is not a known tag
+     * @throws IllegalArgumentException if a hex string is malformed
+     */
+    public static int parseTag(String text) {
+        if (isHex(text)) {
+            return Integer.parseInt(text.substring(HEX_PREFIX.length()), 16);
+        }
+        return KmipTag.fromName(KmipContext.getSpec(), text).getValue();
+    }
+
+    /**
+     * Returns the name of an enumeration value, or {@code null} if the tag has no registered enumeration or
+     * the value is not one of its values.
+     */
+    public static String enumerationName(int tag, int value) {
+        EnumerationLookup lookup = enumeration(tag);
+        if (lookup == null) {
+            return null;
+        }
+        try {
+            return lookup.name(value);
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses an enumeration value from its name, its hex form or a decimal number.
+     *
+     * @throws NoSuchElementException if the name is not a value of the tag's enumeration
+     */
+    public static int parseEnumeration(int tag, String text) {
+        if (isHex(text)) {
+            return Integer.parseUnsignedInt(text.substring(HEX_PREFIX.length()), 16);
+        }
+        if (!text.isEmpty() && (Character.isDigit(text.charAt(0)) || text.charAt(0) == '-')) {
+            return Integer.parseInt(text);
+        }
+        EnumerationLookup lookup = enumeration(tag);
+        if (lookup == null) {
+            throw new NoSuchElementException(String.format("No enumeration registered for tag %s", formatTag(tag)));
+        }
+        return lookup.value(text);
+    }
+
+    /**
+     * Parses a 32-bit integer value from a decimal number or its hex form.
+     *
+     * @throws NumberFormatException if the value does not fit in 32 bits
+     */
+    public static int parseInt(String text) {
+        return isHex(text) ? Integer.parseUnsignedInt(text.substring(HEX_PREFIX.length()), 16) : Integer.parseInt(text);
+    }
+
+    /**
+     * Parses an integer value from a decimal number or its hex form.
+     */
+    public static long parseLong(String text) {
+        return isHex(text) ? Long.parseUnsignedLong(text.substring(HEX_PREFIX.length()), 16) : Long.parseLong(text);
+    }
+
+    /**
+     * Formats seconds since the epoch the way {@code OffsetDateTime} values are written, in UTC.
+     */
+    public static String formatDateTime(long epochSeconds) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZoneOffset.UTC));
+    }
+
+    public static long parseDateTime(String text) {
+        return OffsetDateTime.parse(text).toEpochSecond();
+    }
+
+    public static String formatHex(byte[] bytes) {
+        return HEX.formatHex(bytes);
+    }
+
+    /**
+     * Parses hex digits, with or without a {@code 0x} prefix.
+     */
+    public static byte[] parseHex(String text) {
+        return HEX.parseHex(isHex(text) ? text.substring(HEX_PREFIX.length()) : text);
+    }
+
+    private static boolean isHex(String text) {
+        return text.regionMatches(true, 0, HEX_PREFIX, 0, HEX_PREFIX.length());
+    }
+
+    private static EnumerationLookup enumeration(int tag) {
+        KmipTag.Value tagValue = tag(tag);
+        if (tagValue == null) {
+            return null;
+        }
+        // Misses are not cached, as the class for a tag may register later
+        return ENUMERATIONS.computeIfAbsent(tagValue, KmipTextForms::findEnumeration);
+    }
+
+    private static EnumerationLookup findEnumeration(KmipTag.Value tag) {
+        Class<? extends KmipDataType> clazz = KmipDataType.getClassFromRegistry(tag, EncodingType.ENUMERATION);
+        if (clazz == null) {
+            // Types are not registered for the unknown spec, so accept the class from any spec
+            for (KmipSpec spec : KmipSpec.values()) {
+                clazz = KmipDataType.TAG_REGISTRY.get(spec, tag, EncodingType.ENUMERATION);
+                if (clazz != null) {
+                    break;
+                }
+            }
+        }
+        if (clazz == null || !KmipEnumeration.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+        return EnumerationLookup.of(clazz);
+    }
+
+    /**
+     * The static {@code fromValue}/{@code fromName} lookups every enumeration class provides, with accessors
+     * for its {@code Value} type.
+     */
+    private record EnumerationLookup(MethodHandle fromValue, MethodHandle fromName,
+                                     MethodHandle getValue, MethodHandle getDescription) {
+        private static EnumerationLookup of(Class<?> clazz) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Method fromValue = clazz.getMethod("fromValue", int.class);
+                Method fromName = clazz.getMethod("fromName", String.class);
+                Class<?> valueType = fromValue.getReturnType();
+                return new EnumerationLookup(
+                        lookup.unreflect(fromValue).asType(MethodType.methodType(Object.class, int.class)),
+                        lookup.unreflect(fromName).asType(MethodType.methodType(Object.class, String.class)),
+                        lookup.findVirtual(valueType, "getValue", MethodType.methodType(int.class))
+                                .asType(MethodType.methodType(int.class, Object.class)),
+                        lookup.findVirtual(valueType, "getDescription", MethodType.methodType(String.class))
+                                .asType(MethodType.methodType(String.class, Object.class)));
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
+        private String name(int value) {
+            try {
+                return (String) getDescription.invokeExact(fromValue.invokeExact(value));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private int value(String name) {
+            try {
+                return (int) getValue.invokeExact(fromName.invokeExact(name));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
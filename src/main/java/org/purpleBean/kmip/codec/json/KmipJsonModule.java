@@ -3,6 +3,8 @@ package org.purpleBean.kmip.codec.json;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.codec.KmipCodecIndex;
+import org.purpleBean.kmip.codec.KmipIndexedCodecs;
 import org.purpleBean.kmip.codec.json.deserializer.BigIntegerJsonDeserializer;
 import org.purpleBean.kmip.codec.json.deserializer.ByteBufferJsonDeserializer;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
@@ -56,5 +58,12 @@ public class KmipJsonModule extends SimpleModule {
             }
         }
     }
-}
 
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        // Codecs of this library are listed in the build-time index and created when a type is first seen
+        context.addSerializers(KmipIndexedCodecs.serializers(KmipCodecIndex::jsonSerializer));
+        context.addDeserializers(KmipIndexedCodecs.deserializers(KmipCodecIndex::jsonDeserializer));
+    }
+}
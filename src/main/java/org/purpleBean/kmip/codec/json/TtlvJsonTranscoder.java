@@ -0,0 +1,226 @@
+package org.purpleBean.kmip.codec.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.codec.KmipTextForms;
+import org.purpleBean.kmip.codec.ttlv.TtlvReader;
+import org.purpleBean.kmip.codec.ttlv.TtlvWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.NoSuchElementException;
+
+/**
+ * Converts between TTLV and the KMIP JSON profile written by {@link KmipJsonModule} without decoding into
+ * KMIP objects. Items are copied token by token, so memory use depends only on nesting depth.
+ * <p>
+ * Every item becomes a {@code {"tag", "type", "value"}} object, with structure children in a {@code value}
+ * array. Custom tags are written as their hex value plus a {@code name}, and tags unknown to the current spec
+ * as their hex value alone. Enumerations are written by name when the tag's enumeration class knows the
+ * value, byte strings and big integers as hex, and date-times as ISO-8601 strings.
+ * <p>
+ * JSON input must give {@code tag} and {@code type} before {@code value}, as the serializers do, so that
+ * each value can be written as soon as it is read.
+ */
+public final class TtlvJsonTranscoder {
+
+    private TtlvJsonTranscoder() {
+    }
+
+    /**
+     * Writes every top-level TTLV item in the buffer's remaining bytes. The buffer is not modified.
+     *
+     * @throws IllegalArgumentException if the TTLV input is malformed
+     */
+    public static void transcode(ByteBuffer ttlv, JsonGenerator gen) throws IOException {
+        TtlvReader reader = new TtlvReader(ttlv);
+        for (TtlvReader.Event event = reader.next(); event != null; event = reader.next()) {
+            switch (event) {
+                case START_STRUCTURE -> {
+                    gen.writeStartObject();
+                    writeTag(reader.getTag(), gen);
+                    gen.writeStringField("type", EncodingType.STRUCTURE.getDescription());
+                    gen.writeFieldName("value");
+                    gen.writeStartArray();
+                }
+                case END_STRUCTURE -> {
+                    gen.writeEndArray();
+                    gen.writeEndObject();
+                }
+                case VALUE -> writeValue(reader, gen);
+            }
+        }
+    }
+
+    private static void writeTag(int tag, JsonGenerator gen) throws IOException {
+        KmipTag.Value tagValue = KmipTextForms.tag(tag);
+        if (tagValue == null || tagValue.isCustom()) {
+            gen.writeStringField("tag", KmipTextForms.formatTag(tag));
+            if (tagValue != null) {
+                gen.writeStringField("name", tagValue.getDescription());
+            }
+        } else {
+            gen.writeStringField("tag", tagValue.getDescription());
+        }
+    }
+
+    private static void writeValue(TtlvReader reader, JsonGenerator gen) throws IOException {
+        EncodingType encodingType = reader.getEncodingType();
+        gen.writeStartObject();
+        writeTag(reader.getTag(), gen);
+        gen.writeStringField("type", encodingType.getDescription());
+        gen.writeFieldName("value");
+        switch (encodingType) {
+            case INTEGER, INTERVAL -> gen.writeNumber(reader.getInt());
+            case LONG_INTEGER -> gen.writeNumber(reader.getLong());
+            case ENUMERATION -> {
+                String name = KmipTextForms.enumerationName(reader.getTag(), reader.getInt());
+                if (name != null) {
+                    gen.writeString(name);
+                } else {
+                    gen.writeNumber(reader.getInt());
+                }
+            }
+            case BOOLEAN -> gen.writeBoolean(reader.getBoolean());
+            case DATE_TIME -> gen.writeString(KmipTextForms.formatDateTime(reader.getLong()));
+            case TEXT_STRING -> gen.writeString(reader.getText());
+            case BYTE_STRING, BIG_INTEGER -> {
+                ByteBuffer bytes = reader.getBytes();
+                byte[] raw = new byte[bytes.remaining()];
+                bytes.get(raw);
+                gen.writeString(KmipTextForms.formatHex(raw));
+            }
+            default -> throw new IllegalArgumentException("Unsupported TTLV type " + encodingType.getDescription());
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Reads JSON items until the end of input, or until the end of an enclosing array if the parser is on
+     * one, and returns their TTLV encoding.
+     */
+    public static ByteBuffer toTtlv(JsonParser p) throws IOException {
+        TtlvWriter out = new TtlvWriter();
+        transcode(p, out);
+        return out.toByteBuffer();
+    }
+
+    /**
+     * Reads JSON items until the end of input, or until the end of an enclosing array if the parser is on
+     * one, writing each to the TTLV writer. A parser on a {@code START_OBJECT} reads just that item.
+     */
+    public static void transcode(JsonParser p, TtlvWriter out) throws IOException {
+        JsonToken token = p.currentToken() != null ? p.currentToken() : p.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            writeItem(p, out);
+            return;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            token = p.nextToken();
+        }
+        for (; token == JsonToken.START_OBJECT; token = p.nextToken()) {
+            writeItem(p, out);
+        }
+        if (token != null && token != JsonToken.END_ARRAY) {
+            throw new JsonParseException(p, "Expected KMIP JSON object, got " + token);
+        }
+    }
+
+    private static void writeItem(JsonParser p, TtlvWriter out) throws IOException {
+        String tagText = null;
+        String name = null;
+        EncodingType encodingType = null;
+        boolean written = false;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken fieldToken = p.nextToken();
+            switch (field) {
+                case "tag" -> tagText = p.getValueAsString();
+                case "name" -> name = p.getValueAsString();
+                case "type" -> {
+                    String type = p.getValueAsString();
+                    encodingType = type == null ? null : EncodingType.fromName(type).orElseThrow(() ->
+                            new JsonParseException(p, "Unknown KMIP type: " + type));
+                }
+                case "value" -> {
+                    if (tagText == null || encodingType == null) {
+                        throw new JsonParseException(p, "Expected 'tag' and 'type' before 'value'");
+                    }
+                    writeItemValue(p, fieldToken, parseTag(p, tagText, name), encodingType, out);
+                    written = true;
+                }
+                default -> p.skipChildren();
+            }
+        }
+        if (p.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(p, "Unexpected end of KMIP JSON object");
+        }
+        if (!written) {
+            throw new JsonParseException(p, "Missing 'value' in KMIP JSON object");
+        }
+    }
+
+    private static int parseTag(JsonParser p, String tagText, String name) throws IOException {
+        try {
+            // Custom tags carry their hex value in 'tag'; 'name' is informational
+            return KmipTextForms.parseTag(tagText);
+        } catch (NoSuchElementException | IllegalArgumentException e) {
+            throw new JsonParseException(p, "Unknown KMIP tag: " + (name != null ? name : tagText), e);
+        }
+    }
+
+    private static void writeItemValue(JsonParser p, JsonToken token, int tag, EncodingType encodingType,
+                                       TtlvWriter out) throws IOException {
+        try {
+            switch (encodingType) {
+                case STRUCTURE -> {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(p, "Expected array value for Structure");
+                    }
+                    out.startStructure(tag);
+                    for (JsonToken child = p.nextToken(); child != JsonToken.END_ARRAY; child = p.nextToken()) {
+                        if (child != JsonToken.START_OBJECT) {
+                            throw new JsonParseException(p, "Expected KMIP JSON object in Structure, got " + child);
+                        }
+                        writeItem(p, out);
+                    }
+                    out.endStructure();
+                }
+                case INTEGER, INTERVAL -> out.writeInt(tag, encodingType, token.isNumeric()
+                        ? p.getIntValue() : KmipTextForms.parseInt(requireText(p, token)));
+                case ENUMERATION -> out.writeInt(tag, encodingType, token.isNumeric()
+                        ? p.getIntValue() : KmipTextForms.parseEnumeration(tag, requireText(p, token)));
+                case LONG_INTEGER -> out.writeLong(tag, encodingType, token.isNumeric() ? p.getLongValue() : parseLong(p));
+                case DATE_TIME -> out.writeLong(tag, encodingType, token.isNumeric()
+                        ? p.getLongValue() : KmipTextForms.parseDateTime(requireText(p, token)));
+                case BOOLEAN -> {
+                    if (!token.isBoolean()) {
+                        throw new JsonParseException(p, "Expected boolean value for Boolean");
+                    }
+                    out.writeBoolean(tag, p.getBooleanValue());
+                }
+                case TEXT_STRING -> out.writeText(tag, requireText(p, token));
+                case BYTE_STRING, BIG_INTEGER -> out.writeBytes(tag, encodingType, KmipTextForms.parseHex(requireText(p, token)));
+                default -> throw new JsonParseException(p, "Unsupported KMIP type: " + encodingType.getDescription());
+            }
+        } catch (NoSuchElementException | IllegalArgumentException | DateTimeException e) {
+            throw new JsonParseException(p, "Invalid " + encodingType.getDescription() + " value: " + e.getMessage(), e);
+        }
+    }
+
+    private static long parseLong(JsonParser p) throws IOException {
+        return KmipTextForms.parseLong(requireText(p, p.currentToken()));
+    }
+
+    private static String requireText(JsonParser p, JsonToken token) throws IOException {
+        if (token != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(p, "Expected string value, got " + token);
+        }
+        return p.getText();
+    }
+}
@@ -0,0 +1,354 @@
+package org.purpleBean.kmip.codec.json.deserializer.kmip;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipTag;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * The {@code tag}, {@code name}, {@code type} and {@code value} fields of one KMIP JSON object, read in a
+ * single forward pass over the parser tokens.
+ * <p>
+ * Scalar values are captured as they are read. Arrays and objects are handed to a {@link ValueReader} while
+ * the parser is positioned on them, once {@code tag} and {@code type} are known; if {@code value} appears
+ * before either of them, its tokens are buffered and replayed when the object ends.
+ */
+public final class KmipJsonFields {
+    private String tag;
+    private String name;
+    private String type;
+    private JsonToken valueToken;
+    private JsonParser.NumberType numberType;
+    private String valueText;
+    private Number valueNumber;
+    private Object value;
+
+    private KmipJsonFields() {
+    }
+
+    /**
+     * Reads the fields of the object at the current parser position, skipping a structured value.
+     */
+    public static KmipJsonFields read(JsonParser p, DeserializationContext ctxt, Class<?> targetType) throws IOException {
+        return read(p, ctxt, targetType, null);
+    }
+
+    /**
+     * Reads the fields of the object at the current parser position. The parser must be on its
+     * {@code START_OBJECT} or first {@code FIELD_NAME} and is left on its {@code END_OBJECT}.
+     *
+     * @param targetType  type reported in input mismatch errors
+     * @param valueReader reads the {@code value} field, or {@code null} to capture scalars and skip structures
+     */
+    public static KmipJsonFields read(JsonParser p, DeserializationContext ctxt, Class<?> targetType,
+                                      ValueReader<?> valueReader) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            ctxt.reportInputMismatch(targetType, "Expected object for %s", targetType.getSimpleName());
+            return null;
+        }
+
+        KmipJsonFields fields = new KmipJsonFields();
+        TokenBuffer deferred = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken fieldToken = p.nextToken();
+            switch (field) {
+                case "tag" -> fields.tag = fieldToken == JsonToken.VALUE_STRING ? p.getText() : null;
+                case "name" -> fields.name = fieldToken == JsonToken.VALUE_STRING ? p.getText() : null;
+                case "type" -> fields.type = fieldToken == JsonToken.VALUE_STRING ? p.getText() : null;
+                case "value" -> {
+                    fields.valueToken = fieldToken;
+                    if (valueReader == null) {
+                        fields.capture(p);
+                    } else if (fields.tagName() != null && fields.type != null) {
+                        fields.value = valueReader.read(fields, p, ctxt);
+                    } else {
+                        deferred = ctxt.bufferAsCopyOfValue(p);
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+
+        if (deferred != null) {
+            JsonParser replay = deferred.asParserOnFirstToken();
+            fields.value = valueReader.read(fields, replay, ctxt);
+        }
+        return fields;
+    }
+
+    /**
+     * Visits every element of the array at the current parser position. Object elements are presented with
+     * their {@code tag} and {@code type} already read, so the handler can pick the target class and decode
+     * the rest of the element without a detour through a tree. Elements the handler does not read are skipped.
+     *
+     * @return the number of elements in the array
+     */
+    public static int forEachElement(JsonParser p, DeserializationContext ctxt, Class<?> targetType,
+                                     ElementHandler handler) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            ctxt.reportInputMismatch(targetType, "%s 'value' must be an array", targetType.getSimpleName());
+            return 0;
+        }
+        int index = 0;
+        for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken(), index++) {
+            if (token != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            Element element = Element.open(p, ctxt, index);
+            handler.accept(element);
+            element.finish();
+        }
+        return index;
+    }
+
+    private void capture(JsonParser p) throws IOException {
+        if (valueToken.isScalarValue()) {
+            valueText = p.getText();
+            if (valueToken.isNumeric()) {
+                numberType = p.getNumberType();
+                valueNumber = p.getNumberValue();
+            }
+        } else {
+            p.skipChildren();
+        }
+    }
+
+    /**
+     * Returns the {@code name} field when present, as custom tags carry their name there, else {@code tag}.
+     */
+    public String tagName() {
+        return name != null ? name : tag;
+    }
+
+    /**
+     * Resolves the tag against the current KMIP spec.
+     *
+     * @throws NoSuchElementException if the tag is missing or unknown
+     */
+    public KmipTag.Value tagValue() {
+        return resolveTag(tagName());
+    }
+
+    public Optional<EncodingType> encodingType() {
+        return type == null ? Optional.empty() : EncodingType.fromName(type);
+    }
+
+    /**
+     * Returns what the {@link ValueReader} produced.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R value() {
+        return (R) value;
+    }
+
+    public boolean hasValue() {
+        return valueToken != null;
+    }
+
+    public boolean isTextual() {
+        return valueToken == JsonToken.VALUE_STRING;
+    }
+
+    public boolean isNumber() {
+        return valueToken != null && valueToken.isNumeric();
+    }
+
+    public boolean isInt() {
+        return numberType == JsonParser.NumberType.INT;
+    }
+
+    public String asText() {
+        return valueText;
+    }
+
+    public int intValue() {
+        return valueNumber == null ? 0 : valueNumber.intValue();
+    }
+
+    public long longValue() {
+        return valueNumber == null ? 0L : valueNumber.longValue();
+    }
+
+    /**
+     * Returns the value as an int, parsing text the same way {@code JsonNode.asInt()} does.
+     */
+    public int asInt() {
+        if (valueNumber != null) {
+            return valueNumber.intValue();
+        }
+        return valueToken == JsonToken.VALUE_STRING ? NumberInput.parseAsInt(valueText, 0) : 0;
+    }
+
+    public boolean asBoolean() {
+        if (valueToken == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (valueNumber != null) {
+            return valueNumber.intValue() != 0;
+        }
+        return valueToken == JsonToken.VALUE_STRING && "true".equals(valueText.trim());
+    }
+
+    private static KmipTag.Value resolveTag(String tagName) {
+        if (tagName == null) {
+            throw new NoSuchElementException("Expected 'name' or 'tag' field with string value in object");
+        }
+        return KmipTag.fromName(KmipContext.getSpec(), tagName);
+    }
+
+    /**
+     * Reads the {@code value} field. The parser is positioned on the value's first token and must be left
+     * on its last one, as with any {@code JsonDeserializer}.
+     */
+    @FunctionalInterface
+    public interface ValueReader<R> {
+        R read(KmipJsonFields fields, JsonParser p, DeserializationContext ctxt) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ElementHandler {
+        void accept(Element element) throws IOException;
+    }
+
+    /**
+     * An object element of a structure's {@code value} array whose leading fields have been read.
+     * <p>
+     * When {@code tag} and {@code type} precede {@code value}, the fields read so far are kept in a small token
+     * buffer and {@link #readAs} continues from the live parser; otherwise the whole element is buffered.
+     */
+    public static final class Element {
+        private final JsonParser p;
+        private final DeserializationContext ctxt;
+        private final int index;
+        private final TokenBuffer head;
+        private String tag;
+        private String name;
+        private String type;
+        private boolean streaming;
+        private boolean consumed;
+
+        private Element(JsonParser p, DeserializationContext ctxt, int index) {
+            this.p = p;
+            this.ctxt = ctxt;
+            this.index = index;
+            this.head = ctxt.bufferForInputBuffering(p);
+        }
+
+        private static Element open(JsonParser p, DeserializationContext ctxt, int index) throws IOException {
+            Element element = new Element(p, ctxt, index);
+            element.head.writeStartObject();
+            for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                element.head.writeFieldName(field);
+                if ("value".equals(field) && element.tagName() != null && element.type != null) {
+                    element.streaming = true;
+                    return element;
+                }
+                JsonToken fieldToken = p.nextToken();
+                if (fieldToken == JsonToken.VALUE_STRING) {
+                    switch (field) {
+                        case "tag" -> element.tag = p.getText();
+                        case "name" -> element.name = p.getText();
+                        case "type" -> element.type = p.getText();
+                        default -> {
+                        }
+                    }
+                }
+                element.head.copyCurrentStructure(p);
+            }
+            element.head.writeEndObject();
+            return element;
+        }
+
+        /**
+         * Returns the position of this element in the array.
+         */
+        public int index() {
+            return index;
+        }
+
+        public boolean hasTag() {
+            return tagName() != null;
+        }
+
+        public String tagName() {
+            return name != null ? name : tag;
+        }
+
+        /**
+         * @throws NoSuchElementException if the tag is missing or unknown
+         */
+        public KmipTag.Value tagValue() {
+            return resolveTag(tagName());
+        }
+
+        public Optional<EncodingType> encodingType() {
+            return type == null ? Optional.empty() : EncodingType.fromName(type);
+        }
+
+        /**
+         * Decodes the element as the given type. May be called at most once.
+         */
+        public <T> T readAs(Class<T> clazz) throws IOException {
+            if (consumed) {
+                throw new IllegalStateException("Element has already been read");
+            }
+            consumed = true;
+            JsonParser parser = streaming
+                    ? JsonParserSequence.createFlattened(false, head.asParser(p), p)
+                    : head.asParser(p);
+            parser.nextToken();
+            return ctxt.readValue(parser, clazz);
+        }
+
+        /**
+         * Buffers the rest of the element so that {@link #readAs} decodes from a private copy, leaving the
+         * shared parser on the element's end even if decoding fails.
+         */
+        public Element isolate() throws IOException {
+            if (streaming) {
+                head.copyCurrentStructure(nextValue());
+                copyRemainingFields();
+                head.writeEndObject();
+                streaming = false;
+            }
+            return this;
+        }
+
+        private JsonParser nextValue() throws IOException {
+            p.nextToken();
+            return p;
+        }
+
+        private void copyRemainingFields() throws IOException {
+            for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                head.copyCurrentStructure(p);
+            }
+        }
+
+        private void finish() throws IOException {
+            if (!consumed && streaming) {
+                p.nextToken();
+                p.skipChildren();
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    p.nextToken();
+                    p.skipChildren();
+                }
+            }
+        }
+    }
+}
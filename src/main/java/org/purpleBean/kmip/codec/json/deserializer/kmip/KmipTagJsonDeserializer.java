@@ -3,7 +3,6 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
@@ -13,22 +12,9 @@ import java.io.IOException;
 public class KmipTagJsonDeserializer extends JsonDeserializer<KmipTag> {
     @Override
     public KmipTag deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, KmipTag.class);
 
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(KmipTag.class, "Expected object for KmipTag");
-            return null;
-        }
-
-        JsonNode nameNode = node.get("name");
-        JsonNode tagNode = node.get("tag");
-
-        String value = null;
-        if (nameNode != null && nameNode.isTextual()) {
-            value = nameNode.asText();
-        } else if (tagNode != null && tagNode.isTextual()) {
-            value = tagNode.asText();
-        }
+        String value = fields.tagName();
 
         if (value == null) {
             ctxt.reportInputMismatch(KmipTag.class,
@@ -2,7 +2,6 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.ProtocolVersion;
 
@@ -12,39 +11,44 @@ public class ProtocolVersionJsonDeserializer extends KmipDataTypeJsonDeserialize
 
     @Override
     public ProtocolVersion deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ProtocolVersion.class, this::readParts);
 
-        KmipTag.Value tag = p.getCodec().treeToValue(node, KmipTag.class).getValue();
+        KmipTag.Value tag = fields.tagValue();
 
-        if (!node.isObject() || tag != KmipTag.Standard.PROTOCOL_VERSION) {
+        if (tag != KmipTag.Standard.PROTOCOL_VERSION) {
             ctxt.reportInputMismatch(ProtocolVersion.class, "Expected object for ProtocolVersion");
             return null;
         }
 
-        JsonNode values = node.get("value");
-        if (values == null || !values.isArray() || values.size() != 2) {
+        Parts parts = fields.value();
+        if (parts == null || parts.count != 2 || parts.major == null || parts.minor == null) {
             ctxt.reportInputMismatch(ProtocolVersion.class, "ProtocolVersion 'value' must be array length 2");
             return null;
         }
 
-        JsonNode majorObj = values.get(0);
-        JsonNode minorObj = values.get(1);
-
-        JsonNode majorVal = majorObj.get("value");
-        JsonNode minorVal = minorObj.get("value");
-        if (majorVal == null || !majorVal.isInt() || minorVal == null || !minorVal.isInt()) {
-            ctxt.reportInputMismatch(ProtocolVersion.class, "Major/minor 'value' must be integers");
-            return null;
-        }
+        return ProtocolVersion.of(parts.major, parts.minor);
+    }
 
-        // Delegate to child deserializers
-        ProtocolVersion.ProtocolVersionMajor major =
-                p.getCodec().treeToValue(majorObj, ProtocolVersion.ProtocolVersionMajor.class);
-        ProtocolVersion.ProtocolVersionMinor minor =
-                p.getCodec().treeToValue(minorObj, ProtocolVersion.ProtocolVersionMinor.class);
+    private Parts readParts(KmipJsonFields fields, JsonParser p, DeserializationContext ctxt) throws IOException {
+        Parts parts = new Parts();
+        // Delegate to child deserializers, which reject non-integer values
+        parts.count = KmipJsonFields.forEachElement(p, ctxt, ProtocolVersion.class, element -> {
+            switch (element.index()) {
+                case 0 -> parts.major = element.readAs(ProtocolVersion.ProtocolVersionMajor.class);
+                case 1 -> parts.minor = element.readAs(ProtocolVersion.ProtocolVersionMinor.class);
+                default -> {
+                }
+            }
+        });
+        return parts;
+    }
 
-        return ProtocolVersion.of(major, minor);
+    /**
+     * Children of the {@code value} array, collected while streaming it.
+     */
+    private static final class Parts {
+        private ProtocolVersion.ProtocolVersionMajor major;
+        private ProtocolVersion.ProtocolVersionMinor minor;
+        private int count;
     }
 }
-
-
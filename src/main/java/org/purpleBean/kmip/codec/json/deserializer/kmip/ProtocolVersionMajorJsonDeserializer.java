@@ -2,7 +2,6 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.ProtocolVersion;
 
@@ -11,19 +10,18 @@ import java.io.IOException;
 public class ProtocolVersionMajorJsonDeserializer extends KmipDataTypeJsonDeserializer<ProtocolVersion.ProtocolVersionMajor> {
     @Override
     public ProtocolVersion.ProtocolVersionMajor deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, ProtocolVersion.ProtocolVersionMajor.class);
 
-        KmipTag.Value tag = p.getCodec().treeToValue(node, KmipTag.class).getValue();
+        KmipTag.Value tag = fields.tagValue();
 
-        if (!node.isObject() || tag != KmipTag.Standard.PROTOCOL_VERSION_MAJOR) {
+        if (tag != KmipTag.Standard.PROTOCOL_VERSION_MAJOR) {
             ctxt.reportInputMismatch(ProtocolVersion.ProtocolVersionMajor.class, "Expected object for ProtocolVersionMajor");
             return null;
         }
-        JsonNode val = node.get("value");
-        if (val == null || !val.isInt()) {
+        if (!fields.isInt()) {
             ctxt.reportInputMismatch(ProtocolVersion.ProtocolVersionMajor.class, "Missing or non-int 'value' for ProtocolVersionMajor");
             return null;
         }
-        return ProtocolVersion.ProtocolVersionMajor.of(val.intValue());
+        return ProtocolVersion.ProtocolVersionMajor.of(fields.intValue());
     }
 }
@@ -2,7 +2,7 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
@@ -15,16 +15,17 @@ public class RequestMessageJsonDeserializer extends KmipDataTypeJsonDeserializer
 
     @Override
     public RequestMessageStructure deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
+        // The message is decoded twice, first to find the protocol version, so keep its tokens rather than a tree
+        TokenBuffer tokens = ctxt.bufferAsCopyOfValue(p);
 
-        SimpleRequestMessage simpleRequestMessage = p.getCodec().treeToValue(node, SimpleRequestMessage.class);
+        SimpleRequestMessage simpleRequestMessage = ctxt.readValue(tokens.asParserOnFirstToken(), SimpleRequestMessage.class);
 
         ProtocolVersion protocolVersion = simpleRequestMessage.getRequestHeader().getProtocolVersion();
         KmipSpec previous = KmipContext.getSpec();
         KmipSpec spec = KmipSpec.fromValue(protocolVersion);
         KmipContext.setSpec(spec);
         try {
-            return deserializeByProtocolVersion(p, node, protocolVersion);
+            return deserializeByProtocolVersion(ctxt, tokens, protocolVersion);
         } finally {
             if (previous != null) {
                 KmipContext.setSpec(previous);
@@ -34,9 +35,9 @@ public class RequestMessageJsonDeserializer extends KmipDataTypeJsonDeserializer
         }
     }
 
-    private RequestMessageStructure deserializeByProtocolVersion(JsonParser p, JsonNode node, ProtocolVersion protocolVersion) throws IOException {
+    private RequestMessageStructure deserializeByProtocolVersion(DeserializationContext ctxt, TokenBuffer tokens, ProtocolVersion protocolVersion) throws IOException {
         return switch (protocolVersion.toString()) {
-            default -> p.getCodec().treeToValue(node, SimpleRequestMessage.class);
+            default -> ctxt.readValue(tokens.asParserOnFirstToken(), SimpleRequestMessage.class);
         };
     }
 }
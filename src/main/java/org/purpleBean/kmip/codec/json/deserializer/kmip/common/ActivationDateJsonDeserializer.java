@@ -1,80 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.ActivationDate;
-
-import java.io.IOException;
-import java.time.OffsetDateTime;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for ActivationDate.
- */
-public class ActivationDateJsonDeserializer extends KmipDataTypeJsonDeserializer<ActivationDate> {
-    private final KmipTag kmipTag = new KmipTag(KmipTag.Standard.ACTIVATION_DATE);
-    private final EncodingType encodingType = EncodingType.DATE_TIME; // TODO : update the encoding type
-
-    @Override
-    public ActivationDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-
-        if (node == null) {
-            ctxt.reportInputMismatch(ActivationDate.class, "JSON node cannot be null for ActivationDate deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(ActivationDate.class, "Invalid KMIP tag for ActivationDate");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(ActivationDate.class, String.format("Failed to parse KMIP tag for ActivationDate: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(ActivationDate.class, "Expected object for ActivationDate");
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(ActivationDate.class, "Missing or non-text 'type' field for ActivationDate");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(ActivationDate.class, "Missing or non-text 'value' for ActivationDate");
-            return null;
-        }
-
-        OffsetDateTime dateTime = OffsetDateTime.parse(valueNode.asText());
-        ActivationDate attribute = ActivationDate.builder().value(dateTime).build();
-
-        KmipSpec spec = KmipContext.getSpec();
-        if (!attribute.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("ActivationDate '%s' is not supported for KMIP spec %s", valueNode.asText(), spec)
-            );
-        }
-        return attribute;
-    }
-}
@@ -2,89 +2,59 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.common;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.*;
+import org.purpleBean.kmip.codec.KmipTextForms;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.common.AttributeValue;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 public class AttributeValueJsonDeserializer extends KmipDataTypeJsonDeserializer<AttributeValue> {
     private final KmipTag kmipTag = AttributeValue.kmipTag;
 
     @Override
     public AttributeValue deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-
-        if (node == null) {
-            ctxt.reportInputMismatch(AttributeValue.class, "JSON node cannot be null for AttributeValue deserialization");
-            return null;
-        }
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, AttributeValue.class, this::readValue);
 
         // Validation: Extract and validate KMIP tag
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(AttributeValue.class, "Invalid KMIP tag for AttributeValue");
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(AttributeValue.class, String.format("Failed to parse KMIP tag for AttributeValue: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(AttributeValue.class,
                     String.format("Expected object with %s tag for AttributeValue, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-        ) {
+        if (fields.encodingType().isEmpty()) {
             ctxt.reportInputMismatch(AttributeValue.class, "Missing or non-text 'type' field for AttributeValue");
             return null;
         }
-        EncodingType encodingType = EncodingType.fromName(typeNode.asText()).get();
+        EncodingType encodingType = fields.encodingType().get();
 
         // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null) {
+        if (!fields.hasValue()) {
             ctxt.reportInputMismatch(AttributeValue.class, "AttributeValue 'value' must be a non-empty");
             return null;
         }
 
         KmipSpec spec = KmipContext.getSpec();
 
-        Object obj;
-        switch (encodingType) {
-            case STRUCTURE -> {
-                List<KmipDataType> values = new ArrayList<>();
-                for (JsonNode childNode : valueNode) {
-                    values.add(deserializeObjects(childNode, p, ctxt));
-                }
-                obj = values;
-            }
-            case INTEGER, ENUMERATION, INTERVAL -> obj = valueNode.intValue();
-            case BOOLEAN -> obj = valueNode.asBoolean();
-            case DATE_TIME -> obj = OffsetDateTime.parse(valueNode.asText());
-            case LONG_INTEGER -> obj = valueNode.longValue();
-            case TEXT_STRING -> obj = valueNode.asText();
-            case BYTE_STRING -> obj = p.getCodec().treeToValue(valueNode, ByteBuffer.class);
-            case BIG_INTEGER -> obj = p.getCodec().treeToValue(valueNode, BigInteger.class);
-            default -> throw new IllegalArgumentException("Unsupported encoding type: " + encodingType);
-        }
-        AttributeValue attributeValue = AttributeValue.builder().encodingType(encodingType).value(obj).build();
+        // The value callback builds the attribute value while the payload is read
+        AttributeValue attributeValue = (AttributeValue) fields.value();
 
         // Validate KMIP spec compatibility
         if (!attributeValue.isSupported()) {
@@ -94,40 +64,48 @@ public class AttributeValueJsonDeserializer extends KmipDataTypeJsonDeserializer
         return attributeValue;
     }
 
-    private KmipDataType deserializeObjects(JsonNode node, JsonParser p, DeserializationContext ctxt) throws IOException {
-        if (!node.has("tag") || !node.has("type") || !node.has("value")) {
-            ctxt.reportInputMismatch(AttributeValue.class, "Missing 'tag', 'type', or 'value' field in JSON");
+    private AttributeValue readValue(KmipJsonFields fields, JsonParser p, DeserializationContext ctxt) throws IOException {
+        Optional<EncodingType> encodingType = fields.encodingType();
+        if (encodingType.isEmpty()) {
+            // Reported once the whole object has been read
+            p.skipChildren();
             return null;
         }
+        return switch (encodingType.get()) {
+            case STRUCTURE -> {
+                List<KmipDataType> values = new ArrayList<>();
+                KmipJsonFields.forEachElement(p, ctxt, AttributeValue.class,
+                        element -> values.add(deserializeObjects(element, ctxt)));
+                yield AttributeValue.of(values);
+            }
+            case INTEGER, ENUMERATION, INTERVAL -> AttributeValue.of(encodingType.get(), p.getValueAsInt());
+            case BOOLEAN -> AttributeValue.of(p.getValueAsBoolean());
+            case DATE_TIME -> AttributeValue.ofDateTime(KmipTextForms.parseDateTime(p.getText()));
+            case LONG_INTEGER -> AttributeValue.of(p.getValueAsLong());
+            case TEXT_STRING -> AttributeValue.of(p.getText());
+            case BYTE_STRING -> AttributeValue.of(ctxt.readValue(p, ByteBuffer.class));
+            case BIG_INTEGER -> AttributeValue.of(ctxt.readValue(p, BigInteger.class));
+        };
+    }
 
-        if (!node.has("tag") && !node.get("tag").isTextual()) {
-            ctxt.reportInputMismatch(AttributeValue.class, "Invalid 'tag' field in JSON");
+    private KmipDataType deserializeObjects(KmipJsonFields.Element element, DeserializationContext ctxt) throws IOException {
+        if (!element.hasTag() || element.encodingType().isEmpty()) {
+            ctxt.reportInputMismatch(AttributeValue.class, "Missing 'tag', 'type', or 'value' field in JSON");
             return null;
         }
+
         // Validation: Extract and validate KMIP tag
-        KmipTag tag;
+        KmipTag.Value tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(AttributeValue.class, "Invalid KMIP tag for AttributeValue");
-                return null;
-            }
+            tag = element.tagValue();
         } catch (Exception e) {
             ctxt.reportInputMismatch(AttributeValue.class, String.format("Failed to parse KMIP tag for AttributeValue: %s", e.getMessage()));
             return null;
         }
+        EncodingType encodingType = element.encodingType().get();
 
-        if (!node.has("type") && !node.get("type").isTextual()) {
-            ctxt.reportInputMismatch(AttributeValue.class, "Invalid 'type' field in JSON");
-            return null;
-        }
-        String type = node.get("type").asText();
-        EncodingType encodingType = EncodingType.fromName(type).get();
-
-
-        KmipSpec spec = KmipContext.getSpec();
-        Class<? extends KmipDataType> clazz = KmipDataType.getClassFromRegistry(tag.getValue(), encodingType);
+        Class<? extends KmipDataType> clazz = KmipDataType.getClassFromRegistry(tag, encodingType);
 
-        return p.getCodec().treeToValue(node, clazz);
+        return element.readAs(clazz);
     }
 }
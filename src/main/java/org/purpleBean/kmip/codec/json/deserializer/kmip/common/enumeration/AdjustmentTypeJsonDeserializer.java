@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.AdjustmentType;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for AdjustmentType.
- */
-public class AdjustmentTypeJsonDeserializer extends KmipDataTypeJsonDeserializer<AdjustmentType> {
-    private final KmipTag kmipTag = AdjustmentType.kmipTag;
-    private final EncodingType encodingType = AdjustmentType.encodingType;
-
-    @Override
-    public AdjustmentType deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(AdjustmentType.class, "JSON node cannot be null for AdjustmentType deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(AdjustmentType.class, "Invalid KMIP tag for AdjustmentType");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(AdjustmentType.class, String.format("Failed to parse KMIP tag for AdjustmentType: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(AdjustmentType.class,
-                    String.format("Expected object with %s tag for AdjustmentType, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(AdjustmentType.class, "Missing or non-text 'type' field for AdjustmentType");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(AdjustmentType.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(AdjustmentType.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        AdjustmentType.Value adjustmenttypeValue;
-        try {
-            adjustmenttypeValue = AdjustmentType.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(AdjustmentType.class,
-                    String.format("Unknown AdjustmentType value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        AdjustmentType adjustmenttype = new AdjustmentType(adjustmenttypeValue);
-
-        // Final validation: Ensure constructed AdjustmentType is supported
-        if (!adjustmenttype.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("AdjustmentType '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return adjustmenttype;
-    }
-}
@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.BlockCipherMode;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for BlockCipherMode.
- */
-public class BlockCipherModeJsonDeserializer extends KmipDataTypeJsonDeserializer<BlockCipherMode> {
-    private final KmipTag kmipTag = BlockCipherMode.kmipTag;
-    private final EncodingType encodingType = BlockCipherMode.encodingType;
-
-    @Override
-    public BlockCipherMode deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(BlockCipherMode.class, "JSON node cannot be null for BlockCipherMode deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(BlockCipherMode.class, "Invalid KMIP tag for BlockCipherMode");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(BlockCipherMode.class, String.format("Failed to parse KMIP tag for BlockCipherMode: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(BlockCipherMode.class,
-                    String.format("Expected object with %s tag for BlockCipherMode, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(BlockCipherMode.class, "Missing or non-text 'type' field for BlockCipherMode");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(BlockCipherMode.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(BlockCipherMode.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        BlockCipherMode.Value blockciphermodeValue;
-        try {
-            blockciphermodeValue = BlockCipherMode.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(BlockCipherMode.class,
-                    String.format("Unknown BlockCipherMode value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        BlockCipherMode blockciphermode = new BlockCipherMode(blockciphermodeValue);
-
-        // Final validation: Ensure constructed BlockCipherMode is supported
-        if (!blockciphermode.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("BlockCipherMode '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return blockciphermode;
-    }
-}
@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.CryptographicAlgorithm;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for CryptographicAlgorithm.
- */
-public class CryptographicAlgorithmJsonDeserializer extends KmipDataTypeJsonDeserializer<CryptographicAlgorithm> {
-    private final KmipTag kmipTag = CryptographicAlgorithm.kmipTag;
-    private final EncodingType encodingType = CryptographicAlgorithm.encodingType;
-
-    @Override
-    public CryptographicAlgorithm deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, "JSON node cannot be null for CryptographicAlgorithm deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(CryptographicAlgorithm.class, "Invalid KMIP tag for CryptographicAlgorithm");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, String.format("Failed to parse KMIP tag for CryptographicAlgorithm: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class,
-                    String.format("Expected object with %s tag for CryptographicAlgorithm, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, "Missing or non-text 'type' field for CryptographicAlgorithm");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        CryptographicAlgorithm.Value cryptographicalgorithmValue;
-        try {
-            cryptographicalgorithmValue = CryptographicAlgorithm.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class,
-                    String.format("Unknown CryptographicAlgorithm value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        CryptographicAlgorithm cryptographicalgorithm = new CryptographicAlgorithm(cryptographicalgorithmValue);
-
-        // Final validation: Ensure constructed CryptographicAlgorithm is supported
-        if (!cryptographicalgorithm.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("CryptographicAlgorithm '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return cryptographicalgorithm;
-    }
-}
@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.DeactivationReasonCode;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for DeactivationReasonCode.
- */
-public class DeactivationReasonCodeJsonDeserializer extends KmipDataTypeJsonDeserializer<DeactivationReasonCode> {
-    private final KmipTag kmipTag = DeactivationReasonCode.kmipTag;
-    private final EncodingType encodingType = DeactivationReasonCode.encodingType;
-
-    @Override
-    public DeactivationReasonCode deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class, "JSON node cannot be null for DeactivationReasonCode deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(DeactivationReasonCode.class, "Invalid KMIP tag for DeactivationReasonCode");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class, String.format("Failed to parse KMIP tag for DeactivationReasonCode: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class,
-                    String.format("Expected object with %s tag for DeactivationReasonCode, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class, "Missing or non-text 'type' field for DeactivationReasonCode");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        DeactivationReasonCode.Value deactivationreasoncodeValue;
-        try {
-            deactivationreasoncodeValue = DeactivationReasonCode.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(DeactivationReasonCode.class,
-                    String.format("Unknown DeactivationReasonCode value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        DeactivationReasonCode deactivationreasoncode = new DeactivationReasonCode(deactivationreasoncodeValue);
-
-        // Final validation: Ensure constructed DeactivationReasonCode is supported
-        if (!deactivationreasoncode.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("DeactivationReasonCode '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return deactivationreasoncode;
-    }
-}
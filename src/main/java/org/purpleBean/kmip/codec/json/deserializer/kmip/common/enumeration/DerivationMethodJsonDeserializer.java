@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.DerivationMethod;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for DerivationMethod.
- */
-public class DerivationMethodJsonDeserializer extends KmipDataTypeJsonDeserializer<DerivationMethod> {
-    private final KmipTag kmipTag = DerivationMethod.kmipTag;
-    private final EncodingType encodingType = DerivationMethod.encodingType;
-
-    @Override
-    public DerivationMethod deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(DerivationMethod.class, "JSON node cannot be null for DerivationMethod deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(DerivationMethod.class, "Invalid KMIP tag for DerivationMethod");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(DerivationMethod.class, String.format("Failed to parse KMIP tag for DerivationMethod: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(DerivationMethod.class,
-                    String.format("Expected object with %s tag for DerivationMethod, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(DerivationMethod.class, "Missing or non-text 'type' field for DerivationMethod");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(DerivationMethod.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(DerivationMethod.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        DerivationMethod.Value derivationmethodValue;
-        try {
-            derivationmethodValue = DerivationMethod.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(DerivationMethod.class,
-                    String.format("Unknown DerivationMethod value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        DerivationMethod derivationmethod = new DerivationMethod(derivationmethodValue);
-
-        // Final validation: Ensure constructed DerivationMethod is supported
-        if (!derivationmethod.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("DerivationMethod '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return derivationmethod;
-    }
-}
@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.DrbgAlgorithm;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for DrbgAlgorithm.
- */
-public class DrbgAlgorithmJsonDeserializer extends KmipDataTypeJsonDeserializer<DrbgAlgorithm> {
-    private final KmipTag kmipTag = DrbgAlgorithm.kmipTag;
-    private final EncodingType encodingType = DrbgAlgorithm.encodingType;
-
-    @Override
-    public DrbgAlgorithm deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class, "JSON node cannot be null for DrbgAlgorithm deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(DrbgAlgorithm.class, "Invalid KMIP tag for DrbgAlgorithm");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class, String.format("Failed to parse KMIP tag for DrbgAlgorithm: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class,
-                    String.format("Expected object with %s tag for DrbgAlgorithm, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class, "Missing or non-text 'type' field for DrbgAlgorithm");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        DrbgAlgorithm.Value drbgalgorithmValue;
-        try {
-            drbgalgorithmValue = DrbgAlgorithm.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(DrbgAlgorithm.class,
-                    String.format("Unknown DrbgAlgorithm value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        DrbgAlgorithm drbgalgorithm = new DrbgAlgorithm(drbgalgorithmValue);
-
-        // Final validation: Ensure constructed DrbgAlgorithm is supported
-        if (!drbgalgorithm.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("DrbgAlgorithm '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return drbgalgorithm;
-    }
-}
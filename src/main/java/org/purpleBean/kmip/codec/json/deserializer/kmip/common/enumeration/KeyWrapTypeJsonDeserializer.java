@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.KeyWrapType;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for KeyWrapType.
- */
-public class KeyWrapTypeJsonDeserializer extends KmipDataTypeJsonDeserializer<KeyWrapType> {
-    private final KmipTag kmipTag = KeyWrapType.kmipTag;
-    private final EncodingType encodingType = KeyWrapType.encodingType;
-
-    @Override
-    public KeyWrapType deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(KeyWrapType.class, "JSON node cannot be null for KeyWrapType deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(KeyWrapType.class, "Invalid KMIP tag for KeyWrapType");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(KeyWrapType.class, String.format("Failed to parse KMIP tag for KeyWrapType: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(KeyWrapType.class,
-                    String.format("Expected object with %s tag for KeyWrapType, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(KeyWrapType.class, "Missing or non-text 'type' field for KeyWrapType");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(KeyWrapType.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(KeyWrapType.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        KeyWrapType.Value keywraptypeValue;
-        try {
-            keywraptypeValue = KeyWrapType.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(KeyWrapType.class,
-                    String.format("Unknown KeyWrapType value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        KeyWrapType keywraptype = new KeyWrapType(keywraptypeValue);
-
-        // Final validation: Ensure constructed KeyWrapType is supported
-        if (!keywraptype.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("KeyWrapType '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return keywraptype;
-    }
-}
@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.LinkType;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for LinkType.
- */
-public class LinkTypeJsonDeserializer extends KmipDataTypeJsonDeserializer<LinkType> {
-    private final KmipTag kmipTag = LinkType.kmipTag;
-    private final EncodingType encodingType = LinkType.encodingType;
-
-    @Override
-    public LinkType deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(LinkType.class, "JSON node cannot be null for LinkType deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(LinkType.class, "Invalid KMIP tag for LinkType");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(LinkType.class, String.format("Failed to parse KMIP tag for LinkType: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(LinkType.class,
-                    String.format("Expected object with %s tag for LinkType, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(LinkType.class, "Missing or non-text 'type' field for LinkType");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(LinkType.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(LinkType.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        LinkType.Value linktypeValue;
-        try {
-            linktypeValue = LinkType.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(LinkType.class,
-                    String.format("Unknown LinkType value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        LinkType linktype = new LinkType(linktypeValue);
-
-        // Final validation: Ensure constructed LinkType is supported
-        if (!linktype.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("LinkType '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return linktype;
-    }
-}
@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.ObjectClass;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for ObjectClass.
- */
-public class ObjectClassJsonDeserializer extends KmipDataTypeJsonDeserializer<ObjectClass> {
-    private final KmipTag kmipTag = ObjectClass.kmipTag;
-    private final EncodingType encodingType = ObjectClass.encodingType;
-
-    @Override
-    public ObjectClass deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(ObjectClass.class, "JSON node cannot be null for ObjectClass deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(ObjectClass.class, "Invalid KMIP tag for ObjectClass");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(ObjectClass.class, String.format("Failed to parse KMIP tag for ObjectClass: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(ObjectClass.class,
-                    String.format("Expected object with %s tag for ObjectClass, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(ObjectClass.class, "Missing or non-text 'type' field for ObjectClass");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(ObjectClass.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(ObjectClass.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        ObjectClass.Value objectclassValue;
-        try {
-            objectclassValue = ObjectClass.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(ObjectClass.class,
-                    String.format("Unknown ObjectClass value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        ObjectClass objectclass = new ObjectClass(objectclassValue);
-
-        // Final validation: Ensure constructed ObjectClass is supported
-        if (!objectclass.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("ObjectClass '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return objectclass;
-    }
-}
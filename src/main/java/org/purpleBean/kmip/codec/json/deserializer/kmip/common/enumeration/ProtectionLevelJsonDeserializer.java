@@ -1,96 +0,0 @@
-package org.purpleBean.kmip.codec.json.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
-import org.purpleBean.kmip.common.enumeration.ProtectionLevel;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * JSON deserializer for ProtectionLevel.
- */
-public class ProtectionLevelJsonDeserializer extends KmipDataTypeJsonDeserializer<ProtectionLevel> {
-    private final KmipTag kmipTag = ProtectionLevel.kmipTag;
-    private final EncodingType encodingType = ProtectionLevel.encodingType;
-
-    @Override
-    public ProtectionLevel deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(ProtectionLevel.class, "JSON node cannot be null for ProtectionLevel deserialization");
-            return null;
-        }
-
-        // Validation: Extract and validate KMIP tag
-        KmipTag tag;
-        try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(ProtectionLevel.class, "Invalid KMIP tag for ProtectionLevel");
-                return null;
-            }
-        } catch (Exception e) {
-            ctxt.reportInputMismatch(ProtectionLevel.class, String.format("Failed to parse KMIP tag for ProtectionLevel: %s", e.getMessage()));
-            return null;
-        }
-
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
-            ctxt.reportInputMismatch(ProtectionLevel.class,
-                    String.format("Expected object with %s tag for ProtectionLevel, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
-            return null;
-        }
-
-        // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
-            ctxt.reportInputMismatch(ProtectionLevel.class, "Missing or non-text 'type' field for ProtectionLevel");
-            return null;
-        }
-
-        // Validation: Extract and validate value field
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(ProtectionLevel.class, String.format("Missing or non-text 'value' field for %s", kmipTag.getDescription()));
-            return null;
-        }
-
-        String description = valueNode.asText();
-        if (description == null || description.trim().isEmpty()) {
-            ctxt.reportInputMismatch(ProtectionLevel.class, String.format("%s value cannot be empty", kmipTag.getDescription()));
-            return null;
-        }
-
-        // Validation: KMIP spec compatibility and value lookup
-        KmipSpec spec = KmipContext.getSpec();
-        ProtectionLevel.Value protectionlevelValue;
-        try {
-            protectionlevelValue = ProtectionLevel.fromName(description);
-        } catch (NoSuchElementException e) {
-            ctxt.reportInputMismatch(ProtectionLevel.class,
-                    String.format("Unknown ProtectionLevel value '%s' for KMIP spec %s", description, spec));
-            return null;
-        }
-
-        ProtectionLevel protectionlevel = new ProtectionLevel(protectionlevelValue);
-
-        // Final validation: Ensure constructed ProtectionLevel is supported
-        if (!protectionlevel.isSupported()) {
-            throw new NoSuchElementException(
-                    String.format("ProtectionLevel '%s' is not supported for KMIP spec %s", description, spec)
-            );
-        }
-
-        return protectionlevel;
-    }
-}
@@ -2,12 +2,12 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.common.structure;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.common.NameValue;
 import org.purpleBean.kmip.common.enumeration.NameType;
 import org.purpleBean.kmip.common.structure.Name;
@@ -21,59 +21,42 @@ public class NameJsonDeserializer extends KmipDataTypeJsonDeserializer<Name> {
 
     @Override
     public Name deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-        if (node == null) {
-            ctxt.reportInputMismatch(Name.class, String.format("JSON node cannot be null for Name deserialization"));
-            return null;
-        }
+        Name.NameBuilder builder = Name.builder();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, Name.class, (f, parser, c) ->
+                KmipJsonFields.forEachElement(parser, c, Name.class, element -> {
+                    if (element.hasTag()) {
+                        setValue(builder, element.tagValue(), element);
+                    }
+                }));
 
         // Validation: Extract and validate KMIP tag
         KmipTag tag;
         try {
-            tag = p.getCodec().treeToValue(node, KmipTag.class);
-            if (tag == null) {
-                ctxt.reportInputMismatch(Name.class, String.format("Invalid KMIP tag for Name"));
-                return null;
-            }
+            tag = new KmipTag(fields.tagValue());
         } catch (Exception e) {
             ctxt.reportInputMismatch(Name.class, String.format("Failed to parse KMIP tag for Name: %s", e.getMessage()));
             return null;
         }
 
-        if (!node.isObject() || tag.getValue().getValue() != kmipTag.getValue().getValue()) {
+        if (tag.getValue().getValue() != kmipTag.getValue().getValue()) {
             ctxt.reportInputMismatch(Name.class,
                     String.format("Expected object with %s tag for Name, got tag: %s", kmipTag.getValue().getValue(), tag.getValue().getValue()));
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(Name.class, String.format("Missing or non-text 'type' field for Name"));
             return null;
         }
 
         // Validation: Extract and validate fields
-        JsonNode values = node.get("value");
-        if (values == null || !values.isArray() || values.isEmpty()) {
+        Integer count = fields.value();
+        if (count == null || count == 0) {
             ctxt.reportInputMismatch(Name.class, "Name 'value' must be a non-empty array");
             return null;
         }
 
-        Name.NameBuilder builder = Name.builder();
-
-        for (JsonNode valueNode : values) {
-            if (!valueNode.has("tag")) {
-                continue;
-            }
-            KmipTag.Value nodeTag = p.getCodec().treeToValue(valueNode, KmipTag.class).getValue();
-            setValue(builder, nodeTag, valueNode, p, ctxt);
-        }
-
         Name name = builder.build();
 
         // Validate KMIP spec compatibility
@@ -90,17 +73,15 @@ public class NameJsonDeserializer extends KmipDataTypeJsonDeserializer<Name> {
      *
      * @param builder the builder to set the field on
      * @param nodeTag the tag identifying the field to set
-     * @param node    the JSON node containing the field value
-     * @param p       the JsonParser
-     * @param ctxt    the DeserializationContext
+     * @param element the array element holding the field value
      * @throws IOException if there is an error deserializing the value
      */
-    private void setValue(Name.NameBuilder builder, KmipTag.Value nodeTag, JsonNode node, JsonParser p, DeserializationContext ctxt) throws IOException {
+    private void setValue(Name.NameBuilder builder, KmipTag.Value nodeTag, KmipJsonFields.Element element) throws IOException {
         // TODO: Implement field deserialization based on tag, preferably using switch case expression
         // Example:
         switch (nodeTag) {
-            case KmipTag.Standard.NAME_VALUE -> builder.nameValue(p.getCodec().treeToValue(node, NameValue.class));
-            case KmipTag.Standard.NAME_TYPE -> builder.nameType(p.getCodec().treeToValue(node, NameType.class));
+            case KmipTag.Standard.NAME_VALUE -> builder.nameValue(element.readAs(NameValue.class));
+            case KmipTag.Standard.NAME_TYPE -> builder.nameType(element.readAs(NameType.class));
             default -> throw new IllegalArgumentException("Unsupported tag: " + nodeTag);
         }
     }
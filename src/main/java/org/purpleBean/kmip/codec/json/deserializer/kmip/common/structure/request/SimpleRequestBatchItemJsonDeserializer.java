@@ -2,12 +2,12 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.common.structure.reques
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.common.enumeration.State;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestBatchItem;
 
@@ -20,21 +20,16 @@ public class SimpleRequestBatchItemJsonDeserializer extends KmipDataTypeJsonDese
 
     @Override
     public SimpleRequestBatchItem deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, SimpleRequestBatchItem.class);
 
-        KmipTag.Value tag = p.getCodec().treeToValue(node, KmipTag.class).getValue();
-        if (!node.isObject() || tag != kmipTag.getValue()) {
+        KmipTag.Value tag = fields.tagValue();
+        if (tag != kmipTag.getValue()) {
             ctxt.reportInputMismatch(SimpleRequestBatchItem.class, "Expected object for SimpleRequestBatchItem");
             return null;
         }
 
         // Validation: Extract and validate type field
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null
-                || !typeNode.isTextual()
-                || EncodingType.fromName(typeNode.asText()).isEmpty()
-                || EncodingType.fromName(typeNode.asText()).get() != encodingType
-        ) {
+        if (fields.encodingType().orElse(null) != encodingType) {
             ctxt.reportInputMismatch(State.class, String.format("Missing or non-text 'type' field for %s", kmipTag.getDescription()));
             return null;
         }
@@ -2,9 +2,9 @@ package org.purpleBean.kmip.codec.json.deserializer.kmip.common.structure.reques
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer;
+import org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestHeader;
 
 import java.io.IOException;
@@ -16,29 +16,25 @@ public class SimpleRequestHeaderJsonDeserializer extends KmipDataTypeJsonDeseria
 
     @Override
     public SimpleRequestHeader deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.readValueAsTree();
-
-        KmipTag.Value tag = p.getCodec().treeToValue(node, KmipTag.class).getValue();
-        if (!node.isObject() || tag != kmipTag.getValue()) {
+        SimpleRequestHeader.SimpleRequestHeaderBuilder builder = SimpleRequestHeader.builder();
+        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, SimpleRequestHeader.class, (f, parser, c) ->
+                KmipJsonFields.forEachElement(parser, c, SimpleRequestHeader.class, element -> {
+                    if (element.tagValue() == KmipTag.Standard.PROTOCOL_VERSION) {
+                        builder.protocolVersion(element.readAs(ProtocolVersion.class));
+                    }
+                }));
+
+        KmipTag.Value tag = fields.tagValue();
+        if (tag != kmipTag.getValue()) {
             ctxt.reportInputMismatch(SimpleRequestHeader.class, "Expected object for SimpleRequestHeader");
             return null;
         }
 
-        JsonNode values = node.get("value");
-        if (values == null || !values.isArray()) {
+        if (fields.value() == null) {
             ctxt.reportInputMismatch(SimpleRequestHeader.class, "SimpleRequestHeader 'value' must be an array");
             return null;
         }
 
-        SimpleRequestHeader.SimpleRequestHeaderBuilder builder = SimpleRequestHeader.builder();
-
-        for (JsonNode valueNode : values) {
-            KmipTag.Value childTag = p.getCodec().treeToValue(valueNode, KmipTag.class).getValue();
-            if (childTag == KmipTag.Standard.PROTOCOL_VERSION) {
-                builder.protocolVersion(p.getCodec().treeToValue(valueNode, ProtocolVersion.class));
-            }
-        }
-
         SimpleRequestHeader header = builder.build();
 
         KmipSpec spec = KmipContext.getSpec();
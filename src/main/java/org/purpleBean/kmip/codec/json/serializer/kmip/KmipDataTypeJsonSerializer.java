@@ -1,8 +1,11 @@
 package org.purpleBean.kmip.codec.json.serializer.kmip;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.KmipTag;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
@@ -22,4 +25,11 @@ public abstract class KmipDataTypeJsonSerializer<T extends KmipDataType> extends
         }
         return super.handledType();
     }
+
+    /**
+     * Writes the {@code tag} field, and {@code name} for custom tags, from the tag's pre-encoded description.
+     */
+    protected static void writeTag(JsonGenerator gen, KmipTag kmipTag) throws IOException {
+        KmipTagJsonSerializer.writeFields(kmipTag, gen);
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 
 import java.io.IOException;
 
@@ -18,14 +19,22 @@ public class KmipTagJsonSerializer extends JsonSerializer<KmipTag> {
         if (isRoot) {
             jsonGenerator.writeStartObject();
         }
-        if (kmipTag.isCustom()) {
-            jsonGenerator.writeStringField("tag", kmipTag.getTagHexString());
-            jsonGenerator.writeStringField("name", kmipTag.getDescription());
-        } else {
-            jsonGenerator.writeStringField("tag", kmipTag.getDescription());
-        }
+        writeFields(kmipTag, jsonGenerator);
         if (isRoot) {
             jsonGenerator.writeEndObject();
         }
     }
+
+    /**
+     * Writes the tag fields into the current object without a serializer lookup.
+     */
+    public static void writeFields(KmipTag kmipTag, JsonGenerator jsonGenerator) throws IOException {
+        KmipTag.Value value = kmipTag.getValue();
+        jsonGenerator.writeFieldName(KmipFieldNames.TAG);
+        if (value.isCustom()) {
+            jsonGenerator.writeString(kmipTag.getTagHexString());
+            jsonGenerator.writeFieldName(KmipFieldNames.NAME);
+        }
+        jsonGenerator.writeString(value.getSerializedDescription());
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 
 import java.io.IOException;
 import java.util.List;
@@ -15,9 +16,10 @@ public class ProtocolVersionJsonSerializer extends KmipDataTypeJsonSerializer<Pr
         List<KmipDataType> values = protocolVersion.getValues();
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(protocolVersion.getKmipTag());
-        jsonGenerator.writeStringField("type", protocolVersion.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, protocolVersion.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(protocolVersion.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
         for (Object v : values) {
             jsonGenerator.writeObject(v);
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -19,9 +20,11 @@ public class ProtocolVersionMajorJsonSerializer extends KmipDataTypeJsonSerializ
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(major.getKmipTag());
-        jsonGenerator.writeStringField("type", major.getEncodingType().getDescription());
-        jsonGenerator.writeNumberField("value", major.getValue());
+        writeTag(jsonGenerator, major.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(major.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
+        jsonGenerator.writeNumber(major.getValue());
         jsonGenerator.writeEndObject();
     }
 }
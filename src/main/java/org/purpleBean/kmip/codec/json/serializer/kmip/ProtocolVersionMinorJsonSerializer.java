@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -19,9 +20,11 @@ public class ProtocolVersionMinorJsonSerializer extends KmipDataTypeJsonSerializ
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(minor.getKmipTag());
-        jsonGenerator.writeStringField("type", minor.getEncodingType().getDescription());
-        jsonGenerator.writeNumberField("value", minor.getValue());
+        writeTag(jsonGenerator, minor.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(minor.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
+        jsonGenerator.writeNumber(minor.getValue());
         jsonGenerator.writeEndObject();
     }
 }
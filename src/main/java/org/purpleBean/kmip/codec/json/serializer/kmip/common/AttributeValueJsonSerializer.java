@@ -2,9 +2,10 @@ package org.purpleBean.kmip.codec.json.serializer.kmip.common;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
+import org.purpleBean.kmip.codec.KmipTextForms;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.AttributeValue;
 
@@ -29,11 +30,12 @@ public class AttributeValueJsonSerializer extends KmipDataTypeJsonSerializer<Att
         }
 
         gen.writeStartObject();
-        gen.writeObject(attributeValue.getKmipTag());
-        gen.writeStringField("type", attributeValue.getEncodingType().getDescription());
-        gen.writeFieldName("value");
-        if (attributeValue.getEncodingType() == EncodingType.STRUCTURE) {
-            List<?> fields = attributeValue.getValues();
+        writeTag(gen, attributeValue.getKmipTag());
+        gen.writeFieldName(KmipFieldNames.TYPE);
+        gen.writeString(attributeValue.getEncodingType().getSerializedDescription());
+        gen.writeFieldName(KmipFieldNames.VALUE);
+        if (attributeValue instanceof AttributeValue.StructureValue structure) {
+            List<?> fields = structure.getValues();
             gen.writeStartArray();
             for (Object fieldValue : fields) {
                 if (fieldValue != null) {
@@ -42,8 +44,24 @@ public class AttributeValueJsonSerializer extends KmipDataTypeJsonSerializer<Att
             }
             gen.writeEndArray();
         } else {
-            gen.writeObject(attributeValue.getValue());
+            writePrimitive(attributeValue, gen);
         }
         gen.writeEndObject();
     }
+
+    /**
+     * Writes the value of a primitive attribute value straight from its typed field.
+     */
+    private static void writePrimitive(AttributeValue attributeValue, JsonGenerator gen) throws IOException {
+        switch (attributeValue) {
+            case AttributeValue.IntValue v -> gen.writeNumber(v.getInt());
+            case AttributeValue.LongValue v -> gen.writeNumber(v.getLong());
+            case AttributeValue.BoolValue v -> gen.writeBoolean(v.getBoolean());
+            case AttributeValue.DateTimeValue v -> gen.writeString(KmipTextForms.formatDateTime(v.getEpochSecond()));
+            case AttributeValue.TextValue v -> gen.writeString(v.getValue());
+            case AttributeValue.BytesValue v -> gen.writeObject(v.getValue());
+            case AttributeValue.BigIntValue v -> gen.writeObject(v.getValue());
+            case AttributeValue.StructureValue v -> throw new IllegalArgumentException("Structure values have no primitive encoding");
+        }
+    }
 }
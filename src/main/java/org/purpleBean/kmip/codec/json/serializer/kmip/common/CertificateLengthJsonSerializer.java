@@ -1,39 +0,0 @@
-package org.purpleBean.kmip.codec.json.serializer.kmip.common;
-
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.SerializerProvider;
-import org.purpleBean.kmip.*;
-import org.purpleBean.kmip.common.*;
-import org.purpleBean.kmip.common.enumeration.*;
-import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
-import org.purpleBean.kmip.common.CertificateLength;
-
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.time.OffsetDateTime;
-import java.util.List;
-
-public class CertificateLengthJsonSerializer extends KmipDataTypeJsonSerializer<CertificateLength> {
-
-    @Override
-    public void serialize(CertificateLength certificateLength, JsonGenerator gen, SerializerProvider serializerProvider) throws IOException {
-        // Validation: Null check
-        if (certificateLength == null) {
-            return;
-        }
-
-        // Validation: KMIP spec compatibility
-        KmipSpec spec = KmipContext.getSpec();
-        if (!certificateLength.isSupported()) {
-            throw new UnsupportedEncodingException(
-                    String.format("%s is not supported for KMIP spec %s", certificateLength.getKmipTag().getDescription(), spec)
-            );
-        }
-
-        gen.writeStartObject();
-        gen.writeObject(certificateLength.getKmipTag());
-        gen.writeStringField("type", certificateLength.getEncodingType().getDescription());
-        gen.writeObjectField("value", certificateLength.getValue());
-        gen.writeEndObject();
-    }
-}
@@ -3,6 +3,7 @@ package org.purpleBean.kmip.codec.json.serializer.kmip.common.structure;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.*;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.Attribute;
 
@@ -32,9 +33,10 @@ public class AttributeJsonSerializer extends KmipDataTypeJsonSerializer<Attribut
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(attribute.getKmipTag());
-        jsonGenerator.writeStringField("type", attribute.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, attribute.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(attribute.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
         for (KmipDataType fieldValue : fields) {
             if (fieldValue != null) {
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.CustomAttribute;
 
@@ -36,9 +37,10 @@ public class CustomAttributeJsonSerializer extends KmipDataTypeJsonSerializer<Cu
         }
 
         gen.writeStartObject();
-        gen.writeObject(attribute.getKmipTag());
-        gen.writeStringField("type", attribute.getEncodingType().getDescription());
-        gen.writeFieldName("value");
+        writeTag(gen, attribute.getKmipTag());
+        gen.writeFieldName(KmipFieldNames.TYPE);
+        gen.writeString(attribute.getEncodingType().getSerializedDescription());
+        gen.writeFieldName(KmipFieldNames.VALUE);
         gen.writeStartArray();
         for (KmipDataType fieldValue : fields) {
             if (fieldValue != null) {
@@ -3,6 +3,7 @@ package org.purpleBean.kmip.codec.json.serializer.kmip.common.structure;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.*;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.Name;
 
@@ -35,9 +36,10 @@ public class NameJsonSerializer extends KmipDataTypeJsonSerializer<Name> {
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(name.getKmipTag());
-        jsonGenerator.writeStringField("type", name.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, name.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(name.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
         for (KmipDataType fieldValue : fields) {
             if (fieldValue != null) {
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.SampleStructure;
 
@@ -37,9 +38,10 @@ public class SampleStructureJsonSerializer extends KmipDataTypeJsonSerializer<Sa
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(sampleStructure.getKmipTag());
-        jsonGenerator.writeStringField("type", sampleStructure.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, sampleStructure.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(sampleStructure.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
         for (KmipDataType fieldValue : fields) {
             if (fieldValue != null) {
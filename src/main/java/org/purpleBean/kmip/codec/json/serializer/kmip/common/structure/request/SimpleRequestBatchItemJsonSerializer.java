@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestBatchItem;
 
@@ -33,9 +34,10 @@ public class SimpleRequestBatchItemJsonSerializer extends KmipDataTypeJsonSerial
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(batchItem.getKmipTag());
-        jsonGenerator.writeStringField("type", batchItem.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, batchItem.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(batchItem.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
         jsonGenerator.writeEndArray();
 
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestHeader;
 
@@ -33,9 +34,10 @@ public class SimpleRequestHeaderJsonSerializer extends KmipDataTypeJsonSerialize
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(header.getKmipTag());
-        jsonGenerator.writeStringField("type", header.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, header.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(header.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
 
         if (header.getProtocolVersion() != null) {
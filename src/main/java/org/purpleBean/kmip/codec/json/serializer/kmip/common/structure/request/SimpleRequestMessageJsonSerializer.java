@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 import org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestMessage;
 
@@ -33,9 +34,10 @@ public class SimpleRequestMessageJsonSerializer extends KmipDataTypeJsonSerializ
         }
 
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeObject(message.getKmipTag());
-        jsonGenerator.writeStringField("type", message.getEncodingType().getDescription());
-        jsonGenerator.writeFieldName("value");
+        writeTag(jsonGenerator, message.getKmipTag());
+        jsonGenerator.writeFieldName(KmipFieldNames.TYPE);
+        jsonGenerator.writeString(message.getEncodingType().getSerializedDescription());
+        jsonGenerator.writeFieldName(KmipFieldNames.VALUE);
         jsonGenerator.writeStartArray();
         jsonGenerator.writeObject(message.getRequestHeader());
         for (Object item : message.getRequestBatchItems()) {
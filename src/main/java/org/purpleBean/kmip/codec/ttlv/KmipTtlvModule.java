@@ -1,5 +1,6 @@
 package org.purpleBean.kmip.codec.ttlv;
 
+import org.purpleBean.kmip.codec.KmipCodecIndex;
 import org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvDeserializer;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvModule;
@@ -12,7 +13,11 @@ public class KmipTtlvModule extends TtlvModule {
 
     public KmipTtlvModule() {
 
-        // Auto-register any TTLV serializers/deserializers exposed via Java ServiceLoader.
+        // Codecs of this library are listed in the build-time index and created when a type is first looked up
+        addSerializerLookup(type -> (TtlvSerializer<?>) KmipCodecIndex.ttlvSerializer(type.getName()));
+        addDeserializerLookup(type -> (TtlvDeserializer<?>) KmipCodecIndex.ttlvDeserializer(type.getName()));
+
+        // Auto-register any TTLV serializers/deserializers other modules expose via Java ServiceLoader.
         // Supports both concrete providers extending KmipDataTypeTtlvSerializer/KmipDataTypeTtlvDeserializer
         // and providers implementing the plain TtlvSerializer/TtlvDeserializer interfaces.
         for (TtlvSerializer<?> ser : ServiceLoader.load(TtlvSerializer.class)) {
@@ -0,0 +1,212 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads files of back-to-back top-level TTLV frames, such as request/response audit archives, through
+ * memory-mapped windows. Frames are yielded as zero-copy slices of the mapping, so scanning an archive is
+ * bounded by address space rather than heap. Windows always end on a frame boundary; a frame larger than
+ * the window size is mapped on its own.
+ * <p>
+ * Frame streams may be parallel: the archive is split window by window and then on frame boundaries within
+ * a window. Slices remain valid after the reader is closed, until they are garbage collected.
+ */
+public final class TtlvArchiveReader implements Closeable {
+    /**
+     * Default size of each mapped window
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+
+    private TtlvArchiveReader(FileChannel channel, int windowSize) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    public static TtlvArchiveReader open(Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens an archive for reading.
+     *
+     * @param path       archive file
+     * @param windowSize preferred number of bytes mapped at a time
+     */
+    public static TtlvArchiveReader open(Path path, int windowSize) throws IOException {
+        Objects.requireNonNull(path, "path cannot be null");
+        if (windowSize < TtlvConstants.HEADER_SIZE) {
+            throw new IllegalArgumentException("windowSize must be at least " + TtlvConstants.HEADER_SIZE);
+        }
+        return new TtlvArchiveReader(FileChannel.open(path, StandardOpenOption.READ), windowSize);
+    }
+
+    /**
+     * Returns the archive size in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    public Stream<ByteBuffer> frames() {
+        return frames(false);
+    }
+
+    /**
+     * Streams every top-level frame in file order.
+     * A truncated trailing frame surfaces as {@link IllegalArgumentException} and mapping failures as
+     * {@link UncheckedIOException}.
+     *
+     * @param parallel whether the returned stream is parallel
+     * @return a stream of single-frame slices
+     */
+    public Stream<ByteBuffer> frames(boolean parallel) {
+        return StreamSupport.stream(new WindowSpliterator(0), parallel);
+    }
+
+    /**
+     * Streams every top-level frame parsed as a {@link TtlvObject}, e.g. for pretty-printing.
+     */
+    public Stream<TtlvObject> objects(boolean parallel) {
+        return frames(parallel).map(TtlvObject::fromBuffer);
+    }
+
+    /**
+     * Streams every top-level frame decoded as {@code clazz} by the given mapper.
+     *
+     * @see TtlvMapper#readValuesAsStream(Stream, Class)
+     */
+    public <T> Stream<T> readValues(TtlvMapper mapper, Class<T> clazz, boolean parallel) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return mapper.readValuesAsStream(frames(parallel), clazz);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private MappedByteBuffer map(long position, long length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the window starting at the given file offset, trimmed to the last complete frame unless it
+     * reaches the end of the file.
+     */
+    private MappedByteBuffer mapWindow(long start) {
+        long length = Math.min(windowSize, size - start);
+        MappedByteBuffer window = map(start, length);
+        if (start + length == size) {
+            return window;
+        }
+        int boundary = 0;
+        while (window.limit() - boundary >= TtlvConstants.HEADER_SIZE) {
+            long frameLength = TtlvFrameSpliterator.declaredFrameLength(window, boundary);
+            if (frameLength > window.limit() - boundary) {
+                break;
+            }
+            boundary += (int) frameLength;
+        }
+        if (boundary > 0) {
+            return window.limit(boundary);
+        }
+        // The first frame does not fit: map it alone, or the rest of the file if it is truncated
+        long frameLength = window.limit() < TtlvConstants.HEADER_SIZE ? length : TtlvFrameSpliterator.declaredFrameLength(window, 0);
+        long oversized = Math.min(frameLength, size - start);
+        if (oversized > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("TTLV frame at offset %d is too large to map: %d bytes", start, frameLength));
+        }
+        return map(start, oversized);
+    }
+
+    /**
+     * Walks the archive one window at a time. Splitting hands off the current window whole while later
+     * windows remain, and otherwise splits within the window on frame boundaries.
+     */
+    private final class WindowSpliterator implements Spliterator<ByteBuffer> {
+        private long nextWindowStart;
+        private Spliterator<ByteBuffer> current;
+
+        private WindowSpliterator(long start) {
+            this.nextWindowStart = start;
+        }
+
+        private WindowSpliterator(Spliterator<ByteBuffer> current) {
+            this.nextWindowStart = size;
+            this.current = current;
+        }
+
+        /**
+         * Makes sure a window is current, mapping the next one if needed.
+         */
+        private boolean advanceWindow() {
+            if (current == null) {
+                if (nextWindowStart >= size) {
+                    return false;
+                }
+                MappedByteBuffer window = mapWindow(nextWindowStart);
+                nextWindowStart += window.limit();
+                current = new TtlvFrameSpliterator(window);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ByteBuffer> action) {
+            while (advanceWindow()) {
+                if (current.tryAdvance(action)) {
+                    return true;
+                }
+                current = null;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<ByteBuffer> trySplit() {
+            if (!advanceWindow()) {
+                return null;
+            }
+            if (nextWindowStart < size) {
+                Spliterator<ByteBuffer> prefix = current;
+                current = null;
+                return new WindowSpliterator(prefix);
+            }
+            return current.trySplit();
+        }
+
+        @Override
+        public long estimateSize() {
+            long buffered = current == null ? 0 : current.estimateSize();
+            return buffered + (size - nextWindowStart) / TtlvConstants.HEADER_SIZE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -52,6 +52,16 @@ public final class TtlvConstants {
      */
     public static final long MAX_VALUE_LENGTH = 0xFFFFFFFFL;
 
+    // Streaming Constants
+    /**
+     * Size of the chunks in which frames are transferred to and from streams and channels
+     */
+    public static final int STREAM_CHUNK_SIZE = 8 * 1024;
+    /**
+     * Default upper bound on the size of a single frame read from a stream or channel
+     */
+    public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
     // Padding Constants
     /**
      * Padding byte value (zero padding)
@@ -110,6 +120,19 @@ public final class TtlvConstants {
      */
     public static final String ERROR_INVALID_VALUE_LENGTH = "Invalid value length: %d";
 
+    /**
+     * Error message for a frame exceeding the configured maximum size
+     */
+    public static final String ERROR_FRAME_TOO_LARGE = "TTLV frame too large. Declared: %d bytes, maximum: %d bytes";
+    /**
+     * Error message for a stream ending in the middle of a frame
+     */
+    public static final String ERROR_TRUNCATED_FRAME = "Stream ended inside TTLV frame. Required: %d bytes, read: %d bytes";
+    /**
+     * Error message for a channel in non-blocking mode passed to a blocking transfer
+     */
+    public static final String ERROR_NON_BLOCKING_CHANNEL = "TTLV frames can only be transferred over blocking channels";
+
     // Private constructor to prevent instantiation
     private TtlvConstants() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
@@ -0,0 +1,123 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the top-level TTLV frames of a buffer.
+ * Each element is a slice covering one complete frame (header, value and padding),
+ * so no bytes are copied. Splitting only ever happens on frame boundaries, which makes the
+ * spliterator suitable for decoding independent top-level elements in parallel.
+ */
+public final class TtlvFrameSpliterator implements Spliterator<ByteBuffer> {
+    /**
+     * Regions smaller than this are not worth handing to another thread
+     */
+    private static final int MINIMUM_SPLIT_SIZE = 1024;
+
+    private final ByteBuffer buffer;
+    private int position;
+    private final int limit;
+
+    /**
+     * Creates a spliterator over the remaining bytes of the given buffer.
+     * The buffer's position and limit are not modified.
+     *
+     * @param buffer buffer holding zero or more consecutive TTLV frames
+     */
+    public TtlvFrameSpliterator(ByteBuffer buffer) {
+        this(Objects.requireNonNull(buffer, TtlvConstants.ERROR_NULL_DATA), buffer.position(), buffer.limit());
+    }
+
+    private TtlvFrameSpliterator(ByteBuffer buffer, int position, int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the total encoded length (header, value and padding) of the frame starting at the given index.
+     *
+     * @param buffer buffer holding the frame
+     * @param offset absolute index of the first tag byte
+     * @param limit  absolute index bounding the readable region
+     * @return the padded frame length in bytes
+     * @throws IllegalArgumentException if the header or the declared value does not fit
+     */
+    public static int frameLength(ByteBuffer buffer, int offset, int limit) {
+        int available = limit - offset;
+        if (available < TtlvConstants.HEADER_SIZE) {
+            throw new IllegalArgumentException(String.format("Insufficient data for TTLV header. Required: %d, available: %d", TtlvConstants.HEADER_SIZE, available));
+        }
+        long frameLength = declaredFrameLength(buffer, offset);
+        if (frameLength > available) {
+            throw new IllegalArgumentException(String.format(TtlvConstants.ERROR_INSUFFICIENT_VALUE_DATA, frameLength - TtlvConstants.HEADER_SIZE, available - TtlvConstants.HEADER_SIZE));
+        }
+        return (int) frameLength;
+    }
+
+    /**
+     * Returns the padded frame length declared by the header at the given index, without checking that
+     * the frame's value is actually present. The header itself must be readable.
+     *
+     * @param buffer buffer holding at least the frame header
+     * @param offset absolute index of the first tag byte
+     * @return the padded frame length in bytes, as an unsigned quantity
+     */
+    public static long declaredFrameLength(ByteBuffer buffer, int offset) {
+        // Absolute big-endian read so the caller's buffer order is left untouched
+        int lengthIndex = offset + TtlvConstants.TAG_SIZE + TtlvConstants.TYPE_SIZE;
+        long valueLength = ((buffer.get(lengthIndex) & 0xFFL) << 24)
+                | ((buffer.get(lengthIndex + 1) & 0xFFL) << 16)
+                | ((buffer.get(lengthIndex + 2) & 0xFFL) << 8)
+                | (buffer.get(lengthIndex + 3) & 0xFFL);
+        long padding = (TtlvConstants.PADDING_SIZE - valueLength % TtlvConstants.PADDING_SIZE) % TtlvConstants.PADDING_SIZE;
+        return TtlvConstants.HEADER_SIZE + valueLength + padding;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ByteBuffer> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        if (position >= limit) {
+            return false;
+        }
+        int length = frameLength(buffer, position, limit);
+        ByteBuffer frame = buffer.slice(position, length).order(TtlvConstants.BYTE_ORDER);
+        position += length;
+        action.accept(frame);
+        return true;
+    }
+
+    @Override
+    public Spliterator<ByteBuffer> trySplit() {
+        int remaining = limit - position;
+        if (remaining < MINIMUM_SPLIT_SIZE) {
+            return null;
+        }
+        // Hop over frame headers until the midpoint is crossed; values are never read.
+        int midpoint = position + remaining / 2;
+        int boundary = position;
+        while (boundary < midpoint) {
+            boundary += frameLength(buffer, boundary, limit);
+        }
+        if (boundary >= limit) {
+            return null;
+        }
+        TtlvFrameSpliterator prefix = new TtlvFrameSpliterator(buffer, position, boundary);
+        position = boundary;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        // Every frame occupies at least one padded header.
+        return (limit - position) / TtlvConstants.HEADER_SIZE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
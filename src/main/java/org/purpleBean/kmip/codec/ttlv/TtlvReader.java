@@ -0,0 +1,163 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.purpleBean.kmip.EncodingType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Pull reader over TTLV bytes. Items are reported one at a time in document order, with structures
+ * reported as a start and an end event around their children, so nothing is decoded into objects and
+ * the only state kept is one end offset per open structure.
+ * <p>
+ * Values are read with absolute gets on a big-endian view, leaving the caller's buffer untouched.
+ * Malformed input surfaces as {@link IllegalArgumentException}.
+ */
+public final class TtlvReader {
+    private static final int INITIAL_DEPTH = 8;
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private int[] structureEnds = new int[INITIAL_DEPTH];
+    private int depth;
+
+    private Event event;
+    private int tag;
+    private EncodingType encodingType;
+    private int valueOffset;
+    private int valueLength;
+
+    /**
+     * Creates a reader over the remaining bytes of the given buffer, which may hold several consecutive
+     * top-level items. The buffer's position and limit are not modified.
+     */
+    public TtlvReader(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, TtlvConstants.ERROR_NULL_DATA);
+        this.buffer = buffer.duplicate().order(TtlvConstants.BYTE_ORDER);
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Advances to the next item.
+     *
+     * @return the event for the item, or {@code null} once the input is exhausted
+     * @throws IllegalArgumentException if the input is truncated or a length does not fit its type
+     */
+    public Event next() {
+        if (depth > 0 && position == structureEnds[depth - 1]) {
+            depth--;
+            return event = Event.END_STRUCTURE;
+        }
+        int end = depth > 0 ? structureEnds[depth - 1] : limit;
+        if (position >= end) {
+            if (position > end) {
+                throw new IllegalArgumentException("TTLV item overruns its enclosing structure at offset " + position);
+            }
+            return event = null;
+        }
+
+        int frameLength = TtlvFrameSpliterator.frameLength(buffer, position, end);
+        tag = ((buffer.get(position) & 0xFF) << 16) | ((buffer.get(position + 1) & 0xFF) << 8) | (buffer.get(position + 2) & 0xFF);
+        byte typeValue = buffer.get(position + TtlvConstants.TAG_SIZE);
+        encodingType = EncodingType.fromTypeValue(typeValue).orElseThrow(() -> new IllegalArgumentException(
+                String.format("Unknown TTLV type 0x%02X at offset %d", typeValue, position)));
+        valueOffset = position + TtlvConstants.HEADER_SIZE;
+        valueLength = buffer.getInt(position + TtlvConstants.TAG_SIZE + TtlvConstants.TYPE_SIZE);
+        if (encodingType.isFixedLength() && valueLength != encodingType.getRawByteSize()) {
+            throw new IllegalArgumentException(String.format("%s value must be %d bytes, got %d",
+                    encodingType.getDescription(), encodingType.getRawByteSize(), valueLength));
+        }
+
+        if (encodingType == EncodingType.STRUCTURE) {
+            if (depth == structureEnds.length) {
+                structureEnds = Arrays.copyOf(structureEnds, depth * 2);
+            }
+            structureEnds[depth++] = position + frameLength;
+            position = valueOffset;
+            return event = Event.START_STRUCTURE;
+        }
+        position += frameLength;
+        return event = Event.VALUE;
+    }
+
+    /**
+     * Skips the rest of the structure just started, leaving the reader on its end.
+     */
+    public void skipStructure() {
+        if (event != Event.START_STRUCTURE) {
+            throw new IllegalStateException("Reader is not at the start of a structure");
+        }
+        position = structureEnds[depth - 1];
+        next();
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the number of structures currently open.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the 3-byte tag of the current item as an int.
+     */
+    public int getTag() {
+        return tag;
+    }
+
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
+    /**
+     * Returns the value length declared by the current item's header, excluding padding.
+     */
+    public int getLength() {
+        return valueLength;
+    }
+
+    /**
+     * Reads an Integer, Enumeration or Interval value.
+     */
+    public int getInt() {
+        return buffer.getInt(valueOffset);
+    }
+
+    /**
+     * Reads a Long Integer value, or a Date-Time value as seconds since the epoch.
+     */
+    public long getLong() {
+        return buffer.getLong(valueOffset);
+    }
+
+    public boolean getBoolean() {
+        return buffer.getLong(valueOffset) != 0;
+    }
+
+    public String getText() {
+        byte[] text = new byte[valueLength];
+        buffer.get(valueOffset, text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a zero-copy view of a Byte String or Big Integer value.
+     */
+    public ByteBuffer getBytes() {
+        return buffer.slice(valueOffset, valueLength).order(TtlvConstants.BYTE_ORDER);
+    }
+
+    public enum Event {
+        START_STRUCTURE,
+        END_STRUCTURE,
+        VALUE
+    }
+}
@@ -0,0 +1,155 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Gathering TTLV output as an ordered list of buffer segments, ready for
+ * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}.
+ * Headers, padding and small values are copied into a shared scratch buffer, while values of at least
+ * {@link #getCopyThreshold()} bytes are referenced in place so large byte strings are never copied.
+ * Referenced buffers must not be modified until the segments have been written.
+ */
+public final class TtlvSegments {
+    /**
+     * Values shorter than this are copied into scratch rather than referenced
+     */
+    public static final int DEFAULT_COPY_THRESHOLD = 256;
+    private static final int SCRATCH_CHUNK_SIZE = 512;
+    private static final ByteBuffer ZERO_PADDING = ByteBuffer.allocate(TtlvConstants.PADDING_SIZE).asReadOnlyBuffer();
+
+    private final int copyThreshold;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private ByteBuffer scratch = ByteBuffer.allocate(SCRATCH_CHUNK_SIZE).order(TtlvConstants.BYTE_ORDER);
+    private int pendingStart;
+    private int size;
+
+    public TtlvSegments() {
+        this(DEFAULT_COPY_THRESHOLD);
+    }
+
+    public TtlvSegments(int copyThreshold) {
+        if (copyThreshold < 0) {
+            throw new IllegalArgumentException("copyThreshold cannot be negative");
+        }
+        this.copyThreshold = copyThreshold;
+    }
+
+    public int getCopyThreshold() {
+        return copyThreshold;
+    }
+
+    /**
+     * Returns the total number of bytes written so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a complete, already encoded frame (or run of frames) from its current position to its limit.
+     */
+    public void write(ByteBuffer encoded) {
+        Objects.requireNonNull(encoded, TtlvConstants.ERROR_NULL_DATA);
+        append(encoded.duplicate());
+    }
+
+    /**
+     * Appends a primitive element: header, value bytes from the buffer's position to its limit, and padding.
+     */
+    public void writePrimitive(byte[] tag, byte type, ByteBuffer value) {
+        Objects.requireNonNull(value, TtlvConstants.ERROR_NULL_DATA);
+        int length = value.remaining();
+        writeHeader(tag, type, length);
+        append(value.duplicate());
+        writePadding(length);
+    }
+
+    /**
+     * Opens a structure by writing its header with a placeholder length.
+     * Everything written until the matching {@link #endStructure(Structure)} becomes its value.
+     */
+    public Structure beginStructure(byte[] tag, byte type) {
+        writeHeader(tag, type, 0);
+        return new Structure(scratch, scratch.position() - TtlvConstants.LENGTH_SIZE, size);
+    }
+
+    /**
+     * Closes a structure, patching the length in its header.
+     */
+    public void endStructure(Structure structure) {
+        structure.chunk.putInt(structure.lengthIndex, size - structure.valueStart);
+    }
+
+    /**
+     * Returns the segments written so far, each positioned for reading.
+     */
+    public ByteBuffer[] toArray() {
+        flushPending();
+        return segments.toArray(ByteBuffer[]::new);
+    }
+
+    private void writeHeader(byte[] tag, byte type, int length) {
+        TtlvConstants.validateTag(tag);
+        ensureScratch(TtlvConstants.HEADER_SIZE);
+        scratch.put(tag).put(type).putInt(length);
+        size += TtlvConstants.HEADER_SIZE;
+    }
+
+    private void writePadding(int valueLength) {
+        int padding = TtlvConstants.calculatePaddedLength(valueLength) - valueLength;
+        if (padding > 0) {
+            append(ZERO_PADDING.duplicate().limit(padding));
+        }
+    }
+
+    private void append(ByteBuffer data) {
+        int length = data.remaining();
+        if (length == 0) {
+            return;
+        }
+        if (length >= copyThreshold) {
+            flushPending();
+            segments.add(data);
+        } else {
+            ensureScratch(length);
+            scratch.put(data);
+        }
+        size += length;
+    }
+
+    private void ensureScratch(int length) {
+        if (scratch.remaining() >= length) {
+            return;
+        }
+        flushPending();
+        // Old chunks stay reachable through their slices, so open structure headers can still be patched
+        scratch = ByteBuffer.allocate(Math.max(SCRATCH_CHUNK_SIZE, length)).order(TtlvConstants.BYTE_ORDER);
+        pendingStart = 0;
+    }
+
+    private void flushPending() {
+        int end = scratch.position();
+        if (end > pendingStart) {
+            segments.add(scratch.slice(pendingStart, end - pendingStart));
+            pendingStart = end;
+        }
+    }
+
+    /**
+     * Handle for an open structure returned by {@link #beginStructure(byte[], byte)}.
+     */
+    public static final class Structure {
+        private final ByteBuffer chunk;
+        private final int lengthIndex;
+        private final int valueStart;
+
+        private Structure(ByteBuffer chunk, int lengthIndex, int valueStart) {
+            this.chunk = chunk;
+            this.lengthIndex = lengthIndex;
+            this.valueStart = valueStart;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Moves single TTLV frames between buffers and blocking streams or channels.
+ * Reads consume exactly one frame, so several messages can be read back-to-back from the same source.
+ * Frame bytes are transferred in {@link TtlvConstants#STREAM_CHUNK_SIZE} chunks and the frame buffer only
+ * grows as bytes actually arrive, so a forged length header cannot force a large allocation up front.
+ * A read frame is held whole, as the deserializers decode from a buffer, so reads are bounded by the
+ * caller's maximum frame size rather than by the chunk size. Writes of
+ * {@linkplain TtlvSegments segments} go through one chunk-sized buffer and never hold a second copy of the
+ * frame. Streams and channels are never closed, and non-blocking channels are rejected.
+ */
+public final class TtlvStreams {
+
+    private TtlvStreams() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Reads one complete frame (header, value and padding) from the stream.
+     *
+     * @param in           source stream
+     * @param maxFrameSize largest accepted frame size in bytes
+     * @return the frame positioned at zero, or {@code null} if the stream ended before the first header byte
+     * @throws EOFException             if the stream ends inside the frame
+     * @throws IllegalArgumentException if the declared frame size exceeds {@code maxFrameSize}
+     */
+    public static ByteBuffer readFrame(InputStream in, int maxFrameSize) throws IOException {
+        Objects.requireNonNull(in, "in cannot be null");
+        byte[] header = new byte[TtlvConstants.HEADER_SIZE];
+        int read = in.readNBytes(header, 0, header.length);
+        if (read == 0) {
+            return null;
+        }
+        int frameLength = frameLength(header, read, maxFrameSize);
+        byte[] frame = Arrays.copyOf(header, Math.min(frameLength, TtlvConstants.STREAM_CHUNK_SIZE));
+        int filled = header.length;
+        while (filled < frameLength) {
+            if (filled == frame.length) {
+                frame = Arrays.copyOf(frame, grow(frame.length, frameLength));
+            }
+            int n = in.read(frame, filled, Math.min(frame.length - filled, TtlvConstants.STREAM_CHUNK_SIZE));
+            if (n < 0) {
+                throw new EOFException(String.format(TtlvConstants.ERROR_TRUNCATED_FRAME, frameLength, filled));
+            }
+            filled += n;
+        }
+        return ByteBuffer.wrap(frame).order(TtlvConstants.BYTE_ORDER);
+    }
+
+    /**
+     * Reads one complete frame (header, value and padding) from a blocking channel.
+     *
+     * @param channel      source channel
+     * @param maxFrameSize largest accepted frame size in bytes
+     * @return the frame positioned at zero, or {@code null} if the channel ended before the first header byte
+     * @throws EOFException             if the channel ends inside the frame
+     * @throws IllegalArgumentException if the declared frame size exceeds {@code maxFrameSize}
+     */
+    public static ByteBuffer readFrame(ReadableByteChannel channel, int maxFrameSize) throws IOException {
+        Objects.requireNonNull(channel, "channel cannot be null");
+        requireBlocking(channel);
+        ByteBuffer header = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE);
+        int read = fill(channel, header);
+        if (read == 0) {
+            return null;
+        }
+        int frameLength = frameLength(header.array(), read, maxFrameSize);
+        byte[] frame = Arrays.copyOf(header.array(), Math.min(frameLength, TtlvConstants.STREAM_CHUNK_SIZE));
+        int filled = header.capacity();
+        while (filled < frameLength) {
+            if (filled == frame.length) {
+                frame = Arrays.copyOf(frame, grow(frame.length, frameLength));
+            }
+            ByteBuffer chunk = ByteBuffer.wrap(frame, filled, Math.min(frame.length - filled, TtlvConstants.STREAM_CHUNK_SIZE));
+            int n = fill(channel, chunk);
+            filled += n;
+            if (chunk.hasRemaining()) {
+                throw new EOFException(String.format(TtlvConstants.ERROR_TRUNCATED_FRAME, frameLength, filled));
+            }
+        }
+        return ByteBuffer.wrap(frame).order(TtlvConstants.BYTE_ORDER);
+    }
+
+    /**
+     * Writes the remaining bytes of the frame to the stream. The frame's position is advanced to its limit.
+     */
+    public static void writeFrame(ByteBuffer frame, OutputStream out) throws IOException {
+        Objects.requireNonNull(frame, "frame cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        if (frame.hasArray()) {
+            byte[] array = frame.array();
+            int offset = frame.arrayOffset();
+            while (frame.hasRemaining()) {
+                int n = Math.min(frame.remaining(), TtlvConstants.STREAM_CHUNK_SIZE);
+                out.write(array, offset + frame.position(), n);
+                frame.position(frame.position() + n);
+            }
+            return;
+        }
+        // Direct or read-only buffers are staged through a single bounded chunk
+        byte[] chunk = new byte[Math.min(frame.remaining(), TtlvConstants.STREAM_CHUNK_SIZE)];
+        while (frame.hasRemaining()) {
+            int n = Math.min(frame.remaining(), chunk.length);
+            frame.get(chunk, 0, n);
+            out.write(chunk, 0, n);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the frame to a blocking channel. The frame's position is advanced to its limit.
+     */
+    public static void writeFrame(ByteBuffer frame, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(frame, "frame cannot be null");
+        Objects.requireNonNull(channel, "channel cannot be null");
+        requireBlocking(channel);
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the segments, in order, to the stream. Small segments are coalesced and
+     * large ones copied chunk by chunk through a single {@link TtlvConstants#STREAM_CHUNK_SIZE} buffer, so
+     * the stream sees chunk-sized writes whatever the segment sizes. The segments' positions are advanced to
+     * their limits.
+     */
+    public static void writeSegments(ByteBuffer[] segments, OutputStream out) throws IOException {
+        Objects.requireNonNull(segments, "segments cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        byte[] chunk = new byte[TtlvConstants.STREAM_CHUNK_SIZE];
+        int filled = 0;
+        for (ByteBuffer segment : segments) {
+            while (segment.hasRemaining()) {
+                int n = Math.min(segment.remaining(), chunk.length - filled);
+                segment.get(chunk, filled, n);
+                filled += n;
+                if (filled == chunk.length) {
+                    out.write(chunk, 0, filled);
+                    filled = 0;
+                }
+            }
+        }
+        if (filled > 0) {
+            out.write(chunk, 0, filled);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of the segments, in order, to a blocking channel through a single
+     * {@link TtlvConstants#STREAM_CHUNK_SIZE} buffer. The segments' positions are advanced to their limits.
+     */
+    public static void writeSegments(ByteBuffer[] segments, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(segments, "segments cannot be null");
+        Objects.requireNonNull(channel, "channel cannot be null");
+        requireBlocking(channel);
+        ByteBuffer chunk = ByteBuffer.allocate(TtlvConstants.STREAM_CHUNK_SIZE);
+        for (ByteBuffer segment : segments) {
+            while (segment.hasRemaining()) {
+                int n = Math.min(segment.remaining(), chunk.remaining());
+                chunk.put(chunk.position(), segment, segment.position(), n);
+                chunk.position(chunk.position() + n);
+                segment.position(segment.position() + n);
+                if (!chunk.hasRemaining()) {
+                    writeFrame(chunk.flip(), channel);
+                    chunk.clear();
+                }
+            }
+        }
+        writeFrame(chunk.flip(), channel);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the channel is a {@link SelectableChannel} in non-blocking mode,
+     *                                  which the transfer loops would otherwise spin on
+     */
+    public static void requireBlocking(Channel channel) {
+        if (channel instanceof SelectableChannel selectable && !selectable.isBlocking()) {
+            throw new IllegalArgumentException(TtlvConstants.ERROR_NON_BLOCKING_CHANNEL);
+        }
+    }
+
+    private static int frameLength(byte[] header, int read, int maxFrameSize) throws EOFException {
+        if (read < TtlvConstants.HEADER_SIZE) {
+            throw new EOFException(String.format(TtlvConstants.ERROR_TRUNCATED_FRAME, TtlvConstants.HEADER_SIZE, read));
+        }
+        int lengthIndex = TtlvConstants.TAG_SIZE + TtlvConstants.TYPE_SIZE;
+        long valueLength = ((header[lengthIndex] & 0xFFL) << 24)
+                | ((header[lengthIndex + 1] & 0xFFL) << 16)
+                | ((header[lengthIndex + 2] & 0xFFL) << 8)
+                | (header[lengthIndex + 3] & 0xFFL);
+        long frameLength = TtlvConstants.HEADER_SIZE + ((valueLength + TtlvConstants.PADDING_SIZE - 1) / TtlvConstants.PADDING_SIZE) * TtlvConstants.PADDING_SIZE;
+        if (frameLength > maxFrameSize) {
+            throw new IllegalArgumentException(String.format(TtlvConstants.ERROR_FRAME_TOO_LARGE, frameLength, maxFrameSize));
+        }
+        return (int) frameLength;
+    }
+
+    private static int grow(int current, int frameLength) {
+        return (int) Math.min((long) current * 2, frameLength);
+    }
+
+    private static int fill(ReadableByteChannel channel, ByteBuffer target) throws IOException {
+        int total = 0;
+        while (target.hasRemaining()) {
+            int n = channel.read(target);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,160 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.purpleBean.kmip.EncodingType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Push writer producing TTLV bytes item by item, the counterpart of {@link TtlvReader}.
+ * <p>
+ * Structure lengths are not known until the structure ends, so each structure header is written with a
+ * placeholder length that is patched in place when it is closed. The only state kept besides the output
+ * is the header offset of each open structure.
+ */
+public final class TtlvWriter {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int INITIAL_DEPTH = 8;
+
+    private ByteBuffer out;
+    private int[] structureStarts = new int[INITIAL_DEPTH];
+    private int depth;
+
+    public TtlvWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TtlvWriter(int initialCapacity) {
+        this.out = ByteBuffer.allocate(Math.max(initialCapacity, TtlvConstants.HEADER_SIZE)).order(TtlvConstants.BYTE_ORDER);
+    }
+
+    public void startStructure(int tag) {
+        writeHeader(tag, EncodingType.STRUCTURE, 0);
+        if (depth == structureStarts.length) {
+            structureStarts = Arrays.copyOf(structureStarts, depth * 2);
+        }
+        structureStarts[depth++] = out.position() - TtlvConstants.HEADER_SIZE;
+    }
+
+    public void endStructure() {
+        if (depth == 0) {
+            throw new IllegalStateException("No open structure to end");
+        }
+        int start = structureStarts[--depth];
+        out.putInt(start + TtlvConstants.TAG_SIZE + TtlvConstants.TYPE_SIZE, out.position() - start - TtlvConstants.HEADER_SIZE);
+    }
+
+    /**
+     * Writes an Integer, Enumeration or Interval value.
+     */
+    public void writeInt(int tag, EncodingType encodingType, int value) {
+        requireSize(encodingType, Integer.BYTES);
+        writeHeader(tag, encodingType, Integer.BYTES);
+        out.putInt(value);
+        pad(Integer.BYTES);
+    }
+
+    /**
+     * Writes a Long Integer value, or a Date-Time value as seconds since the epoch.
+     */
+    public void writeLong(int tag, EncodingType encodingType, long value) {
+        requireSize(encodingType, Long.BYTES);
+        writeHeader(tag, encodingType, Long.BYTES);
+        out.putLong(value);
+    }
+
+    public void writeBoolean(int tag, boolean value) {
+        writeHeader(tag, EncodingType.BOOLEAN, Long.BYTES);
+        out.putLong(value ? 1L : 0L);
+    }
+
+    public void writeText(int tag, String value) {
+        writeBytes(tag, EncodingType.TEXT_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a Text String, Byte String or Big Integer value from its raw bytes.
+     */
+    public void writeBytes(int tag, EncodingType encodingType, byte[] value) {
+        if (encodingType.isFixedLength() || encodingType == EncodingType.STRUCTURE) {
+            throw new IllegalArgumentException(encodingType.getDescription() + " is not a variable-length type");
+        }
+        writeHeader(tag, encodingType, value.length);
+        out.put(value);
+        pad(value.length);
+    }
+
+    /**
+     * Returns the number of structures currently open.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     */
+    public int size() {
+        return out.position();
+    }
+
+    /**
+     * Returns a copy of everything written, which must not end inside a structure.
+     */
+    public ByteBuffer toByteBuffer() {
+        requireComplete();
+        return ByteBuffer.wrap(Arrays.copyOf(out.array(), out.position())).order(TtlvConstants.BYTE_ORDER);
+    }
+
+    /**
+     * Writes everything written so far to the stream, which must not end inside a structure.
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        requireComplete();
+        stream.write(out.array(), 0, out.position());
+    }
+
+    /**
+     * Discards the output so the writer can be reused.
+     */
+    public void reset() {
+        out.clear();
+        depth = 0;
+    }
+
+    private void requireComplete() {
+        if (depth != 0) {
+            throw new IllegalStateException(depth + " structure(s) still open");
+        }
+    }
+
+    private static void requireSize(EncodingType encodingType, int size) {
+        if (encodingType.getRawByteSize() != size) {
+            throw new IllegalArgumentException(encodingType.getDescription() + " is not a " + size + "-byte type");
+        }
+    }
+
+    private void writeHeader(int tag, EncodingType encodingType, int length) {
+        ensureCapacity(TtlvConstants.calculateMinimumSize(length));
+        out.put((byte) (tag >>> 16)).put((byte) (tag >>> 8)).put((byte) tag)
+                .put(encodingType.getTypeValue())
+                .putInt(length);
+    }
+
+    private void pad(int length) {
+        int padding = TtlvConstants.calculatePaddedLength(length) - length;
+        for (int i = 0; i < padding; i++) {
+            out.put(TtlvConstants.PADDING_BYTE);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (out.remaining() < additional) {
+            int capacity = Math.max(out.capacity() * 2, out.position() + additional);
+            out = ByteBuffer.wrap(Arrays.copyOf(out.array(), capacity)).position(out.position()).order(TtlvConstants.BYTE_ORDER);
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Arrays;
 
 public class ProtocolVersionMajorTtlvDeserializer extends KmipDataTypeTtlvDeserializer<ProtocolVersion.ProtocolVersionMajor> {
     EncodingType type = EncodingType.INTEGER;
-    KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION_MAJOR);
+    KmipTag kmipTag = ProtocolVersion.ProtocolVersionMajor.kmipTag;
 
     @Override
     public ProtocolVersion.ProtocolVersionMajor deserialize(ByteBuffer ttlvBuffer, TtlvMapper mapper) throws IOException {
@@ -13,7 +13,7 @@ import java.util.Arrays;
 
 public class ProtocolVersionMinorTtlvDeserializer extends KmipDataTypeTtlvDeserializer<ProtocolVersion.ProtocolVersionMinor> {
     EncodingType type = EncodingType.INTEGER;
-    KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION_MINOR);
+    KmipTag kmipTag = ProtocolVersion.ProtocolVersionMinor.kmipTag;
 
     @Override
     public ProtocolVersion.ProtocolVersionMinor deserialize(ByteBuffer ttlvBuffer, TtlvMapper mapper) throws IOException {
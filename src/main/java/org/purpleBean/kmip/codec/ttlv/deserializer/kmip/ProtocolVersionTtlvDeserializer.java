@@ -12,7 +12,7 @@ import java.util.NoSuchElementException;
 
 public class ProtocolVersionTtlvDeserializer extends KmipDataTypeTtlvDeserializer<ProtocolVersion> {
     EncodingType type = EncodingType.STRUCTURE;
-    KmipTag kmipTag = new KmipTag(KmipTag.Standard.PROTOCOL_VERSION);
+    KmipTag kmipTag = ProtocolVersion.kmipTag;
 
     @Override
     public ProtocolVersion deserialize(ByteBuffer ttlvBuffer, TtlvMapper mapper) throws IOException {
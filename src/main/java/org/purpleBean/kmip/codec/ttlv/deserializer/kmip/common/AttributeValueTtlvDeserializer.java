@@ -10,7 +10,6 @@ import org.purpleBean.kmip.common.AttributeValue;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -32,39 +31,41 @@ public class AttributeValueTtlvDeserializer extends KmipDataTypeTtlvDeserializer
 
         KmipSpec spec = KmipContext.getSpec();
 
-        Object obj;
-        switch (encodingType) {
+        AttributeValue attributeValue = switch (encodingType) {
             case STRUCTURE -> {
                 List<KmipDataType> values = new ArrayList<>();
                 List<TtlvObject> nestedObjects = TtlvObject.fromBytesMultiple(nodeTtlvObject.getValue());
                 for (TtlvObject ttlvObject : nestedObjects) {
-                    values.add(deserializeObjects(mapper, ttlvObject));
+                    values.add(deserializeObjects(mapper, ttlvObject, spec));
                 }
-                obj = values;
+                yield AttributeValue.of(values);
             }
-            case INTEGER, ENUMERATION, INTERVAL -> obj = mapper.readValue(bb, Integer.class);
-            case BOOLEAN -> obj = mapper.readValue(bb, Boolean.class);
-            case DATE_TIME -> obj = mapper.readValue(bb, OffsetDateTime.class);
-            case LONG_INTEGER -> obj = mapper.readValue(bb, Long.class);
-            case TEXT_STRING -> obj = mapper.readValue(bb, String.class);
-            case BYTE_STRING -> obj = mapper.readValue(bb, ByteBuffer.class);
-            case BIG_INTEGER -> obj = mapper.readValue(bb, BigInteger.class);
-            default -> throw new IllegalArgumentException("Unsupported encoding type: " + encodingType);
-        }
-        AttributeValue attributeValue = AttributeValue.builder().encodingType(encodingType).value(obj).build();
-
+            case INTEGER, ENUMERATION, INTERVAL -> AttributeValue.of(encodingType, fixedSize(bb, encodingType).getInt());
+            case BOOLEAN -> AttributeValue.of(fixedSize(bb, encodingType).getLong() == 1L);
+            case DATE_TIME -> AttributeValue.ofDateTime(fixedSize(bb, encodingType).getLong());
+            case LONG_INTEGER -> AttributeValue.of(fixedSize(bb, encodingType).getLong());
+            case TEXT_STRING -> AttributeValue.of(mapper.readValue(bb, String.class));
+            case BYTE_STRING -> AttributeValue.of(mapper.readValue(bb, ByteBuffer.class));
+            case BIG_INTEGER -> AttributeValue.of(mapper.readValue(bb, BigInteger.class));
+        };
 
         if (!attributeValue.isSupported()) {
-            throw new NoSuchElementException(String.format("%s is not supported for KMIP spec %s", attributeValue.getClass().getSimpleName(), spec));
+            throw new NoSuchElementException(String.format("%s is not supported for KMIP spec %s", AttributeValue.class.getSimpleName(), spec));
         }
         return attributeValue;
     }
 
-    private KmipDataType deserializeObjects(TtlvMapper mapper, TtlvObject node) throws IOException {
-        KmipSpec spec = KmipContext.getSpec();
+    private static ByteBuffer fixedSize(ByteBuffer bb, EncodingType encodingType) {
+        if (bb.remaining() != encodingType.getRawByteSize()) {
+            throw new IllegalArgumentException(String.format("Expected %s bytes to get value", encodingType.getRawByteSize()));
+        }
+        return bb;
+    }
+
+    private KmipDataType deserializeObjects(TtlvMapper mapper, TtlvObject node, KmipSpec spec) throws IOException {
         KmipTag.Value nodeTag = KmipTag.fromBytes(spec, node.getTag());
         EncodingType encodingType = EncodingType.fromTypeValue(node.getType()).get();
-        Class<? extends KmipDataType> dataType = KmipDataType.getClassFromRegistry(nodeTag, encodingType);
+        Class<? extends KmipDataType> dataType = KmipDataType.getClassFromRegistry(spec, nodeTag, encodingType);
         return mapper.readValue(node.toByteBuffer(), dataType);
     }
 }
@@ -1,40 +0,0 @@
-package org.purpleBean.kmip.codec.ttlv.deserializer.kmip.common;
-
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
-import org.purpleBean.kmip.codec.ttlv.TtlvObject;
-import org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer;
-import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
-import org.purpleBean.kmip.common.NameValue;
-
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.NoSuchElementException;
-
-public class NameValueTtlvDeserializer extends KmipDataTypeTtlvDeserializer<NameValue> {
-    private final KmipTag kmipTag = NameValue.kmipTag;
-    private final EncodingType encodingType = NameValue.encodingType;
-
-    @Override
-    public NameValue deserialize(ByteBuffer ttlvBuffer, TtlvMapper mapper) throws IOException {
-        TtlvObject obj = TtlvObject.fromBuffer(ttlvBuffer);
-        if (Arrays.equals(obj.getTag(), kmipTag.getTagBytes()) && obj.getType() != encodingType.getTypeValue()) {
-            throw new IllegalArgumentException(String.format("Expected %s type for %s, got %s", encodingType.getTypeValue(), kmipTag.getDescription(), obj.getType()));
-        }
-
-        ByteBuffer bb = ByteBuffer.wrap(obj.getValue()).order(TtlvConstants.BYTE_ORDER);
-
-        NameValue nameValue = NameValue.builder().value(mapper.readValue(bb, String.class)).build();
-
-        KmipSpec spec = KmipContext.getSpec();
-
-        if (!nameValue.isSupported()) {
-            throw new NoSuchElementException(String.format("%s is not supported for KMIP spec %s", nameValue.getClass().getSimpleName(), spec));
-        }
-        return nameValue;
-    }
-}
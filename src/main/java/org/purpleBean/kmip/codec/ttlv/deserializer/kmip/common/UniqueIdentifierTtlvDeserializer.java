@@ -1,40 +0,0 @@
-package org.purpleBean.kmip.codec.ttlv.deserializer.kmip.common;
-
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
-import org.purpleBean.kmip.codec.ttlv.TtlvObject;
-import org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer;
-import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
-import org.purpleBean.kmip.common.UniqueIdentifier;
-
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.NoSuchElementException;
-
-public class UniqueIdentifierTtlvDeserializer extends KmipDataTypeTtlvDeserializer<UniqueIdentifier> {
-    private final KmipTag kmipTag = UniqueIdentifier.kmipTag;
-    private final EncodingType encodingType = UniqueIdentifier.encodingType;
-
-    @Override
-    public UniqueIdentifier deserialize(ByteBuffer ttlvBuffer, TtlvMapper mapper) throws IOException {
-        TtlvObject obj = TtlvObject.fromBuffer(ttlvBuffer);
-        if (Arrays.equals(obj.getTag(), kmipTag.getTagBytes()) && obj.getType() != encodingType.getTypeValue()) {
-            throw new IllegalArgumentException(String.format("Expected %s type for %s, got %s", encodingType.getTypeValue(), kmipTag.getDescription(), obj.getType()));
-        }
-
-        ByteBuffer bb = ByteBuffer.wrap(obj.getValue()).order(TtlvConstants.BYTE_ORDER);
-        String value = mapper.readValue(bb, String.class);
-        UniqueIdentifier uniqueIdentifier = UniqueIdentifier.builder().value(value).build();
-
-        KmipSpec spec = KmipContext.getSpec();
-
-        if (!uniqueIdentifier.isSupported()) {
-            throw new NoSuchElementException(String.format("%s is not supported for KMIP spec %s", uniqueIdentifier.getClass().getSimpleName(), spec));
-        }
-        return uniqueIdentifier;
-    }
-}
@@ -1,22 +1,71 @@
 package org.purpleBean.kmip.codec.ttlv.mapper;
 
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
+import org.purpleBean.kmip.codec.ttlv.TtlvFrameSpliterator;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
+import org.purpleBean.kmip.codec.ttlv.TtlvStreams;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 public class TtlvMapper {
     private final Map<Class<?>, TtlvSerializer<?>> serializers = new ConcurrentHashMap<>();
     private final Map<Class<?>, TtlvDeserializer<?>> deserializers = new ConcurrentHashMap<>();
+    private final List<Function<Class<?>, TtlvSerializer<?>>> serializerLookups = new CopyOnWriteArrayList<>();
+    private final List<Function<Class<?>, TtlvDeserializer<?>>> deserializerLookups = new CopyOnWriteArrayList<>();
+    // Lookups resolved through the type hierarchy, cleared whenever a module is registered
+    private final Map<Class<?>, TtlvSerializer<?>> resolvedSerializers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, TtlvDeserializer<?>> resolvedDeserializers = new ConcurrentHashMap<>();
+    private volatile int maxFrameSize = TtlvConstants.DEFAULT_MAX_FRAME_SIZE;
 
     public void registerModule(TtlvModule module) {
         Objects.requireNonNull(module, "module cannot be null");
         serializers.putAll(module.getSerializers());
         deserializers.putAll(module.getDeserializers());
+        serializerLookups.addAll(module.getSerializerLookups());
+        deserializerLookups.addAll(module.getDeserializerLookups());
+        resolvedSerializers.clear();
+        resolvedDeserializers.clear();
+    }
+
+    /**
+     * Resolves the serializer for a type once, for callers that encode many values of it.
+     *
+     * @throws IllegalArgumentException if no serializer is registered for the type or its supertypes
+     */
+    public <T> TtlvSerializer<T> serializerFor(Class<T> type) {
+        Objects.requireNonNull(type, "type cannot be null");
+        return getSerializer(type);
+    }
+
+    /**
+     * Resolves the deserializer for a type once, for callers that decode many values of it.
+     *
+     * @throws IllegalArgumentException if no deserializer is registered for the type or its supertypes
+     */
+    public <T> TtlvDeserializer<T> deserializerFor(Class<T> type) {
+        Objects.requireNonNull(type, "type cannot be null");
+        return getDeserializer(type);
     }
 
 
@@ -55,10 +104,232 @@ public class TtlvMapper {
     }
 
 
+    /**
+     * Encodes the value as one TTLV frame and writes it to the stream through a single
+     * {@link TtlvConstants#STREAM_CHUNK_SIZE} buffer. The frame is encoded as {@linkplain #writeValueAsSegments
+     * segments}, so large byte string values are copied to the stream chunk by chunk from their own buffers
+     * instead of into a second, frame-sized buffer. The stream is neither flushed nor closed.
+     */
+    public <T> void writeValue(OutputStream out, T value) throws IOException {
+        Objects.requireNonNull(out, "out cannot be null");
+        TtlvStreams.writeSegments(writeValueAsSegments(value), out);
+    }
+
+    /**
+     * Encodes the value as one TTLV frame and writes it to a blocking channel through a single
+     * {@link TtlvConstants#STREAM_CHUNK_SIZE} buffer, like {@link #writeValue(OutputStream, Object)}.
+     * The channel is not closed.
+     *
+     * @throws IllegalArgumentException if the channel is in non-blocking mode
+     */
+    public <T> void writeValue(WritableByteChannel channel, T value) throws IOException {
+        Objects.requireNonNull(channel, "channel cannot be null");
+        TtlvStreams.requireBlocking(channel);
+        TtlvStreams.writeSegments(writeValueAsSegments(value), channel);
+    }
+
+    /**
+     * Encodes the value as one TTLV frame and writes it to a blocking channel with a gathering write, so
+     * large byte string values are sent straight from their own buffers. The channel is not closed.
+     *
+     * @throws IllegalArgumentException if the channel is in non-blocking mode
+     * @see #writeValueAsSegments(Object)
+     */
+    public <T> void writeValue(GatheringByteChannel channel, T value) throws IOException {
+        Objects.requireNonNull(channel, "channel cannot be null");
+        TtlvStreams.requireBlocking(channel);
+        ByteBuffer[] segments = writeValueAsSegments(value);
+        long remaining = 0;
+        for (ByteBuffer segment : segments) {
+            remaining += segment.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(segments);
+        }
+    }
+
+    /**
+     * Encodes the value as an ordered list of buffer segments whose concatenation is the TTLV frame.
+     * Byte string values of at least {@link TtlvSegments#DEFAULT_COPY_THRESHOLD} bytes are referenced, not copied.
+     * Structures are written field by field when their serializer overrides
+     * {@link TtlvSerializer#serialize(Object, TtlvMapper, TtlvSegments)}, as every structure serializer of the
+     * library does; other serializers encode into their own buffer, which is then appended as one segment.
+     */
+    public <T> ByteBuffer[] writeValueAsSegments(T value) throws IOException {
+        TtlvSegments out = new TtlvSegments();
+        writeSegments(value, out);
+        return out.toArray();
+    }
+
+    /**
+     * Appends the encoding of the value to an existing segment list. Used by structure serializers for their fields.
+     */
+    public <T> void writeSegments(T value, TtlvSegments out) throws IOException {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        TtlvSerializer<T> ser = getSerializer(value.getClass());
+        ser.serialize(value, this, out);
+    }
+
+    /**
+     * Reads exactly one TTLV frame from the stream and decodes it, leaving any following bytes unread.
+     * The frame is buffered whole before it is decoded, as the decoded value holds all of it anyway, so
+     * memory is bounded by {@link #getMaxFrameSize()} rather than by the chunk size. Frames larger than
+     * that are rejected before their value is read.
+     *
+     * @throws EOFException if the stream is exhausted before or inside the frame
+     */
+    public <T> T readValue(InputStream in, Class<T> clazz) throws IOException {
+        Objects.requireNonNull(clazz, "clazz cannot be null");
+        ByteBuffer frame = TtlvStreams.readFrame(in, maxFrameSize);
+        if (frame == null) {
+            throw new EOFException("No TTLV frame available for " + clazz.getName());
+        }
+        return readValue(frame, clazz);
+    }
+
+    /**
+     * Reads exactly one TTLV frame from a blocking channel and decodes it, leaving any following bytes unread.
+     * Like {@link #readValue(InputStream, Class)}, the frame is buffered whole, and frames larger than
+     * {@link #getMaxFrameSize()} are rejected before their value is read.
+     *
+     * @throws EOFException             if the channel is exhausted before or inside the frame
+     * @throws IllegalArgumentException if the channel is in non-blocking mode
+     */
+    public <T> T readValue(ReadableByteChannel channel, Class<T> clazz) throws IOException {
+        Objects.requireNonNull(clazz, "clazz cannot be null");
+        ByteBuffer frame = TtlvStreams.readFrame(channel, maxFrameSize);
+        if (frame == null) {
+            throw new EOFException("No TTLV frame available for " + clazz.getName());
+        }
+        return readValue(frame, clazz);
+    }
+
+    public int getMaxFrameSize() {
+        return maxFrameSize;
+    }
+
+    /**
+     * Sets the largest frame, in bytes, accepted by the stream and channel readers, which is also the most
+     * they buffer for one value. Defaults to {@link TtlvConstants#DEFAULT_MAX_FRAME_SIZE}.
+     */
+    public void setMaxFrameSize(int maxFrameSize) {
+        if (maxFrameSize < TtlvConstants.HEADER_SIZE) {
+            throw new IllegalArgumentException("maxFrameSize must be at least " + TtlvConstants.HEADER_SIZE);
+        }
+        this.maxFrameSize = maxFrameSize;
+    }
+
+
+    /**
+     * Encodes every value back-to-back into the supplied buffer, starting at its current position.
+     * The serializer is resolved once per run of values sharing the same concrete type.
+     *
+     * @param values values to encode, in order
+     * @param out    destination buffer; its position is advanced past the written frames
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if {@code out} is too small for the encoded values
+     */
+    public int writeValues(Collection<? extends KmipDataType> values, ByteBuffer out) throws IOException {
+        Objects.requireNonNull(values, "values cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        int start = out.position();
+        Class<?> currentType = null;
+        TtlvSerializer<KmipDataType> ser = null;
+        for (KmipDataType value : values) {
+            Objects.requireNonNull(value, "value cannot be null");
+            if (value.getClass() != currentType) {
+                currentType = value.getClass();
+                ser = getSerializer(currentType);
+            }
+            ByteBuffer encoded = ser.serialize(value, this);
+            encoded.rewind();
+            out.put(encoded);
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Decodes every top-level TTLV element remaining in the buffer as {@code clazz}.
+     * The buffer's position is advanced to its limit.
+     */
+    public <T> List<T> readValues(ByteBuffer buffer, Class<T> clazz) throws IOException {
+        try {
+            List<T> values = readValuesAsStream(buffer, clazz).toList();
+            buffer.position(buffer.limit());
+            return values;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public <T> Stream<T> readValuesAsStream(ByteBuffer buffer, Class<T> clazz) {
+        return readValuesAsStream(buffer, clazz, false);
+    }
+
+    /**
+     * Lazily decodes the top-level TTLV elements remaining in the buffer as {@code clazz}.
+     * Elements are sliced on frame boundaries without copying, so a parallel stream decodes
+     * independent elements concurrently. The caller's {@link KmipSpec} is propagated to worker
+     * threads, and the buffer's position is not modified. Decoding failures surface as
+     * {@link UncheckedIOException}.
+     *
+     * @param buffer   buffer holding zero or more consecutive TTLV elements
+     * @param clazz    type of every element
+     * @param parallel whether the returned stream is parallel
+     * @return a stream of decoded elements in encoding order
+     */
+    public <T> Stream<T> readValuesAsStream(ByteBuffer buffer, Class<T> clazz, boolean parallel) {
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+        return readValuesAsStream(StreamSupport.stream(new TtlvFrameSpliterator(buffer), parallel), clazz);
+    }
+
+    /**
+     * Lazily decodes a stream of single-frame buffers, such as those produced by {@link TtlvFrameSpliterator}
+     * or {@link org.purpleBean.kmip.codec.ttlv.TtlvArchiveReader}, as {@code clazz}. Parallelism and ordering
+     * follow the source stream, and the caller's {@link KmipSpec} is propagated to worker threads.
+     * Decoding failures surface as {@link UncheckedIOException}.
+     */
+    public <T> Stream<T> readValuesAsStream(Stream<ByteBuffer> frames, Class<T> clazz) {
+        Objects.requireNonNull(frames, "frames cannot be null");
+        Objects.requireNonNull(clazz, "clazz cannot be null");
+        TtlvDeserializer<T> deser = getDeserializer(clazz);
+        KmipSpec spec = KmipContext.getSpec();
+        return frames
+                .map(frame -> KmipContext.withSpec(spec, () -> {
+                    try {
+                        return deser.deserialize(frame, this);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+
     @SuppressWarnings("unchecked")
     private <T> TtlvSerializer<T> getSerializer(Class<?> type) {
+        TtlvSerializer<?> serializer = resolvedSerializers.get(type);
+        if (serializer == null) {
+            serializer = findSerializer(type);
+            resolvedSerializers.put(type, serializer);
+        }
+        return (TtlvSerializer<T>) serializer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TtlvDeserializer<T> getDeserializer(Class<T> type) {
+        TtlvDeserializer<?> deserializer = resolvedDeserializers.get(type);
+        if (deserializer == null) {
+            deserializer = findDeserializer(type);
+            resolvedDeserializers.put(type, deserializer);
+        }
+        return (TtlvDeserializer<T>) deserializer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TtlvSerializer<T> findSerializer(Class<?> type) {
         // First try the exact type
-        TtlvSerializer<?> serializer = serializers.get(type);
+        TtlvSerializer<?> serializer = registeredSerializer(type);
         if (serializer != null) {
             return (TtlvSerializer<T>) serializer;
         }
@@ -66,7 +337,7 @@ public class TtlvMapper {
         // Then try superclasses
         Class<?> current = type.getSuperclass();
         while (current != null && current != Object.class) {
-            serializer = serializers.get(current);
+            serializer = registeredSerializer(current);
             if (serializer != null) {
                 return (TtlvSerializer<T>) serializer;
             }
@@ -75,7 +346,7 @@ public class TtlvMapper {
 
         // Then try interfaces
         for (Class<?> iface : type.getInterfaces()) {
-            serializer = serializers.get(iface);
+            serializer = registeredSerializer(iface);
             if (serializer != null) {
                 return (TtlvSerializer<T>) serializer;
             }
@@ -85,9 +356,9 @@ public class TtlvMapper {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> TtlvDeserializer<T> getDeserializer(Class<T> type) {
+    private <T> TtlvDeserializer<T> findDeserializer(Class<T> type) {
         // First try the exact type
-        TtlvDeserializer<?> deserializer = deserializers.get(type);
+        TtlvDeserializer<?> deserializer = registeredDeserializer(type);
         if (deserializer != null) {
             return (TtlvDeserializer<T>) deserializer;
         }
@@ -95,7 +366,7 @@ public class TtlvMapper {
         // Then try superclasses
         Class<?> current = type.getSuperclass();
         while (current != null && current != Object.class) {
-            deserializer = deserializers.get(current);
+            deserializer = registeredDeserializer(current);
             if (deserializer != null) {
                 return (TtlvDeserializer<T>) deserializer;
             }
@@ -104,7 +375,7 @@ public class TtlvMapper {
 
         // Then try interfaces
         for (Class<?> iface : type.getInterfaces()) {
-            deserializer = deserializers.get(iface);
+            deserializer = registeredDeserializer(iface);
             if (deserializer != null) {
                 return (TtlvDeserializer<T>) deserializer;
             }
@@ -112,4 +383,35 @@ public class TtlvMapper {
 
         throw new IllegalArgumentException("No deserializer found for type: " + type.getName());
     }
-}
\ No newline at end of file
+
+    // A serializer registered for exactly this type, created through the module lookups on first use
+    private TtlvSerializer<?> registeredSerializer(Class<?> type) {
+        TtlvSerializer<?> serializer = serializers.get(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        for (Function<Class<?>, TtlvSerializer<?>> lookup : serializerLookups) {
+            serializer = lookup.apply(type);
+            if (serializer != null) {
+                TtlvSerializer<?> existing = serializers.putIfAbsent(type, serializer);
+                return existing != null ? existing : serializer;
+            }
+        }
+        return null;
+    }
+
+    private TtlvDeserializer<?> registeredDeserializer(Class<?> type) {
+        TtlvDeserializer<?> deserializer = deserializers.get(type);
+        if (deserializer != null) {
+            return deserializer;
+        }
+        for (Function<Class<?>, TtlvDeserializer<?>> lookup : deserializerLookups) {
+            deserializer = lookup.apply(type);
+            if (deserializer != null) {
+                TtlvDeserializer<?> existing = deserializers.putIfAbsent(type, deserializer);
+                return existing != null ? existing : deserializer;
+            }
+        }
+        return null;
+    }
+}
@@ -1,12 +1,17 @@
 package org.purpleBean.kmip.codec.ttlv.mapper;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 public class TtlvModule {
 
     private final Map<Class<?>, TtlvSerializer<?>> serializers = new HashMap<>();
     private final Map<Class<?>, TtlvDeserializer<?>> deserializers = new HashMap<>();
+    private final List<Function<Class<?>, TtlvSerializer<?>>> serializerLookups = new ArrayList<>();
+    private final List<Function<Class<?>, TtlvDeserializer<?>>> deserializerLookups = new ArrayList<>();
 
     public <T> TtlvModule addSerializer(Class<T> type, TtlvSerializer<T> serializer) {
         serializers.put(type, serializer);
@@ -18,6 +23,24 @@ public class TtlvModule {
         return this;
     }
 
+    /**
+     * Adds a lookup consulted for types without a registered serializer, so serializers can be created on
+     * first use. The mapper keeps the serializer it returns; {@code null} means the lookup has none.
+     */
+    public TtlvModule addSerializerLookup(Function<Class<?>, TtlvSerializer<?>> lookup) {
+        serializerLookups.add(lookup);
+        return this;
+    }
+
+    /**
+     * Adds a lookup consulted for types without a registered deserializer, so deserializers can be created
+     * on first use. The mapper keeps the deserializer it returns; {@code null} means the lookup has none.
+     */
+    public TtlvModule addDeserializerLookup(Function<Class<?>, TtlvDeserializer<?>> lookup) {
+        deserializerLookups.add(lookup);
+        return this;
+    }
+
     Map<Class<?>, TtlvSerializer<?>> getSerializers() {
         return serializers;
     }
@@ -25,4 +48,12 @@ public class TtlvModule {
     Map<Class<?>, TtlvDeserializer<?>> getDeserializers() {
         return deserializers;
     }
+
+    List<Function<Class<?>, TtlvSerializer<?>>> getSerializerLookups() {
+        return serializerLookups;
+    }
+
+    List<Function<Class<?>, TtlvDeserializer<?>>> getDeserializerLookups() {
+        return deserializerLookups;
+    }
 }
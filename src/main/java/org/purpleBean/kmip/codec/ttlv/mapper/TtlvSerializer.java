@@ -1,5 +1,7 @@
 package org.purpleBean.kmip.codec.ttlv.mapper;
 
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
+
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -8,6 +10,19 @@ import java.nio.ByteBuffer;
 public abstract class TtlvSerializer<T> {
     public abstract ByteBuffer serialize(T value, TtlvMapper mapper) throws IOException;
 
+    /**
+     * Appends the encoding of the value to a segment list. Serializers of elements that can carry
+     * large byte strings override this to reference value buffers instead of copying them, and structure
+     * serializers override it to write their fields through {@link TtlvMapper#writeSegments}. The default
+     * encodes the value with {@link #serialize(Object, TtlvMapper)} and appends the result, which is copied
+     * into the segment scratch when it is shorter than the copy threshold and referenced otherwise.
+     */
+    public void serialize(T value, TtlvMapper mapper, TtlvSegments out) throws IOException {
+        ByteBuffer encoded = serialize(value, mapper);
+        encoded.rewind();
+        out.write(encoded);
+    }
+
 
     @SuppressWarnings("unchecked")
     public Class<T> handledType() {
@@ -5,6 +5,7 @@ import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
 import org.purpleBean.kmip.codec.ttlv.TtlvObject;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
 
 import java.io.IOException;
@@ -19,6 +20,18 @@ public class ProtocolVersionTtlvSerializer extends KmipDataTypeTtlvSerializer<Pr
         return serializeToTtlvObject(value, mapper).toByteBuffer();
     }
 
+    @Override
+    public void serialize(ProtocolVersion value, TtlvMapper mapper, TtlvSegments out) throws IOException {
+        if (!value.isSupported()) {
+            throw new UnsupportedEncodingException();
+        }
+        TtlvSegments.Structure structure = out.beginStructure(value.getKmipTag().getTagBytes(), value.getEncodingType().getTypeValue());
+        for (KmipDataType object : value.getValues()) {
+            mapper.writeSegments(object, out);
+        }
+        out.endStructure(structure);
+    }
+
     private TtlvObject serializeToTtlvObject(ProtocolVersion value, TtlvMapper mapper) throws IOException {
         KmipSpec spec = KmipContext.getSpec();
         if (!value.isSupported()) {
@@ -1,16 +1,17 @@
 package org.purpleBean.kmip.codec.ttlv.serializer.kmip.common;
 
-import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.ttlv.TtlvObject;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
 import org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer;
 import org.purpleBean.kmip.common.AttributeValue;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +21,49 @@ public class AttributeValueTtlvSerializer extends KmipDataTypeTtlvSerializer<Att
         return serializeToTtlvObject(value, mapper).toByteBuffer();
     }
 
+    @Override
+    public void serialize(AttributeValue attributeValue, TtlvMapper mapper, TtlvSegments out) throws IOException {
+        if (!attributeValue.isSupported()) {
+            throw new IOException(
+                    String.format("%s is not supported for KMIP spec %s",
+                            attributeValue.getKmipTag().getDescription(), KmipContext.getSpec())
+            );
+        }
+
+        byte[] tag = attributeValue.getKmipTag().getTagBytes();
+        byte type = attributeValue.getEncodingType().getTypeValue();
+        if (attributeValue instanceof AttributeValue.StructureValue structureValue) {
+            TtlvSegments.Structure structure = out.beginStructure(tag, type);
+            for (KmipDataType object : structureValue.getValues()) {
+                if (object != null) {
+                    mapper.writeSegments(object, out);
+                }
+            }
+            out.endStructure(structure);
+        } else if (attributeValue instanceof AttributeValue.BytesValue bytes) {
+            // Reference the byte string in place rather than copying it into the frame
+            out.writePrimitive(tag, type, bytes.getValue().duplicate().rewind());
+        } else {
+            out.writePrimitive(tag, type, encodePrimitive(attributeValue, mapper));
+        }
+    }
+
+    /**
+     * Encodes the value bytes of a primitive attribute value, straight from its typed field.
+     */
+    private static ByteBuffer encodePrimitive(AttributeValue attributeValue, TtlvMapper mapper) throws IOException {
+        return switch (attributeValue) {
+            case AttributeValue.IntValue v -> ByteBuffer.allocate(4).putInt(0, v.getInt());
+            case AttributeValue.LongValue v -> ByteBuffer.allocate(8).putLong(0, v.getLong());
+            case AttributeValue.BoolValue v -> ByteBuffer.allocate(8).putLong(0, v.getBoolean() ? 1L : 0L);
+            case AttributeValue.DateTimeValue v -> ByteBuffer.allocate(8).putLong(0, v.getEpochSecond());
+            case AttributeValue.TextValue v -> ByteBuffer.wrap(v.getValue().getBytes(StandardCharsets.UTF_8));
+            case AttributeValue.BytesValue v -> v.getValue().duplicate().rewind();
+            case AttributeValue.BigIntValue v -> mapper.writeValueAsByteBuffer(v.getValue());
+            case AttributeValue.StructureValue v -> throw new IllegalArgumentException("Structure values have no primitive encoding");
+        };
+    }
+
     private TtlvObject serializeToTtlvObject(AttributeValue attributeValue, TtlvMapper mapper) throws IOException {
         if (attributeValue == null) {
             return null;
@@ -36,8 +80,8 @@ public class AttributeValueTtlvSerializer extends KmipDataTypeTtlvSerializer<Att
         byte[] tag = attributeValue.getKmipTag().getTagBytes();
         byte type = attributeValue.getEncodingType().getTypeValue();
         byte[] payload;
-        if (attributeValue.getEncodingType() == EncodingType.STRUCTURE) {
-            List<KmipDataType> nestedValues = attributeValue.getValues();
+        if (attributeValue instanceof AttributeValue.StructureValue structureValue) {
+            List<KmipDataType> nestedValues = structureValue.getValues();
             List<ByteBuffer> nestedObjects = new ArrayList<ByteBuffer>();
             for (KmipDataType object : nestedValues) {
                 if (object != null) {
@@ -49,7 +93,9 @@ public class AttributeValueTtlvSerializer extends KmipDataTypeTtlvSerializer<Att
             nestedObjects.forEach(payloadBuffer::put);
             payload = payloadBuffer.array();
         } else {
-            payload = mapper.writeValueAsByteBuffer(attributeValue.getValue()).array();
+            ByteBuffer value = encodePrimitive(attributeValue, mapper);
+            payload = new byte[value.remaining()];
+            value.get(payload);
         }
         return TtlvObject.builder()
                 .tag(tag)
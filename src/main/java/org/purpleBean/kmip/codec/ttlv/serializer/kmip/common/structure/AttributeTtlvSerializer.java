@@ -2,6 +2,7 @@ package org.purpleBean.kmip.codec.ttlv.serializer.kmip.common.structure;
 
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.ttlv.TtlvObject;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
 import org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer;
 import org.purpleBean.kmip.common.structure.Attribute;
@@ -18,6 +19,20 @@ public class AttributeTtlvSerializer extends KmipDataTypeTtlvSerializer<Attribut
         return serializeToTtlvObject(value, mapper).toByteBuffer();
     }
 
+    @Override
+    public void serialize(Attribute value, TtlvMapper mapper, TtlvSegments out) throws IOException {
+        if (!value.isSupported()) {
+            throw new UnsupportedEncodingException(String.format("%s not supported for KMIP spec %s", value.getClass().getSimpleName(), KmipContext.getSpec()));
+        }
+        TtlvSegments.Structure structure = out.beginStructure(value.getKmipTag().getTagBytes(), value.getEncodingType().getTypeValue());
+        for (KmipDataType object : value.getValues()) {
+            if (object != null) {
+                mapper.writeSegments(object, out);
+            }
+        }
+        out.endStructure(structure);
+    }
+
     private TtlvObject serializeToTtlvObject(Attribute value, TtlvMapper mapper) throws IOException {
         KmipSpec spec = KmipContext.getSpec();
         if (!value.isSupported()) {
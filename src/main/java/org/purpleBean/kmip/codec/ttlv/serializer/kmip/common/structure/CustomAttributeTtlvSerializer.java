@@ -4,6 +4,7 @@ import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.ttlv.TtlvObject;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
 import org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer;
 import org.purpleBean.kmip.common.structure.CustomAttribute;
@@ -20,6 +21,20 @@ public class CustomAttributeTtlvSerializer extends KmipDataTypeTtlvSerializer<Cu
         return serializeToTtlvObject(value, mapper).toByteBuffer();
     }
 
+    @Override
+    public void serialize(CustomAttribute value, TtlvMapper mapper, TtlvSegments out) throws IOException {
+        if (!value.isSupported()) {
+            throw new UnsupportedEncodingException(String.format("%s not supported for KMIP spec %s", value.getClass().getSimpleName(), KmipContext.getSpec()));
+        }
+        TtlvSegments.Structure structure = out.beginStructure(value.getKmipTag().getTagBytes(), value.getEncodingType().getTypeValue());
+        for (KmipDataType object : value.getValues()) {
+            if (object != null) {
+                mapper.writeSegments(object, out);
+            }
+        }
+        out.endStructure(structure);
+    }
+
     private TtlvObject serializeToTtlvObject(CustomAttribute value, TtlvMapper mapper) throws IOException {
         KmipSpec spec = KmipContext.getSpec();
         if (!value.isSupported()) {
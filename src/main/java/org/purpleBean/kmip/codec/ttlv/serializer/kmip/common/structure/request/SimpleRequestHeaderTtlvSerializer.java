@@ -3,6 +3,7 @@ package org.purpleBean.kmip.codec.ttlv.serializer.kmip.common.structure.request;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.ttlv.TtlvObject;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
 import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
 import org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestHeader;
@@ -17,6 +18,16 @@ public class SimpleRequestHeaderTtlvSerializer extends KmipDataTypeTtlvSerialize
         return serializeToTtlvObject(value, mapper).toByteBuffer();
     }
 
+    @Override
+    public void serialize(SimpleRequestHeader value, TtlvMapper mapper, TtlvSegments out) throws IOException {
+        if (!value.isSupported()) {
+            throw new UnsupportedEncodingException();
+        }
+        TtlvSegments.Structure structure = out.beginStructure(value.getKmipTag().getTagBytes(), value.getEncodingType().getTypeValue());
+        mapper.writeSegments(value.getProtocolVersion(), out);
+        out.endStructure(structure);
+    }
+
     private TtlvObject serializeToTtlvObject(SimpleRequestHeader value, TtlvMapper mapper) throws IOException {
         KmipSpec spec = KmipContext.getSpec();
         if (!value.isSupported()) {
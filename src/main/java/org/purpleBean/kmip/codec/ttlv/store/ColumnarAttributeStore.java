@@ -0,0 +1,526 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import lombok.NonNull;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipAttribute;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+import org.purpleBean.kmip.common.AttributeValue;
+import org.purpleBean.kmip.common.structure.AttributeSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Column-oriented store of the attribute sets of many managed objects, kept in direct memory so that the heap
+ * only holds a few objects per column however many rows there are.
+ * <p>
+ * Each object is a row. Fixed-width attributes are stored as primitive columns: {@link ColumnType#INT} for
+ * Integer and Enumeration values such as State, Cryptographic Length and Cryptographic Usage Mask, and
+ * {@link ColumnType#LONG} for Long Integer and Date-Time values (seconds since the epoch) such as the dates.
+ * Each has a presence bitmap. Variable-width attributes such as Name, Object Group and Contact Information
+ * are TTLV-encoded into a shared {@link TtlvDictionary}, so equal values are stored once; a
+ * {@link ColumnType#DICTIONARY} column holds, per row, a reference to a list of (dictionary code, Attribute
+ * Index) pairs. Attributes of any other tag, custom attributes included, go to one dictionary column of their
+ * own.
+ * <p>
+ * Reads materialize {@link KmipAttribute} objects only for the attributes asked for, by decoding their TTLV
+ * form with the store's {@link TtlvMapper}. Scans run over the primitive columns and dictionary codes without
+ * materializing anything. Row numbers are never reused. Replacing or removing a row leaves its old lists behind
+ * until {@link #compact()}; dictionary entries are kept for the life of the store. Not thread-safe.
+ */
+public final class ColumnarAttributeStore {
+
+    /**
+     * The columns used by {@link #ColumnarAttributeStore(TtlvMapper)}
+     */
+    public static final Map<KmipTag.Value, ColumnType> DEFAULT_COLUMNS = Map.of(
+            KmipTag.Standard.STATE, ColumnType.INT,
+            KmipTag.Standard.CRYPTOGRAPHIC_LENGTH, ColumnType.INT,
+            KmipTag.Standard.CRYPTOGRAPHIC_USAGE_MASK, ColumnType.INT,
+            KmipTag.Standard.ACTIVATION_DATE, ColumnType.LONG,
+            KmipTag.Standard.ARCHIVE_DATE, ColumnType.LONG,
+            KmipTag.Standard.DESTROY_DATE, ColumnType.LONG,
+            KmipTag.Standard.LAST_CHANGE_DATE, ColumnType.LONG,
+            KmipTag.Standard.NAME, ColumnType.DICTIONARY,
+            KmipTag.Standard.OBJECT_GROUP, ColumnType.DICTIONARY,
+            KmipTag.Standard.CONTACT_INFORMATION, ColumnType.DICTIONARY
+    );
+
+    public enum ColumnType {
+        INT,
+        LONG,
+        DICTIONARY
+    }
+
+    private final TtlvMapper mapper;
+    private final Map<Integer, Column> columns = new HashMap<>();
+    private final List<Column> columnOrder = new ArrayList<>();
+    private final ListColumn others = new ListColumn();
+    private final TtlvDictionary dictionary = new TtlvDictionary();
+    private final List<Class<? extends KmipAttribute>> classes = new ArrayList<>();
+    private final Map<Class<? extends KmipAttribute>, Integer> classIds = new HashMap<>();
+    private final DirectArray live = new DirectArray();
+    private DirectArray lists = new DirectArray();
+    private long listEnd;
+    private long listGarbage;
+    private int rowCount;
+    private int size;
+
+    public ColumnarAttributeStore(@NonNull TtlvMapper mapper) {
+        this(mapper, DEFAULT_COLUMNS);
+    }
+
+    /**
+     * @param columnTypes the column type of each tag with a column of its own
+     */
+    public ColumnarAttributeStore(@NonNull TtlvMapper mapper, @NonNull Map<? extends KmipTag.Value, ColumnType> columnTypes) {
+        this.mapper = mapper;
+        for (Map.Entry<? extends KmipTag.Value, ColumnType> entry : columnTypes.entrySet()) {
+            KmipTag.Value tag = entry.getKey();
+            if (tag.getValue() == KmipTag.Standard.ATTRIBUTE.getValue()) {
+                throw new IllegalArgumentException("Custom attributes cannot have a column of their own");
+            }
+            Column column = switch (entry.getValue()) {
+                case INT -> new FixedColumn(tag, false);
+                case LONG -> new FixedColumn(tag, true);
+                case DICTIONARY -> new ListColumn();
+            };
+            columns.put(tag.getValue(), column);
+            columnOrder.add(column);
+        }
+        columnOrder.add(others);
+    }
+
+    /**
+     * @return the number of rows that have not been removed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of rows ever added, which bounds the row numbers
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public boolean contains(int row) {
+        return row >= 0 && row < rowCount && live.getBit(row);
+    }
+
+    /**
+     * @return the number of distinct variable-width values stored
+     */
+    public int dictionarySize() {
+        return dictionary.size();
+    }
+
+    /**
+     * @return the number of bytes of direct memory allocated
+     */
+    public long offHeapBytes() {
+        long bytes = live.allocatedBytes() + lists.allocatedBytes() + dictionary.allocatedBytes() + others.refs.allocatedBytes();
+        for (Column column : columns.values()) {
+            bytes += column.allocatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Adds the attributes as a new row.
+     *
+     * @return the row number
+     * @throws IllegalArgumentException if an attribute does not fit its column, see {@link #set(int, AttributeSet)}
+     */
+    public int add(@NonNull AttributeSet attributes) throws IOException {
+        List<Cell> cells = prepare(attributes);
+        int row = rowCount++;
+        live.setBit(row, true);
+        size++;
+        write(row, cells);
+        return row;
+    }
+
+    /**
+     * Replaces the attributes of a row.
+     *
+     * @throws IllegalArgumentException if the row does not exist, or an attribute of a fixed-width column has an
+     *                                  index other than 0, a value the column cannot hold, or a different class
+     *                                  than earlier values of the column; the row is left unchanged
+     */
+    public void set(int row, @NonNull AttributeSet attributes) throws IOException {
+        requireRow(row);
+        List<Cell> cells = prepare(attributes);
+        clear(row);
+        write(row, cells);
+    }
+
+    /**
+     * @return whether the row existed
+     */
+    public boolean remove(int row) {
+        if (!contains(row)) {
+            return false;
+        }
+        clear(row);
+        live.setBit(row, false);
+        size--;
+        return true;
+    }
+
+    /**
+     * @return the attribute with the tag, or its instance with index 0; {@code null} if absent
+     */
+    public KmipAttribute get(int row, @NonNull KmipTag.Value tag) throws IOException {
+        return get(row, tag, 0);
+    }
+
+    /**
+     * Materializes one attribute of a row. Custom attributes share a tag, so read them through
+     * {@link #getAttributes(int)}.
+     *
+     * @return the instance with the tag and index, or {@code null} if absent or the row does not exist
+     */
+    public KmipAttribute get(int row, @NonNull KmipTag.Value tag, int index) throws IOException {
+        if (!contains(row)) {
+            return null;
+        }
+        Column column = columns.get(tag.getValue());
+        if (column instanceof FixedColumn fixed) {
+            return index == 0 && fixed.present.getBit(row) ? fixed.materialize(row, mapper) : null;
+        }
+        ListColumn list = column != null ? (ListColumn) column : others;
+        long start = list.refs.getLong(row) - 1;
+        if (start < 0) {
+            return null;
+        }
+        int count = lists.getInt(start);
+        for (int i = 0; i < count; i++) {
+            int code = lists.getInt(start + 1 + 2L * i);
+            if (lists.getInt(start + 2 + 2L * i) == index && (column != null || tagOf(code) == tag.getValue())) {
+                return materialize(code);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Materializes every attribute of a row, column by column.
+     *
+     * @return the attributes with their Attribute Index, or {@code null} if the row does not exist
+     */
+    public AttributeSet getAttributes(int row) throws IOException {
+        if (!contains(row)) {
+            return null;
+        }
+        AttributeSet attributes = new AttributeSet();
+        for (Column column : columnOrder) {
+            if (column instanceof FixedColumn fixed) {
+                if (fixed.present.getBit(row)) {
+                    attributes.set(fixed.materialize(row, mapper));
+                }
+                continue;
+            }
+            long start = ((ListColumn) column).refs.getLong(row) - 1;
+            if (start < 0) {
+                continue;
+            }
+            int count = lists.getInt(start);
+            for (int i = 0; i < count; i++) {
+                attributes.set(materialize(lists.getInt(start + 1 + 2L * i)), lists.getInt(start + 2 + 2L * i));
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Scans an {@link ColumnType#INT} column without materializing attributes.
+     *
+     * @return the rows that have the attribute and whose value matches
+     * @throws IllegalArgumentException if the tag has no INT column
+     */
+    public BitSet scanInt(@NonNull KmipTag.Value tag, @NonNull IntPredicate predicate) {
+        FixedColumn column = fixedColumn(tag, false);
+        return scan(column, row -> predicate.test(column.values.getInt(row)));
+    }
+
+    /**
+     * Scans a {@link ColumnType#LONG} column without materializing attributes. Date-Time values are seconds
+     * since the epoch.
+     *
+     * @return the rows that have the attribute and whose value matches
+     * @throws IllegalArgumentException if the tag has no LONG column
+     */
+    public BitSet scanLong(@NonNull KmipTag.Value tag, @NonNull LongPredicate predicate) {
+        FixedColumn column = fixedColumn(tag, true);
+        return scan(column, row -> predicate.test(column.values.getLong(row)));
+    }
+
+    /**
+     * Finds the rows holding an instance equal to the attribute, comparing primitives or dictionary codes.
+     *
+     * @throws IllegalArgumentException if the attribute has a fixed-width column that cannot hold its value
+     */
+    public BitSet scanEquals(@NonNull KmipAttribute attribute) throws IOException {
+        Column column = columns.get(attribute.getKmipTag().getValue().getValue());
+        if (column instanceof FixedColumn fixed) {
+            long value = fixed.primitive(attribute.getAttributeValue());
+            return fixed.isLong
+                    ? scan(fixed, row -> fixed.values.getLong(row) == value)
+                    : scan(fixed, row -> fixed.values.getInt(row) == value);
+        }
+        ListColumn list = column != null ? (ListColumn) column : others;
+        BitSet rows = new BitSet();
+        Integer classId = classIds.get(attribute.getClass());
+        int code = classId != null ? dictionary.find(classId, mapper.writeValueAsByteBuffer(attribute)) : -1;
+        if (code < 0) {
+            return rows;
+        }
+        for (int row = 0; row < rowCount; row++) {
+            long start = list.refs.getLong(row) - 1;
+            if (start < 0) {
+                continue;
+            }
+            int count = lists.getInt(start);
+            for (int i = 0; i < count; i++) {
+                if (lists.getInt(start + 1 + 2L * i) == code) {
+                    rows.set(row);
+                    break;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Rewrites the lists of every row, dropping those left behind by replaced and removed rows.
+     */
+    public void compact() {
+        if (listGarbage == 0) {
+            return;
+        }
+        DirectArray compacted = new DirectArray();
+        long end = 0;
+        for (Column column : columnOrder) {
+            if (!(column instanceof ListColumn list)) {
+                continue;
+            }
+            for (int row = 0; row < rowCount; row++) {
+                long start = list.refs.getLong(row) - 1;
+                if (start < 0) {
+                    continue;
+                }
+                int length = 1 + 2 * lists.getInt(start);
+                for (int i = 0; i < length; i++) {
+                    compacted.setInt(end + i, lists.getInt(start + i));
+                }
+                list.refs.setLong(row, end + 1);
+                end += length;
+            }
+        }
+        lists = compacted;
+        listEnd = end;
+        listGarbage = 0;
+    }
+
+    private BitSet scan(FixedColumn column, IntPredicate test) {
+        BitSet rows = new BitSet();
+        // Visit the rows present in both bitmaps 64 at a time
+        for (int word = 0; word << 6 < rowCount; word++) {
+            long bits = column.present.getLong(word) & live.getLong(word);
+            while (bits != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (test.test(row)) {
+                    rows.set(row);
+                }
+                bits &= bits - 1;
+            }
+        }
+        return rows;
+    }
+
+    private List<Cell> prepare(AttributeSet attributes) throws IOException {
+        List<KmipAttribute> instances = new ArrayList<>(attributes.size());
+        List<Integer> indexes = new ArrayList<>(attributes.size());
+        attributes.forEachIndexed((attribute, index) -> {
+            instances.add(attribute);
+            indexes.add(index);
+        });
+        List<Cell> cells = new ArrayList<>(instances.size());
+        for (int i = 0; i < instances.size(); i++) {
+            KmipAttribute attribute = instances.get(i);
+            int index = indexes.get(i);
+            Column column = columns.get(attribute.getKmipTag().getValue().getValue());
+            if (column instanceof FixedColumn fixed) {
+                fixed.check(attribute, index);
+                cells.add(new Cell(fixed, attribute, index, fixed.primitive(attribute.getAttributeValue()), -1));
+            } else {
+                ByteBuffer encoded = mapper.writeValueAsByteBuffer(attribute);
+                int code = dictionary.intern(classId(attribute.getClass()), encoded);
+                cells.add(new Cell(column != null ? column : others, attribute, index, 0, code));
+            }
+        }
+        return cells;
+    }
+
+    private void write(int row, List<Cell> cells) {
+        Map<ListColumn, List<Cell>> listCells = new LinkedHashMap<>();
+        for (Cell cell : cells) {
+            if (cell.column() instanceof FixedColumn fixed) {
+                fixed.write(row, cell.attribute(), cell.primitive());
+            } else {
+                listCells.computeIfAbsent((ListColumn) cell.column(), c -> new ArrayList<>()).add(cell);
+            }
+        }
+        for (Map.Entry<ListColumn, List<Cell>> entry : listCells.entrySet()) {
+            long start = listEnd;
+            List<Cell> entries = entry.getValue();
+            lists.setInt(start, entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                lists.setInt(start + 1 + 2L * i, entries.get(i).code());
+                lists.setInt(start + 2 + 2L * i, entries.get(i).index());
+            }
+            listEnd += 1 + 2L * entries.size();
+            entry.getKey().refs.setLong(row, start + 1);
+        }
+    }
+
+    private void clear(int row) {
+        for (Column column : columnOrder) {
+            if (column instanceof FixedColumn fixed) {
+                fixed.present.setBit(row, false);
+            } else if (column instanceof ListColumn list) {
+                long start = list.refs.getLong(row) - 1;
+                if (start >= 0) {
+                    listGarbage += 1 + 2L * lists.getInt(start);
+                    list.refs.setLong(row, 0);
+                }
+            }
+        }
+    }
+
+    private void requireRow(int row) {
+        if (!contains(row)) {
+            throw new IllegalArgumentException("No row " + row);
+        }
+    }
+
+    private FixedColumn fixedColumn(KmipTag.Value tag, boolean isLong) {
+        if (columns.get(tag.getValue()) instanceof FixedColumn fixed && fixed.isLong == isLong) {
+            return fixed;
+        }
+        throw new IllegalArgumentException("No " + (isLong ? "LONG" : "INT") + " column for " + tag.getDescription());
+    }
+
+    private int classId(Class<? extends KmipAttribute> type) {
+        return classIds.computeIfAbsent(type, t -> {
+            classes.add(t);
+            return classes.size() - 1;
+        });
+    }
+
+    private int tagOf(int code) {
+        ByteBuffer value = dictionary.value(code);
+        return (value.get(0) & 0xFF) << 16 | (value.get(1) & 0xFF) << 8 | (value.get(2) & 0xFF);
+    }
+
+    private KmipAttribute materialize(int code) throws IOException {
+        return mapper.readValue(dictionary.value(code), classes.get(dictionary.classId(code)));
+    }
+
+    private record Cell(Column column, KmipAttribute attribute, int index, long primitive, int code) {
+    }
+
+    private abstract static sealed class Column permits FixedColumn, ListColumn {
+        abstract long allocatedBytes();
+    }
+
+    private static final class FixedColumn extends Column {
+        private final KmipTag.Value tag;
+        private final byte[] tagBytes;
+        private final boolean isLong;
+        private final DirectArray values = new DirectArray();
+        private final DirectArray present = new DirectArray();
+        // Class and encoding type of the first value, used to decode every value of the column
+        private Class<? extends KmipAttribute> type;
+        private EncodingType encodingType;
+
+        private FixedColumn(KmipTag.Value tag, boolean isLong) {
+            this.tag = tag;
+            this.tagBytes = new KmipTag(tag).getTagBytes();
+            this.isLong = isLong;
+        }
+
+        private void check(KmipAttribute attribute, int index) {
+            if (index != 0) {
+                throw new IllegalArgumentException(tag.getDescription() + " has a fixed-width column and cannot have index " + index);
+            }
+            if (type != null && (type != attribute.getClass() || encodingType != attribute.getEncodingType())) {
+                throw new IllegalArgumentException(tag.getDescription() + " column holds " + type.getSimpleName()
+                        + " values, not " + attribute.getClass().getSimpleName());
+            }
+        }
+
+        private long primitive(AttributeValue value) {
+            if (isLong) {
+                return switch (value) {
+                    case AttributeValue.DateTimeValue dateTime -> dateTime.getEpochSecond();
+                    case AttributeValue.LongValue longValue -> longValue.getLong();
+                    default -> throw new IllegalArgumentException(tag.getDescription() + " column needs a Long Integer or Date-Time value");
+                };
+            }
+            if (value instanceof AttributeValue.IntValue intValue) {
+                return intValue.getInt();
+            }
+            throw new IllegalArgumentException(tag.getDescription() + " column needs an Integer or Enumeration value");
+        }
+
+        private void write(int row, KmipAttribute attribute, long primitive) {
+            if (type == null) {
+                type = attribute.getClass();
+                encodingType = attribute.getEncodingType();
+            }
+            if (isLong) {
+                values.setLong(row, primitive);
+            } else {
+                values.setInt(row, (int) primitive);
+            }
+            present.setBit(row, true);
+        }
+
+        /**
+         * Rebuilds the TTLV form of the value and decodes it with the column's class.
+         */
+        private KmipAttribute materialize(int row, TtlvMapper mapper) throws IOException {
+            ByteBuffer ttlv = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + Long.BYTES).order(TtlvConstants.BYTE_ORDER);
+            ttlv.put(tagBytes).put(encodingType.getTypeValue());
+            if (isLong) {
+                ttlv.putInt(Long.BYTES).putLong(values.getLong(row));
+            } else {
+                ttlv.putInt(Integer.BYTES).putInt(values.getInt(row)).putInt(0);
+            }
+            return mapper.readValue(ttlv.flip(), type);
+        }
+
+        @Override
+        long allocatedBytes() {
+            return values.allocatedBytes() + present.allocatedBytes();
+        }
+    }
+
+    private static final class ListColumn extends Column {
+        // List offset + 1 of each row, 0 marking a row without instances
+        private final DirectArray refs = new DirectArray();
+
+        @Override
+        long allocatedBytes() {
+            return refs.allocatedBytes();
+        }
+    }
+}
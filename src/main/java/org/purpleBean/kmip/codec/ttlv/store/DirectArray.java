@@ -0,0 +1,82 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Growable array of {@code int} or {@code long} elements in direct memory; an array holds one or the other.
+ * <p>
+ * Elements live in fixed-size direct chunks allocated on first write, so growing never copies and unwritten
+ * elements read as zero. Chunks use the native byte order since they are never written out as is.
+ */
+final class DirectArray {
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+
+    int getInt(long index) {
+        long offset = index * Integer.BYTES;
+        ByteBuffer chunk = chunk(offset);
+        return chunk != null ? chunk.getInt((int) (offset & CHUNK_MASK)) : 0;
+    }
+
+    void setInt(long index, int value) {
+        long offset = index * Integer.BYTES;
+        allocate(offset).putInt((int) (offset & CHUNK_MASK), value);
+    }
+
+    long getLong(long index) {
+        long offset = index * Long.BYTES;
+        ByteBuffer chunk = chunk(offset);
+        return chunk != null ? chunk.getLong((int) (offset & CHUNK_MASK)) : 0L;
+    }
+
+    void setLong(long index, long value) {
+        long offset = index * Long.BYTES;
+        allocate(offset).putLong((int) (offset & CHUNK_MASK), value);
+    }
+
+    /**
+     * Reads a bit of an array of longs used as a bitmap.
+     */
+    boolean getBit(long bit) {
+        return (getLong(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    void setBit(long bit, boolean value) {
+        long word = getLong(bit >>> 6);
+        setLong(bit >>> 6, value ? word | (1L << bit) : word & ~(1L << bit));
+    }
+
+    /**
+     * @return the number of bytes of direct memory allocated
+     */
+    long allocatedBytes() {
+        long bytes = 0;
+        for (ByteBuffer chunk : chunks) {
+            if (chunk != null) {
+                bytes += chunk.capacity();
+            }
+        }
+        return bytes;
+    }
+
+    private ByteBuffer chunk(long offset) {
+        long chunk = offset >>> CHUNK_SHIFT;
+        return chunk < chunks.length ? chunks[(int) chunk] : null;
+    }
+
+    private ByteBuffer allocate(long offset) {
+        int chunk = Math.toIntExact(offset >>> CHUNK_SHIFT);
+        if (chunk >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.nativeOrder());
+        }
+        return chunks[chunk];
+    }
+}
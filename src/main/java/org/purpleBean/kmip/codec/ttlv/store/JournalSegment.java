@@ -0,0 +1,278 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.codec.ttlv.TtlvConstants;
+import org.purpleBean.kmip.codec.ttlv.TtlvFrameSpliterator;
+import org.purpleBean.kmip.common.UniqueIdentifier;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * One append-only journal file and its sidecar offset index.
+ * <p>
+ * A record is two consecutive top-level TTLV frames: a Unique Identifier text string frame holding the key,
+ * followed by the encoded value. The sidecar index is only written once the segment is sealed, and records
+ * the segment length it describes so a stale or partial index is detected and rebuilt by scanning.
+ */
+final class JournalSegment {
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+    static final String TEMP_SUFFIX = ".compact";
+
+    private static final int INDEX_MAGIC = 0x54494458;
+    private static final byte[] KEY_TAG = UniqueIdentifier.kmipTag.getTagBytes();
+
+    private final long id;
+    private final FileChannel channel;
+    private Path path;
+    private volatile long size;
+    private volatile MappedByteBuffer mapping;
+
+    private JournalSegment(long id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static JournalSegment open(Path directory, long id, String suffix) throws IOException {
+        Path path = directory.resolve(fileName(id, suffix));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(id, path, channel, channel.size());
+    }
+
+    static String fileName(long id, String suffix) {
+        return String.format("%020d%s", id, suffix);
+    }
+
+    static long parseId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    /**
+     * Encodes a record key as a Unique Identifier text string frame.
+     */
+    static ByteBuffer encodeKey(String key) {
+        byte[] value = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(TtlvConstants.calculateMinimumSize(value.length)).order(TtlvConstants.BYTE_ORDER);
+        frame.put(KEY_TAG).put(EncodingType.TEXT_STRING.getTypeValue()).putInt(value.length).put(value);
+        return frame.rewind();
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Appends one record and returns the position of its value frame.
+     */
+    long append(ByteBuffer key, ByteBuffer value) throws IOException {
+        long valuePosition = size + key.remaining();
+        long end = size + key.remaining() + value.remaining();
+        ByteBuffer[] record = {key, value};
+        channel.position(size);
+        while (record[1].hasRemaining()) {
+            channel.write(record);
+        }
+        size = end;
+        return valuePosition;
+    }
+
+    /**
+     * Copies the raw bytes of a record from another segment, returning the new position of its value frame.
+     */
+    long copyRecord(JournalSegment source, long keyPosition, long valuePosition, int valueLength) throws IOException {
+        ByteBuffer key = source.slice(keyPosition, (int) (valuePosition - keyPosition));
+        return append(key, source.slice(valuePosition, valueLength));
+    }
+
+    /**
+     * Returns a zero-copy view of the given region, remapping the segment if it has grown past the mapping.
+     */
+    ByteBuffer slice(long position, int length) throws IOException {
+        MappedByteBuffer current = mapping;
+        if (current == null || position + length > current.limit()) {
+            current = remap();
+        }
+        return current.slice((int) position, length).order(TtlvConstants.BYTE_ORDER);
+    }
+
+    /**
+     * Maps the whole segment, so views of it keep working once it is closed. Called on sealed segments, which
+     * no longer grow, before compaction closes them.
+     */
+    void map() throws IOException {
+        remap();
+    }
+
+    private synchronized MappedByteBuffer remap() throws IOException {
+        if (mapping == null || mapping.limit() < size) {
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Journal segment too large to map: " + path);
+            }
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return mapping;
+    }
+
+    /**
+     * Walks every complete record, reporting the key and a location for each. A torn or foreign trailing
+     * region is cut off so the next append starts on a record boundary.
+     *
+     * @return whether the segment had to be truncated
+     */
+    boolean recover(BiConsumer<String, Location> visitor) throws IOException {
+        long fileSize = channel.size();
+        size = fileSize;
+        if (fileSize == 0) {
+            return false;
+        }
+        ByteBuffer buffer = slice(0, (int) fileSize);
+        int position = 0;
+        while (true) {
+            int keyLength = completeFrame(buffer, position);
+            if (keyLength == 0 || !isKeyFrame(buffer, position)) {
+                break;
+            }
+            int valueLength = completeFrame(buffer, position + keyLength);
+            if (valueLength == 0) {
+                break;
+            }
+            String key = decodeKey(buffer, position);
+            visitor.accept(key, new Location(this, position, position + keyLength, valueLength));
+            position += keyLength + valueLength;
+        }
+        if (position == fileSize) {
+            return false;
+        }
+        channel.truncate(position);
+        channel.force(true);
+        size = position;
+        mapping = null;
+        return true;
+    }
+
+    /**
+     * Writes the sidecar index for the sealed segment, replacing any previous one.
+     */
+    void writeIndex(Path indexPath, Map<String, Location> entries) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexPath)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeLong(size);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Location> entry : entries.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                Location location = entry.getValue();
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeLong(location.keyPosition());
+                out.writeInt((int) (location.valuePosition() - location.keyPosition()));
+                out.writeInt(location.valueLength());
+            }
+        }
+    }
+
+    /**
+     * Loads the sidecar index if it exists and describes this segment's current length.
+     * Entries are only reported once the whole index has been read successfully.
+     *
+     * @return whether a valid index was loaded; if not, the segment must be scanned with {@link #recover}
+     */
+    boolean readIndex(Path indexPath, BiConsumer<String, Location> visitor) throws IOException {
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+        long fileSize = channel.size();
+        Map<String, Location> entries = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readLong() != fileSize) {
+                return false;
+            }
+            for (int count = in.readInt(); count > 0; count--) {
+                String key = new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+                long keyPosition = in.readLong();
+                int keyFrameLength = in.readInt();
+                int valueLength = in.readInt();
+                if (keyPosition + keyFrameLength + valueLength > fileSize) {
+                    return false;
+                }
+                entries.put(key, new Location(this, keyPosition, keyPosition + keyFrameLength, valueLength));
+            }
+        } catch (EOFException e) {
+            return false;
+        }
+        size = fileSize;
+        entries.forEach(visitor);
+        return true;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    void moveTo(Path target) throws IOException {
+        Files.move(path, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        path = target;
+    }
+
+    /**
+     * Closes the file. Regions already mapped stay readable until they are garbage collected.
+     */
+    void close() throws IOException {
+        channel.close();
+    }
+
+    private static int completeFrame(ByteBuffer buffer, int position) {
+        if (buffer.limit() - position < TtlvConstants.HEADER_SIZE) {
+            return 0;
+        }
+        long frameLength = TtlvFrameSpliterator.declaredFrameLength(buffer, position);
+        return frameLength > buffer.limit() - position ? 0 : (int) frameLength;
+    }
+
+    private static boolean isKeyFrame(ByteBuffer buffer, int position) {
+        return buffer.get(position) == KEY_TAG[0]
+                && buffer.get(position + 1) == KEY_TAG[1]
+                && buffer.get(position + 2) == KEY_TAG[2]
+                && buffer.get(position + TtlvConstants.TAG_SIZE) == EncodingType.TEXT_STRING.getTypeValue();
+    }
+
+    private static String decodeKey(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position + TtlvConstants.TAG_SIZE + TtlvConstants.TYPE_SIZE);
+        byte[] key = new byte[length];
+        buffer.get(position + TtlvConstants.HEADER_SIZE, key);
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Where a record lives. Holds the segment itself so readers holding a location keep working while
+     * compaction replaces the segment's file.
+     */
+    record Location(JournalSegment segment, long keyPosition, long valuePosition, int valueLength) {
+    }
+}
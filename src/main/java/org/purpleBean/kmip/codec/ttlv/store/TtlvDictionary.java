@@ -0,0 +1,141 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Dictionary of distinct TTLV-encoded values in direct memory, each identified by a dense code.
+ * <p>
+ * Entries are appended to a heap of direct chunks as {@code [class id][length][TTLV bytes]}, where the class id
+ * is an opaque number chosen by the caller to decode the bytes with. An entry never spans chunks, so one larger
+ * than a chunk gets a chunk of its own; chunks are never moved, and the heap is not limited to one buffer. An open-addressing table of codes, hashed on the
+ * class id and bytes, finds an existing entry so equal values are stored once. Entries are never removed.
+ */
+final class TtlvDictionary {
+    private static final int HEAP_CHUNK_SIZE = 1 << 20;
+    private static final int INITIAL_TABLE_CAPACITY = 1024;
+    private static final int ENTRY_HEADER_SIZE = 2 * Integer.BYTES;
+
+    // Location of each entry: the chunk number in the high half and the offset within the chunk in the low half
+    private final DirectArray locations = new DirectArray();
+    private final DirectArray hashes = new DirectArray();
+    private ByteBuffer[] heap = new ByteBuffer[4];
+    private int heapChunks;
+    // Code + 1 of each slot, 0 marking a free slot
+    private DirectArray table = new DirectArray();
+    private int tableCapacity = INITIAL_TABLE_CAPACITY;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the code of the value, adding it if absent; the bytes are read from the buffer's position to its
+     * limit without moving them
+     */
+    int intern(int classId, ByteBuffer value) {
+        int hash = hash(classId, value);
+        int slot = find(classId, value, hash);
+        int existing = table.getInt(slot) - 1;
+        if (existing >= 0) {
+            return existing;
+        }
+        int code = size++;
+        locations.setLong(code, append(classId, value));
+        hashes.setInt(code, hash);
+        table.setInt(slot, code + 1);
+        if (size * 2 > tableCapacity) {
+            rehash(tableCapacity * 2);
+        }
+        return code;
+    }
+
+    /**
+     * @return the code of the value, or -1 if it was never interned
+     */
+    int find(int classId, ByteBuffer value) {
+        return table.getInt(find(classId, value, hash(classId, value))) - 1;
+    }
+
+    int classId(int code) {
+        long location = locations.getLong(code);
+        return heap[(int) (location >>> 32)].getInt((int) location);
+    }
+
+    /**
+     * @return a read-only view of the TTLV bytes of the entry
+     */
+    ByteBuffer value(int code) {
+        long location = locations.getLong(code);
+        ByteBuffer chunk = heap[(int) (location >>> 32)];
+        int offset = (int) location;
+        int length = chunk.getInt(offset + Integer.BYTES);
+        return chunk.slice(offset + ENTRY_HEADER_SIZE, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return the number of bytes of direct memory allocated
+     */
+    long allocatedBytes() {
+        long bytes = locations.allocatedBytes() + hashes.allocatedBytes() + table.allocatedBytes();
+        for (int chunk = 0; chunk < heapChunks; chunk++) {
+            bytes += heap[chunk].capacity();
+        }
+        return bytes;
+    }
+
+    private int find(int classId, ByteBuffer value, int hash) {
+        int mask = tableCapacity - 1;
+        int slot = hash & mask;
+        for (int entry = table.getInt(slot); entry != 0; entry = table.getInt(slot)) {
+            int code = entry - 1;
+            if (hashes.getInt(code) == hash && classId(code) == classId && value(code).equals(value)) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @return the location of the new entry
+     */
+    private long append(int classId, ByteBuffer value) {
+        int length = value.remaining();
+        if (length > Integer.MAX_VALUE - ENTRY_HEADER_SIZE) {
+            throw new IllegalArgumentException("Value of " + length + " bytes is too large for the dictionary");
+        }
+        int entrySize = ENTRY_HEADER_SIZE + length;
+        ByteBuffer chunk = heapChunks > 0 ? heap[heapChunks - 1] : null;
+        if (chunk == null || chunk.remaining() < entrySize) {
+            chunk = ByteBuffer.allocateDirect(Math.max(HEAP_CHUNK_SIZE, entrySize));
+            if (heapChunks == heap.length) {
+                heap = Arrays.copyOf(heap, heapChunks * 2);
+            }
+            heap[heapChunks++] = chunk;
+        }
+        int offset = chunk.position();
+        chunk.putInt(classId).putInt(length).put(value.duplicate());
+        return ((long) (heapChunks - 1) << 32) | offset;
+    }
+
+    private void rehash(int capacity) {
+        DirectArray rehashed = new DirectArray();
+        int mask = capacity - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = hashes.getInt(code) & mask;
+            while (rehashed.getInt(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rehashed.setInt(slot, code + 1);
+        }
+        table = rehashed;
+        tableCapacity = capacity;
+    }
+
+    private static int hash(int classId, ByteBuffer value) {
+        int h = (31 * value.hashCode() + classId) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,467 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import lombok.NonNull;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+import org.purpleBean.kmip.common.UniqueIdentifier;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, segmented journal of TTLV-encoded {@link KmipDataType} records keyed by {@link UniqueIdentifier}.
+ * <p>
+ * Values are written with the journal's {@link TtlvMapper} straight to the active segment file and read back
+ * through memory-mapped, zero-copy slices. The latest record for a key wins. When the active segment reaches
+ * the configured size it is sealed: forced to disk and given a sidecar offset index so reopening does not
+ * have to scan it. Once enough sealed segments accumulate, a background thread compacts them, keeping only the
+ * records that are still live.
+ * <p>
+ * Compaction is size-tiered: a segment's tier grows by one for every factor of the compaction threshold its
+ * size exceeds the segment size by, and a compaction merges the newest run of sealed segments sharing a tier,
+ * up to the maximum compacted size. Older, larger segments are only rewritten once enough newer data has built
+ * up in their tier, so each record is copied a logarithmic number of times, and no segment outgrows what can be
+ * memory-mapped.
+ * <p>
+ * On open, the active segment is scanned and truncated to its last complete record, so a crash mid-append
+ * loses at most the torn record. Appends are only durable after {@link #flush()}, a segment roll, or
+ * {@link #close()}. Appends are serialized; reads are lock-free and may run concurrently with appends and
+ * compaction. A compaction maps its source segments whole before it swaps the index and closes them, so a
+ * reader that looked a record up before the swap still reads it from the retired segment. A failed background
+ * compaction is reported by the next {@link #append} or {@link #roll()}.
+ */
+public final class TtlvJournal implements Closeable {
+    /**
+     * Default size at which the active segment is sealed and a new one started
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    /**
+     * Default number of sealed segments that triggers a background compaction
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 4;
+    /**
+     * Default size a compaction may grow a segment to; the largest a segment can be memory-mapped at
+     */
+    public static final long DEFAULT_MAX_COMPACTED_SIZE = Integer.MAX_VALUE;
+
+    private final Path directory;
+    private final TtlvMapper mapper;
+    private final long segmentSize;
+    private final int compactionThreshold;
+    private final long maxCompactedSize;
+    private final Map<String, JournalSegment.Location> index = new ConcurrentHashMap<>();
+    private final List<JournalSegment> sealed = new ArrayList<>();
+    private final ExecutorService compactor;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final Object compactionLock = new Object();
+    private volatile Exception compactionFailure;
+    private JournalSegment active;
+    private boolean closed;
+
+    private TtlvJournal(Path directory, TtlvMapper mapper, long segmentSize, int compactionThreshold, long maxCompactedSize) {
+        this.directory = directory;
+        this.mapper = mapper;
+        this.segmentSize = segmentSize;
+        this.compactionThreshold = compactionThreshold;
+        this.maxCompactedSize = maxCompactedSize;
+        this.compactor = compactionThreshold > 0
+                ? Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "ttlv-journal-compactor");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    public static TtlvJournal open(@NonNull Path directory, @NonNull TtlvMapper mapper) throws IOException {
+        return open(directory, mapper, DEFAULT_SEGMENT_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens or creates a journal, recovering its index from the segments on disk.
+     *
+     * @param directory           directory holding the segment and index files
+     * @param mapper              mapper used to encode and decode values
+     * @param segmentSize         size at which the active segment is sealed
+     * @param compactionThreshold number of sealed segments that triggers background compaction; 0 disables it
+     */
+    public static TtlvJournal open(@NonNull Path directory, @NonNull TtlvMapper mapper, long segmentSize, int compactionThreshold) throws IOException {
+        return open(directory, mapper, segmentSize, compactionThreshold, DEFAULT_MAX_COMPACTED_SIZE);
+    }
+
+    /**
+     * Opens or creates a journal, recovering its index from the segments on disk.
+     *
+     * @param directory           directory holding the segment and index files
+     * @param mapper              mapper used to encode and decode values
+     * @param segmentSize         size at which the active segment is sealed
+     * @param compactionThreshold number of sealed segments that triggers background compaction; 0 disables it
+     * @param maxCompactedSize    largest segment a compaction may write, from the segment size up to
+     *                            {@link #DEFAULT_MAX_COMPACTED_SIZE}
+     */
+    public static TtlvJournal open(@NonNull Path directory, @NonNull TtlvMapper mapper, long segmentSize,
+                                   int compactionThreshold, long maxCompactedSize) throws IOException {
+        if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize must be between 1 and " + Integer.MAX_VALUE);
+        }
+        if (compactionThreshold < 0 || compactionThreshold == 1) {
+            throw new IllegalArgumentException("compactionThreshold must be 0 (disabled) or at least 2");
+        }
+        if (maxCompactedSize < segmentSize || maxCompactedSize > DEFAULT_MAX_COMPACTED_SIZE) {
+            throw new IllegalArgumentException("maxCompactedSize must be between segmentSize and " + DEFAULT_MAX_COMPACTED_SIZE);
+        }
+        Files.createDirectories(directory);
+        TtlvJournal journal = new TtlvJournal(directory, mapper, segmentSize, compactionThreshold, maxCompactedSize);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * Appends a record for the given identifier, superseding any earlier record.
+     *
+     * @throws IOException if the journal is closed, the record cannot be written, or the last background
+     *                     compaction failed; that failure is reported once and nothing is appended
+     */
+    public synchronized <T extends KmipDataType> void append(@NonNull UniqueIdentifier id, @NonNull T value) throws IOException {
+        ensureOpen();
+        reportCompactionFailure();
+        ByteBuffer encoded = mapper.writeValueAsByteBuffer(value);
+        ByteBuffer key = JournalSegment.encodeKey(id.getValue());
+        int keyLength = key.remaining();
+        int valueLength = encoded.remaining();
+        long valuePosition = active.append(key, encoded);
+        index.put(id.getValue(), new JournalSegment.Location(active, valuePosition - keyLength, valuePosition, valueLength));
+        if (active.size() >= segmentSize) {
+            seal();
+        }
+    }
+
+    /**
+     * Reads the latest record for the given identifier.
+     */
+    public <T> Optional<T> get(@NonNull UniqueIdentifier id, @NonNull Class<T> clazz) throws IOException {
+        ByteBuffer frame = getFrame(id).orElse(null);
+        return frame == null ? Optional.empty() : Optional.of(mapper.readValue(frame, clazz));
+    }
+
+    /**
+     * Returns a zero-copy view of the latest encoded record for the given identifier.
+     */
+    public Optional<ByteBuffer> getFrame(@NonNull UniqueIdentifier id) throws IOException {
+        JournalSegment.Location location = locate(id);
+        if (location == null) {
+            return Optional.empty();
+        }
+        return Optional.of(location.segment().slice(location.valuePosition(), location.valueLength()));
+    }
+
+    /**
+     * Returns where the latest record for the identifier lives, or {@code null}. The location stays readable
+     * after the record is superseded or its segment compacted.
+     */
+    JournalSegment.Location locate(UniqueIdentifier id) {
+        return index.get(id.getValue());
+    }
+
+    public boolean contains(@NonNull UniqueIdentifier id) {
+        return index.containsKey(id.getValue());
+    }
+
+    /**
+     * Returns the number of live records.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Streams the identifiers of all live records, in no particular order.
+     */
+    public Stream<UniqueIdentifier> ids() {
+        return index.keySet().stream().map(value -> UniqueIdentifier.builder().value(value).build());
+    }
+
+    /**
+     * Returns the number of segment files, including the active one.
+     */
+    public synchronized int segmentCount() {
+        return sealed.size() + 1;
+    }
+
+    /**
+     * Forces all appended records to disk.
+     */
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        active.force();
+    }
+
+    /**
+     * Seals the active segment and starts a new one.
+     *
+     * @throws IOException if the journal is closed, the segment cannot be sealed, or the last background
+     *                     compaction failed; that failure is reported once and the segment is not sealed
+     */
+    public synchronized void roll() throws IOException {
+        ensureOpen();
+        reportCompactionFailure();
+        seal();
+    }
+
+    private void seal() throws IOException {
+        if (active.size() == 0) {
+            return;
+        }
+        active.force();
+        active.writeIndex(indexPath(active.id()), liveEntries(List.of(active)).get(active));
+        sealed.add(active);
+        active = JournalSegment.open(directory, active.id() + 1, JournalSegment.SEGMENT_SUFFIX);
+        scheduleCompaction();
+    }
+
+    /**
+     * Starts a background compaction if enough segments are sealed and none is running. A compaction that
+     * merged segments checks again, since segments sealed while it ran did not trigger one. A failed compaction
+     * is not retried until the next segment is sealed.
+     */
+    private synchronized void scheduleCompaction() {
+        if (compactor == null || compactor.isShutdown() || sealed.size() < compactionThreshold || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        compactor.execute(() -> {
+            boolean merged = false;
+            try {
+                merged = compact(compactionThreshold);
+            } catch (IOException | RuntimeException e) {
+                compactionFailure = e;
+            }
+            compacting.set(false);
+            if (merged) {
+                scheduleCompaction();
+            }
+        });
+    }
+
+    /**
+     * Merges the newest run of at least two sealed segments of the same tier, keeping only live records.
+     */
+    public void compact() throws IOException {
+        compact(2);
+    }
+
+    /**
+     * Merges the newest run of sealed segments sharing a tier, if it has at least {@code minimumRun} segments.
+     * The compacted segment takes the highest id of the run, so replay order on recovery is unchanged.
+     *
+     * @return whether segments were merged
+     */
+    private boolean compact(int minimumRun) throws IOException {
+        synchronized (compactionLock) {
+            List<JournalSegment> sources;
+            synchronized (this) {
+                ensureOpen();
+                sources = selectRun(minimumRun);
+                if (sources.isEmpty()) {
+                    return false;
+                }
+            }
+            long targetId = sources.get(sources.size() - 1).id();
+            Files.deleteIfExists(directory.resolve(JournalSegment.fileName(targetId, JournalSegment.TEMP_SUFFIX)));
+            JournalSegment target = JournalSegment.open(directory, targetId, JournalSegment.TEMP_SUFFIX);
+            Map<String, JournalSegment.Location> moved = new LinkedHashMap<>();
+            Map<String, JournalSegment.Location> replaced = new LinkedHashMap<>();
+            Map<JournalSegment, Map<String, JournalSegment.Location>> live = liveEntries(sources);
+            for (JournalSegment source : sources) {
+                // Readers may still hold locations in the source after it is closed below
+                source.map();
+                for (Map.Entry<String, JournalSegment.Location> entry : live.get(source).entrySet()) {
+                    JournalSegment.Location location = entry.getValue();
+                    long valuePosition = target.copyRecord(source, location.keyPosition(), location.valuePosition(), location.valueLength());
+                    long keyPosition = valuePosition - (location.valuePosition() - location.keyPosition());
+                    moved.put(entry.getKey(), new JournalSegment.Location(target, keyPosition, valuePosition, location.valueLength()));
+                    replaced.put(entry.getKey(), location);
+                }
+            }
+            target.force();
+            Path tempIndex = directory.resolve(JournalSegment.fileName(targetId, JournalSegment.INDEX_SUFFIX + JournalSegment.TEMP_SUFFIX));
+            target.writeIndex(tempIndex, moved);
+
+            synchronized (this) {
+                // Drop the old index first so a crash between the two moves leaves no stale index behind
+                Files.deleteIfExists(indexPath(targetId));
+                target.moveTo(segmentPath(targetId));
+                Files.move(tempIndex, indexPath(targetId));
+                // Records superseded while compacting keep their newer location
+                moved.forEach((key, location) -> index.replace(key, replaced.get(key), location));
+                sealed.removeAll(sources);
+                sealed.add(0, target);
+            }
+            for (JournalSegment source : sources) {
+                source.close();
+                if (source.id() != targetId) {
+                    Files.deleteIfExists(segmentPath(source.id()));
+                    Files.deleteIfExists(indexPath(source.id()));
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the newest run of at least {@code minimumRun} adjacent sealed segments that share a tier and
+     * together fit in the maximum compacted size, or an empty list if there is none.
+     */
+    private List<JournalSegment> selectRun(int minimumRun) {
+        int end = sealed.size();
+        while (end >= minimumRun) {
+            int tier = tier(sealed.get(end - 1).size());
+            int start = end;
+            long total = 0;
+            while (start > 0) {
+                long size = sealed.get(start - 1).size();
+                if (tier(size) != tier || total + size > maxCompactedSize) {
+                    break;
+                }
+                total += size;
+                start--;
+            }
+            if (end - start >= minimumRun) {
+                return List.copyOf(sealed.subList(start, end));
+            }
+            end = Math.min(start, end - 1);
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the number of times the size exceeds the segment size by a factor of the compaction threshold.
+     */
+    private int tier(long size) {
+        int factor = compactionThreshold > 0 ? compactionThreshold : DEFAULT_COMPACTION_THRESHOLD;
+        int tier = 0;
+        for (long bound = segmentSize * factor; size >= bound && bound <= Long.MAX_VALUE / factor; bound *= factor) {
+            tier++;
+        }
+        return tier;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            // Under the lock scheduleCompaction holds, so it never submits to a shut down executor
+            synchronized (this) {
+                compactor.shutdown();
+            }
+            try {
+                compactor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.force();
+            active.close();
+            for (JournalSegment segment : sealed) {
+                segment.close();
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> segmentFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(JournalSegment.TEMP_SUFFIX)) {
+                    // Leftover from an interrupted compaction; the source segments are still intact
+                    Files.delete(file);
+                } else if (name.endsWith(JournalSegment.SEGMENT_SUFFIX)) {
+                    segmentFiles.add(file);
+                }
+            }
+        }
+        segmentFiles.sort(null);
+        for (int i = 0; i < segmentFiles.size(); i++) {
+            long id = JournalSegment.parseId(segmentFiles.get(i));
+            JournalSegment segment = JournalSegment.open(directory, id, JournalSegment.SEGMENT_SUFFIX);
+            boolean last = i == segmentFiles.size() - 1;
+            if (last || !segment.readIndex(indexPath(id), index::put)) {
+                segment.recover(index::put);
+            }
+            if (last) {
+                active = segment;
+            } else {
+                sealed.add(segment);
+            }
+        }
+        if (active == null) {
+            active = JournalSegment.open(directory, 0, JournalSegment.SEGMENT_SUFFIX);
+        }
+    }
+
+    /**
+     * Returns the live records stored in each of the given segments, in record order, from a single pass over
+     * the index.
+     */
+    private Map<JournalSegment, Map<String, JournalSegment.Location>> liveEntries(List<JournalSegment> segments) {
+        Map<JournalSegment, List<Map.Entry<String, JournalSegment.Location>>> entries = new IdentityHashMap<>();
+        for (JournalSegment segment : segments) {
+            entries.put(segment, new ArrayList<>());
+        }
+        for (Map.Entry<String, JournalSegment.Location> entry : index.entrySet()) {
+            List<Map.Entry<String, JournalSegment.Location>> segmentEntries = entries.get(entry.getValue().segment());
+            if (segmentEntries != null) {
+                segmentEntries.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        Map<JournalSegment, Map<String, JournalSegment.Location>> live = new IdentityHashMap<>();
+        entries.forEach((segment, segmentEntries) -> {
+            segmentEntries.sort(Map.Entry.comparingByValue((a, b) -> Long.compare(a.keyPosition(), b.keyPosition())));
+            Map<String, JournalSegment.Location> ordered = new LinkedHashMap<>();
+            segmentEntries.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+            live.put(segment, ordered);
+        });
+        return live;
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(JournalSegment.fileName(id, JournalSegment.SEGMENT_SUFFIX));
+    }
+
+    private Path indexPath(long id) {
+        return directory.resolve(JournalSegment.fileName(id, JournalSegment.INDEX_SUFFIX));
+    }
+
+    private void reportCompactionFailure() throws IOException {
+        Exception failure = compactionFailure;
+        if (failure != null) {
+            compactionFailure = null;
+            throw new IOException("Background compaction failed: " + directory, failure);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Journal is closed: " + directory);
+        }
+    }
+}
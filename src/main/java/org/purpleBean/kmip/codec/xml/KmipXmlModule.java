@@ -2,6 +2,8 @@ package org.purpleBean.kmip.codec.xml;
 
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.purpleBean.kmip.codec.KmipCodecIndex;
+import org.purpleBean.kmip.codec.KmipIndexedCodecs;
 import org.purpleBean.kmip.codec.xml.deserializer.BigIntegerXmlDeserializer;
 import org.purpleBean.kmip.codec.xml.deserializer.ByteBufferXmlDeserializer;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
@@ -23,7 +25,7 @@ public class KmipXmlModule extends SimpleModule {
         addSerializer(BigInteger.class, new BigIntegerXmlSerializer());
         addDeserializer(BigInteger.class, new BigIntegerXmlDeserializer());
 
-        // Auto-register any XML serializers/deserializers exposed via Java ServiceLoader
+        // Auto-register any XML serializers/deserializers other modules expose via Java ServiceLoader
         // Providers should extend KmipDataTypeXmlSerializer / KmipDataTypeXmlDeserializer.
         for (KmipDataTypeXmlSerializer<?> ser : ServiceLoader.load(KmipDataTypeXmlSerializer.class)) {
             try {
@@ -46,4 +48,12 @@ public class KmipXmlModule extends SimpleModule {
         }
 
     }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        // Codecs of this library are listed in the build-time index and created when a type is first seen
+        context.addSerializers(KmipIndexedCodecs.serializers(KmipCodecIndex::xmlSerializer));
+        context.addDeserializers(KmipIndexedCodecs.deserializers(KmipCodecIndex::xmlDeserializer));
+    }
 }
@@ -0,0 +1,247 @@
+package org.purpleBean.kmip.codec.xml;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipTag;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pull reader over KMIP XML documents, working directly on an {@link XMLStreamReader} for bulk reads such as
+ * batches or exports of many objects.
+ * <p>
+ * Elements are walked tag by tag, exposing the element name and its {@code type} and {@code value} attributes
+ * without building any tree. An element can be skipped, or decoded in place with the {@link XmlMapper}'s
+ * registered deserializers, which consume exactly that element and leave the reader on its end tag.
+ * <pre>{@code
+ * try (KmipXmlReader reader = KmipXmlReader.create(xmlMapper, in)) {
+ *     reader.nextChild(); // root element
+ *     while (reader.nextChild()) {
+ *         if (reader.getTag() == KmipTag.Standard.STATE) {
+ *             states.add(reader.readValue(State.class));
+ *         } else {
+ *             reader.skipElement();
+ *         }
+ *     }
+ * }
+ * }</pre>
+ */
+public final class KmipXmlReader implements Closeable {
+    private static final String TYPE_ATTRIBUTE = "type";
+    private static final String VALUE_ATTRIBUTE = "value";
+
+    private final XmlMapper mapper;
+    private final XMLStreamReader reader;
+    private int depth;
+
+    private KmipXmlReader(XmlMapper mapper, XMLStreamReader reader) {
+        this.mapper = mapper;
+        this.reader = reader;
+    }
+
+    public static KmipXmlReader create(XmlMapper mapper, InputStream in) throws IOException {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        Objects.requireNonNull(in, "in cannot be null");
+        try {
+            return new KmipXmlReader(mapper, mapper.getFactory().getXMLInputFactory().createXMLStreamReader(in));
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to open XML input", e);
+        }
+    }
+
+    public static KmipXmlReader create(XmlMapper mapper, Reader in) throws IOException {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        Objects.requireNonNull(in, "in cannot be null");
+        try {
+            return new KmipXmlReader(mapper, mapper.getFactory().getXMLInputFactory().createXMLStreamReader(in));
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to open XML input", e);
+        }
+    }
+
+    /**
+     * Wraps a reader that is at the start of a document or on a start tag. Depth is counted from that point.
+     */
+    public static KmipXmlReader of(XmlMapper mapper, XMLStreamReader reader) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        Objects.requireNonNull(reader, "reader cannot be null");
+        KmipXmlReader xmlReader = new KmipXmlReader(mapper, reader);
+        if (reader.isStartElement()) {
+            xmlReader.depth = 1;
+        }
+        return xmlReader;
+    }
+
+    /**
+     * Advances to the next tag. From a start tag this enters the element; from an end tag it moves on to the
+     * next sibling or the parent's end.
+     *
+     * @return {@code true} if the reader is now on a start tag, {@code false} on an end tag or at the end of
+     * the document
+     */
+    public boolean nextChild() throws IOException {
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        depth++;
+                        return true;
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        depth--;
+                        return false;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed XML input", e);
+        }
+    }
+
+    public boolean isStartElement() {
+        return reader.isStartElement();
+    }
+
+    /**
+     * Returns the number of elements currently open, counting the one the reader is on.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getTagName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Resolves the element name against the current KMIP spec.
+     *
+     * @throws java.util.NoSuchElementException if the name is not a known tag
+     */
+    public KmipTag.Value getTag() {
+        return KmipTag.fromName(KmipContext.getSpec(), reader.getLocalName());
+    }
+
+    /**
+     * Returns the {@code type} attribute of the current start tag, or {@code null} if absent.
+     */
+    public String getType() {
+        return attribute(TYPE_ATTRIBUTE);
+    }
+
+    public Optional<EncodingType> getEncodingType() {
+        String type = getType();
+        return type == null ? Optional.empty() : EncodingType.fromName(type);
+    }
+
+    /**
+     * Returns the {@code value} attribute of the current start tag, or {@code null} if absent, as it is for
+     * structures.
+     */
+    public String getValue() {
+        return attribute(VALUE_ATTRIBUTE);
+    }
+
+    private String attribute(String name) {
+        requireStartElement();
+        return reader.getAttributeValue(null, name);
+    }
+
+    /**
+     * Skips the current element and everything inside it, leaving the reader on its end tag.
+     */
+    public void skipElement() throws IOException {
+        requireStartElement();
+        String name = reader.getLocalName();
+        int target = depth - 1;
+        try {
+            while (depth > target) {
+                if (!reader.hasNext()) {
+                    throw new IOException("Unexpected end of XML input inside <" + name + ">");
+                }
+                nextChild();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed XML input", e);
+        }
+    }
+
+    /**
+     * Decodes the current element with the mapper, leaving the reader on its end tag.
+     */
+    public <T> T readValue(Class<T> type) throws IOException {
+        requireStartElement();
+        JsonParser parser = mapper.getFactory().createParser(reader);
+        // The parser shares the stream reader, so it is not closed here
+        T value = mapper.readValue(parser, type);
+        depth--;
+        return value;
+    }
+
+    /**
+     * Streams the children of the current element, each decoded as the given type. The stream ends on the
+     * element's end tag. Decoding failures surface as {@link UncheckedIOException}.
+     */
+    public <T> Stream<T> readValues(Class<T> type) {
+        requireStartElement();
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (done) {
+                    return false;
+                }
+                try {
+                    if (!nextChild()) {
+                        done = true;
+                        return false;
+                    }
+                    action.accept(readValue(type));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private void requireStartElement() {
+        if (!reader.isStartElement()) {
+            throw new IllegalStateException("Reader is not on a start tag");
+        }
+    }
+
+    /**
+     * Releases the stream reader. The underlying input is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to close XML reader", e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.purpleBean.kmip.codec.xml;
+
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.codec.KmipTextForms;
+import org.purpleBean.kmip.codec.ttlv.TtlvReader;
+import org.purpleBean.kmip.codec.ttlv.TtlvWriter;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.NoSuchElementException;
+
+/**
+ * Converts between TTLV and the KMIP XML profile written by {@link KmipXmlModule} without decoding into
+ * KMIP objects. Items are copied event by event, so memory use depends only on nesting depth.
+ * <p>
+ * Every item becomes an element named by its tag description, with {@code type} and {@code value}
+ * attributes; structures have neither and hold their children as elements. Tags unknown to the current spec
+ * are written as {@code <TTLV tag="0x...">}. Value text uses the same forms as the JSON profile, see
+ * {@link KmipTextForms}.
+ * <p>
+ * The writer side emits elements only, so items can be placed inside a caller's document.
+ */
+public final class TtlvXmlTranscoder {
+    private static final String UNKNOWN_TAG_ELEMENT = "TTLV";
+    private static final String TAG_ATTRIBUTE = "tag";
+    private static final String TYPE_ATTRIBUTE = "type";
+    private static final String VALUE_ATTRIBUTE = "value";
+
+    private TtlvXmlTranscoder() {
+    }
+
+    /**
+     * Writes every top-level TTLV item in the buffer's remaining bytes as an element. The buffer is not
+     * modified.
+     *
+     * @throws IllegalArgumentException if the TTLV input is malformed
+     */
+    public static void transcode(ByteBuffer ttlv, XMLStreamWriter out) throws XMLStreamException {
+        TtlvReader reader = new TtlvReader(ttlv);
+        for (TtlvReader.Event event = reader.next(); event != null; event = reader.next()) {
+            switch (event) {
+                case START_STRUCTURE -> writeElementName(reader.getTag(), false, out);
+                case END_STRUCTURE -> out.writeEndElement();
+                case VALUE -> {
+                    writeElementName(reader.getTag(), true, out);
+                    out.writeAttribute(TYPE_ATTRIBUTE, reader.getEncodingType().getDescription());
+                    out.writeAttribute(VALUE_ATTRIBUTE, valueText(reader));
+                }
+            }
+        }
+    }
+
+    private static void writeElementName(int tag, boolean empty, XMLStreamWriter out) throws XMLStreamException {
+        KmipTag.Value tagValue = KmipTextForms.tag(tag);
+        String name = tagValue != null ? tagValue.getDescription() : UNKNOWN_TAG_ELEMENT;
+        if (empty) {
+            out.writeEmptyElement(name);
+        } else {
+            out.writeStartElement(name);
+        }
+        if (tagValue == null) {
+            out.writeAttribute(TAG_ATTRIBUTE, KmipTextForms.formatTag(tag));
+        }
+    }
+
+    private static String valueText(TtlvReader reader) {
+        return switch (reader.getEncodingType()) {
+            case INTEGER, INTERVAL -> Integer.toString(reader.getInt());
+            case LONG_INTEGER -> Long.toString(reader.getLong());
+            case ENUMERATION -> {
+                String name = KmipTextForms.enumerationName(reader.getTag(), reader.getInt());
+                yield name != null ? name : Integer.toString(reader.getInt());
+            }
+            case BOOLEAN -> Boolean.toString(reader.getBoolean());
+            case DATE_TIME -> KmipTextForms.formatDateTime(reader.getLong());
+            case TEXT_STRING -> reader.getText();
+            case BYTE_STRING, BIG_INTEGER -> {
+                ByteBuffer bytes = reader.getBytes();
+                byte[] raw = new byte[bytes.remaining()];
+                bytes.get(raw);
+                yield KmipTextForms.formatHex(raw);
+            }
+            default -> throw new IllegalArgumentException("Unsupported TTLV type " + reader.getEncodingType().getDescription());
+        };
+    }
+
+    /**
+     * Reads the element the reader is on, or the document's root element if the reader is at the start of
+     * the document, and returns its TTLV encoding.
+     */
+    public static ByteBuffer toTtlv(XMLStreamReader in) throws XMLStreamException {
+        TtlvWriter out = new TtlvWriter();
+        transcode(in, out);
+        return out.toByteBuffer();
+    }
+
+    /**
+     * Reads the element the reader is on, or the document's root element if the reader is at the start of
+     * the document, writing it to the TTLV writer. The reader is left on the element's end tag.
+     */
+    public static void transcode(XMLStreamReader in, TtlvWriter out) throws XMLStreamException {
+        if (in.getEventType() == XMLStreamConstants.START_DOCUMENT) {
+            in.nextTag();
+        }
+        if (!in.isStartElement()) {
+            throw new XMLStreamException("Expected a KMIP element", in.getLocation());
+        }
+        writeElement(in, out);
+    }
+
+    private static void writeElement(XMLStreamReader in, TtlvWriter out) throws XMLStreamException {
+        int tag = parseTag(in);
+        String type = in.getAttributeValue(null, TYPE_ATTRIBUTE);
+        EncodingType encodingType = type == null ? EncodingType.STRUCTURE : EncodingType.fromName(type)
+                .orElseThrow(() -> new XMLStreamException("Unknown KMIP type: " + type, in.getLocation()));
+
+        if (encodingType == EncodingType.STRUCTURE) {
+            out.startStructure(tag);
+            while (in.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                writeElement(in, out);
+            }
+            out.endStructure();
+            return;
+        }
+
+        String value = in.getAttributeValue(null, VALUE_ATTRIBUTE);
+        if (value == null) {
+            throw new XMLStreamException("Missing 'value' on <" + in.getLocalName() + ">", in.getLocation());
+        }
+        try {
+            writeValue(tag, encodingType, value, out);
+        } catch (NoSuchElementException | IllegalArgumentException | DateTimeException e) {
+            throw new XMLStreamException("Invalid " + encodingType.getDescription() + " value on <"
+                    + in.getLocalName() + ">: " + e.getMessage(), in.getLocation(), e);
+        }
+        if (in.nextTag() != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("Unexpected child of " + encodingType.getDescription() + " element",
+                    in.getLocation());
+        }
+    }
+
+    private static int parseTag(XMLStreamReader in) throws XMLStreamException {
+        String name = in.getLocalName();
+        String tag = UNKNOWN_TAG_ELEMENT.equals(name) ? in.getAttributeValue(null, TAG_ATTRIBUTE) : name;
+        if (tag == null) {
+            throw new XMLStreamException("Missing 'tag' on <" + UNKNOWN_TAG_ELEMENT + ">", in.getLocation());
+        }
+        try {
+            return KmipTextForms.parseTag(tag);
+        } catch (NoSuchElementException | IllegalArgumentException e) {
+            throw new XMLStreamException("Unknown KMIP tag: " + tag, in.getLocation(), e);
+        }
+    }
+
+    private static void writeValue(int tag, EncodingType encodingType, String value, TtlvWriter out) {
+        switch (encodingType) {
+            case INTEGER, INTERVAL -> out.writeInt(tag, encodingType, KmipTextForms.parseInt(value));
+            case ENUMERATION -> out.writeInt(tag, encodingType, KmipTextForms.parseEnumeration(tag, value));
+            case LONG_INTEGER -> out.writeLong(tag, encodingType, KmipTextForms.parseLong(value));
+            case DATE_TIME -> out.writeLong(tag, encodingType, KmipTextForms.parseDateTime(value));
+            case BOOLEAN -> out.writeBoolean(tag, parseBoolean(value));
+            case TEXT_STRING -> out.writeText(tag, value);
+            case BYTE_STRING, BIG_INTEGER -> out.writeBytes(tag, encodingType, KmipTextForms.parseHex(value));
+            default -> throw new IllegalArgumentException("Unsupported KMIP type: " + encodingType.getDescription());
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        return switch (value) {
+            case "true", "1" -> true;
+            case "false", "0" -> false;
+            default -> throw new IllegalArgumentException("Expected true or false, got " + value);
+        };
+    }
+}
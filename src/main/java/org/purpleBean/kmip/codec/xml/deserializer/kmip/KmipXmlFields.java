@@ -0,0 +1,146 @@
+package org.purpleBean.kmip.codec.xml.deserializer.kmip;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipTag;
+
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * The element name and {@code type}/{@code value} attributes of one KMIP XML element, read in a single
+ * forward pass.
+ * <p>
+ * When the parser is a {@link FromXmlParser} positioned on the element start, the name and attributes are
+ * taken straight from the underlying {@link XMLStreamReader}. Child elements are handed to a
+ * {@link ChildHandler} while the parser is on them, so structures decode their children without first
+ * building a tree. Other parsers, such as token buffers, fall back to the attribute tokens.
+ */
+public final class KmipXmlFields {
+    private static final String TYPE_ATTRIBUTE = "type";
+    private static final String VALUE_ATTRIBUTE = "value";
+
+    private boolean object;
+    private String elementName;
+    private String type;
+    private String value;
+
+    private KmipXmlFields() {
+    }
+
+    /**
+     * Reads the element at the current parser position, skipping any child elements.
+     */
+    public static KmipXmlFields read(JsonParser p) throws IOException {
+        return read(p, null);
+    }
+
+    /**
+     * Reads the element at the current parser position, leaving the parser on its {@code END_OBJECT}.
+     * If the parser is not on an element object, the value is skipped and {@link #isObject()} is false.
+     *
+     * @param handler receives each child element, or {@code null} to skip them
+     */
+    public static KmipXmlFields read(JsonParser p, ChildHandler handler) throws IOException {
+        KmipXmlFields fields = new KmipXmlFields();
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return fields;
+        }
+        fields.object = true;
+
+        boolean fromStax = false;
+        if (p instanceof FromXmlParser xmlParser) {
+            XMLStreamReader reader = xmlParser.getStaxReader();
+            if (reader.isStartElement()) {
+                fields.elementName = reader.getLocalName();
+                fields.type = reader.getAttributeValue(null, TYPE_ATTRIBUTE);
+                fields.value = reader.getAttributeValue(null, VALUE_ATTRIBUTE);
+                fromStax = true;
+            }
+        }
+
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken child = p.nextToken();
+            if (child == JsonToken.VALUE_STRING && (name.isEmpty() || isAttribute(name))) {
+                // Attribute, or text mixed into the element
+                if (!fromStax) {
+                    switch (name) {
+                        case TYPE_ATTRIBUTE -> fields.type = p.getText();
+                        case VALUE_ATTRIBUTE -> fields.value = p.getText();
+                        default -> {
+                        }
+                    }
+                }
+            } else if (handler != null) {
+                handler.accept(name, p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    private static boolean isAttribute(String name) {
+        return TYPE_ATTRIBUTE.equals(name) || VALUE_ATTRIBUTE.equals(name);
+    }
+
+    /**
+     * Returns the {@code type} attribute of the element the parser is positioned on without consuming it, or
+     * {@code null} if the parser is not a {@link FromXmlParser} on an element start.
+     */
+    public static String peekType(JsonParser p) {
+        if (p instanceof FromXmlParser xmlParser && p.currentToken() == JsonToken.START_OBJECT) {
+            XMLStreamReader reader = xmlParser.getStaxReader();
+            if (reader.isStartElement()) {
+                return reader.getAttributeValue(null, TYPE_ATTRIBUTE);
+            }
+        }
+        return null;
+    }
+
+    public boolean isObject() {
+        return object;
+    }
+
+    /**
+     * Returns the local name of the element, or {@code null} if the parser does not expose it.
+     */
+    public String elementName() {
+        return elementName;
+    }
+
+    /**
+     * Checks the element name against a tag description. An unknown element name, as when decoding from
+     * buffered tokens, is accepted.
+     */
+    public boolean isElement(KmipTag kmipTag) {
+        return elementName == null || kmipTag.getDescription().equalsIgnoreCase(elementName);
+    }
+
+    public String type() {
+        return type;
+    }
+
+    public Optional<EncodingType> encodingType() {
+        return type == null ? Optional.empty() : EncodingType.fromName(type);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * Receives a child element. The parser is on the child's first token, {@code START_OBJECT} or an empty
+     * {@code VALUE_STRING} for an element without attributes or content, and must be left on its last one,
+     * for example by {@code ctxt.readValue(p, type)} or {@code p.skipChildren()}.
+     */
+    @FunctionalInterface
+    public interface ChildHandler {
+        void accept(String name, JsonParser p) throws IOException;
+    }
+}
@@ -1,9 +1,7 @@
 package org.purpleBean.kmip.codec.xml.deserializer.kmip;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
@@ -16,30 +14,27 @@ public class ProtocolVersionMinorXmlDeserializer extends KmipDataTypeXmlDeserial
 
     @Override
     public ProtocolVersion.ProtocolVersionMinor deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipXmlFields fields = KmipXmlFields.read(p);
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(ProtocolVersion.ProtocolVersionMinor.class,
                     "Expected XML element object for ProtocolVersionMinor");
             return null;
         }
 
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !EncodingType.INTEGER.getDescription().equals(typeNode.asText())) {
+        if (!EncodingType.INTEGER.getDescription().equals(fields.type())) {
             ctxt.reportInputMismatch(ProtocolVersion.ProtocolVersionMinor.class,
                     "Missing or invalid 'type' attribute for ProtocolVersionMinor");
             return null;
         }
 
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
+        if (fields.value() == null) {
             ctxt.reportInputMismatch(ProtocolVersion.ProtocolVersionMinor.class,
                     "Missing or non-text 'value' attribute for ProtocolVersionMinor");
             return null;
         }
 
-        int value = Integer.parseInt(valueNode.asText());
+        int value = Integer.parseInt(fields.value());
         ProtocolVersion.ProtocolVersionMinor minor = ProtocolVersion.ProtocolVersionMinor.of(value);
 
         KmipSpec spec = KmipContext.getSpec();
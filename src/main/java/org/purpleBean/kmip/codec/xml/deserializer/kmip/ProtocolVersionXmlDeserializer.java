@@ -1,9 +1,7 @@
 package org.purpleBean.kmip.codec.xml.deserializer.kmip;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
@@ -15,31 +13,31 @@ public class ProtocolVersionXmlDeserializer extends KmipDataTypeXmlDeserializer<
 
     @Override
     public ProtocolVersion deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
+        Parts parts = new Parts();
+        KmipXmlFields fields = KmipXmlFields.read(p, (name, child) -> {
+            // Delegate to child deserializers
+            if (KmipTag.Standard.PROTOCOL_VERSION_MAJOR.getDescription().equals(name)) {
+                parts.major = ctxt.readValue(child, ProtocolVersion.ProtocolVersionMajor.class);
+            } else if (KmipTag.Standard.PROTOCOL_VERSION_MINOR.getDescription().equals(name)) {
+                parts.minor = ctxt.readValue(child, ProtocolVersion.ProtocolVersionMinor.class);
+            } else {
+                child.skipChildren();
+            }
+        });
+
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(ProtocolVersion.class,
                     "Expected XML element object for ProtocolVersion");
             return null;
         }
 
-        JsonNode majorNode = node.get(KmipTag.Standard.PROTOCOL_VERSION_MAJOR.getDescription());
-        JsonNode minorNode = node.get(KmipTag.Standard.PROTOCOL_VERSION_MINOR.getDescription());
-
-        if (majorNode == null || minorNode == null) {
+        if (parts.major == null || parts.minor == null) {
             ctxt.reportInputMismatch(ProtocolVersion.class,
                     "Missing ProtocolVersionMajor or ProtocolVersionMinor element");
             return null;
         }
 
-        // Delegate to child deserializers
-        ProtocolVersion.ProtocolVersionMajor major =
-                p.getCodec().treeToValue(majorNode, ProtocolVersion.ProtocolVersionMajor.class);
-        ProtocolVersion.ProtocolVersionMinor minor =
-                p.getCodec().treeToValue(minorNode, ProtocolVersion.ProtocolVersionMinor.class);
-
-        ProtocolVersion protocolVersion = ProtocolVersion.of(major, minor);
+        ProtocolVersion protocolVersion = ProtocolVersion.of(parts.major, parts.minor);
 
         KmipSpec spec = KmipContext.getSpec();
         if (!protocolVersion.isSupported()) {
@@ -49,4 +47,12 @@ public class ProtocolVersionXmlDeserializer extends KmipDataTypeXmlDeserializer<
 
         return protocolVersion;
     }
+
+    /**
+     * Child elements, collected while streaming the structure.
+     */
+    private static final class Parts {
+        private ProtocolVersion.ProtocolVersionMajor major;
+        private ProtocolVersion.ProtocolVersionMinor minor;
+    }
 }
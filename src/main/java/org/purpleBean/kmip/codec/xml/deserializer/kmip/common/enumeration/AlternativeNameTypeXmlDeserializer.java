@@ -1,65 +0,0 @@
-package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
-import org.purpleBean.kmip.common.enumeration.AlternativeNameType;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * XML deserializer for AlternativeNameType.
- */
-public class AlternativeNameTypeXmlDeserializer extends KmipDataTypeXmlDeserializer<AlternativeNameType> {
-    private final KmipTag kmipTag = AlternativeNameType.kmipTag;
-    private final EncodingType encodingType = AlternativeNameType.encodingType;
-
-    @Override
-    public AlternativeNameType deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(AlternativeNameType.class, "Expected XML element object for AlternativeNameType");
-            return null;
-        }
-
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
-            ctxt.reportInputMismatch(AlternativeNameType.class, "Invalid Tag for AlternativeNameType");
-            return null;
-        }
-
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
-            ctxt.reportInputMismatch(AlternativeNameType.class, "Missing or invalid '@type' attribute for AlternativeNameType");
-            return null;
-        }
-
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(AlternativeNameType.class, "Missing or non-text '@value' attribute for AlternativeNameType");
-            return null;
-        }
-
-        String description = valueNode.asText();
-        KmipSpec spec = KmipContext.getSpec();
-
-        AlternativeNameType alternativenametype = new AlternativeNameType(AlternativeNameType.fromName(description));
-        if (!alternativenametype.isSupported()) {
-            throw new NoSuchElementException(
-                String.format("AlternativeNameType '%s' not supported for spec %s", description, spec));
-        }
-
-        return alternativenametype;
-    }
-}
@@ -1,65 +0,0 @@
-package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
-import org.purpleBean.kmip.common.enumeration.CryptographicAlgorithm;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * XML deserializer for CryptographicAlgorithm.
- */
-public class CryptographicAlgorithmXmlDeserializer extends KmipDataTypeXmlDeserializer<CryptographicAlgorithm> {
-    private final KmipTag kmipTag = CryptographicAlgorithm.kmipTag;
-    private final EncodingType encodingType = CryptographicAlgorithm.encodingType;
-
-    @Override
-    public CryptographicAlgorithm deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, "Expected XML element object for CryptographicAlgorithm");
-            return null;
-        }
-
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, "Invalid Tag for CryptographicAlgorithm");
-            return null;
-        }
-
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, "Missing or invalid '@type' attribute for CryptographicAlgorithm");
-            return null;
-        }
-
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(CryptographicAlgorithm.class, "Missing or non-text '@value' attribute for CryptographicAlgorithm");
-            return null;
-        }
-
-        String description = valueNode.asText();
-        KmipSpec spec = KmipContext.getSpec();
-
-        CryptographicAlgorithm cryptographicalgorithm = new CryptographicAlgorithm(CryptographicAlgorithm.fromName(description));
-        if (!cryptographicalgorithm.isSupported()) {
-            throw new NoSuchElementException(
-                String.format("CryptographicAlgorithm '%s' not supported for spec %s", description, spec));
-        }
-
-        return cryptographicalgorithm;
-    }
-}
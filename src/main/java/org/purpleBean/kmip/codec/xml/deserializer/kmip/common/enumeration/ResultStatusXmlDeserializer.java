@@ -1,65 +0,0 @@
-package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
-import org.purpleBean.kmip.common.enumeration.ResultStatus;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * XML deserializer for ResultStatus.
- */
-public class ResultStatusXmlDeserializer extends KmipDataTypeXmlDeserializer<ResultStatus> {
-    private final KmipTag kmipTag = ResultStatus.kmipTag;
-    private final EncodingType encodingType = ResultStatus.encodingType;
-
-    @Override
-    public ResultStatus deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(ResultStatus.class, "Expected XML element object for ResultStatus");
-            return null;
-        }
-
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
-            ctxt.reportInputMismatch(ResultStatus.class, "Invalid Tag for ResultStatus");
-            return null;
-        }
-
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
-            ctxt.reportInputMismatch(ResultStatus.class, "Missing or invalid '@type' attribute for ResultStatus");
-            return null;
-        }
-
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(ResultStatus.class, "Missing or non-text '@value' attribute for ResultStatus");
-            return null;
-        }
-
-        String description = valueNode.asText();
-        KmipSpec spec = KmipContext.getSpec();
-
-        ResultStatus resultstatus = new ResultStatus(ResultStatus.fromName(description));
-        if (!resultstatus.isSupported()) {
-            throw new NoSuchElementException(
-                String.format("ResultStatus '%s' not supported for spec %s", description, spec));
-        }
-
-        return resultstatus;
-    }
-}
@@ -1,65 +0,0 @@
-package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
-import org.purpleBean.kmip.common.enumeration.RotateNameType;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * XML deserializer for RotateNameType.
- */
-public class RotateNameTypeXmlDeserializer extends KmipDataTypeXmlDeserializer<RotateNameType> {
-    private final KmipTag kmipTag = RotateNameType.kmipTag;
-    private final EncodingType encodingType = RotateNameType.encodingType;
-
-    @Override
-    public RotateNameType deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(RotateNameType.class, "Expected XML element object for RotateNameType");
-            return null;
-        }
-
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
-            ctxt.reportInputMismatch(RotateNameType.class, "Invalid Tag for RotateNameType");
-            return null;
-        }
-
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
-            ctxt.reportInputMismatch(RotateNameType.class, "Missing or invalid '@type' attribute for RotateNameType");
-            return null;
-        }
-
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(RotateNameType.class, "Missing or non-text '@value' attribute for RotateNameType");
-            return null;
-        }
-
-        String description = valueNode.asText();
-        KmipSpec spec = KmipContext.getSpec();
-
-        RotateNameType rotatenametype = new RotateNameType(RotateNameType.fromName(description));
-        if (!rotatenametype.isSupported()) {
-            throw new NoSuchElementException(
-                String.format("RotateNameType '%s' not supported for spec %s", description, spec));
-        }
-
-        return rotatenametype;
-    }
-}
@@ -1,65 +0,0 @@
-package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.enumeration;
-
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
-import org.purpleBean.kmip.EncodingType;
-import org.purpleBean.kmip.KmipContext;
-import org.purpleBean.kmip.KmipSpec;
-import org.purpleBean.kmip.KmipTag;
-import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
-import org.purpleBean.kmip.common.enumeration.SecretDataType;
-
-import java.io.IOException;
-import java.util.NoSuchElementException;
-
-/**
- * XML deserializer for SecretDataType.
- */
-public class SecretDataTypeXmlDeserializer extends KmipDataTypeXmlDeserializer<SecretDataType> {
-    private final KmipTag kmipTag = SecretDataType.kmipTag;
-    private final EncodingType encodingType = SecretDataType.encodingType;
-
-    @Override
-    public SecretDataType deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(SecretDataType.class, "Expected XML element object for SecretDataType");
-            return null;
-        }
-
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
-            ctxt.reportInputMismatch(SecretDataType.class, "Invalid Tag for SecretDataType");
-            return null;
-        }
-
-        JsonNode typeNode = node.get("type");
-        if (typeNode == null || !typeNode.isTextual() ||
-                !encodingType.getDescription().equals(typeNode.asText())) {
-            ctxt.reportInputMismatch(SecretDataType.class, "Missing or invalid '@type' attribute for SecretDataType");
-            return null;
-        }
-
-        JsonNode valueNode = node.get("value");
-        if (valueNode == null || !valueNode.isTextual()) {
-            ctxt.reportInputMismatch(SecretDataType.class, "Missing or non-text '@value' attribute for SecretDataType");
-            return null;
-        }
-
-        String description = valueNode.asText();
-        KmipSpec spec = KmipContext.getSpec();
-
-        SecretDataType secretdatatype = new SecretDataType(SecretDataType.fromName(description));
-        if (!secretdatatype.isSupported()) {
-            throw new NoSuchElementException(
-                String.format("SecretDataType '%s' not supported for spec %s", description, spec));
-        }
-
-        return secretdatatype;
-    }
-}
@@ -1,21 +1,18 @@
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.structure;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.common.ActivationDate;
 import org.purpleBean.kmip.common.enumeration.State;
 import org.purpleBean.kmip.common.structure.SampleStructure;
 
 import java.io.IOException;
-import java.util.Map;
 
 public class SampleStructureXmlDeserializer extends KmipDataTypeXmlDeserializer<SampleStructure> {
     private final KmipTag kmipTag = SampleStructure.kmipTag;
@@ -23,31 +20,21 @@ public class SampleStructureXmlDeserializer extends KmipDataTypeXmlDeserializer<
 
     @Override
     public SampleStructure deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
+        KmipSpec spec = KmipContext.getSpec();
+        SampleStructure.SampleStructureBuilder builder = SampleStructure.builder();
+        KmipXmlFields fields = KmipXmlFields.read(p, (name, child) ->
+                setValue(builder, KmipTag.fromName(spec, name), child, ctxt));
 
-        if (!node.isObject()) {
+        if (!fields.isObject()) {
             ctxt.reportInputMismatch(SampleStructure.class, "Expected XML object for SampleStructure");
             return null;
         }
 
-        if (p instanceof FromXmlParser xmlParser
-                && !kmipTag.getDescription().equalsIgnoreCase(xmlParser.getStaxReader().getLocalName())) {
+        if (!fields.isElement(kmipTag)) {
             ctxt.reportInputMismatch(SampleStructure.class, "Invalid Tag for SampleStructure");
             return null;
         }
 
-        KmipSpec spec = KmipContext.getSpec();
-        SampleStructure.SampleStructureBuilder builder = SampleStructure.builder();
-
-        // Process all fields in the XML
-        var fields = node.fields();
-        while (fields.hasNext()) {
-            Map.Entry<String, JsonNode> entry = fields.next();
-            KmipTag.Value nodeTag = KmipTag.fromName(spec, entry.getKey());
-            setValue(builder, nodeTag, entry.getValue(), p, ctxt);
-        }
-
         SampleStructure sampleStructure = builder.build();
 
         if (!sampleStructure.isSupported()) {
@@ -63,18 +50,17 @@ public class SampleStructureXmlDeserializer extends KmipDataTypeXmlDeserializer<
      *
      * @param builder the builder to set the field on
      * @param nodeTag the tag identifying the field to set
-     * @param node    the XML node containing the field value
-     * @param p       the JsonParser
+     * @param p       the JsonParser positioned on the child element
      * @param ctxt    the DeserializationContext
      * @throws IOException if there is an error deserializing the value
      */
-    private void setValue(SampleStructure.SampleStructureBuilder builder, KmipTag.Value nodeTag, JsonNode node, JsonParser p, DeserializationContext ctxt) throws IOException {
+    private void setValue(SampleStructure.SampleStructureBuilder builder, KmipTag.Value nodeTag, JsonParser p, DeserializationContext ctxt) throws IOException {
         // TODO: Implement field deserialization based on nodeTag
         // Example:
         switch (nodeTag) {
             case KmipTag.Standard.ACTIVATION_DATE ->
-                    builder.activationDate(p.getCodec().treeToValue(node, ActivationDate.class));
-            case KmipTag.Standard.STATE -> builder.state(p.getCodec().treeToValue(node, State.class));
+                    builder.activationDate(ctxt.readValue(p, ActivationDate.class));
+            case KmipTag.Standard.STATE -> builder.state(ctxt.readValue(p, State.class));
             default -> throw new IllegalArgumentException();
         }
     }
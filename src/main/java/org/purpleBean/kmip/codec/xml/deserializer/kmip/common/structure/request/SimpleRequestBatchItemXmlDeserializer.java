@@ -1,37 +1,30 @@
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.structure.request;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestBatchItem;
 
 import java.io.IOException;
-import java.util.Map;
 
 public class SimpleRequestBatchItemXmlDeserializer extends KmipDataTypeXmlDeserializer<SimpleRequestBatchItem> {
 
     @Override
     public SimpleRequestBatchItem deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isEmpty() && !node.isObject()) {
+        // An empty element reads as an empty string and yields an empty batch item
+        if (p.currentToken() == JsonToken.START_ARRAY) {
             ctxt.reportInputMismatch(SimpleRequestBatchItem.class, "Expected XML object for SimpleRequestBatchItem");
             return null;
         }
 
         KmipSpec spec = KmipContext.getSpec();
         SimpleRequestBatchItem.SimpleRequestBatchItemBuilder builder = SimpleRequestBatchItem.builder();
-
-        for (Map.Entry<String, JsonNode> entry : node.propertyStream().toList()) {
-            KmipTag.Value nodeTag = KmipTag.fromName(spec, entry.getKey());
-            setValue(builder, nodeTag, entry.getValue(), p, ctxt);
-        }
+        KmipXmlFields.read(p, (name, child) -> setValue(builder, KmipTag.fromName(spec, name), child, ctxt));
 
         SimpleRequestBatchItem item = builder.build();
 
@@ -44,7 +37,6 @@ public class SimpleRequestBatchItemXmlDeserializer extends KmipDataTypeXmlDeseri
 
     private void setValue(SimpleRequestBatchItem.SimpleRequestBatchItemBuilder builder,
                           KmipTag.Value nodeTag,
-                          JsonNode node,
                           JsonParser p,
                           DeserializationContext ctxt) throws IOException {
         switch (nodeTag) {
@@ -1,13 +1,13 @@
 package org.purpleBean.kmip.codec.xml.deserializer.kmip.common.structure.request;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer;
+import org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestBatchItem;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestHeader;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestMessage;
@@ -18,45 +18,30 @@ public class SimpleRequestMessageXmlDeserializer extends KmipDataTypeXmlDeserial
 
     @Override
     public SimpleRequestMessage deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        ObjectCodec codec = p.getCodec();
-        JsonNode node = codec.readTree(p);
-
-        if (!node.isObject()) {
-            ctxt.reportInputMismatch(SimpleRequestMessage.class, "Expected XML object for SimpleRequestMessage");
-            return null;
-        }
-
         KmipSpec spec = KmipContext.getSpec();
         SimpleRequestMessage.SimpleRequestMessageBuilder builder = SimpleRequestMessage.builder();
-
-        JsonNode headerNode = node.get(KmipTag.Standard.REQUEST_HEADER.getDescription());
-        builder.requestHeader(p.getCodec().treeToValue(headerNode, SimpleRequestHeader.class));
-
-        JsonNode batchItemNode = node.get(KmipTag.Standard.BATCH_ITEM.getDescription());
-        if (!batchItemNode.isArray() && !batchItemNode.isEmpty()) {
-            ctxt.reportInputMismatch(SimpleRequestBatchItem.class, "SimpleRequestBatchItem 'value' must be array");
-        }
-
-        if (batchItemNode.isArray()) {
-            for (var valueNode : batchItemNode.valueStream().toList()) {
+        KmipXmlFields fields = KmipXmlFields.read(p, (name, child) -> {
+            if (KmipTag.Standard.REQUEST_HEADER.getDescription().equals(name)) {
+                builder.requestHeader(ctxt.readValue(child, SimpleRequestHeader.class));
+            } else if (KmipTag.Standard.BATCH_ITEM.getDescription().equals(name)) {
+                // each batch item is decoded from its own tokens so a bad item does not leave the parser
+                // stranded inside it
+                TokenBuffer item = ctxt.bufferAsCopyOfValue(child);
                 try {
-                    SimpleRequestBatchItem item = p.getCodec().treeToValue(valueNode, SimpleRequestBatchItem.class);
-                    builder.requestBatchItem(item)
+                    builder.requestBatchItem(ctxt.readValue(item.asParserOnFirstToken(), SimpleRequestBatchItem.class))
                             .requestBatchItemError(null);
                 } catch (Exception e) {
                     builder.requestBatchItem(null)
                             .requestBatchItemError(e);
                 }
+            } else {
+                child.skipChildren();
             }
-        } else {
-            try {
-                SimpleRequestBatchItem item = p.getCodec().treeToValue(batchItemNode, SimpleRequestBatchItem.class);
-                builder.requestBatchItem(item)
-                        .requestBatchItemError(null);
-            } catch (Exception e) {
-                builder.requestBatchItem(null)
-                        .requestBatchItemError(e);
-            }
+        });
+
+        if (!fields.isObject()) {
+            ctxt.reportInputMismatch(SimpleRequestMessage.class, "Expected XML object for SimpleRequestMessage");
+            return null;
         }
 
         SimpleRequestMessage message = builder.build();
@@ -1,8 +1,12 @@
 package org.purpleBean.kmip.codec.xml.serializer.kmip;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import org.purpleBean.kmip.KmipDataType;
 
+import java.io.IOException;
+
 public abstract class KmipDataTypeXmlSerializer<T extends KmipDataType> extends JsonSerializer<T> {
     @SuppressWarnings("unchecked")
     @Override
@@ -16,4 +20,12 @@ public abstract class KmipDataTypeXmlSerializer<T extends KmipDataType> extends
         }
         return super.handledType();
     }
+
+    /**
+     * Writes a child element through its registered serializer, named from the child's pre-encoded tag.
+     */
+    protected static void writeChild(JsonGenerator gen, SerializerProvider provider, KmipDataType child) throws IOException {
+        gen.writeFieldName(child.getKmipTag().getValue().getSerializedDescription());
+        provider.defaultSerializeValue(child, gen);
+    }
 }
@@ -6,8 +6,8 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -25,14 +25,15 @@ public class ProtocolVersionMajorXmlSerializer extends KmipDataTypeXmlSerializer
         }
 
         // Start element with name from kmipTag
-        String elementName = protocolVersionMajor.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(protocolVersionMajor.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(protocolVersionMajor);
 
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("type", protocolVersionMajor.getEncodingType().getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+        xmlGen.writeString(protocolVersionMajor.getEncodingType().getSerializedDescription());
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("value", String.valueOf(protocolVersionMajor.getValue()));
+        xmlGen.writeFieldName(KmipFieldNames.VALUE);
+        xmlGen.writeString(String.valueOf(protocolVersionMajor.getValue()));
         xmlGen.writeEndObject();
     }
 }
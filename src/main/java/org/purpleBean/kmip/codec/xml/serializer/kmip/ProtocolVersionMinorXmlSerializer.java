@@ -6,8 +6,8 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.KmipFieldNames;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -25,14 +25,15 @@ public class ProtocolVersionMinorXmlSerializer extends KmipDataTypeXmlSerializer
         }
 
         // Start element with name from kmipTag
-        String elementName = protocolVersionMinor.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(protocolVersionMinor.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(protocolVersionMinor);
 
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("type", protocolVersionMinor.getEncodingType().getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+        xmlGen.writeString(protocolVersionMinor.getEncodingType().getSerializedDescription());
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("value", String.valueOf(protocolVersionMinor.getValue()));
+        xmlGen.writeFieldName(KmipFieldNames.VALUE);
+        xmlGen.writeString(String.valueOf(protocolVersionMinor.getValue()));
         xmlGen.writeEndObject();
     }
 }
@@ -7,7 +7,6 @@ import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.ProtocolVersion;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
@@ -25,17 +24,11 @@ public class ProtocolVersionXmlSerializer extends KmipDataTypeXmlSerializer<Prot
         }
 
         // Start element with name from kmipTag
-        String elementName = protocolVersion.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(protocolVersion.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(protocolVersion);
 
-        ProtocolVersion.ProtocolVersionMajor protocolVersionMajor = protocolVersion.getProtocolVersionMajor();
-        String protocolVersionMajor_ = protocolVersion.getProtocolVersionMajor().getKmipTag().getDescription();
-        ProtocolVersion.ProtocolVersionMinor protocolVersionMinor = protocolVersion.getProtocolVersionMinor();
-        String protocolVersionMinor_ = protocolVersion.getProtocolVersionMinor().getKmipTag().getDescription();
-
-        provider.defaultSerializeField(protocolVersionMajor_, protocolVersionMajor, xmlGen);
-        provider.defaultSerializeField(protocolVersionMinor_, protocolVersionMinor, xmlGen);
+        writeChild(xmlGen, provider, protocolVersion.getProtocolVersionMajor());
+        writeChild(xmlGen, provider, protocolVersion.getProtocolVersionMinor());
         xmlGen.writeEndObject();
     }
 }
@@ -3,13 +3,13 @@ package org.purpleBean.kmip.codec.xml.serializer.kmip.common;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
-import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipContext;
 import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipFieldNames;
+import org.purpleBean.kmip.codec.KmipTextForms;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.AttributeValue;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -31,16 +31,16 @@ public class AttributeValueXmlSerializer extends KmipDataTypeXmlSerializer<Attri
         }
 
         // Start element with name from kmipTag
-        String elementName = attributeValue.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(attributeValue.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(attributeValue);
 
         xmlGen.setNextIsAttribute(true);
-        xmlGen.writeStringField("type", attributeValue.getEncodingType().getDescription());
+        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+        xmlGen.writeString(attributeValue.getEncodingType().getSerializedDescription());
 
-        if (attributeValue.getEncodingType() == EncodingType.STRUCTURE) {
-            xmlGen.writeFieldName("value");
-            List<?> fields = attributeValue.getValues();
+        if (attributeValue instanceof AttributeValue.StructureValue structure) {
+            xmlGen.writeFieldName(KmipFieldNames.VALUE);
+            List<?> fields = structure.getValues();
             xmlGen.writeStartArray();
             for (Object fieldValue : fields) {
                 if (fieldValue != null) {
@@ -50,9 +50,25 @@ public class AttributeValueXmlSerializer extends KmipDataTypeXmlSerializer<Attri
             xmlGen.writeEndArray();
         } else {
             xmlGen.setNextIsAttribute(true);
-            xmlGen.writeFieldName("value");
-            xmlGen.writeObject(attributeValue.getValue());
+            xmlGen.writeFieldName(KmipFieldNames.VALUE);
+            writePrimitive(attributeValue, xmlGen);
         }
         xmlGen.writeEndObject();
     }
+
+    /**
+     * Writes the value of a primitive attribute value straight from its typed field.
+     */
+    private static void writePrimitive(AttributeValue attributeValue, JsonGenerator gen) throws IOException {
+        switch (attributeValue) {
+            case AttributeValue.IntValue v -> gen.writeNumber(v.getInt());
+            case AttributeValue.LongValue v -> gen.writeNumber(v.getLong());
+            case AttributeValue.BoolValue v -> gen.writeBoolean(v.getBoolean());
+            case AttributeValue.DateTimeValue v -> gen.writeString(KmipTextForms.formatDateTime(v.getEpochSecond()));
+            case AttributeValue.TextValue v -> gen.writeString(v.getValue());
+            case AttributeValue.BytesValue v -> gen.writeObject(v.getValue());
+            case AttributeValue.BigIntValue v -> gen.writeObject(v.getValue());
+            case AttributeValue.StructureValue v -> throw new IllegalArgumentException("Structure values have no primitive encoding");
+        }
+    }
 }
@@ -9,7 +9,6 @@ import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.Attribute;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -28,16 +27,14 @@ public class AttributeXmlSerializer extends KmipDataTypeXmlSerializer<Attribute>
         }
 
         // Start element with name from kmipTag
-        String elementName = attribute.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(attribute.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(attribute);
 
         // Serialize all fields
         List<KmipDataType> values = attribute.getValues();
         for (KmipDataType kmipDataType : values) {
             if (kmipDataType != null && kmipDataType.getKmipTag() != null) {
-                String fieldName = kmipDataType.getKmipTag().getDescription();
-                serializers.defaultSerializeField(fieldName, kmipDataType, gen);
+                writeChild(gen, serializers, kmipDataType);
             }
         }
 
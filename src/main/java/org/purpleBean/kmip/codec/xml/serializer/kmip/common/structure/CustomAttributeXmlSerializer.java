@@ -9,7 +9,6 @@ import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.CustomAttribute;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -31,16 +30,14 @@ public class CustomAttributeXmlSerializer extends KmipDataTypeXmlSerializer<Cust
         }
 
         // Start element with name from kmipTag
-        String elementName = customAttribute.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(customAttribute.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(customAttribute);
 
         // Serialize all fields
         List<KmipDataType> values = customAttribute.getValues();
         for (KmipDataType kmipDataType : values) {
             if (kmipDataType != null && kmipDataType.getKmipTag() != null) {
-                String fieldName = kmipDataType.getKmipTag().getDescription();
-                serializers.defaultSerializeField(fieldName, kmipDataType, gen);
+                writeChild(gen, serializers, kmipDataType);
             }
         }
 
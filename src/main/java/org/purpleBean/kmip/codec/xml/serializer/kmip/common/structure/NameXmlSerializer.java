@@ -7,7 +7,6 @@ import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.Name;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -27,15 +26,14 @@ public class NameXmlSerializer extends KmipDataTypeXmlSerializer<Name> {
         }
 
         // Start element with name from kmipTag
-        String elementName = name.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(name.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(name);
 
         // Serialize all fields
         List<KmipDataType> values = name.getValues();
         for (KmipDataType kmipDataType : values) {
             if (kmipDataType != null && kmipDataType.getKmipTag() != null) {
-                serializers.defaultSerializeField(kmipDataType.getKmipTag().getDescription(), kmipDataType, gen);
+                writeChild(gen, serializers, kmipDataType);
             }
         }
 
@@ -9,7 +9,6 @@ import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.SampleStructure;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -29,15 +28,14 @@ public class SampleStructureXmlSerializer extends KmipDataTypeXmlSerializer<Samp
         }
 
         // Start element with name from kmipTag
-        String elementName = sampleStructure.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(sampleStructure.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(sampleStructure);
 
         // Serialize all fields
         List<KmipDataType> values = sampleStructure.getValues();
         for (KmipDataType kmipDataType : values) {
             if (kmipDataType != null && kmipDataType.getKmipTag() != null) {
-                serializers.defaultSerializeField(kmipDataType.getKmipTag().getDescription(), kmipDataType, gen);
+                writeChild(gen, serializers, kmipDataType);
             }
         }
 
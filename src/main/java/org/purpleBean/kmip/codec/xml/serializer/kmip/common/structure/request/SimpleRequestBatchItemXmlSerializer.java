@@ -7,7 +7,6 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestBatchItem;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 
 public class SimpleRequestBatchItemXmlSerializer extends KmipDataTypeXmlSerializer<SimpleRequestBatchItem> {
@@ -22,8 +21,7 @@ public class SimpleRequestBatchItemXmlSerializer extends KmipDataTypeXmlSerializ
         }
 
         // Start element with name from kmipTag
-        String elementName = batchItem.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(batchItem.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(batchItem);
 
         // If there were nested fields, they could be serialized here using:
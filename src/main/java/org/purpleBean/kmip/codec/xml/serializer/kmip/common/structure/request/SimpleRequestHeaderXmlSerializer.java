@@ -7,7 +7,6 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestHeader;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 
 public class SimpleRequestHeaderXmlSerializer extends KmipDataTypeXmlSerializer<SimpleRequestHeader> {
@@ -22,16 +21,11 @@ public class SimpleRequestHeaderXmlSerializer extends KmipDataTypeXmlSerializer<
         }
 
         // Start element with name from kmipTag
-        String elementName = header.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(header.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(header);
 
         // Serialize nested ProtocolVersion using its registered serializer
-        serializers.defaultSerializeField(
-                header.getProtocolVersion().getClass().getSimpleName(),
-                header.getProtocolVersion(),
-                gen
-        );
+        writeChild(gen, serializers, header.getProtocolVersion());
 
         // End element
         xmlGen.writeEndObject();
@@ -9,7 +9,6 @@ import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer;
 import org.purpleBean.kmip.common.structure.request.SimpleRequestMessage;
 
-import javax.xml.namespace.QName;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
@@ -28,16 +27,14 @@ public class SimpleRequestMessageXmlSerializer extends KmipDataTypeXmlSerializer
         }
 
         // Start element with name from kmipTag
-        String elementName = message.getKmipTag().getDescription();
-        xmlGen.setNextName(QName.valueOf(elementName));
+        xmlGen.setNextName(message.getKmipTag().getValue().getQName());
         xmlGen.writeStartObject(message);
 
         List<KmipDataType> values = message.getValues();
 
         for (KmipDataType value : values) {
             if (value != null) {
-                String fieldName = value.getKmipTag().getDescription();
-                serializers.defaultSerializeField(fieldName, value, gen);
+                writeChild(gen, serializers, value);
             }
         }
 
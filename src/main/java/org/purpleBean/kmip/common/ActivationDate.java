@@ -6,13 +6,15 @@ import lombok.NonNull;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.enumeration.State;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.Objects;
+import java.time.ZoneOffset;
 import java.util.Set;
 
 /**
  * KMIP ActivationDate attribute.
  */
+@KmipType(tag = KmipTag.Standard.ACTIVATION_DATE, encoding = EncodingType.DATE_TIME)
 @Data
 @Builder
 public class ActivationDate implements KmipDataType, KmipAttribute {
@@ -28,28 +30,34 @@ public class ActivationDate implements KmipDataType, KmipAttribute {
         }
     }
 
-    @NonNull
-    private final OffsetDateTime value;
+    /**
+     * Seconds since the epoch, the DateTime wire value; {@link #getValue()} presents it in UTC.
+     */
+    private final long epochSecond;
 
     public static ActivationDate of(@NonNull OffsetDateTime value) {
         return ActivationDate.builder().value(value).build();
     }
 
     public static ActivationDate of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof OffsetDateTime dateTime)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.DateTimeValue dateTime)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new ActivationDate(dateTime);
+        return ActivationDate.builder().epochSecond(dateTime.getEpochSecond()).build();
+    }
+
+    public OffsetDateTime getValue() {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
     }
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.ofDateTime(epochSecond);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
@@ -110,17 +118,29 @@ public class ActivationDate implements KmipDataType, KmipAttribute {
         return state.getValue().getValue() == State.Standard.PRE_ACTIVE.getValue();
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        ActivationDate that = (ActivationDate) o;
-        // Compare OffsetDateTime up to seconds to avoid flakiness
-        return this.value.withNano(0).equals(that.value.withNano(0));
-    }
+    public static class ActivationDateBuilder {
+        private long epochSecond;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean epochSecondSet;
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(value.withNano(0));
+        public ActivationDateBuilder epochSecond(long epochSecond) {
+            this.epochSecond = epochSecond;
+            this.epochSecondSet = true;
+            return this;
+        }
+
+        /**
+         * Sets the value, truncated to whole seconds as DateTime is encoded.
+         */
+        public ActivationDateBuilder value(@NonNull OffsetDateTime value) {
+            return epochSecond(value.toEpochSecond());
+        }
+
+        public ActivationDate build() {
+            if (!epochSecondSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new ActivationDate(epochSecond);
+        }
     }
 }
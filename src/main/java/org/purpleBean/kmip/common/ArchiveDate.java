@@ -6,12 +6,15 @@ import lombok.NonNull;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.enumeration.State;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Set;
 
 /**
  * KMIP ArchiveDate dataType.
  */
+@KmipType(tag = KmipTag.Standard.ARCHIVE_DATE, encoding = EncodingType.DATE_TIME)
 @Data
 @Builder
 public class ArchiveDate implements KmipDataType, KmipAttribute {
@@ -28,18 +31,24 @@ public class ArchiveDate implements KmipDataType, KmipAttribute {
         }
     }
 
-    @NonNull
-    private final OffsetDateTime value;
+    /**
+     * Seconds since the epoch, the DateTime wire value; {@link #getValue()} presents it in UTC.
+     */
+    private final long epochSecond;
 
     public static ArchiveDate of(@NonNull OffsetDateTime value) {
         return ArchiveDate.builder().value(value).build();
     }
 
     public static ArchiveDate of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof OffsetDateTime dateTime)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.DateTimeValue dateTime)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new ArchiveDate(dateTime);
+        return ArchiveDate.builder().epochSecond(dateTime.getEpochSecond()).build();
+    }
+
+    public OffsetDateTime getValue() {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
     }
 
     @Override
@@ -95,16 +104,42 @@ public class ArchiveDate implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.ofDateTime(epochSecond);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
     public String getCanonicalName() {
         return getAttributeName().getValue();
     }
+
+    public static class ArchiveDateBuilder {
+        private long epochSecond;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean epochSecondSet;
+
+        public ArchiveDateBuilder epochSecond(long epochSecond) {
+            this.epochSecond = epochSecond;
+            this.epochSecondSet = true;
+            return this;
+        }
+
+        /**
+         * Sets the value, truncated to whole seconds as DateTime is encoded.
+         */
+        public ArchiveDateBuilder value(@NonNull OffsetDateTime value) {
+            return epochSecond(value.toEpochSecond());
+        }
+
+        public ArchiveDate build() {
+            if (!epochSecondSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new ArchiveDate(epochSecond);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import java.util.Set;
 /**
  * KMIP AttributeIndex dataType.
  */
+@KmipType(tag = KmipTag.Standard.ATTRIBUTE_INDEX, encoding = EncodingType.INTEGER)
 @Data
 @Builder
 public class AttributeIndex implements KmipDataType {
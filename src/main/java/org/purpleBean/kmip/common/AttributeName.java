@@ -10,6 +10,7 @@ import java.util.Set;
 /**
  * KMIP AttributeName dataType.
  */
+@KmipType(tag = KmipTag.Standard.ATTRIBUTE_NAME, encoding = EncodingType.TEXT_STRING)
 @Data
 @Builder
 public class AttributeName implements KmipDataType {
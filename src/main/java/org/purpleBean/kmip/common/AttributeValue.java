@@ -1,24 +1,35 @@
 package org.purpleBean.kmip.common;
 
-import lombok.Builder;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.ToString;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.codec.KmipCodecManager;
 
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Set;
 
 /**
  * KMIP AttributeValue dataType.
+ * <p>
+ * Each value class holds its payload in the form it is encoded: Integer, Enumeration and Interval values in an
+ * {@code int}, LongInteger in a {@code long}, Boolean in a {@code boolean} and DateTime as seconds since the
+ * epoch. The hierarchy is sealed, so codecs switch over the value classes instead of testing the payload
+ * type. The typed factories ({@link #of(int)}, {@link #of(EncodingType, int)}, {@link #ofDateTime(long)}, ...)
+ * and the typed accessors of each value class do not box; {@link #getValue()} and
+ * {@link #of(EncodingType, Object)} remain for callers that handle values generically.
  */
-@Data
-@Builder
-public class AttributeValue implements KmipStructure, KmipDataType {
+@EqualsAndHashCode
+@ToString
+public abstract sealed class AttributeValue implements KmipStructure, KmipDataType
+        permits AttributeValue.IntValue, AttributeValue.LongValue, AttributeValue.BoolValue, AttributeValue.DateTimeValue,
+        AttributeValue.TextValue, AttributeValue.BytesValue, AttributeValue.BigIntValue, AttributeValue.StructureValue {
     public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.ATTRIBUTE_VALUE);
     private static final Set<KmipSpec> supportedVersions = Set.of(KmipSpec.UnknownVersion, KmipSpec.V1_2);
 
@@ -31,54 +42,111 @@ public class AttributeValue implements KmipStructure, KmipDataType {
         }
     }
 
-    @NonNull
-    private EncodingType encodingType;
-    @NonNull
-    private Object value;
-
-    private AttributeValue(@NonNull EncodingType encodingType, @NonNull Object value) {
-        if (encodingType == EncodingType.STRUCTURE && !(isValidStructureAttributeValue(value))
-                || encodingType == EncodingType.INTEGER && !(value instanceof Integer)
-                || encodingType == EncodingType.LONG_INTEGER && !(value instanceof Long)
-                || encodingType == EncodingType.BIG_INTEGER && !(value instanceof BigInteger)
-                || encodingType == EncodingType.ENUMERATION && !(value instanceof Integer)
-                || encodingType == EncodingType.BOOLEAN && !(value instanceof Boolean)
-                || encodingType == EncodingType.TEXT_STRING && !(value instanceof String)
-                || encodingType == EncodingType.BYTE_STRING && !(value instanceof ByteBuffer)
-                || encodingType == EncodingType.DATE_TIME && !(value instanceof OffsetDateTime)
-                || encodingType == EncodingType.INTERVAL && !(value instanceof Integer)
-        ) {
-            throw new IllegalArgumentException("Invalid attribute value: " + value);
-        }
+    private final EncodingType encodingType;
+
+    private AttributeValue(EncodingType encodingType) {
         this.encodingType = encodingType;
-        this.value = value;
     }
 
     public static boolean isValidStructureAttributeValue(@NonNull Object value) {
         if (value instanceof List<?> values) {
-            return values.stream().allMatch(v -> v instanceof KmipDataType);
+            for (Object v : values) {
+                if (!(v instanceof KmipDataType)) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
 
+    public static AttributeValueBuilder builder() {
+        return new AttributeValueBuilder();
+    }
+
+    /**
+     * Creates a value of the class matching the encoding type.
+     *
+     * @throws IllegalArgumentException if the value does not have the Java type of the encoding type
+     */
+    @SuppressWarnings("unchecked")
     public static AttributeValue of(@NonNull EncodingType encodingType, @NonNull Object value) {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        AttributeValue attributeValue = switch (encodingType) {
+            case INTEGER, ENUMERATION, INTERVAL -> value instanceof Integer i ? new IntValue(encodingType, i) : null;
+            case LONG_INTEGER -> value instanceof Long l ? new LongValue(l) : null;
+            case BOOLEAN -> value instanceof Boolean b ? new BoolValue(b) : null;
+            case DATE_TIME -> value instanceof OffsetDateTime dateTime ? new DateTimeValue(dateTime.toEpochSecond()) : null;
+            case TEXT_STRING -> value instanceof String s ? new TextValue(s) : null;
+            case BYTE_STRING -> value instanceof ByteBuffer bytes ? new BytesValue(bytes) : null;
+            case BIG_INTEGER -> value instanceof BigInteger bi ? new BigIntValue(bi) : null;
+            case STRUCTURE -> isValidStructureAttributeValue(value) ? new StructureValue((List<KmipDataType>) value) : null;
+        };
+        if (attributeValue == null) {
+            throw new IllegalArgumentException("Invalid attribute value: " + value);
+        }
+        return attributeValue;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the encoding type is not Integer, Enumeration or Interval
+     */
+    public static IntValue of(@NonNull EncodingType encodingType, int value) {
+        if (encodingType != EncodingType.INTEGER && encodingType != EncodingType.ENUMERATION && encodingType != EncodingType.INTERVAL) {
+            throw new IllegalArgumentException("Invalid attribute value: " + value);
+        }
+        return new IntValue(encodingType, value);
+    }
+
+    public static IntValue of(int value) {
+        return new IntValue(EncodingType.INTEGER, value);
+    }
+
+    public static LongValue of(long value) {
+        return new LongValue(value);
+    }
+
+    public static BoolValue of(boolean value) {
+        return new BoolValue(value);
+    }
+
+    public static TextValue of(@NonNull String value) {
+        return new TextValue(value);
+    }
+
+    public static DateTimeValue of(@NonNull OffsetDateTime value) {
+        return new DateTimeValue(value.toEpochSecond());
+    }
+
+    public static DateTimeValue ofDateTime(long epochSecond) {
+        return new DateTimeValue(epochSecond);
     }
 
-    public static AttributeValue of(@NonNull KmipDataType... values) {
-        return AttributeValue.of(EncodingType.STRUCTURE, List.of(values));
+    public static BytesValue of(@NonNull ByteBuffer value) {
+        return new BytesValue(value);
+    }
+
+    public static BigIntValue of(@NonNull BigInteger value) {
+        return new BigIntValue(value);
+    }
+
+    public static StructureValue of(@NonNull KmipDataType... values) {
+        return new StructureValue(List.of(values));
+    }
+
+    public static StructureValue of(@NonNull List<KmipDataType> values) {
+        return new StructureValue(values);
     }
 
     public static AttributeValue of(@NonNull Object value) {
         return switch (value) {
-            case KmipDataType av -> AttributeValue.of(EncodingType.STRUCTURE, List.of(av));
-            case Integer i -> AttributeValue.of(EncodingType.INTEGER, i);
-            case Long l -> AttributeValue.of(EncodingType.LONG_INTEGER, l);
-            case Boolean b -> AttributeValue.of(EncodingType.BOOLEAN, b);
-            case String s -> AttributeValue.of(EncodingType.TEXT_STRING, s);
-            case OffsetDateTime odt -> AttributeValue.of(EncodingType.DATE_TIME, odt);
-            case BigInteger bi -> AttributeValue.of(EncodingType.BIG_INTEGER, bi);
-            case ByteBuffer bb -> AttributeValue.of(EncodingType.BYTE_STRING, bb);
+            case KmipDataType av -> new StructureValue(List.of(av));
+            case Integer i -> of(i.intValue());
+            case Long l -> of(l.longValue());
+            case Boolean b -> of(b.booleanValue());
+            case String s -> of(s);
+            case OffsetDateTime odt -> of(odt);
+            case BigInteger bi -> of(bi);
+            case ByteBuffer bb -> of(bb);
             case List<?> list when isValidStructureAttributeValue(list) ->
                     AttributeValue.of(EncodingType.STRUCTURE, list);
             default -> {
@@ -89,9 +157,9 @@ public class AttributeValue implements KmipStructure, KmipDataType {
                 }
 
                 if (value instanceof String str) {
-                    yield AttributeValue.of(EncodingType.TEXT_STRING, str);
+                    yield of(str);
                 } else if (value instanceof ByteBuffer bb) {
-                    yield AttributeValue.of(EncodingType.BYTE_STRING, bb);
+                    yield of(bb);
                 } else {
                     throw new IllegalArgumentException("Unsupported encoded value type: " + value);
                 }
@@ -104,17 +172,211 @@ public class AttributeValue implements KmipStructure, KmipDataType {
         return kmipTag;
     }
 
+    @Override
+    public EncodingType getEncodingType() {
+        return encodingType;
+    }
+
     @Override
     public boolean isSupported() {
         KmipSpec spec = KmipContext.getSpec();
         return supportedVersions.contains(spec);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * @return the payload as an object; the primitive value classes box it, their typed accessors do not
+     */
+    public abstract Object getValue();
+
+    /**
+     * @throws IllegalArgumentException unless this is a Structure value
+     */
+    @Override
     public List<KmipDataType> getValues() {
-        if (encodingType == EncodingType.STRUCTURE && !(isValidStructureAttributeValue(value))) {
-            throw new IllegalArgumentException("Invalid encoding type");
+        throw new IllegalArgumentException("Invalid encoding type");
+    }
+
+    /**
+     * Integer, Enumeration or Interval value.
+     */
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class IntValue extends AttributeValue {
+        private final int value;
+
+        private IntValue(EncodingType encodingType, int value) {
+            super(encodingType);
+            this.value = value;
+        }
+
+        public int getInt() {
+            return value;
+        }
+
+        @Override
+        public Integer getValue() {
+            return value;
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class LongValue extends AttributeValue {
+        private final long value;
+
+        private LongValue(long value) {
+            super(EncodingType.LONG_INTEGER);
+            this.value = value;
+        }
+
+        public long getLong() {
+            return value;
+        }
+
+        @Override
+        public Long getValue() {
+            return value;
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class BoolValue extends AttributeValue {
+        private final boolean value;
+
+        private BoolValue(boolean value) {
+            super(EncodingType.BOOLEAN);
+            this.value = value;
+        }
+
+        public boolean getBoolean() {
+            return value;
+        }
+
+        @Override
+        public Boolean getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * DateTime value, held as whole seconds since the epoch as it is encoded.
+     */
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class DateTimeValue extends AttributeValue {
+        private final long epochSecond;
+
+        private DateTimeValue(long epochSecond) {
+            super(EncodingType.DATE_TIME);
+            this.epochSecond = epochSecond;
+        }
+
+        public long getEpochSecond() {
+            return epochSecond;
+        }
+
+        /**
+         * @return the value in UTC
+         */
+        @Override
+        public OffsetDateTime getValue() {
+            return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class TextValue extends AttributeValue {
+        private final String value;
+
+        private TextValue(String value) {
+            super(EncodingType.TEXT_STRING);
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class BytesValue extends AttributeValue {
+        private final ByteBuffer value;
+
+        private BytesValue(ByteBuffer value) {
+            super(EncodingType.BYTE_STRING);
+            this.value = value;
+        }
+
+        @Override
+        public ByteBuffer getValue() {
+            return value;
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class BigIntValue extends AttributeValue {
+        private final BigInteger value;
+
+        private BigIntValue(BigInteger value) {
+            super(EncodingType.BIG_INTEGER);
+            this.value = value;
+        }
+
+        @Override
+        public BigInteger getValue() {
+            return value;
+        }
+    }
+
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static final class StructureValue extends AttributeValue {
+        private final List<KmipDataType> values;
+
+        private StructureValue(List<KmipDataType> values) {
+            super(EncodingType.STRUCTURE);
+            this.values = values;
+        }
+
+        @Override
+        public List<KmipDataType> getValue() {
+            return values;
+        }
+
+        @Override
+        public List<KmipDataType> getValues() {
+            return values;
+        }
+    }
+
+    /**
+     * Builder kept from the former single-class form; {@link #build()} delegates to
+     * {@link AttributeValue#of(EncodingType, Object)}.
+     */
+    public static final class AttributeValueBuilder {
+        private EncodingType encodingType;
+        private Object value;
+
+        private AttributeValueBuilder() {
+        }
+
+        public AttributeValueBuilder encodingType(@NonNull EncodingType encodingType) {
+            this.encodingType = encodingType;
+            return this;
+        }
+
+        public AttributeValueBuilder value(@NonNull Object value) {
+            this.value = value;
+            return this;
+        }
+
+        public AttributeValue build() {
+            return AttributeValue.of(encodingType, value);
         }
-        return (List<KmipDataType>) value;
     }
 }
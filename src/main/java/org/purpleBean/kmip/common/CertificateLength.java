@@ -11,6 +11,7 @@ import java.util.Set;
 /**
  * KMIP CertificateLength dataType.
  */
+@KmipType(tag = KmipTag.Standard.CERTIFICATE_LENGTH, encoding = EncodingType.INTEGER)
 @Data
 @Builder
 public class CertificateLength implements KmipDataType, KmipAttribute {
@@ -28,18 +29,17 @@ public class CertificateLength implements KmipDataType, KmipAttribute {
     }
 
 
-    @NonNull
-    private final Integer value;
+    private final int value;
 
-    public static CertificateLength of(@NonNull Integer value) {
+    public static CertificateLength of(int value) {
         return CertificateLength.builder().value(value).build();
     }
 
     public static CertificateLength of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof Integer value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.IntValue intValue)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new CertificateLength(value);
+        return new CertificateLength(intValue.getInt());
     }
 
     @Override
@@ -95,16 +95,35 @@ public class CertificateLength implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(encodingType, value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
     public String getCanonicalName() {
         return getAttributeName().getValue();
     }
+
+    public static class CertificateLengthBuilder {
+        private int value;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean valueSet;
+
+        public CertificateLengthBuilder value(int value) {
+            this.value = value;
+            this.valueSet = true;
+            return this;
+        }
+
+        public CertificateLength build() {
+            if (!valueSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new CertificateLength(value);
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.util.Set;
 /**
  * KMIP ContactInformation dataType.
  */
+@KmipType(tag = KmipTag.Standard.CONTACT_INFORMATION, encoding = EncodingType.TEXT_STRING)
 @Data
 @Builder
 public class ContactInformation implements KmipDataType, KmipAttribute {
@@ -35,10 +36,10 @@ public class ContactInformation implements KmipDataType, KmipAttribute {
     }
 
     public static ContactInformation of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof String value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.TextValue text)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new ContactInformation(value);
+        return new ContactInformation(text.getValue());
     }
 
     @Override
@@ -94,12 +95,12 @@ public class ContactInformation implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
@@ -11,9 +11,9 @@ import java.util.Set;
  * KMIP CryptographicLength attribute.
  * Represents the length in bits of a cryptographic key or secret.
  */
+@KmipType(tag = KmipTag.Standard.CRYPTOGRAPHIC_LENGTH, encoding = EncodingType.INTEGER)
 @Data
 @Builder
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class CryptographicLength implements KmipAttribute, KmipDataType {
 
     public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.CRYPTOGRAPHIC_LENGTH);
@@ -29,8 +29,14 @@ public class CryptographicLength implements KmipAttribute, KmipDataType {
         }
     }
 
-    @NonNull
-    private final Integer value;
+    private final int value;
+
+    private CryptographicLength(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("CryptographicLength value must be a non-negative integer");
+        }
+        this.value = value;
+    }
 
     /**
      * Creates a new CryptographicLength instance from an AttributeValue.
@@ -41,10 +47,10 @@ public class CryptographicLength implements KmipAttribute, KmipDataType {
      */
     public static CryptographicLength fromValue(@NonNull AttributeValue attributeValue) {
         Objects.requireNonNull(attributeValue, "Attribute value cannot be null");
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof Integer)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.IntValue intValue)) {
             throw new IllegalArgumentException("Invalid attribute value for CryptographicLength");
         }
-        return new CryptographicLength((Integer) attributeValue.getValue());
+        return new CryptographicLength(intValue.getInt());
     }
 
     /**
@@ -52,6 +58,7 @@ public class CryptographicLength implements KmipAttribute, KmipDataType {
      *
      * @param value the length in bits
      * @return a new CryptographicLength instance
+     * @throws IllegalArgumentException if the value is negative
      */
     public static CryptographicLength of(int value) {
         return new CryptographicLength(value);
@@ -139,4 +146,23 @@ public class CryptographicLength implements KmipAttribute, KmipDataType {
     public boolean isMultiInstanceAllowed() {
         return false;
     }
+
+    public static class CryptographicLengthBuilder {
+        private int value;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean valueSet;
+
+        public CryptographicLengthBuilder value(int value) {
+            this.value = value;
+            this.valueSet = true;
+            return this;
+        }
+
+        public CryptographicLength build() {
+            if (!valueSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new CryptographicLength(value);
+        }
+    }
 }
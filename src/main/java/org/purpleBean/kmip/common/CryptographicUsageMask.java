@@ -11,6 +11,7 @@ import java.util.Set;
 /**
  * KMIP CryptographicUsageMask dataType.
  */
+@KmipType(tag = KmipTag.Standard.CRYPTOGRAPHIC_USAGE_MASK, encoding = EncodingType.INTEGER)
 @Data
 @Builder
 public class CryptographicUsageMask implements KmipDataType, KmipAttribute {
@@ -27,18 +28,17 @@ public class CryptographicUsageMask implements KmipDataType, KmipAttribute {
         }
     }
 
-    @NonNull
-    private final Integer value;
+    private final int value;
 
-    public static CryptographicUsageMask of(@NonNull Integer value) {
+    public static CryptographicUsageMask of(int value) {
         return CryptographicUsageMask.builder().value(value).build();
     }
 
     public static CryptographicUsageMask of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof Integer value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.IntValue intValue)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new CryptographicUsageMask(value);
+        return new CryptographicUsageMask(intValue.getInt());
     }
 
 
@@ -95,16 +95,35 @@ public class CryptographicUsageMask implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(encodingType, value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
     public String getCanonicalName() {
         return getAttributeName().getValue();
     }
+
+    public static class CryptographicUsageMaskBuilder {
+        private int value;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean valueSet;
+
+        public CryptographicUsageMaskBuilder value(int value) {
+            this.value = value;
+            this.valueSet = true;
+            return this;
+        }
+
+        public CryptographicUsageMask build() {
+            if (!valueSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new CryptographicUsageMask(value);
+        }
+    }
 }
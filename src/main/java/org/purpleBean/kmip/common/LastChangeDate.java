@@ -6,12 +6,15 @@ import lombok.NonNull;
 import org.purpleBean.kmip.*;
 import org.purpleBean.kmip.common.enumeration.State;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Set;
 
 /**
  * KMIP LastChangeDate dataType.
  */
+@KmipType(tag = KmipTag.Standard.LAST_CHANGE_DATE, encoding = EncodingType.DATE_TIME)
 @Data
 @Builder
 public class LastChangeDate implements KmipDataType, KmipAttribute {
@@ -28,18 +31,24 @@ public class LastChangeDate implements KmipDataType, KmipAttribute {
         }
     }
 
-    @NonNull
-    private final OffsetDateTime value;
+    /**
+     * Seconds since the epoch, the DateTime wire value; {@link #getValue()} presents it in UTC.
+     */
+    private final long epochSecond;
 
     public static LastChangeDate of(@NonNull OffsetDateTime value) {
         return LastChangeDate.builder().value(value).build();
     }
 
     public static LastChangeDate of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof OffsetDateTime value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.DateTimeValue dateTime)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new LastChangeDate(value);
+        return LastChangeDate.builder().epochSecond(dateTime.getEpochSecond()).build();
+    }
+
+    public OffsetDateTime getValue() {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
     }
 
     @Override
@@ -95,16 +104,42 @@ public class LastChangeDate implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.ofDateTime(epochSecond);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
     public String getCanonicalName() {
         return getAttributeName().getValue();
     }
+
+    public static class LastChangeDateBuilder {
+        private long epochSecond;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean epochSecondSet;
+
+        public LastChangeDateBuilder epochSecond(long epochSecond) {
+            this.epochSecond = epochSecond;
+            this.epochSecondSet = true;
+            return this;
+        }
+
+        /**
+         * Sets the value, truncated to whole seconds as DateTime is encoded.
+         */
+        public LastChangeDateBuilder value(@NonNull OffsetDateTime value) {
+            return epochSecond(value.toEpochSecond());
+        }
+
+        public LastChangeDate build() {
+            if (!epochSecondSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new LastChangeDate(epochSecond);
+        }
+    }
 }
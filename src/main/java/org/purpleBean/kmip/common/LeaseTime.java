@@ -13,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * KMIP LeaseTime dataType.
  */
+@KmipType(tag = KmipTag.Standard.LEASE_TIME, encoding = EncodingType.INTERVAL)
 @Data
 @Builder
 public class LeaseTime implements KmipDataType, KmipAttribute {
@@ -29,18 +30,17 @@ public class LeaseTime implements KmipDataType, KmipAttribute {
         }
     }
 
-    @NonNull
-    private final Integer value;
+    private final int value;
     
-    public static LeaseTime of(@NonNull Integer value) {
+    public static LeaseTime of(int value) {
         return LeaseTime.builder().value(value).build();
     }
 
     public static LeaseTime of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof Integer value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.IntValue intValue)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new LeaseTime(value);
+        return new LeaseTime(intValue.getInt());
     }
 
     @Override
@@ -96,16 +96,35 @@ public class LeaseTime implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(encodingType, value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
     public String getCanonicalName() {
         return getAttributeName().getValue();
     }
+
+    public static class LeaseTimeBuilder {
+        private int value;
+        // The value was required before it became a primitive, so build() still fails without one
+        private boolean valueSet;
+
+        public LeaseTimeBuilder value(int value) {
+            this.value = value;
+            this.valueSet = true;
+            return this;
+        }
+
+        public LeaseTime build() {
+            if (!valueSet) {
+                throw new NullPointerException("value is marked non-null but is null");
+            }
+            return new LeaseTime(value);
+        }
+    }
 }
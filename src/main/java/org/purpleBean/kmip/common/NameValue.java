@@ -14,6 +14,7 @@ import java.util.Set;
  * <p>According to KMIP v1.2, a NameValue is a text string that represents
  * the actual name value in a Name structure.</p>
  */
+@KmipType(tag = KmipTag.Standard.NAME_VALUE, encoding = EncodingType.TEXT_STRING)
 @Data
 @Builder
 public class NameValue implements KmipDataType {
@@ -13,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * KMIP ObjectGroup dataType.
  */
+@KmipType(tag = KmipTag.Standard.OBJECT_GROUP, encoding = EncodingType.TEXT_STRING)
 @Data
 @Builder
 public class ObjectGroup implements KmipDataType, KmipAttribute {
@@ -37,10 +38,10 @@ public class ObjectGroup implements KmipDataType, KmipAttribute {
     }
 
     public static ObjectGroup of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof String value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.TextValue text)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return ObjectGroup.builder().value(value).build();
+        return ObjectGroup.builder().value(text.getValue()).build();
     }
 
     @Override
@@ -96,12 +97,12 @@ public class ObjectGroup implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
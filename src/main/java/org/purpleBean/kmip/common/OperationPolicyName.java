@@ -11,6 +11,7 @@ import java.util.Set;
 /**
  * KMIP OperationPolicyName dataType.
  */
+@KmipType(tag = KmipTag.Standard.OPERATION_POLICY_NAME, encoding = EncodingType.TEXT_STRING)
 @Data
 @Builder
 public class OperationPolicyName implements KmipDataType, KmipAttribute {
@@ -36,10 +37,10 @@ public class OperationPolicyName implements KmipDataType, KmipAttribute {
     }
 
     public static OperationPolicyName of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof String value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.TextValue text)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new OperationPolicyName(value);
+        return new OperationPolicyName(text.getValue());
     }
 
     @Override
@@ -95,12 +96,12 @@ public class OperationPolicyName implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
@@ -11,6 +11,7 @@ import java.util.Set;
 /**
  * KMIP UniqueIdentifier dataType.
  */
+@KmipType(tag = KmipTag.Standard.UNIQUE_IDENTIFIER, encoding = EncodingType.TEXT_STRING)
 @Data
 @Builder
 public class UniqueIdentifier implements KmipDataType, KmipAttribute {
@@ -30,11 +31,23 @@ public class UniqueIdentifier implements KmipDataType, KmipAttribute {
     @NonNull
     private final String value;
 
+    /**
+     * Creates a UniqueIdentifier, rejecting a blank value.
+     *
+     * @throws IllegalArgumentException if the value is blank
+     */
+    public static UniqueIdentifier of(@NonNull String value) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("UniqueIdentifier value cannot be empty");
+        }
+        return new UniqueIdentifier(value);
+    }
+
     public static UniqueIdentifier of(@NonNull AttributeName attributeName, @NonNull AttributeValue attributeValue) {
-        if (attributeValue.getEncodingType() != encodingType || !(attributeValue.getValue() instanceof String value)) {
+        if (attributeValue.getEncodingType() != encodingType || !(attributeValue instanceof AttributeValue.TextValue text)) {
             throw new IllegalArgumentException("Invalid attribute value");
         }
-        return new UniqueIdentifier(value);
+        return new UniqueIdentifier(text.getValue());
     }
 
     @Override
@@ -90,12 +103,12 @@ public class UniqueIdentifier implements KmipDataType, KmipAttribute {
 
     @Override
     public AttributeValue getAttributeValue() {
-        return AttributeValue.builder().encodingType(encodingType).value(value).build();
+        return AttributeValue.of(value);
     }
 
     @Override
     public AttributeName getAttributeName() {
-        return AttributeName.of(StringUtils.covertPascalToTitleCase(kmipTag.getDescription()));
+        return AttributeName.of(KmipAttributeNames.titleName(kmipTag.getValue()));
     }
 
     @Override
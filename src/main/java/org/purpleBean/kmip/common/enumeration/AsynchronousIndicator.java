@@ -4,27 +4,21 @@ import lombok.*;
 import org.purpleBean.kmip.*;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * KMIP AsynchronousIndicator enumeration.
  */
+@KmipType(tag = KmipTag.Standard.ASYNCHRONOUS_INDICATOR, encoding = EncodingType.ENUMERATION)
 @Data
 @Builder
 public class AsynchronousIndicator implements KmipEnumeration {
     public static final KmipTag kmipTag = new KmipTag(KmipTag.Standard.ASYNCHRONOUS_INDICATOR);
     public static final EncodingType encodingType = EncodingType.ENUMERATION;
     private static final Set<KmipSpec> supportedVersions = Set.of(KmipSpec.UnknownVersion, KmipSpec.V2_1, KmipSpec.V3_0);
-    private static final Map<Integer, Value> VALUE_REGISTRY = new ConcurrentHashMap<>();
-    private static final Map<String, Value> DESCRIPTION_REGISTRY = new ConcurrentHashMap<>();
-    private static final Map<String, Value> EXTENSION_DESCRIPTION_REGISTRY = new ConcurrentHashMap<>();
+    private static final EnumerationRegistry<Value> REGISTRY = new EnumerationRegistry<>(
+            Standard.values(), Value::getValue, Value::getDescription, Value::getSupportedVersions);
 
     static {
-        for (Standard s : Standard.values()) {
-            VALUE_REGISTRY.put(s.value, s);
-            DESCRIPTION_REGISTRY.put(s.description, s);
-        }
-
         for (KmipSpec spec : supportedVersions) {
             if (spec == KmipSpec.UnknownVersion || spec == KmipSpec.UnsupportedVersion) continue;
             KmipDataType.register(spec, kmipTag.getValue(), encodingType, AsynchronousIndicator.class);
@@ -65,16 +59,7 @@ public class AsynchronousIndicator implements KmipEnumeration {
         if (supportedVersions.isEmpty()) {
             throw new IllegalArgumentException("At least one supported version must be specified");
         }
-        Value existingEnumByValue = VALUE_REGISTRY.get(value);
-        Value existingEnumByDescription = EXTENSION_DESCRIPTION_REGISTRY.get(description);
-        if (existingEnumByValue != null || existingEnumByDescription != null) {
-            return existingEnumByValue != null ? existingEnumByValue : existingEnumByDescription;
-        }
-        Extension custom = new Extension(value, description, supportedVersions);
-        VALUE_REGISTRY.putIfAbsent(custom.getValue(), custom);
-        DESCRIPTION_REGISTRY.putIfAbsent(custom.getDescription(), custom);
-        EXTENSION_DESCRIPTION_REGISTRY.putIfAbsent(custom.getDescription(), custom);
-        return custom;
+        return REGISTRY.register(new Extension(value, description, supportedVersions));
     }
 
     /**
@@ -82,12 +67,13 @@ public class AsynchronousIndicator implements KmipEnumeration {
      */
     public static Value fromName(String name) {
         KmipSpec spec = KmipContext.getSpec();
-        Value v = DESCRIPTION_REGISTRY.get(name);
-        return Optional.ofNullable(v)
-                .filter(Value::isSupported)
-                .orElseThrow(() -> new NoSuchElementException(
-                        String.format("No AsynchronousIndicator value found for '%s' in KMIP spec %s", name, spec)
-                ));
+        Value v = REGISTRY.fromName(name, spec);
+        if (v == null) {
+            throw new NoSuchElementException(
+                    String.format("No AsynchronousIndicator value found for '%s' in KMIP spec %s", name, spec)
+            );
+        }
+        return v;
     }
 
     /**
@@ -95,19 +81,20 @@ public class AsynchronousIndicator implements KmipEnumeration {
      */
     public static Value fromValue(int value) {
         KmipSpec spec = KmipContext.getSpec();
-        Value v = VALUE_REGISTRY.get(value);
-        return Optional.ofNullable(v)
-                .filter(Value::isSupported)
-                .orElseThrow(() -> new NoSuchElementException(
-                        String.format("No AsynchronousIndicator value found for %d in KMIP spec %s", value, spec)
-                ));
+        Value v = REGISTRY.fromValue(value, spec);
+        if (v == null) {
+            throw new NoSuchElementException(
+                    String.format("No AsynchronousIndicator value found for %d in KMIP spec %s", value, spec)
+            );
+        }
+        return v;
     }
 
     /**
      * Get registered values.
      */
     public static Collection<Value> registeredValues() {
-        return List.copyOf(EXTENSION_DESCRIPTION_REGISTRY.values());
+        return REGISTRY.extensions();
     }
 
     @Override
@@ -167,6 +154,8 @@ public class AsynchronousIndicator implements KmipEnumeration {
 
         String getDescription();
 
+        Set<KmipSpec> getSupportedVersions();
+
         boolean isSupported();
 
         boolean isCustom();
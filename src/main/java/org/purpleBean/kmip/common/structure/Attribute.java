@@ -51,16 +51,9 @@ public class Attribute implements KmipStructure {
     }
 
     public static KmipAttribute toKmipAttribute(@NonNull Attribute attribute) {
-        KmipSpec spec = KmipContext.getSpec();
-        String name = attribute.getAttributeName().getValue();
-        KmipTag.Value attrTag;
-        if (CustomAttribute.isValidCustomAttributeName(name)) {
-            attrTag = KmipTag.Standard.ATTRIBUTE;
-        } else {
-            attrTag = KmipTag.fromName(spec, StringUtils.covertTitleToPascalCase(name));
-        }
-        BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> attributeBuilder = KmipAttribute.getAttributeBuilderFromRegistry(
-                attrTag,
+        BiFunction<AttributeName, AttributeValue, ? extends KmipAttribute> attributeBuilder = KmipAttributeNames.builder(
+                KmipContext.getSpec(),
+                attribute.getAttributeName().getValue(),
                 attribute.getAttributeValue().getEncodingType()
         );
         return attributeBuilder.apply(attribute.getAttributeName(), attribute.getAttributeValue());
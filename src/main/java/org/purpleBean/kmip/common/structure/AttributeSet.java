@@ -0,0 +1,604 @@
+package org.purpleBean.kmip.common.structure;
+
+import lombok.NonNull;
+import org.purpleBean.kmip.KmipAttribute;
+import org.purpleBean.kmip.KmipAttributeNames;
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.codec.ttlv.TtlvSegments;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+import org.purpleBean.kmip.common.AttributeIndex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * The attributes of a managed object, indexed by tag.
+ * <p>
+ * Attributes sharing a tag form a group. Groups are kept in insertion order in parallel arrays, and an
+ * open-addressing table keyed on the packed tag value maps a tag to its group, so lookups, updates and removals
+ * do not scan the attributes. A group holds its attribute directly, or, when the attribute allows multiple
+ * instances, its instances sorted by {@link AttributeIndex}, stored sparsely so a large index read from a
+ * request costs no more than a small one; removing an instance leaves the indexes of the others unchanged and
+ * {@link #add(KmipAttribute)} reuses the lowest free index. Custom
+ * {@code x-}/{@code y-} attributes all have the {@link KmipTag.Standard#ATTRIBUTE} tag, so they are grouped
+ * by name instead.
+ * <p>
+ * Iteration, {@link #toAttributes()} and {@link #writeTo(TtlvMapper, TtlvSegments)} visit the groups in
+ * insertion order and the instances of a group by index. Not thread-safe.
+ */
+public final class AttributeSet implements Iterable<KmipAttribute> {
+    private static final int CUSTOM_TAG = KmipTag.Standard.ATTRIBUTE.getValue();
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // Group number + 1 of each tag, 0 marking a free slot
+    private int[] table;
+    private int[] groupTags;
+    // KmipAttribute for single-instance groups, Instances for multi-instance groups, null once removed
+    private Object[] groupValues;
+    private int groupCount;
+    private int removedGroups;
+    private int size;
+    private final Map<String, Integer> customGroups = new HashMap<>();
+
+    public AttributeSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AttributeSet(int expectedTags) {
+        if (expectedTags < 0) {
+            throw new IllegalArgumentException("expectedTags cannot be negative");
+        }
+        int groups = Math.max(expectedTags, DEFAULT_CAPACITY);
+        this.table = new int[tableCapacityFor(groups)];
+        this.groupTags = new int[groups];
+        this.groupValues = new Object[groups];
+    }
+
+    public static AttributeSet of(@NonNull KmipAttribute... attributes) {
+        return of(Arrays.asList(attributes));
+    }
+
+    /**
+     * Adds the attributes in order, as by {@link #add(KmipAttribute)}.
+     */
+    public static AttributeSet of(@NonNull Collection<? extends KmipAttribute> attributes) {
+        AttributeSet set = new AttributeSet(attributes.size());
+        for (KmipAttribute attribute : attributes) {
+            set.add(attribute);
+        }
+        return set;
+    }
+
+    /**
+     * Builds a set from Attribute structures, placing each at its Attribute Index (0 when absent).
+     *
+     * @throws IllegalArgumentException if two structures have the same name and index
+     */
+    public static AttributeSet fromAttributes(@NonNull Collection<Attribute> attributes) {
+        AttributeSet set = new AttributeSet(attributes.size());
+        for (Attribute attribute : attributes) {
+            AttributeIndex index = attribute.getAttributeIndex();
+            KmipAttribute kmipAttribute = Attribute.toKmipAttribute(attribute);
+            if (set.set(kmipAttribute, index != null ? index.getValue() : 0) != null) {
+                throw new IllegalArgumentException("Duplicate attribute: " + kmipAttribute.getCanonicalName());
+            }
+        }
+        return set;
+    }
+
+    /**
+     * @return the number of attribute instances
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(@NonNull KmipTag.Value tag) {
+        return findGroup(tag.getValue()) >= 0;
+    }
+
+    /**
+     * @return the attribute with the tag, or its instance with index 0; {@code null} if absent
+     */
+    public KmipAttribute get(@NonNull KmipTag.Value tag) {
+        return get(tag, 0);
+    }
+
+    /**
+     * @return the instance with the tag and index, or {@code null} if absent
+     */
+    public KmipAttribute get(@NonNull KmipTag.Value tag, int index) {
+        return instance(findGroup(tag.getValue()), index);
+    }
+
+    /**
+     * @return the instances with the tag in index order, or an empty list
+     */
+    public List<KmipAttribute> getAll(@NonNull KmipTag.Value tag) {
+        return instances(findGroup(tag.getValue()));
+    }
+
+    /**
+     * Looks up a standard attribute by title-case or PascalCase name, or a custom attribute by its name.
+     *
+     * @throws NoSuchElementException if the name is neither custom nor a tag of the current spec
+     */
+    public KmipAttribute get(@NonNull String name) {
+        return get(name, 0);
+    }
+
+    /**
+     * @throws NoSuchElementException if the name is neither custom nor a tag of the current spec
+     */
+    public KmipAttribute get(@NonNull String name, int index) {
+        return instance(findGroup(name), index);
+    }
+
+    /**
+     * @throws NoSuchElementException if the name is neither custom nor a tag of the current spec
+     */
+    public List<KmipAttribute> getAll(@NonNull String name) {
+        return instances(findGroup(name));
+    }
+
+    /**
+     * Adds an attribute, as a new instance when its tag is already present.
+     *
+     * @return the Attribute Index of the added instance
+     * @throws IllegalArgumentException if the tag is present and the attribute does not allow multiple instances
+     */
+    public int add(@NonNull KmipAttribute attribute) {
+        int group = findGroup(attribute);
+        if (group < 0) {
+            addGroup(attribute, 0);
+            return 0;
+        }
+        if (!(groupValues[group] instanceof Instances instances)) {
+            throw new IllegalArgumentException(attribute.getCanonicalName() + " does not allow multiple instances");
+        }
+        int index = instances.firstFreeIndex();
+        instances.put(index, attribute);
+        size++;
+        return index;
+    }
+
+    /**
+     * Sets the attribute, or its instance with index 0.
+     *
+     * @return the replaced attribute, or {@code null}
+     */
+    public KmipAttribute set(@NonNull KmipAttribute attribute) {
+        return set(attribute, 0);
+    }
+
+    /**
+     * Sets the instance with the given index.
+     *
+     * @return the replaced instance, or {@code null}
+     * @throws IllegalArgumentException if the index is negative, or not 0 for an attribute that does not allow
+     *                                  multiple instances
+     */
+    public KmipAttribute set(@NonNull KmipAttribute attribute, int index) {
+        if (index < 0 || (index > 0 && !attribute.isMultiInstanceAllowed())) {
+            throw new IllegalArgumentException("Invalid attribute index " + index + " for " + attribute.getCanonicalName());
+        }
+        int group = findGroup(attribute);
+        if (group < 0) {
+            addGroup(attribute, index);
+            return null;
+        }
+        if (groupValues[group] instanceof Instances instances) {
+            KmipAttribute previous = instances.put(index, attribute);
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+        KmipAttribute previous = (KmipAttribute) groupValues[group];
+        groupValues[group] = attribute;
+        return previous;
+    }
+
+    /**
+     * Removes the instance with the tag and index; the indexes of other instances are unchanged.
+     *
+     * @return the removed instance, or {@code null}
+     */
+    public KmipAttribute remove(@NonNull KmipTag.Value tag, int index) {
+        return removeInstance(findGroup(tag.getValue()), index);
+    }
+
+    /**
+     * @throws NoSuchElementException if the name is neither custom nor a tag of the current spec
+     */
+    public KmipAttribute remove(@NonNull String name, int index) {
+        return removeInstance(findGroup(name), index);
+    }
+
+    /**
+     * Removes every instance with the tag.
+     *
+     * @return the number of instances removed
+     */
+    public int removeAll(@NonNull KmipTag.Value tag) {
+        int group = findGroup(tag.getValue());
+        if (group < 0) {
+            return 0;
+        }
+        List<KmipAttribute> removed = instances(group);
+        size -= removed.size();
+        dropGroup(group, removed.get(0));
+        return removed.size();
+    }
+
+    /**
+     * @return the attributes as Attribute structures, with an Attribute Index on instances other than index 0
+     */
+    public List<Attribute> toAttributes() {
+        List<Attribute> attributes = new ArrayList<>(size);
+        forEachIndexed((attribute, index) -> attributes.add(toAttribute(attribute, index)));
+        return attributes;
+    }
+
+    /**
+     * Appends every attribute as an Attribute structure, in iteration order, without building the structures.
+     * Instances other than index 0 carry an Attribute Index.
+     */
+    public void writeTo(@NonNull TtlvMapper mapper, @NonNull TtlvSegments out) throws IOException {
+        byte[] tag = Attribute.kmipTag.getTagBytes();
+        byte type = Attribute.encodingType.getTypeValue();
+        for (int group = 0; group < groupCount; group++) {
+            Object value = groupValues[group];
+            if (value instanceof Instances instances) {
+                for (int i = 0; i < instances.count; i++) {
+                    writeAttribute(instances.values[i], instances.indexes[i], mapper, out, tag, type);
+                }
+            } else if (value != null) {
+                writeAttribute((KmipAttribute) value, 0, mapper, out, tag, type);
+            }
+        }
+    }
+
+    /**
+     * Encodes every attribute as back-to-back Attribute structures.
+     *
+     * @see #writeTo(TtlvMapper, TtlvSegments)
+     */
+    public ByteBuffer[] writeAsSegments(@NonNull TtlvMapper mapper) throws IOException {
+        TtlvSegments out = new TtlvSegments();
+        writeTo(mapper, out);
+        return out.toArray();
+    }
+
+    /**
+     * Visits every attribute with its Attribute Index, in iteration order.
+     */
+    public void forEachIndexed(@NonNull ObjIntConsumer<KmipAttribute> action) {
+        for (int group = 0; group < groupCount; group++) {
+            Object value = groupValues[group];
+            if (value instanceof Instances instances) {
+                for (int i = 0; i < instances.count; i++) {
+                    action.accept(instances.values[i], instances.indexes[i]);
+                }
+            } else if (value != null) {
+                action.accept((KmipAttribute) value, 0);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<KmipAttribute> iterator() {
+        return new Iterator<>() {
+            private int group;
+            private int index;
+            private KmipAttribute next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public KmipAttribute next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                KmipAttribute current = next;
+                next = advance();
+                return current;
+            }
+
+            private KmipAttribute advance() {
+                for (; group < groupCount; group++, index = 0) {
+                    Object value = groupValues[group];
+                    if (value instanceof Instances instances) {
+                        if (index < instances.count) {
+                            return instances.values[index++];
+                        }
+                    } else if (value != null && index++ == 0) {
+                        return (KmipAttribute) value;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "AttributeSet[", "]");
+        for (KmipAttribute attribute : this) {
+            joiner.add(attribute.toString());
+        }
+        return joiner.toString();
+    }
+
+    private static Attribute toAttribute(KmipAttribute attribute, int index) {
+        return Attribute.builder()
+                .attributeName(attribute.getAttributeName())
+                .attributeIndex(index > 0 ? AttributeIndex.of(index) : null)
+                .attributeValue(attribute.getAttributeValue())
+                .build();
+    }
+
+    private static void writeAttribute(KmipAttribute attribute, int index, TtlvMapper mapper, TtlvSegments out,
+                                       byte[] tag, byte type) throws IOException {
+        TtlvSegments.Structure structure = out.beginStructure(tag, type);
+        mapper.writeSegments(attribute.getAttributeName(), out);
+        if (index > 0) {
+            mapper.writeSegments(AttributeIndex.of(index), out);
+        }
+        mapper.writeSegments(attribute.getAttributeValue(), out);
+        out.endStructure(structure);
+    }
+
+    private KmipAttribute instance(int group, int index) {
+        if (group < 0 || index < 0) {
+            return null;
+        }
+        Object value = groupValues[group];
+        if (value instanceof Instances instances) {
+            return instances.get(index);
+        }
+        return index == 0 ? (KmipAttribute) value : null;
+    }
+
+    private List<KmipAttribute> instances(int group) {
+        if (group < 0) {
+            return List.of();
+        }
+        Object value = groupValues[group];
+        if (value instanceof Instances instances) {
+            return new ArrayList<>(Arrays.asList(instances.values).subList(0, instances.count));
+        }
+        return List.of((KmipAttribute) value);
+    }
+
+    private KmipAttribute removeInstance(int group, int index) {
+        KmipAttribute removed = instance(group, index);
+        if (removed == null) {
+            return null;
+        }
+        size--;
+        if (groupValues[group] instanceof Instances instances) {
+            instances.remove(index);
+            if (instances.count > 0) {
+                return removed;
+            }
+        }
+        dropGroup(group, removed);
+        return removed;
+    }
+
+    private int findGroup(KmipAttribute attribute) {
+        int tag = attribute.getKmipTag().getValue().getValue();
+        if (tag == CUSTOM_TAG) {
+            Integer group = customGroups.get(attribute.getAttributeName().getValue());
+            return group != null ? group : -1;
+        }
+        return findGroup(tag);
+    }
+
+    private int findGroup(String name) {
+        if (KmipAttributeNames.isCustomAttribute(name)) {
+            Integer group = customGroups.get(name);
+            return group != null ? group : -1;
+        }
+        return findGroup(KmipAttributeNames.tag(KmipContext.getSpec(), name).getValue());
+    }
+
+    private int findGroup(int tag) {
+        int mask = table.length - 1;
+        for (int slot = hash(tag) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int group = table[slot] - 1;
+            if (groupTags[group] == tag) {
+                return group;
+            }
+        }
+        return -1;
+    }
+
+    private void addGroup(KmipAttribute attribute, int index) {
+        if (groupCount == groupTags.length) {
+            if (removedGroups * 2 >= groupCount) {
+                compact();
+            } else {
+                groupTags = Arrays.copyOf(groupTags, groupCount * 2);
+                groupValues = Arrays.copyOf(groupValues, groupCount * 2);
+            }
+        }
+        int group = groupCount++;
+        int tag = attribute.getKmipTag().getValue().getValue();
+        groupTags[group] = tag;
+        if (attribute.isMultiInstanceAllowed()) {
+            Instances instances = new Instances();
+            instances.put(index, attribute);
+            groupValues[group] = instances;
+        } else {
+            groupValues[group] = attribute;
+        }
+        size++;
+        if (tag == CUSTOM_TAG) {
+            customGroups.put(attribute.getAttributeName().getValue(), group);
+            return;
+        }
+        if ((groupCount - removedGroups) * 2 > table.length) {
+            rehash(table.length * 2);
+        } else {
+            insert(tag, group);
+        }
+    }
+
+    /**
+     * Unlinks an emptied group; {@code member} is any of its former instances, naming the group if custom.
+     */
+    private void dropGroup(int group, KmipAttribute member) {
+        int tag = groupTags[group];
+        if (tag == CUSTOM_TAG) {
+            customGroups.remove(member.getAttributeName().getValue());
+        } else {
+            delete(tag);
+        }
+        groupValues[group] = null;
+        removedGroups++;
+        if (removedGroups == groupCount) {
+            groupCount = 0;
+            removedGroups = 0;
+        }
+    }
+
+    private void insert(int tag, int group) {
+        int mask = table.length - 1;
+        int slot = hash(tag) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = group + 1;
+    }
+
+    /**
+     * Removes the tag from the table, shifting later slots of its probe run back so no tombstones are needed.
+     */
+    private void delete(int tag) {
+        int mask = table.length - 1;
+        int slot = hash(tag) & mask;
+        while (groupTags[table[slot] - 1] != tag) {
+            slot = (slot + 1) & mask;
+        }
+        int free = slot;
+        for (int next = (free + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = hash(groupTags[table[next] - 1]) & mask;
+            // Move the entry back unless its home slot lies cyclically after the free slot
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                table[free] = table[next];
+                free = next;
+            }
+        }
+        table[free] = 0;
+    }
+
+    /**
+     * Drops removed groups, keeping the others in order, and rebuilds the table and custom name index.
+     */
+    private void compact() {
+        int live = 0;
+        for (int group = 0; group < groupCount; group++) {
+            if (groupValues[group] != null) {
+                groupTags[live] = groupTags[group];
+                groupValues[live] = groupValues[group];
+                live++;
+            }
+        }
+        Arrays.fill(groupValues, live, groupCount, null);
+        groupCount = live;
+        removedGroups = 0;
+        customGroups.clear();
+        for (int group = 0; group < groupCount; group++) {
+            if (groupTags[group] == CUSTOM_TAG) {
+                customGroups.put(instances(group).get(0).getAttributeName().getValue(), group);
+            }
+        }
+        rehash(table.length);
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        for (int group = 0; group < groupCount; group++) {
+            if (groupValues[group] != null && groupTags[group] != CUSTOM_TAG) {
+                insert(groupTags[group], group);
+            }
+        }
+    }
+
+    private static int tableCapacityFor(int groups) {
+        return Integer.highestOneBit(Math.max(groups, 1) * 4 - 1);
+    }
+
+    private static int hash(int tag) {
+        int h = tag * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The instances of a multi-instance group in parallel arrays sorted by Attribute Index.
+     */
+    private static final class Instances {
+        private int[] indexes = new int[2];
+        private KmipAttribute[] values = new KmipAttribute[2];
+        private int count;
+
+        KmipAttribute get(int index) {
+            int position = Arrays.binarySearch(indexes, 0, count, index);
+            return position >= 0 ? values[position] : null;
+        }
+
+        /**
+         * @return the replaced instance, or {@code null}
+         */
+        KmipAttribute put(int index, KmipAttribute attribute) {
+            int position = Arrays.binarySearch(indexes, 0, count, index);
+            if (position >= 0) {
+                KmipAttribute previous = values[position];
+                values[position] = attribute;
+                return previous;
+            }
+            position = -position - 1;
+            if (count == indexes.length) {
+                indexes = Arrays.copyOf(indexes, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            System.arraycopy(indexes, position, indexes, position + 1, count - position);
+            System.arraycopy(values, position, values, position + 1, count - position);
+            indexes[position] = index;
+            values[position] = attribute;
+            count++;
+            return null;
+        }
+
+        void remove(int index) {
+            int position = Arrays.binarySearch(indexes, 0, count, index);
+            if (position >= 0) {
+                count--;
+                System.arraycopy(indexes, position + 1, indexes, position, count - position);
+                System.arraycopy(values, position + 1, values, position, count - position);
+                values[count] = null;
+            }
+        }
+
+        int firstFreeIndex() {
+            // Indexes are distinct and sorted, so indexes[i] >= i, and the first i where they differ is free
+            int index = 0;
+            while (index < count && indexes[index] == index) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
@@ -11,7 +11,6 @@ import org.purpleBean.kmip.common.enumeration.State;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -90,13 +89,11 @@ public class CustomAttribute implements KmipStructure, KmipAttribute {
     }
 
     public static boolean isCustomServerAttribute(@NonNull String name) {
-        Pattern pattern = Pattern.compile("^y-.*?", Pattern.CASE_INSENSITIVE);
-        return pattern.matcher(name).matches();
+        return KmipAttributeNames.isCustomServerAttribute(name);
     }
 
     public static boolean isCustomClientAttribute(@NonNull String name) {
-        Pattern pattern = Pattern.compile("^x-.*?", Pattern.CASE_INSENSITIVE);
-        return pattern.matcher(name).matches();
+        return KmipAttributeNames.isCustomClientAttribute(name);
     }
 
     @Override
@@ -0,0 +1,598 @@
+package org.purpleBean.kmip.locate;
+
+import lombok.NonNull;
+import org.purpleBean.kmip.KmipAttribute;
+import org.purpleBean.kmip.KmipAttributeNames;
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.common.AttributeValue;
+import org.purpleBean.kmip.common.structure.Attribute;
+import org.purpleBean.kmip.common.structure.AttributeSet;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory secondary indexes over a population of managed objects, answering Locate queries without
+ * scanning every object.
+ * <p>
+ * Each object is an {@link AttributeSet} registered under its identifier. Attributes of the indexed tags are
+ * entered in one of three index types:
+ * <ul>
+ *   <li>{@link IndexType#HASH}: posting lists keyed by attribute value, for high-cardinality attributes
+ *   such as Name, Object Group and Unique Identifier</li>
+ *   <li>{@link IndexType#BITMAP}: a bitmap per enumeration value, for low-cardinality attributes such as
+ *   State, Object Type and Cryptographic Algorithm</li>
+ *   <li>{@link IndexType#RANGE}: posting lists in a sorted map keyed by the integer or date-time value,
+ *   for Activation Date, Destroy Date and Cryptographic Length</li>
+ * </ul>
+ * A query is a collection of Attribute filters, all of which an object must match. A filter on a range-indexed
+ * attribute matches that value; two filters on the same range-indexed attribute match the inclusive range
+ * between them, as KMIP Locate does for dates. Each filter becomes a condition with a cardinality estimate;
+ * bitmap conditions are intersected word by word, then the most selective condition drives the search and
+ * every candidate it yields is probed against the others. Filters on attributes that are not indexed are
+ * checked on the candidates' attribute sets, and only lead the search when nothing else does.
+ * <p>
+ * Registered attribute sets are read by queries and must not be modified afterwards; {@link #put} a new set
+ * to update an object. Queries may run concurrently; updates are exclusive.
+ */
+public final class LocateIndex {
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The indexes used by {@link #LocateIndex()}
+     */
+    public static final Map<KmipTag.Value, IndexType> DEFAULT_INDEXES = Map.of(
+            KmipTag.Standard.NAME, IndexType.HASH,
+            KmipTag.Standard.OBJECT_GROUP, IndexType.HASH,
+            KmipTag.Standard.UNIQUE_IDENTIFIER, IndexType.HASH,
+            KmipTag.Standard.STATE, IndexType.BITMAP,
+            KmipTag.Standard.OBJECT_TYPE, IndexType.BITMAP,
+            KmipTag.Standard.CRYPTOGRAPHIC_ALGORITHM, IndexType.BITMAP,
+            KmipTag.Standard.ACTIVATION_DATE, IndexType.RANGE,
+            KmipTag.Standard.DESTROY_DATE, IndexType.RANGE,
+            KmipTag.Standard.CRYPTOGRAPHIC_LENGTH, IndexType.RANGE
+    );
+
+    public enum IndexType {
+        HASH,
+        BITMAP,
+        RANGE
+    }
+
+    private final Map<Integer, TagIndex> indexes = new HashMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private AttributeSet[] objects = new AttributeSet[INITIAL_CAPACITY];
+    private int[] freeOrdinals = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int nextOrdinal;
+
+    public LocateIndex() {
+        this(DEFAULT_INDEXES);
+    }
+
+    /**
+     * @param indexTypes the index type of each indexed tag; attributes with other tags are not indexed
+     */
+    public LocateIndex(@NonNull Map<? extends KmipTag.Value, IndexType> indexTypes) {
+        for (Map.Entry<? extends KmipTag.Value, IndexType> entry : indexTypes.entrySet()) {
+            KmipTag.Value tag = entry.getKey();
+            TagIndex index = switch (entry.getValue()) {
+                case HASH -> new HashIndex(tag);
+                case BITMAP -> new BitmapIndex(tag);
+                case RANGE -> new RangeIndex(tag);
+            };
+            indexes.put(tag.getValue(), index);
+        }
+    }
+
+    /**
+     * @return the number of registered objects
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(@NonNull String id) {
+        return get(id) != null;
+    }
+
+    /**
+     * @return the attribute set registered under the identifier, or {@code null}
+     */
+    public AttributeSet get(@NonNull String id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal != null ? objects[ordinal] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registers or replaces the attributes of an object.
+     *
+     * @throws IllegalArgumentException if an attribute of a bitmap or range-indexed tag does not have an integer
+     *                                  or date-time value; the index is left unchanged
+     */
+    public void put(@NonNull String id, @NonNull AttributeSet attributes) {
+        for (KmipAttribute attribute : attributes) {
+            TagIndex index = indexes.get(attribute.getKmipTag().getValue().getValue());
+            if (index != null) {
+                index.validate(attribute.getAttributeValue());
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(id);
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                update(ordinal, objects[ordinal], false);
+            } else {
+                ordinal = allocate();
+                ordinals.put(id, ordinal);
+                ids[ordinal] = id;
+                live.set(ordinal);
+            }
+            objects[ordinal] = attributes;
+            update(ordinal, attributes, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return whether an object was registered under the identifier
+     */
+    public boolean remove(@NonNull String id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return false;
+            }
+            update(ordinal, objects[ordinal], false);
+            objects[ordinal] = null;
+            ids[ordinal] = null;
+            live.clear(ordinal);
+            if (freeCount == freeOrdinals.length) {
+                freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+            }
+            freeOrdinals[freeCount++] = ordinal;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the identifiers of all objects matching every filter, in no particular order
+     * @throws IllegalArgumentException if more than two filters name the same range-indexed attribute
+     */
+    public List<String> locate(@NonNull Collection<Attribute> filters) {
+        return locate(filters, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maximumItems the largest number of identifiers to return
+     * @return the identifiers of up to {@code maximumItems} objects matching every filter, in no particular order
+     * @throws IllegalArgumentException if {@code maximumItems} is negative or more than two filters name the
+     *                                  same range-indexed attribute
+     * @throws NoSuchElementException   if a filter names an attribute unknown to the current spec
+     */
+    public List<String> locate(@NonNull Collection<Attribute> filters, int maximumItems) {
+        if (maximumItems < 0) {
+            throw new IllegalArgumentException("maximumItems cannot be negative");
+        }
+        Map<Object, FilterGroup> groups = group(filters);
+        lock.readLock().lock();
+        try {
+            List<Condition> conditions = plan(groups);
+            Condition lead = conditions.get(0);
+            List<String> result = new ArrayList<>();
+            for (int ordinal = lead.next(0); ordinal >= 0 && result.size() < maximumItems; ordinal = lead.next(ordinal + 1)) {
+                if (matchesAll(conditions, ordinal)) {
+                    result.add(ids[ordinal]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean matchesAll(List<Condition> conditions, int ordinal) {
+        // The lead is checked too, as its candidates may be a superset of its matches
+        for (Condition condition : conditions) {
+            if (!condition.matches(ordinal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<Object, FilterGroup> group(Collection<Attribute> filters) {
+        Map<Object, FilterGroup> groups = new LinkedHashMap<>();
+        for (Attribute filter : filters) {
+            String name = filter.getAttributeName().getValue();
+            KmipTag.Value tag = KmipAttributeNames.isCustomAttribute(name) ? null : KmipAttributeNames.tag(KmipContext.getSpec(), name);
+            Object key = tag != null ? tag : name;
+            groups.computeIfAbsent(key, k -> new FilterGroup(tag, name, new ArrayList<>()))
+                    .values().add(filter.getAttributeValue());
+        }
+        return groups;
+    }
+
+    /**
+     * @return the conditions of the query, the one to drive the search first
+     */
+    private List<Condition> plan(Map<Object, FilterGroup> groups) {
+        List<Condition> conditions = new ArrayList<>();
+        for (FilterGroup group : groups.values()) {
+            TagIndex index = group.tag() != null ? indexes.get(group.tag().getValue()) : null;
+            if (index != null) {
+                index.addConditions(group.values(), objects, conditions);
+            } else {
+                for (AttributeValue value : group.values()) {
+                    conditions.add(new ResidualCondition(group, value, objects, live));
+                }
+            }
+        }
+        // Intersect all bitmap conditions up front, 64 objects per word
+        BitSet bitmap = null;
+        for (Iterator<Condition> it = conditions.iterator(); it.hasNext(); ) {
+            if (it.next() instanceof BitmapCondition condition) {
+                it.remove();
+                if (bitmap == null) {
+                    bitmap = (BitSet) condition.bits().clone();
+                } else {
+                    bitmap.and(condition.bits());
+                }
+            }
+        }
+        if (bitmap != null) {
+            conditions.add(new BitmapCondition(bitmap));
+        }
+        if (conditions.isEmpty()) {
+            conditions.add(new BitmapCondition(live));
+        }
+        int lead = 0;
+        long leadEstimate = Long.MAX_VALUE;
+        for (int i = 0; i < conditions.size(); i++) {
+            long estimate = conditions.get(i).estimate();
+            if (estimate < leadEstimate) {
+                lead = i;
+                leadEstimate = estimate;
+            }
+        }
+        Collections.swap(conditions, 0, lead);
+        return conditions;
+    }
+
+    private void update(int ordinal, AttributeSet attributes, boolean add) {
+        for (KmipAttribute attribute : attributes) {
+            TagIndex index = indexes.get(attribute.getKmipTag().getValue().getValue());
+            if (index == null) {
+                continue;
+            }
+            if (add) {
+                index.add(attribute.getAttributeValue(), ordinal);
+            } else {
+                index.remove(attribute.getAttributeValue(), ordinal);
+            }
+        }
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeOrdinals[--freeCount];
+        }
+        if (nextOrdinal == ids.length) {
+            ids = Arrays.copyOf(ids, nextOrdinal * 2);
+            objects = Arrays.copyOf(objects, nextOrdinal * 2);
+        }
+        return nextOrdinal++;
+    }
+
+    private static List<KmipAttribute> instances(AttributeSet attributes, FilterGroup group) {
+        return group.tag() != null ? attributes.getAll(group.tag()) : attributes.getAll(group.name());
+    }
+
+    private static long rangeKey(AttributeValue value) {
+        return switch (value) {
+            case AttributeValue.IntValue intValue -> intValue.getInt();
+            case AttributeValue.LongValue longValue -> longValue.getLong();
+            case AttributeValue.DateTimeValue dateTime -> dateTime.getEpochSecond();
+            default -> throw new IllegalArgumentException("Range index needs an integer or date-time value: " + value);
+        };
+    }
+
+    private record FilterGroup(KmipTag.Value tag, String name, List<AttributeValue> values) {
+    }
+
+    /**
+     * One filter of a query.
+     */
+    private interface Condition {
+        /**
+         * @return an upper bound on the number of matching objects
+         */
+        long estimate();
+
+        /**
+         * @return the smallest ordinal not less than {@code from} that may match, or -1
+         */
+        int next(int from);
+
+        boolean matches(int ordinal);
+    }
+
+    private record PostingCondition(Postings postings) implements Condition {
+        @Override
+        public long estimate() {
+            return postings.size();
+        }
+
+        @Override
+        public int next(int from) {
+            return postings.next(from);
+        }
+
+        @Override
+        public boolean matches(int ordinal) {
+            return postings.contains(ordinal);
+        }
+    }
+
+    private record BitmapCondition(BitSet bits) implements Condition {
+        @Override
+        public long estimate() {
+            return bits.cardinality();
+        }
+
+        @Override
+        public int next(int from) {
+            return bits.nextSetBit(from);
+        }
+
+        @Override
+        public boolean matches(int ordinal) {
+            return bits.get(ordinal);
+        }
+    }
+
+    /**
+     * Objects with an instance of a range-indexed attribute between two keys. The candidates are only collected
+     * and sorted if this condition drives the search.
+     */
+    private static final class RangeCondition implements Condition {
+        private final KmipTag.Value tag;
+        private final long low;
+        private final long high;
+        private final Collection<Postings> postings;
+        private final AttributeSet[] objects;
+        private int[] candidates;
+
+        private RangeCondition(KmipTag.Value tag, long low, long high, Collection<Postings> postings, AttributeSet[] objects) {
+            this.tag = tag;
+            this.low = low;
+            this.high = high;
+            this.postings = postings;
+            this.objects = objects;
+        }
+
+        @Override
+        public long estimate() {
+            long estimate = 0;
+            for (Postings posting : postings) {
+                estimate += posting.size();
+            }
+            return estimate;
+        }
+
+        @Override
+        public int next(int from) {
+            if (candidates == null) {
+                int[] collected = new int[(int) estimate()];
+                int size = 0;
+                for (Postings posting : postings) {
+                    size = posting.copyTo(collected, size);
+                }
+                Arrays.sort(collected);
+                candidates = collected;
+            }
+            int position = Arrays.binarySearch(candidates, from);
+            if (position < 0) {
+                position = -position - 1;
+            }
+            return position < candidates.length ? candidates[position] : -1;
+        }
+
+        @Override
+        public boolean matches(int ordinal) {
+            for (KmipAttribute attribute : objects[ordinal].getAll(tag)) {
+                long key = rangeKey(attribute.getAttributeValue());
+                if (key >= low && key <= high) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A filter on an attribute that is not indexed, checked against each candidate's attribute set.
+     */
+    private record ResidualCondition(FilterGroup group, AttributeValue value, AttributeSet[] objects,
+                                     BitSet live) implements Condition {
+        @Override
+        public long estimate() {
+            return Long.MAX_VALUE - 1;
+        }
+
+        @Override
+        public int next(int from) {
+            return live.nextSetBit(from);
+        }
+
+        @Override
+        public boolean matches(int ordinal) {
+            for (KmipAttribute attribute : instances(objects[ordinal], group)) {
+                if (attribute.getAttributeValue().equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private abstract static class TagIndex {
+        final KmipTag.Value tag;
+
+        TagIndex(KmipTag.Value tag) {
+            this.tag = tag;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the value cannot be a key of this index
+         */
+        void validate(AttributeValue value) {
+        }
+
+        abstract void add(AttributeValue value, int ordinal);
+
+        abstract void remove(AttributeValue value, int ordinal);
+
+        abstract void addConditions(List<AttributeValue> values, AttributeSet[] objects, List<Condition> out);
+    }
+
+    private static final class HashIndex extends TagIndex {
+        private static final Postings EMPTY = new Postings();
+        private final Map<AttributeValue, Postings> postings = new HashMap<>();
+
+        HashIndex(KmipTag.Value tag) {
+            super(tag);
+        }
+
+        @Override
+        void add(AttributeValue value, int ordinal) {
+            postings.computeIfAbsent(value, v -> new Postings()).add(ordinal);
+        }
+
+        @Override
+        void remove(AttributeValue value, int ordinal) {
+            Postings posting = postings.get(value);
+            if (posting != null) {
+                posting.remove(ordinal);
+                if (posting.isEmpty()) {
+                    postings.remove(value);
+                }
+            }
+        }
+
+        @Override
+        void addConditions(List<AttributeValue> values, AttributeSet[] objects, List<Condition> out) {
+            // An object must have an instance equal to each filter
+            for (AttributeValue value : values) {
+                out.add(new PostingCondition(postings.getOrDefault(value, EMPTY)));
+            }
+        }
+    }
+
+    private static final class BitmapIndex extends TagIndex {
+        private static final BitSet EMPTY = new BitSet();
+        private final Map<Integer, BitSet> bitmaps = new HashMap<>();
+
+        BitmapIndex(KmipTag.Value tag) {
+            super(tag);
+        }
+
+        private static int key(AttributeValue value) {
+            if (value instanceof AttributeValue.IntValue intValue) {
+                return intValue.getInt();
+            }
+            throw new IllegalArgumentException("Bitmap index needs an enumeration or integer value: " + value);
+        }
+
+        private BitSet bits(AttributeValue value) {
+            return bitmaps.getOrDefault(key(value), EMPTY);
+        }
+
+        @Override
+        void validate(AttributeValue value) {
+            key(value);
+        }
+
+        @Override
+        void add(AttributeValue value, int ordinal) {
+            bitmaps.computeIfAbsent(key(value), k -> new BitSet()).set(ordinal);
+        }
+
+        @Override
+        void remove(AttributeValue value, int ordinal) {
+            BitSet bits = bitmaps.get(key(value));
+            if (bits != null) {
+                bits.clear(ordinal);
+            }
+        }
+
+        @Override
+        void addConditions(List<AttributeValue> values, AttributeSet[] objects, List<Condition> out) {
+            for (AttributeValue value : values) {
+                out.add(new BitmapCondition(bits(value)));
+            }
+        }
+    }
+
+    private static final class RangeIndex extends TagIndex {
+        private final NavigableMap<Long, Postings> postings = new TreeMap<>();
+
+        RangeIndex(KmipTag.Value tag) {
+            super(tag);
+        }
+
+        @Override
+        void validate(AttributeValue value) {
+            rangeKey(value);
+        }
+
+        @Override
+        void add(AttributeValue value, int ordinal) {
+            postings.computeIfAbsent(rangeKey(value), k -> new Postings()).add(ordinal);
+        }
+
+        @Override
+        void remove(AttributeValue value, int ordinal) {
+            long key = rangeKey(value);
+            Postings posting = postings.get(key);
+            if (posting != null) {
+                posting.remove(ordinal);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+
+        @Override
+        void addConditions(List<AttributeValue> values, AttributeSet[] objects, List<Condition> out) {
+            if (values.size() > 2) {
+                throw new IllegalArgumentException("At most two filters may bound " + tag.getDescription());
+            }
+            long first = rangeKey(values.get(0));
+            long last = rangeKey(values.get(values.size() - 1));
+            long low = Math.min(first, last);
+            long high = Math.max(first, last);
+            out.add(new RangeCondition(tag, low, high, postings.subMap(low, true, high, true).values(), objects));
+        }
+    }
+}
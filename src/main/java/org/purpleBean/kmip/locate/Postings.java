@@ -0,0 +1,68 @@
+package org.purpleBean.kmip.locate;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of object ordinals, the posting list of one indexed key.
+ */
+final class Postings {
+    private int[] ordinals = new int[1];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int ordinal) {
+        return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    void add(int ordinal) {
+        // Ordinals are mostly handed out in increasing order, so appending is the common case
+        int position = size == 0 || ordinals[size - 1] < ordinal ? size : Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (position < 0) {
+            position = -position - 1;
+        } else if (position < size) {
+            return;
+        }
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+        ordinals[position] = ordinal;
+        size++;
+    }
+
+    void remove(int ordinal) {
+        int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (position >= 0) {
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * @return the smallest ordinal not less than {@code from}, or -1
+     */
+    int next(int from) {
+        int position = Arrays.binarySearch(ordinals, 0, size, from);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return position < size ? ordinals[position] : -1;
+    }
+
+    /**
+     * Copies the ordinals into {@code destination} at {@code offset}.
+     *
+     * @return the offset after the copied ordinals
+     */
+    int copyTo(int[] destination, int offset) {
+        System.arraycopy(ordinals, 0, destination, offset, size);
+        return offset + size;
+    }
+}
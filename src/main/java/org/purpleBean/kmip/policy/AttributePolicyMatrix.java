@@ -0,0 +1,284 @@
+package org.purpleBean.kmip.policy;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.purpleBean.kmip.KmipAttribute;
+import org.purpleBean.kmip.KmipAttributeNames;
+import org.purpleBean.kmip.KmipContext;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Precomputed answers of the {@link KmipAttribute} lifecycle policy methods, so a request's attributes are
+ * checked with a few bitwise operations instead of a virtual call per attribute.
+ * <p>
+ * The matrix holds one bitmap per {@link Operation} and {@link State.Standard} value, or a single one for
+ * operations that do not depend on the state, with a bit per attribute tag that is set when the operation is
+ * permitted. A batch is
+ * validated by setting the bits of the requested tags in a mask and clearing the permitted ones; only when
+ * bits remain are the attributes walked again to report each violation.
+ * <p>
+ * The policy methods are instance methods and an attribute class cannot be instantiated without a value, so
+ * the row of a tag is compiled from the first attribute of that tag the matrix sees, or from a prototype
+ * passed to {@link #compile}. This relies on the policy of a standard attribute depending on its class only.
+ * Custom attributes, whose policy depends on the name prefix, get one row for client ({@code x-}) and one for
+ * server ({@code y-}) attributes. Attributes whose class differs from the one a row was compiled from, and
+ * objects in an extension state, are checked by calling the policy methods directly.
+ * <p>
+ * The compiled rows are published copy-on-write, so validation never locks.
+ */
+public final class AttributePolicyMatrix {
+    private static final State.Standard[] STANDARD_STATES = State.Standard.values();
+    // A column per standard state, by ordinal; operations that do not depend on the state use column 0
+    private static final int COLUMNS = STANDARD_STATES.length;
+    private static final State[] COLUMN_STATES = new State[COLUMNS];
+    // Slots 0 and 1 are custom client and custom server attributes, followed by the tags by index
+    private static final int CUSTOM_CLIENT_SLOT = 0;
+    private static final int CUSTOM_SERVER_SLOT = 1;
+    private static final int TAG_SLOT_OFFSET = 2;
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    static {
+        for (int column = 0; column < COLUMNS; column++) {
+            State.Standard standard = STANDARD_STATES[column];
+            COLUMN_STATES[column] = KmipContext.withSpec(KmipSpec.UnknownVersion, () -> new State(standard));
+        }
+    }
+
+    /**
+     * The requests an attribute policy is checked for.
+     */
+    public enum Operation {
+        /**
+         * The client sets the attribute in a Create or Register request
+         */
+        INITIALIZE(false),
+        /**
+         * The client adds an instance with Add Attribute, which requires it to be modifiable by the client
+         */
+        ADD(true),
+        /**
+         * The client changes the value with Modify Attribute
+         */
+        MODIFY(true),
+        /**
+         * The client removes an instance with Delete Attribute
+         */
+        DELETE(false),
+        /**
+         * The server sets the attribute when creating the object
+         */
+        SERVER_INITIALIZE(false),
+        /**
+         * The server changes the value
+         */
+        SERVER_MODIFY(true);
+
+        private final boolean stateDependent;
+
+        Operation(boolean stateDependent) {
+            this.stateDependent = stateDependent;
+        }
+
+        /**
+         * @return true if the permission depends on the state of the object, which must then be given
+         */
+        public boolean isStateDependent() {
+            return stateDependent;
+        }
+
+        boolean permits(KmipAttribute attribute, State state) {
+            return switch (this) {
+                case INITIALIZE -> attribute.isClientInitializable();
+                case ADD, MODIFY -> attribute.isClientModifiable(state);
+                case DELETE -> attribute.isClientDeletable();
+                case SERVER_INITIALIZE -> attribute.isServerInitializable();
+                case SERVER_MODIFY -> attribute.isServerModifiable(state);
+            };
+        }
+    }
+
+    /**
+     * An attribute of a batch the operation is not permitted on.
+     */
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static final class Violation {
+        /**
+         * Position of the attribute in the validated batch
+         */
+        private final int position;
+        private final KmipAttribute attribute;
+        private final Operation operation;
+        private final State state;
+    }
+
+    private volatile Table table = new Table(new long[OPERATIONS.length * COLUMNS][0], new long[0], new Class<?>[0]);
+
+    /**
+     * Compiles the row of the prototype's tag, unless it is already compiled.
+     */
+    public void compile(@NonNull KmipAttribute prototype) {
+        slot(prototype, table);
+    }
+
+    /**
+     * @param state the state of the object; ignored, and may be {@code null}, if the operation is not
+     *              {@linkplain Operation#isStateDependent() state dependent}
+     * @return true if the operation is permitted on the attribute of an object in the state
+     */
+    public boolean isAllowed(@NonNull Operation operation, State state, @NonNull KmipAttribute attribute) {
+        int column = column(operation, state);
+        int slot = slot(attribute, table);
+        if (column < 0 || slot < 0) {
+            return operation.permits(attribute, state);
+        }
+        // Rows are never changed once compiled, so the latest table has the attribute's row
+        return table.allows(operation, column, slot);
+    }
+
+    /**
+     * Checks the operation against every attribute of a batch.
+     *
+     * @param state the state of the object; ignored, and may be {@code null}, if the operation is not
+     *              {@linkplain Operation#isStateDependent() state dependent}
+     * @return every attribute the operation is not permitted on, in batch order; empty if the batch is valid
+     */
+    public List<Violation> validate(@NonNull Operation operation, State state,
+                                    @NonNull Iterable<? extends KmipAttribute> attributes) {
+        int column = column(operation, state);
+        List<KmipAttribute> batch = new ArrayList<>();
+        attributes.forEach(batch::add);
+        int[] slots = new int[batch.size()];
+        boolean direct = column < 0;
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = slot(batch.get(i), table);
+            direct |= slots[i] < 0;
+        }
+        Table current = table;
+
+        if (!direct) {
+            long[] requested = new long[current.words()];
+            for (int slot : slots) {
+                requested[slot >>> 6] |= 1L << slot;
+            }
+            long[] allowed = current.allowed[current.row(operation, column)];
+            long denied = 0;
+            for (int word = 0; word < requested.length; word++) {
+                denied |= requested[word] & ~allowed[word];
+            }
+            if (denied == 0) {
+                return List.of();
+            }
+        }
+
+        List<Violation> violations = new ArrayList<>();
+        for (int i = 0; i < slots.length; i++) {
+            KmipAttribute attribute = batch.get(i);
+            boolean permitted = column < 0 || slots[i] < 0
+                    ? operation.permits(attribute, state)
+                    : current.allows(operation, column, slots[i]);
+            if (!permitted) {
+                violations.add(new Violation(i, attribute, operation, state));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * @return the column of the state, or -1 for an extension state
+     */
+    private static int column(Operation operation, State state) {
+        if (!operation.isStateDependent()) {
+            return 0;
+        }
+        Objects.requireNonNull(state, "State cannot be null for " + operation);
+        return state.getValue() instanceof State.Standard standard ? standard.ordinal() : -1;
+    }
+
+    /**
+     * @return the slot of the attribute, compiling its row if needed, or -1 if its policy has to be checked
+     * directly
+     */
+    private int slot(KmipAttribute attribute, Table current) {
+        int slot;
+        if (attribute instanceof CustomAttribute custom) {
+            slot = KmipAttributeNames.isCustomClientAttribute(custom.getAttributeName().getValue())
+                    ? CUSTOM_CLIENT_SLOT : CUSTOM_SERVER_SLOT;
+        } else {
+            slot = attribute.getKmipTag().getValue().getIndex() + TAG_SLOT_OFFSET;
+        }
+        Class<?> compiledClass = current.classOf(slot);
+        if (compiledClass == null) {
+            compiledClass = compileRow(slot, attribute);
+        }
+        return compiledClass == attribute.getClass() ? slot : -1;
+    }
+
+    private synchronized Class<?> compileRow(int slot, KmipAttribute prototype) {
+        Table current = table;
+        Class<?> compiledClass = current.classOf(slot);
+        if (compiledClass != null) {
+            return compiledClass;
+        }
+        int words = Math.max(current.compiled.length, (slot >>> 6) + 1);
+        long[][] allowed = new long[current.allowed.length][];
+        for (Operation operation : OPERATIONS) {
+            for (int column = 0; column < COLUMNS; column++) {
+                int row = current.row(operation, column);
+                allowed[row] = Arrays.copyOf(current.allowed[row], words);
+                if (operation.permits(prototype, COLUMN_STATES[column])) {
+                    allowed[row][slot >>> 6] |= 1L << slot;
+                }
+            }
+        }
+        long[] compiled = Arrays.copyOf(current.compiled, words);
+        compiled[slot >>> 6] |= 1L << slot;
+        Class<?>[] classes = Arrays.copyOf(current.classes, Math.max(current.classes.length, slot + 1));
+        classes[slot] = prototype.getClass();
+        table = new Table(allowed, compiled, classes);
+        return prototype.getClass();
+    }
+
+    /**
+     * Immutable snapshot of the compiled rows.
+     */
+    private static final class Table {
+        // Bitmap over slots per operation and state column
+        private final long[][] allowed;
+        private final long[] compiled;
+        private final Class<?>[] classes;
+
+        Table(long[][] allowed, long[] compiled, Class<?>[] classes) {
+            this.allowed = allowed;
+            this.compiled = compiled;
+            this.classes = classes;
+        }
+
+        int words() {
+            return compiled.length;
+        }
+
+        int row(Operation operation, int column) {
+            return operation.ordinal() * COLUMNS + column;
+        }
+
+        Class<?> classOf(int slot) {
+            return slot < classes.length ? classes[slot] : null;
+        }
+
+        boolean allows(Operation operation, int column, int slot) {
+            long[] bits = allowed[row(operation, column)];
+            return (slot >>> 6) < bits.length && (bits[slot >>> 6] & (1L << slot)) != 0;
+        }
+    }
+}
@@ -0,0 +1,936 @@
+package org.purpleBean.kmip.codec.processor;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the TTLV, JSON and XML codecs declared with {@code @KmipType}, and the build-time indexes the codec
+ * modules and tag registries start from.
+ * <p>
+ * For every annotated type a final serializer and deserializer per format are written to the packages the
+ * handwritten codecs use. The TTLV codecs fold the tag, type and value length into static constants and encode
+ * the value inline, so the whole encode path is one method the JIT can inline. Decoded values are passed to
+ * the type's {@code of} factory when it has one taking the decoded value, so they get the same checks as values
+ * built in code, to {@code fromValue}/{@code fromName} for enumerations, and to the builder otherwise.
+ * Structures keep their handwritten codecs, as their fields differ from type to type.
+ * <p>
+ * In the first round every class of the source tree is scanned. Concrete codecs, handwritten or generated,
+ * are listed in {@code KmipCodecIndex} by the type they handle, and data types with a
+ * {@code kmipTag = new KmipTag(KmipTag.Standard.X)} constant are listed in {@code KmipDataTypeIndex} by that
+ * tag. Both indexes name classes as strings, so nothing is loaded until a codec or tag is first looked up.
+ * <p>
+ * The processor claims {@code @KmipType} and the {@code @Generated} its output carries, so javac does not warn
+ * that nothing processed them. It is only invoked once a round holds one of those, which the first round does
+ * as long as any type declares {@code @KmipType}.
+ * <p>
+ * It is built from its own source root and run from its own output directory, so it does not ship in the jar.
+ */
+@SupportedAnnotationTypes({KmipTypeProcessor.KMIP_TYPE, KmipTypeProcessor.GENERATED})
+public class KmipTypeProcessor extends AbstractProcessor {
+    static final String KMIP_TYPE = "org.purpleBean.kmip.KmipType";
+    static final String GENERATED = "javax.annotation.processing.Generated";
+    private static final String BASE_PACKAGE = "org.purpleBean.kmip";
+    private static final String CODEC_INDEX = BASE_PACKAGE + ".codec.KmipCodecIndex";
+    private static final String TYPE_INDEX = BASE_PACKAGE + ".KmipDataTypeIndex";
+    private static final String DATA_TYPE = BASE_PACKAGE + ".KmipDataType";
+    // Types the codec templates may reference, in import order; each codec imports those its body names
+    private static final List<String> CODEC_IMPORTS = List.of(
+            "com.fasterxml.jackson.core.JsonGenerator",
+            "com.fasterxml.jackson.core.JsonParser",
+            "com.fasterxml.jackson.core.SerializableString",
+            "com.fasterxml.jackson.databind.DeserializationContext",
+            "com.fasterxml.jackson.databind.SerializerProvider",
+            "com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator",
+            "org.purpleBean.kmip.EncodingType",
+            "org.purpleBean.kmip.KmipContext",
+            "org.purpleBean.kmip.KmipTag",
+            "org.purpleBean.kmip.codec.KmipFieldNames",
+            "org.purpleBean.kmip.codec.KmipTextForms",
+            "org.purpleBean.kmip.codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer",
+            "org.purpleBean.kmip.codec.json.deserializer.kmip.KmipJsonFields",
+            "org.purpleBean.kmip.codec.json.serializer.kmip.KmipDataTypeJsonSerializer",
+            "org.purpleBean.kmip.codec.ttlv.TtlvConstants",
+            "org.purpleBean.kmip.codec.ttlv.deserializer.kmip.KmipDataTypeTtlvDeserializer",
+            "org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper",
+            "org.purpleBean.kmip.codec.ttlv.serializer.kmip.KmipDataTypeTtlvSerializer",
+            "org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer",
+            "org.purpleBean.kmip.codec.xml.deserializer.kmip.KmipXmlFields",
+            "org.purpleBean.kmip.codec.xml.serializer.kmip.KmipDataTypeXmlSerializer",
+            "javax.annotation.processing.Generated",
+            "java.io.IOException",
+            "java.io.UnsupportedEncodingException",
+            "java.nio.ByteBuffer",
+            "java.nio.charset.StandardCharsets",
+            "java.time.DateTimeException",
+            "java.time.Instant",
+            "java.time.OffsetDateTime",
+            "java.time.ZoneOffset",
+            "java.util.NoSuchElementException");
+
+    private final List<Declaration> declarations = new ArrayList<>();
+    private boolean indexWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement kmipType = processingEnv.getElementUtils().getTypeElement(KMIP_TYPE);
+        if (kmipType != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(kmipType)) {
+                Declaration declaration = declare(element);
+                if (declaration != null) {
+                    write(declaration.codecName(CodecKind.TTLV_SERIALIZER), serializerSource(declaration), element);
+                    write(declaration.codecName(CodecKind.TTLV_DESERIALIZER), deserializerSource(declaration), element);
+                    write(declaration.codecName(CodecKind.JSON_SERIALIZER), jsonSerializerSource(declaration), element);
+                    write(declaration.codecName(CodecKind.JSON_DESERIALIZER), jsonDeserializerSource(declaration), element);
+                    write(declaration.codecName(CodecKind.XML_SERIALIZER), xmlSerializerSource(declaration), element);
+                    write(declaration.codecName(CodecKind.XML_DESERIALIZER), xmlDeserializerSource(declaration), element);
+                    declarations.add(declaration);
+                }
+            }
+        }
+        if (!indexWritten && !roundEnv.processingOver()) {
+            indexWritten = true;
+            writeIndexes(roundEnv);
+        }
+        return true;
+    }
+
+    private Declaration declare(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            error(element, "@KmipType applies to classes only");
+            return null;
+        }
+        TypeElement type = (TypeElement) element;
+        String tag = null;
+        String encoding = null;
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(KMIP_TYPE)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                String constant = ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "tag" -> tag = constant;
+                    case "encoding" -> encoding = constant;
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        ValueKind kind = ValueKind.forEncoding(encoding);
+        if (kind == null) {
+            error(type, "@KmipType does not support encoding " + encoding);
+            return null;
+        }
+        if (kind == ValueKind.DATE_TIME && field(type, ValueKind.EPOCH_SECOND.field) != null) {
+            kind = ValueKind.EPOCH_SECOND;
+        }
+        VariableElement valueField = field(type, kind.field);
+        String fieldType = valueField == null ? null : typeName(valueField.asType());
+        boolean accepted = kind == ValueKind.ENUMERATION
+                ? (type.getQualifiedName() + ".Value").equals(fieldType)
+                : fieldType != null && kind.accepts(fieldType);
+        if (!accepted) {
+            error(type, "@KmipType with encoding " + encoding + " needs a '" + kind.field + "' field of type "
+                    + (kind == ValueKind.ENUMERATION ? type.getSimpleName() + ".Value" : kind.javaType));
+            return null;
+        }
+
+        boolean factory;
+        if (kind == ValueKind.ENUMERATION) {
+            if (!hasFactory(type, "fromValue", "int") || !hasFactory(type, "fromName", "java.lang.String")) {
+                error(type, "@KmipType enumerations need static fromValue(int) and fromName(String) lookups");
+                return null;
+            }
+            factory = false;
+        } else {
+            ValueKind valueKind = kind;
+            factory = ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                    .anyMatch(method -> isFactory(method, "of", valueKind.javaType)
+                            && processingEnv.getTypeUtils().isSameType(method.getReturnType(), type.asType()));
+        }
+
+        String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        if (!packageName.startsWith(BASE_PACKAGE)) {
+            error(type, "@KmipType types must live under " + BASE_PACKAGE);
+            return null;
+        }
+        return new Declaration(packageName.substring(BASE_PACKAGE.length()), type.getSimpleName().toString(),
+                tag, encoding, kind, factory);
+    }
+
+    private boolean hasFactory(TypeElement type, String name, String parameterType) {
+        return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+                .anyMatch(method -> isFactory(method, name, parameterType));
+    }
+
+    private boolean isFactory(ExecutableElement method, String name, String parameterType) {
+        return method.getSimpleName().contentEquals(name)
+                && method.getModifiers().containsAll(Set.of(Modifier.PUBLIC, Modifier.STATIC))
+                && method.getParameters().size() == 1
+                && typeName(method.getParameters().get(0).asType()).equals(parameterType);
+    }
+
+    /**
+     * @return the expression creating the type from the decoded {@code value}, which holds the enumeration
+     * name instead of its value when {@code byName} is set
+     */
+    private static String create(Declaration d, String value, boolean byName) {
+        if (d.kind == ValueKind.ENUMERATION) {
+            return "new %1$s(%1$s.%2$s(%3$s))".formatted(d.simpleName, byName ? "fromName" : "fromValue", value);
+        }
+        return d.factory ? d.simpleName + ".of(" + value + ")" : d.simpleName + ".builder()." + d.kind.field + "(" + value + ").build()";
+    }
+
+    /**
+     * @return the statement writing the value of {@code value} as a JSON or XML scalar
+     */
+    private static String writeValue(ValueKind kind, String gen) {
+        return gen + switch (kind) {
+            case INT, LONG -> ".writeNumber(value.getValue())";
+            case BOOLEAN -> ".writeBoolean(value.getValue())";
+            case TEXT -> ".writeString(value.getValue())";
+            case DATE_TIME -> ".writeString(KmipTextForms.formatDateTime(value.getValue().toEpochSecond()))";
+            case EPOCH_SECOND -> ".writeString(KmipTextForms.formatDateTime(value.getEpochSecond()))";
+            case ENUMERATION -> ".writeString(value.getDescription())";
+        } + ";";
+    }
+
+    /**
+     * @return the expression parsing the decoded value from its text form
+     */
+    private static String parseText(ValueKind kind, String text) {
+        return switch (kind) {
+            case INT -> "Integer.parseInt(" + text + ")";
+            case LONG -> "KmipTextForms.parseLong(" + text + ")";
+            case BOOLEAN -> "Boolean.parseBoolean(" + text + ")";
+            case TEXT, ENUMERATION -> text;
+            case DATE_TIME -> "Instant.ofEpochSecond(KmipTextForms.parseDateTime(" + text + ")).atOffset(ZoneOffset.UTC)";
+            case EPOCH_SECOND -> "KmipTextForms.parseDateTime(" + text + ")";
+        };
+    }
+
+    /**
+     * @return the codec compilation unit for {@code body}, importing its data type and the {@link #CODEC_IMPORTS}
+     * the body references
+     */
+    private static String codecSource(String packageName, String typeName, String body) {
+        StringBuilder external = new StringBuilder();
+        StringBuilder platform = new StringBuilder();
+        for (String name : CODEC_IMPORTS) {
+            String simpleName = name.substring(name.lastIndexOf('.') + 1);
+            if (Pattern.compile("(?<![\\w.])" + simpleName + "\\b").matcher(body).find()) {
+                (name.startsWith("java") ? platform : external).append("import ").append(name).append(";\n");
+            }
+        }
+        external.append("import ").append(typeName).append(";\n");
+        return "package " + packageName + ";\n\n" + external + "\n" + platform + "\n" + body;
+    }
+
+    private static VariableElement field(TypeElement type, String name) {
+        return ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+                .filter(field -> field.getSimpleName().contentEquals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private String serializerSource(Declaration d) {
+        String encode = switch (d.kind) {
+            case INT -> """
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + 8);
+                            buffer.putInt(HEADER).putInt(4).putInt(value.getValue());
+                    """;
+            case ENUMERATION -> """
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + 8);
+                            buffer.putInt(HEADER).putInt(4).putInt(value.getValue().getValue());
+                    """;
+            case LONG -> """
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + 8);
+                            buffer.putInt(HEADER).putInt(8).putLong(value.getValue());
+                    """;
+            case BOOLEAN -> """
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + 8);
+                            buffer.putInt(HEADER).putInt(8).putLong(value.getValue() ? 1L : 0L);
+                    """;
+            case DATE_TIME -> """
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + 8);
+                            buffer.putInt(HEADER).putInt(8).putLong(value.getValue().toEpochSecond());
+                    """;
+            case EPOCH_SECOND -> """
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.HEADER_SIZE + 8);
+                            buffer.putInt(HEADER).putInt(8).putLong(value.getEpochSecond());
+                    """;
+            case TEXT -> """
+                            byte[] text = value.getValue().getBytes(StandardCharsets.UTF_8);
+                            ByteBuffer buffer = ByteBuffer.allocate(TtlvConstants.calculatePaddedLength(TtlvConstants.HEADER_SIZE + text.length));
+                            buffer.putInt(HEADER).putInt(text.length).put(text);
+                    """;
+        };
+        return codecSource(d.packageName(CodecKind.TTLV_SERIALIZER), d.typeName(), """
+                /**
+                 * TTLV serializer for {@link %1$s}, generated from its {@code @KmipType} declaration.
+                 */
+                @Generated("%2$s")
+                public final class %1$sTtlvSerializer extends KmipDataTypeTtlvSerializer<%1$s> {
+                    private static final int HEADER = KmipTag.Standard.%3$s.getValue() << 8 | EncodingType.%4$s.getTypeValue() & 0xFF;
+
+                    @Override
+                    public ByteBuffer serialize(%1$s value, TtlvMapper mapper) throws IOException {
+                        if (!value.isSupported()) {
+                            throw new IOException(String.format("%%s is not supported for KMIP spec %%s",
+                                    value.getKmipTag().getDescription(), KmipContext.getSpec()));
+                        }
+                %5$s        return buffer.rewind();
+                    }
+
+                    @Override
+                    public Class<%1$s> handledType() {
+                        return %1$s.class;
+                    }
+                }
+                """.formatted(d.simpleName, KmipTypeProcessor.class.getName(), d.tag, d.encoding, encode));
+    }
+
+    private String deserializerSource(Declaration d) {
+        String decode = switch (d.kind) {
+            case INT, ENUMERATION -> """
+                            checkLength(length, 4, ttlvBuffer);
+                            int value = ttlvBuffer.getInt();
+                            ttlvBuffer.position(ttlvBuffer.position() + 4);
+                    """;
+            case LONG, EPOCH_SECOND -> """
+                            checkLength(length, 8, ttlvBuffer);
+                            long value = ttlvBuffer.getLong();
+                    """;
+            case BOOLEAN -> """
+                            checkLength(length, 8, ttlvBuffer);
+                            boolean value = ttlvBuffer.getLong() != 0;
+                    """;
+            case DATE_TIME -> """
+                            checkLength(length, 8, ttlvBuffer);
+                            OffsetDateTime value = Instant.ofEpochSecond(ttlvBuffer.getLong()).atOffset(ZoneOffset.UTC);
+                    """;
+            case TEXT -> """
+                            int padded = TtlvConstants.calculatePaddedLength(length);
+                            if (length < 0) {
+                                throw new IllegalArgumentException(String.format(TtlvConstants.ERROR_INVALID_VALUE_LENGTH, length));
+                            }
+                            if (ttlvBuffer.remaining() < padded) {
+                                throw new IllegalArgumentException(String.format(TtlvConstants.ERROR_INSUFFICIENT_VALUE_DATA, padded, ttlvBuffer.remaining()));
+                            }
+                            byte[] text = new byte[length];
+                            ttlvBuffer.get(text);
+                            ttlvBuffer.position(ttlvBuffer.position() + padded - length);
+                            String value = new String(text, StandardCharsets.UTF_8);
+                    """;
+        };
+        String checkLength = d.kind == ValueKind.TEXT ? "" : """
+
+                    private static void checkLength(int length, int expected, ByteBuffer ttlvBuffer) {
+                        if (length != expected) {
+                            throw new IllegalArgumentException(String.format("Expected %d bytes to get value", expected));
+                        }
+                        if (ttlvBuffer.remaining() < 8) {
+                            throw new IllegalArgumentException(String.format(TtlvConstants.ERROR_INSUFFICIENT_VALUE_DATA, 8, ttlvBuffer.remaining()));
+                        }
+                    }
+                """;
+        return codecSource(d.packageName(CodecKind.TTLV_DESERIALIZER), d.typeName(), """
+                /**
+                 * TTLV deserializer for {@link %1$s}, generated from its {@code @KmipType} declaration.
+                 */
+                @Generated("%2$s")
+                public final class %1$sTtlvDeserializer extends KmipDataTypeTtlvDeserializer<%1$s> {
+                    private static final int TAG = KmipTag.Standard.%3$s.getValue();
+                    private static final byte TYPE = EncodingType.%4$s.getTypeValue();
+
+                    @Override
+                    public %1$s deserialize(ByteBuffer ttlvBuffer, TtlvMapper mapper) throws IOException {
+                        if (ttlvBuffer.remaining() < TtlvConstants.HEADER_SIZE) {
+                            throw new IllegalArgumentException(String.format("Insufficient data for TTLV header. Required: %%d, available: %%d",
+                                    TtlvConstants.HEADER_SIZE, ttlvBuffer.remaining()));
+                        }
+                        int header = ttlvBuffer.getInt();
+                        int length = ttlvBuffer.getInt();
+                        if (header >>> 8 == TAG && (byte) header != TYPE) {
+                            throw new IllegalArgumentException(String.format("Expected %%s type for %%s, got %%s",
+                                    TYPE, KmipTag.Standard.%3$s.getDescription(), (byte) header));
+                        }
+                %5$s
+                        %1$s result = %7$s;
+                        if (!result.isSupported()) {
+                            throw new NoSuchElementException(String.format("%1$s not supported for spec %%s", KmipContext.getSpec()));
+                        }
+                        return result;
+                    }
+
+                    @Override
+                    public Class<%1$s> handledType() {
+                        return %1$s.class;
+                    }
+                %6$s}
+                """.formatted(d.simpleName, KmipTypeProcessor.class.getName(),
+                d.tag, d.encoding, decode, checkLength, create(d, "value", false)));
+    }
+
+    private String jsonSerializerSource(Declaration d) {
+        return codecSource(d.packageName(CodecKind.JSON_SERIALIZER), d.typeName(), """
+                /**
+                 * JSON serializer for {@link %1$s}, generated from its {@code @KmipType} declaration.
+                 */
+                @Generated("%2$s")
+                public final class %1$sJsonSerializer extends KmipDataTypeJsonSerializer<%1$s> {
+                    private static final SerializableString TYPE = EncodingType.%3$s.getSerializedDescription();
+
+                    @Override
+                    public void serialize(%1$s value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                        if (!value.isSupported()) {
+                            throw new UnsupportedEncodingException(String.format("%%s is not supported for KMIP spec %%s",
+                                    value.getKmipTag().getDescription(), KmipContext.getSpec()));
+                        }
+                        gen.writeStartObject();
+                        writeTag(gen, %1$s.kmipTag);
+                        gen.writeFieldName(KmipFieldNames.TYPE);
+                        gen.writeString(TYPE);
+                        gen.writeFieldName(KmipFieldNames.VALUE);
+                        %4$s
+                        gen.writeEndObject();
+                    }
+
+                    @Override
+                    public Class<%1$s> handledType() {
+                        return %1$s.class;
+                    }
+                }
+                """.formatted(d.simpleName, KmipTypeProcessor.class.getName(),
+                d.encoding, writeValue(d.kind, "gen")));
+    }
+
+    private String jsonDeserializerSource(Declaration d) {
+        String present = switch (d.kind) {
+            case INT -> "fields.isInt()";
+            case LONG -> "fields.isNumber()";
+            case BOOLEAN -> "fields.hasValue()";
+            case TEXT, DATE_TIME, EPOCH_SECOND, ENUMERATION -> "fields.isTextual()";
+        };
+        String value = switch (d.kind) {
+            case INT -> "fields.intValue()";
+            case LONG -> "fields.longValue()";
+            case BOOLEAN -> "fields.asBoolean()";
+            case TEXT, DATE_TIME, EPOCH_SECOND, ENUMERATION -> parseText(d.kind, "fields.asText()");
+        };
+        return codecSource(d.packageName(CodecKind.JSON_DESERIALIZER), d.typeName(), """
+                /**
+                 * JSON deserializer for {@link %1$s}, generated from its {@code @KmipType} declaration.
+                 */
+                @Generated("%2$s")
+                public final class %1$sJsonDeserializer extends KmipDataTypeJsonDeserializer<%1$s> {
+                    private static final int TAG = KmipTag.Standard.%3$s.getValue();
+
+                    @Override
+                    public %1$s deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                        KmipJsonFields fields = KmipJsonFields.read(p, ctxt, %1$s.class);
+                        KmipTag.Value tag;
+                        try {
+                            tag = fields.tagValue();
+                        } catch (RuntimeException e) {
+                            ctxt.reportInputMismatch(%1$s.class, "Failed to parse KMIP tag for %1$s: " + e.getMessage());
+                            return null;
+                        }
+                        if (tag.getValue() != TAG) {
+                            ctxt.reportInputMismatch(%1$s.class, String.format("Expected object with %%s tag for %1$s, got tag: %%s",
+                                    TAG, tag.getValue()));
+                            return null;
+                        }
+                        if (fields.encodingType().orElse(null) != EncodingType.%4$s) {
+                            ctxt.reportInputMismatch(%1$s.class, "Missing or invalid 'type' field for %1$s");
+                            return null;
+                        }
+                        if (!%5$s) {
+                            ctxt.reportInputMismatch(%1$s.class, "Missing or invalid 'value' field for %1$s");
+                            return null;
+                        }
+
+                        %1$s result;
+                        try {
+                            result = %6$s;
+                        } catch (IllegalArgumentException | NoSuchElementException | DateTimeException e) {
+                            ctxt.reportInputMismatch(%1$s.class, "Invalid value for %1$s: " + e.getMessage());
+                            return null;
+                        }
+                        if (!result.isSupported()) {
+                            throw new NoSuchElementException(String.format("%1$s not supported for spec %%s", KmipContext.getSpec()));
+                        }
+                        return result;
+                    }
+
+                    @Override
+                    public Class<%1$s> handledType() {
+                        return %1$s.class;
+                    }
+                }
+                """.formatted(d.simpleName, KmipTypeProcessor.class.getName(),
+                d.tag, d.encoding, present, create(d, value, true)));
+    }
+
+    private String xmlSerializerSource(Declaration d) {
+        return codecSource(d.packageName(CodecKind.XML_SERIALIZER), d.typeName(), """
+                /**
+                 * XML serializer for {@link %1$s}, generated from its {@code @KmipType} declaration.
+                 */
+                @Generated("%2$s")
+                public final class %1$sXmlSerializer extends KmipDataTypeXmlSerializer<%1$s> {
+                    private static final SerializableString TYPE = EncodingType.%3$s.getSerializedDescription();
+
+                    @Override
+                    public void serialize(%1$s value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                        if (!value.isSupported()) {
+                            throw new UnsupportedEncodingException(String.format("%%s is not supported for KMIP spec %%s",
+                                    value.getKmipTag().getDescription(), KmipContext.getSpec()));
+                        }
+                        if (!(gen instanceof ToXmlGenerator xmlGen)) {
+                            throw new IllegalStateException("Expected ToXmlGenerator");
+                        }
+                        xmlGen.setNextName(%1$s.kmipTag.getValue().getQName());
+                        xmlGen.writeStartObject(value);
+                        xmlGen.setNextIsAttribute(true);
+                        xmlGen.writeFieldName(KmipFieldNames.TYPE);
+                        xmlGen.writeString(TYPE);
+                        xmlGen.setNextIsAttribute(true);
+                        xmlGen.writeFieldName(KmipFieldNames.VALUE);
+                        %4$s
+                        xmlGen.writeEndObject();
+                    }
+
+                    @Override
+                    public Class<%1$s> handledType() {
+                        return %1$s.class;
+                    }
+                }
+                """.formatted(d.simpleName, KmipTypeProcessor.class.getName(),
+                d.encoding, writeValue(d.kind, "xmlGen")));
+    }
+
+    private String xmlDeserializerSource(Declaration d) {
+        return codecSource(d.packageName(CodecKind.XML_DESERIALIZER), d.typeName(), """
+                /**
+                 * XML deserializer for {@link %1$s}, generated from its {@code @KmipType} declaration.
+                 */
+                @Generated("%2$s")
+                public final class %1$sXmlDeserializer extends KmipDataTypeXmlDeserializer<%1$s> {
+                    private static final String TYPE = EncodingType.%3$s.getDescription();
+
+                    @Override
+                    public %1$s deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                        KmipXmlFields fields = KmipXmlFields.read(p);
+                        if (!fields.isObject()) {
+                            ctxt.reportInputMismatch(%1$s.class, "Expected XML element object for %1$s");
+                            return null;
+                        }
+                        if (!fields.isElement(%1$s.kmipTag)) {
+                            ctxt.reportInputMismatch(%1$s.class, "Invalid Tag for %1$s");
+                            return null;
+                        }
+                        if (!TYPE.equals(fields.type())) {
+                            ctxt.reportInputMismatch(%1$s.class, "Missing or invalid '@type' attribute for %1$s");
+                            return null;
+                        }
+                        if (fields.value() == null) {
+                            ctxt.reportInputMismatch(%1$s.class, "Missing '@value' attribute for %1$s");
+                            return null;
+                        }
+
+                        %1$s result;
+                        try {
+                            result = %4$s;
+                        } catch (IllegalArgumentException | NoSuchElementException | DateTimeException e) {
+                            ctxt.reportInputMismatch(%1$s.class, "Invalid value for %1$s: " + e.getMessage());
+                            return null;
+                        }
+                        if (!result.isSupported()) {
+                            throw new NoSuchElementException(String.format("%1$s not supported for spec %%s", KmipContext.getSpec()));
+                        }
+                        return result;
+                    }
+
+                    @Override
+                    public Class<%1$s> handledType() {
+                        return %1$s.class;
+                    }
+                }
+                """.formatted(d.simpleName, KmipTypeProcessor.class.getName(),
+                d.encoding, create(d, parseText(d.kind, "fields.value()"), true)));
+    }
+
+    private void writeIndexes(RoundEnvironment roundEnv) {
+        Map<CodecKind, Map<String, String>> codecs = new EnumMap<>(CodecKind.class);
+        for (CodecKind kind : CodecKind.values()) {
+            codecs.put(kind, new TreeMap<>());
+        }
+        Map<String, Set<String>> tags = new TreeMap<>();
+        Trees trees = trees();
+        List<Element> origins = new ArrayList<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            scan(type, codecs, tags, trees, origins);
+        }
+        for (Declaration d : declarations) {
+            for (CodecKind kind : CodecKind.values()) {
+                codecs.get(kind).put(d.typeName(), d.codecName(kind));
+            }
+        }
+        if (origins.isEmpty()) {
+            return;
+        }
+        Element[] originArray = origins.toArray(Element[]::new);
+        write(CODEC_INDEX, codecIndexSource(codecs), originArray);
+        write(TYPE_INDEX, typeIndexSource(tags), originArray);
+    }
+
+    private void scan(TypeElement type, Map<CodecKind, Map<String, String>> codecs, Map<String, Set<String>> tags,
+                      Trees trees, List<Element> origins) {
+        CodecKind kind = codecKind(type);
+        if (kind != null) {
+            String handled = handledType(type);
+            if (handled != null) {
+                String previous = codecs.get(kind).put(handled, type.getQualifiedName().toString());
+                if (previous != null) {
+                    error(type, "Both " + previous + " and " + type.getQualifiedName() + " are " + kind + " codecs for " + handled);
+                }
+                origins.add(type);
+            }
+        }
+        String tag = trees == null ? null : standardTag(type, trees);
+        if (tag != null) {
+            tags.computeIfAbsent(tag, t -> new LinkedHashSet<>()).add(binaryName(type));
+            origins.add(type);
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            scan(nested, codecs, tags, trees, origins);
+        }
+    }
+
+    // Concrete, publicly constructible subclasses of one of the codec bases
+    private CodecKind codecKind(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)
+                || !type.getModifiers().contains(Modifier.PUBLIC)
+                || type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            return null;
+        }
+        boolean constructible = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+        if (!constructible) {
+            return null;
+        }
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+            CodecKind kind = CodecKind.forBase(element.getQualifiedName().toString());
+            if (kind != null) {
+                return kind;
+            }
+            superclass = element.getSuperclass();
+        }
+        return null;
+    }
+
+    // Mirrors handledType(): the first type argument of the direct superclass
+    private String handledType(TypeElement type) {
+        if (type.getSuperclass() instanceof DeclaredType superclass && !superclass.getTypeArguments().isEmpty()
+                && superclass.getTypeArguments().get(0) instanceof DeclaredType argument) {
+            return binaryName((TypeElement) argument.asElement());
+        }
+        return null;
+    }
+
+    private String standardTag(TypeElement type, Trees trees) {
+        if (!processingEnv.getTypeUtils().isAssignable(type.asType(), dataType())) {
+            return null;
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getSimpleName().contentEquals("kmipTag") || !field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (trees.getTree(field) instanceof VariableTree variable
+                    && variable.getInitializer() instanceof NewClassTree created
+                    && created.getIdentifier().toString().endsWith("KmipTag")
+                    && created.getArguments().size() == 1
+                    && created.getArguments().get(0) instanceof MemberSelectTree constant
+                    && isStandard(constant.getExpression())) {
+                return constant.getIdentifier().toString();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isStandard(ExpressionTree expression) {
+        String text = expression.toString();
+        return text.equals("Standard") || text.endsWith(".Standard");
+    }
+
+    private TypeMirror dataType() {
+        return processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils().getTypeElement(DATA_TYPE).asType());
+    }
+
+    private Trees trees() {
+        try {
+            return Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            // Not running inside javac; tag lookups then fall back to classes loaded by other means
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Source trees are unavailable, " + TYPE_INDEX + " will be empty");
+            return null;
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private String codecIndexSource(Map<CodecKind, Map<String, String>> codecs) {
+        StringBuilder methods = new StringBuilder();
+        for (CodecKind kind : CodecKind.values()) {
+            StringBuilder cases = new StringBuilder();
+            codecs.get(kind).forEach((type, codec) ->
+                    cases.append("            case \"%s\":\n                return new %s();\n".formatted(type, codec)));
+            methods.append("""
+
+                        public static Object %s(String typeName) {
+                            switch (typeName) {
+                    %s            default:
+                                    return null;
+                            }
+                        }
+                    """.formatted(kind.method, cases));
+        }
+        int dot = CODEC_INDEX.lastIndexOf('.');
+        return """
+                package %1$s;
+
+                import javax.annotation.processing.Generated;
+
+                /**
+                 * Codecs found in the source tree at build time, keyed by the binary name of the type they handle.
+                 * <p>
+                 * Each method returns a new codec for the type, or {@code null} if there is none. Results are typed
+                 * {@code Object} so that verifying this class does not load every codec class it names.
+                 */
+                @Generated("%2$s")
+                public final class %3$s {
+
+                    private %3$s() {
+                    }
+                %4$s}
+                """.formatted(CODEC_INDEX.substring(0, dot), KmipTypeProcessor.class.getName(),
+                CODEC_INDEX.substring(dot + 1), methods);
+    }
+
+    private String typeIndexSource(Map<String, Set<String>> tags) {
+        StringBuilder cases = new StringBuilder();
+        tags.forEach((tag, classes) -> cases.append("            case \"%s\":\n                return new String[]{%s};\n"
+                .formatted(tag, String.join(", ", classes.stream().map(c -> "\"" + c + "\"").toList()))));
+        int dot = TYPE_INDEX.lastIndexOf('.');
+        return """
+                package %1$s;
+
+                import javax.annotation.processing.Generated;
+
+                /**
+                 * KMIP data types found in the source tree at build time, keyed by the standard tag they declare.
+                 * <p>
+                 * Data types register their tags when their class is initialized. {@link #initialize} does that on
+                 * demand for one tag, so registry lookups need not wait for every class to be loaded.
+                 */
+                @Generated("%2$s")
+                public final class %3$s {
+                    private static final String[] NONE = new String[0];
+
+                    private %3$s() {
+                    }
+
+                    /**
+                     * Initializes the data types declaring the tag, which register themselves as they load.
+                     *
+                     * @return true if the index lists any class for the tag
+                     */
+                    public static boolean initialize(KmipTag.Value tag) {
+                        if (!(tag instanceof KmipTag.Standard standard)) {
+                            return false;
+                        }
+                        String[] classNames = classNames(standard.name());
+                        for (String className : classNames) {
+                            try {
+                                Class.forName(className, true, %3$s.class.getClassLoader());
+                            } catch (ClassNotFoundException e) {
+                                throw new IllegalStateException("Indexed KMIP data type not found: " + className, e);
+                            }
+                        }
+                        return classNames.length > 0;
+                    }
+
+                    private static String[] classNames(String tag) {
+                        switch (tag) {
+                %4$s            default:
+                                return NONE;
+                        }
+                    }
+                }
+                """.formatted(TYPE_INDEX.substring(0, dot), KmipTypeProcessor.class.getName(),
+                TYPE_INDEX.substring(dot + 1), cases);
+    }
+
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element instanceof TypeElement typeElement ? typeElement.getQualifiedName().toString() : type.toString();
+    }
+
+    private void write(String qualifiedName, String source, Element... origins) {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, origins).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            error(origins[0], "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private enum CodecKind {
+        TTLV_SERIALIZER("ttlvSerializer", BASE_PACKAGE + ".codec.ttlv.mapper.TtlvSerializer",
+                BASE_PACKAGE + ".codec.ttlv.serializer.kmip", "TtlvSerializer"),
+        TTLV_DESERIALIZER("ttlvDeserializer", BASE_PACKAGE + ".codec.ttlv.mapper.TtlvDeserializer",
+                BASE_PACKAGE + ".codec.ttlv.deserializer.kmip", "TtlvDeserializer"),
+        JSON_SERIALIZER("jsonSerializer", BASE_PACKAGE + ".codec.json.serializer.kmip.KmipDataTypeJsonSerializer",
+                BASE_PACKAGE + ".codec.json.serializer.kmip", "JsonSerializer"),
+        JSON_DESERIALIZER("jsonDeserializer", BASE_PACKAGE + ".codec.json.deserializer.kmip.KmipDataTypeJsonDeserializer",
+                BASE_PACKAGE + ".codec.json.deserializer.kmip", "JsonDeserializer"),
+        XML_SERIALIZER("xmlSerializer", BASE_PACKAGE + ".codec.xml.serializer.kmip.KmipDataTypeXmlSerializer",
+                BASE_PACKAGE + ".codec.xml.serializer.kmip", "XmlSerializer"),
+        XML_DESERIALIZER("xmlDeserializer", BASE_PACKAGE + ".codec.xml.deserializer.kmip.KmipDataTypeXmlDeserializer",
+                BASE_PACKAGE + ".codec.xml.deserializer.kmip", "XmlDeserializer");
+
+        private final String method;
+        private final String base;
+        // Package and class name suffix of the generated codecs, those of the handwritten ones
+        private final String codecPackage;
+        private final String suffix;
+
+        CodecKind(String method, String base, String codecPackage, String suffix) {
+            this.method = method;
+            this.base = base;
+            this.codecPackage = codecPackage;
+            this.suffix = suffix;
+        }
+
+        static CodecKind forBase(String qualifiedName) {
+            for (CodecKind kind : values()) {
+                if (kind.base.equals(qualifiedName)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    private enum ValueKind {
+        INT("int", "value"),
+        LONG("long", "value"),
+        BOOLEAN("boolean", "value"),
+        TEXT("java.lang.String", "value"),
+        DATE_TIME("java.time.OffsetDateTime", "value"),
+        /**
+         * DateTime held as seconds since the epoch, as encoded, in a {@code long epochSecond} field.
+         */
+        EPOCH_SECOND("long", "epochSecond"),
+        /**
+         * Enumeration held in a field of the type's nested {@code Value} interface and encoded as its int value.
+         */
+        ENUMERATION("int", "value");
+
+        private final String javaType;
+        private final String field;
+
+        ValueKind(String javaType, String field) {
+            this.javaType = javaType;
+            this.field = field;
+        }
+
+        static ValueKind forEncoding(String encoding) {
+            return encoding == null ? null : switch (encoding) {
+                case "INTEGER", "INTERVAL" -> INT;
+                case "LONG_INTEGER" -> LONG;
+                case "BOOLEAN" -> BOOLEAN;
+                case "TEXT_STRING" -> TEXT;
+                case "DATE_TIME" -> DATE_TIME;
+                case "ENUMERATION" -> ENUMERATION;
+                default -> null;
+            };
+        }
+
+        boolean accepts(String fieldType) {
+            return switch (this) {
+                case INT -> fieldType.equals("int") || fieldType.equals("java.lang.Integer");
+                case LONG -> fieldType.equals("long") || fieldType.equals("java.lang.Long");
+                case BOOLEAN -> fieldType.equals("boolean") || fieldType.equals("java.lang.Boolean");
+                case TEXT, DATE_TIME, EPOCH_SECOND, ENUMERATION -> fieldType.equals(javaType);
+            };
+        }
+    }
+
+    private record Declaration(String subPackage, String simpleName, String tag, String encoding, ValueKind kind,
+                               boolean factory) {
+
+        String typeName() {
+            return BASE_PACKAGE + subPackage + "." + simpleName;
+        }
+
+        String packageName(CodecKind kind) {
+            return kind.codecPackage + subPackage;
+        }
+
+        String codecName(CodecKind kind) {
+            return packageName(kind) + "." + simpleName + kind.suffix;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.purpleBean.kmip;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.common.enumeration.State;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EnumerationRegistry Tests")
+class EnumerationRegistryTest {
+
+    private static EnumerationRegistry<State.Value> newRegistry() {
+        return new EnumerationRegistry<>(State.Standard.values(),
+                State.Value::getValue, State.Value::getDescription, State.Value::getSupportedVersions);
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class LookupTests {
+        @Test
+        @DisplayName("Finds standard values by value and name for every supported spec")
+        void standardValues_foundForSupportedSpecs() {
+            EnumerationRegistry<State.Value> registry = newRegistry();
+
+            for (State.Standard standard : State.Standard.values()) {
+                for (KmipSpec spec : standard.getSupportedVersions()) {
+                    assertThat(registry.fromValue(standard.getValue(), spec)).isSameAs(standard);
+                    assertThat(registry.fromName(standard.getDescription(), spec)).isSameAs(standard);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Returns null for unknown values and unsupported specs")
+        void unknownOrUnsupported_returnsNull() {
+            EnumerationRegistry<State.Value> registry = newRegistry();
+
+            assertThat(registry.fromValue(0x7F, KmipSpec.V1_2)).isNull();
+            assertThat(registry.fromName("Unknown", KmipSpec.V1_2)).isNull();
+            assertThat(registry.fromValue(State.Standard.ACTIVE.getValue(), KmipSpec.V1_0)).isNull();
+            assertThat(registry.fromName(State.Standard.ACTIVE.getDescription(), KmipSpec.V1_0)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Extensions")
+    class ExtensionTests {
+        @Test
+        @DisplayName("Registers extensions in order and returns existing values for duplicates")
+        void register_addsOrReturnsExisting() {
+            EnumerationRegistry<State.Value> registry = newRegistry();
+            State.Value first = new State.Extension(0x80000001, "X-First", Set.of(KmipSpec.V1_2));
+            State.Value second = new State.Extension(0x80000002, "X-Second", Set.of(KmipSpec.V1_2));
+
+            assertThat(registry.register(first)).isSameAs(first);
+            assertThat(registry.register(second)).isSameAs(second);
+            assertThat(registry.register(new State.Extension(0x80000001, "X-Other", Set.of(KmipSpec.V1_2)))).isSameAs(first);
+            assertThat(registry.register(new State.Extension(0x80000003, "X-Second", Set.of(KmipSpec.V1_2)))).isSameAs(second);
+            assertThat(registry.extensions()).containsExactly(first, second);
+            assertThat(registry.fromValue(0x80000001, KmipSpec.V1_2)).isSameAs(first);
+            assertThat(registry.fromName("X-Second", KmipSpec.V1_2)).isSameAs(second);
+            assertThat(registry.fromValue(0x80000001, KmipSpec.V2_0)).isNull();
+        }
+
+        @Test
+        @DisplayName("An extension sharing a standard description keeps the standard value for name lookup")
+        void register_keepsStandardName() {
+            EnumerationRegistry<State.Value> registry = newRegistry();
+            State.Value extension = new State.Extension(0x80000004, "Active", Set.of(KmipSpec.V1_2));
+
+            registry.register(extension);
+
+            assertThat(registry.fromName("Active", KmipSpec.V1_2)).isSameAs(State.Standard.ACTIVE);
+            assertThat(registry.fromValue(0x80000004, KmipSpec.V1_2)).isSameAs(extension);
+        }
+
+        @Test
+        @DisplayName("A frozen registry rejects new extensions but still returns existing ones")
+        void frozen_rejectsNewExtensions() {
+            EnumerationRegistry<State.Value> registry = newRegistry();
+            State.Value existing = registry.register(new State.Extension(0x80000005, "X-Existing", Set.of(KmipSpec.V1_2)));
+            registry.freeze();
+
+            assertThat(registry.isFrozen()).isTrue();
+            assertThat(registry.register(new State.Extension(0x80000005, "X-Existing", Set.of(KmipSpec.V1_2)))).isSameAs(existing);
+            assertThatThrownBy(() -> registry.register(new State.Extension(0x80000006, "X-New", Set.of(KmipSpec.V1_2))))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.purpleBean.kmip;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KmipAttributeNames Tests")
+class KmipAttributeNamesTest {
+
+    @Nested
+    @DisplayName("Name forms")
+    class NameFormTests {
+        @Test
+        @DisplayName("Case conversions match the former regex replacements for every standard tag")
+        void caseConversions_matchRegex() {
+            for (KmipTag.Standard tag : KmipTag.Standard.values()) {
+                String pascal = tag.getDescription();
+                String title = pascal.replaceAll("([a-z])([A-Z])", "$1 $2");
+
+                assertThat(StringUtils.covertPascalToTitleCase(pascal)).isEqualTo(title);
+                assertThat(StringUtils.covertTitleToPascalCase(title)).isEqualTo(title.replaceAll("([a-z]) ([A-Z])", "$1$2"));
+                assertThat(KmipAttributeNames.titleName(tag)).isEqualTo(title);
+            }
+        }
+
+        @Test
+        @DisplayName("Resolves title-case and PascalCase names to the same tag")
+        void tag_resolvesBothForms() {
+            assertThat(KmipAttributeNames.tag(KmipSpec.V1_2, "Activation Date")).isEqualTo(KmipTag.Standard.ACTIVATION_DATE);
+            assertThat(KmipAttributeNames.tag(KmipSpec.V1_2, "ActivationDate")).isEqualTo(KmipTag.Standard.ACTIVATION_DATE);
+        }
+
+        @Test
+        @DisplayName("Falls back to the tag registry for extension tags and rejects unknown names")
+        void tag_fallsBackForExtensions() {
+            KmipTag.Value extension = KmipTag.register(0x540041, "XNamesTest", Set.of(KmipSpec.V1_2));
+
+            assertThat(KmipAttributeNames.tag(KmipSpec.V1_2, "XNames Test")).isEqualTo(extension);
+            assertThatThrownBy(() -> KmipAttributeNames.tag(KmipSpec.V1_2, "Not An Attribute"))
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Custom names and builders")
+    class CustomAndBuilderTests {
+        @Test
+        @DisplayName("Recognizes x- and y- prefixes in either case")
+        void customPrefixes() {
+            assertThat(KmipAttributeNames.isCustomClientAttribute("x-Client")).isTrue();
+            assertThat(KmipAttributeNames.isCustomClientAttribute("X-Client")).isTrue();
+            assertThat(KmipAttributeNames.isCustomServerAttribute("Y-Server")).isTrue();
+            assertThat(KmipAttributeNames.isCustomAttribute("x")).isFalse();
+            assertThat(KmipAttributeNames.isCustomAttribute("xy-Name")).isFalse();
+            assertThat(KmipAttributeNames.tag(KmipSpec.V1_2, "y-Server")).isEqualTo(KmipTag.Standard.ATTRIBUTE);
+        }
+
+        @Test
+        @DisplayName("Finds the registered builder for standard and custom attributes")
+        void builder_findsRegisteredBuilder() {
+            assertThat(KmipAttributeNames.builder(KmipSpec.V1_2, "Activation Date", EncodingType.DATE_TIME)).isNotNull();
+            assertThat(KmipAttributeNames.builder(KmipSpec.V1_2, "x-Custom", EncodingType.STRUCTURE))
+                    .isNotNull()
+                    .isSameAs(KmipAttribute.getAttributeBuilderFromRegistry(KmipSpec.V1_2, KmipTag.Standard.ATTRIBUTE, EncodingType.STRUCTURE));
+            assertThat(CustomAttribute.isValidCustomAttributeName("x-Custom")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.purpleBean.kmip;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KmipTagRegistry Tests")
+class KmipTagRegistryTest {
+
+    @Nested
+    @DisplayName("Lookup")
+    class LookupTests {
+        @Test
+        @DisplayName("Returns the value registered for the exact spec, tag and encoding type")
+        void get_matchesAllKeyParts() {
+            KmipTagRegistry<String> registry = new KmipTagRegistry<>();
+            registry.register(KmipSpec.V1_2, KmipTag.Standard.STATE, EncodingType.ENUMERATION, "state");
+
+            assertThat(registry.get(KmipSpec.V1_2, KmipTag.Standard.STATE, EncodingType.ENUMERATION)).isEqualTo("state");
+            assertThat(registry.get(KmipSpec.V1_4, KmipTag.Standard.STATE, EncodingType.ENUMERATION)).isNull();
+            assertThat(registry.get(KmipSpec.V1_2, KmipTag.Standard.STATE, EncodingType.INTEGER)).isNull();
+            assertThat(registry.get(KmipSpec.V1_2, KmipTag.Standard.ACTIVATION_DATE, EncodingType.ENUMERATION)).isNull();
+        }
+
+        @Test
+        @DisplayName("Extension tags are indexed after the standard tags and keep their index when re-registered")
+        void extensionTags_haveStableIndexes() {
+            KmipTag.Value first = KmipTag.register(0x540031, "X-Registry-Test", Set.of(KmipSpec.V1_2));
+            KmipTag.Value again = KmipTag.register(0x540031, "X-Registry-Test", Set.of(KmipSpec.V1_2));
+            KmipTagRegistry<String> registry = new KmipTagRegistry<>();
+            registry.register(KmipSpec.V1_2, first, EncodingType.TEXT_STRING, "extension");
+
+            assertThat(first.getIndex()).isGreaterThanOrEqualTo(KmipTag.Standard.values().length);
+            assertThat(again.getIndex()).isEqualTo(first.getIndex());
+            assertThat(registry.get(KmipSpec.V1_2, again, EncodingType.TEXT_STRING)).isEqualTo("extension");
+        }
+    }
+
+    @Nested
+    @DisplayName("Freezing")
+    class FreezeTests {
+        @Test
+        @DisplayName("Late registrations after freeze are visible and overwrite earlier values")
+        void lateRegistration_isVisible() {
+            KmipTagRegistry<String> registry = new KmipTagRegistry<>();
+            registry.register(KmipSpec.V1_2, KmipTag.Standard.STATE, EncodingType.ENUMERATION, "before");
+            registry.freeze();
+
+            registry.register(KmipSpec.V1_2, KmipTag.Standard.STATE, EncodingType.ENUMERATION, "after");
+            registry.register(KmipSpec.V2_0, KmipTag.Standard.STATE, EncodingType.ENUMERATION, "other spec");
+
+            assertThat(registry.isFrozen()).isTrue();
+            assertThat(registry.get(KmipSpec.V1_2, KmipTag.Standard.STATE, EncodingType.ENUMERATION)).isEqualTo("after");
+            assertThat(registry.get(KmipSpec.V2_0, KmipTag.Standard.STATE, EncodingType.ENUMERATION)).isEqualTo("other spec");
+        }
+    }
+}
@@ -28,6 +28,15 @@ class KmipTagTest {
             String hex = new KmipTag(KmipTag.Standard.REQUEST_MESSAGE).getTagHexString();
             assertThat(hex).startsWith("0x").hasSize(8);
         }
+
+        @Test
+        @DisplayName("Pre-encoded names match the description for every standard tag")
+        void preEncodedNames_matchDescription() {
+            for (KmipTag.Standard standard : KmipTag.Standard.values()) {
+                assertThat(standard.getSerializedDescription().getValue()).isEqualTo(standard.getDescription());
+                assertThat(standard.getQName().getLocalPart()).isEqualTo(standard.getDescription());
+            }
+        }
     }
 
     @Nested
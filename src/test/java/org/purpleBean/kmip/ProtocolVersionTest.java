@@ -0,0 +1,33 @@
+package org.purpleBean.kmip;
+
+import org.junit.jupiter.api.DisplayName;
+import org.purpleBean.kmip.test.suite.AbstractKmipStructureSuite;
+
+@DisplayName("ProtocolVersion Domain Tests")
+class ProtocolVersionTest extends AbstractKmipStructureSuite<ProtocolVersion> {
+
+    @Override
+    protected Class<ProtocolVersion> type() {
+        return ProtocolVersion.class;
+    }
+
+    @Override
+    protected ProtocolVersion createDefault() {
+        return ProtocolVersion.of(1, 2);
+    }
+
+    @Override
+    protected EncodingType expectedEncodingType() {
+        return EncodingType.STRUCTURE;
+    }
+
+    @Override
+    protected boolean expectedSupportedForUnsupportedSpec() {
+        return true;
+    }
+
+    @Override
+    protected int expectedMinComponentCount() {
+        return 2;
+    }
+}
@@ -29,7 +29,8 @@ public final class JmhBenchmarkRunner {
 
     public static void main(String[] args) throws RunnerException {
         // Allow overrides via -Dbench.args="-wi 2 -i 3 -f 1"
-        String include = System.getProperty("bench.include", ".*Benchmark");
+        // KmipColdStartBenchmark needs a fresh JVM per measurement and runs from its own main method
+        String include = System.getProperty("bench.include", "KmipSerializationBenchmark");
         String resultPath = System.getProperty("bench.result", "target/jmh-results.json");
         String resultFormatProp = System.getProperty("bench.format", "json");
         String reportPath = System.getProperty("bench.report", "target/jmh-report.md");
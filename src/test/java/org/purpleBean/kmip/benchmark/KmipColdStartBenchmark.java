@@ -0,0 +1,89 @@
+package org.purpleBean.kmip.benchmark;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.KmipCodecManager;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start benchmark: the time a fresh JVM takes from first touching the codecs to a completed
+ * ProtocolVersion round-trip, which is the bootstrap short-lived tools pay on every run.
+ * <p>
+ * Each measurement needs a JVM of its own, so every fork runs a single shot with no warmup. The in-process
+ * settings of {@link JmhBenchmarkRunner} would measure a warm JVM, so run this class directly:
+ * <pre>
+ * mvn -q -DskipTests test-compile exec:java -Dbench.main=org.purpleBean.kmip.benchmark.KmipColdStartBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class KmipColdStartBenchmark {
+
+    @Benchmark
+    public ProtocolVersion ttlvRoundTrip() throws IOException {
+        TtlvMapper mapper = KmipCodecManager.getTtlvMapper();
+        return mapper.readValue(mapper.writeValueAsBytes(ProtocolVersion.of(1, 2)), ProtocolVersion.class);
+    }
+
+    @Benchmark
+    public ProtocolVersion jsonRoundTrip() throws IOException {
+        JsonMapper mapper = KmipCodecManager.getJsonMapper();
+        return mapper.readValue(mapper.writeValueAsString(ProtocolVersion.of(1, 2)), ProtocolVersion.class);
+    }
+
+    @Benchmark
+    public ProtocolVersion xmlRoundTrip() throws IOException {
+        XmlMapper mapper = KmipCodecManager.getXmlMapper();
+        return mapper.readValue(mapper.writeValueAsString(ProtocolVersion.of(1, 2)), ProtocolVersion.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        // Forks are started with java.class.path, which under exec:java names Maven's classpath rather than ours
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader) {
+            System.setProperty("java.class.path", classPath(loader));
+        }
+        Options options = new OptionsBuilder()
+                .include(KmipColdStartBenchmark.class.getSimpleName())
+                .forks(Integer.getInteger("bench.forks", 10))
+                .result(System.getProperty("bench.result", "target/jmh-cold-start.json"))
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+        new Runner(options).run();
+    }
+
+    private static String classPath(URLClassLoader loader) {
+        List<String> entries = new ArrayList<>();
+        for (URL url : loader.getURLs()) {
+            try {
+                entries.add(Path.of(url.toURI()).toString());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                entries.add(url.getPath());
+            }
+        }
+        String inherited = System.getProperty("java.class.path");
+        if (inherited != null && !inherited.isEmpty()) {
+            entries.add(inherited);
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+}
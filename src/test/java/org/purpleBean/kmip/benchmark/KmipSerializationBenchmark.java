@@ -68,6 +68,52 @@ public class KmipSerializationBenchmark {
         });
     }
 
+    // Smile serialize/deserialize
+    @Benchmark
+    public byte[] smileSerialize(BenchState s) throws Exception {
+        return KmipContext.withSpec(s.impl.getSpec(), () -> {
+            try {
+                return s.impl.smileSerialize();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public Object smileDeserialize(BenchState s) throws Exception {
+        return KmipContext.withSpec(s.impl.getSpec(), () -> {
+            try {
+                return s.impl.smileDeserialize();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    // CBOR serialize/deserialize
+    @Benchmark
+    public byte[] cborSerialize(BenchState s) throws Exception {
+        return KmipContext.withSpec(s.impl.getSpec(), () -> {
+            try {
+                return s.impl.cborSerialize();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public Object cborDeserialize(BenchState s) throws Exception {
+        return KmipContext.withSpec(s.impl.getSpec(), () -> {
+            try {
+                return s.impl.cborDeserialize();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
     // TTLV serialize/deserialize
     @Benchmark
     public ByteBuffer ttlvSerialize(BenchState s) throws Exception {
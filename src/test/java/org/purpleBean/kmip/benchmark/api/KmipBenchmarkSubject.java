@@ -1,6 +1,8 @@
 package org.purpleBean.kmip.benchmark.api;
 
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import lombok.Data;
 import org.purpleBean.kmip.KmipSpec;
@@ -21,9 +23,13 @@ public abstract class KmipBenchmarkSubject<T> {
     protected Class<T> type;
     protected JsonMapper json;
     protected XmlMapper xml;
+    protected SmileMapper smile;
+    protected CBORMapper cbor;
     protected TtlvMapper ttlv;
     protected String jsonStr;
     protected String xmlStr;
+    protected byte[] smileBytes;
+    protected byte[] cborBytes;
     protected ByteBuffer ttlvBuf;
 
     /**
@@ -46,9 +52,13 @@ public abstract class KmipBenchmarkSubject<T> {
         this.type = type;
         json = KmipCodecManager.createJsonMapper();
         xml = KmipCodecManager.createXmlMapper();
+        smile = KmipCodecManager.createSmileMapper();
+        cbor = KmipCodecManager.createCborMapper();
         ttlv = KmipCodecManager.createTtlvMapper();
         jsonStr = json.writeValueAsString(obj);
         xmlStr = xml.writeValueAsString(obj);
+        smileBytes = smile.writeValueAsBytes(obj);
+        cborBytes = cbor.writeValueAsBytes(obj);
         ttlvBuf = ttlv.writeValueAsByteBuffer(obj);
     }
 
@@ -70,6 +80,24 @@ public abstract class KmipBenchmarkSubject<T> {
         return xml.readValue(xmlStr, type);
     }
 
+    // Smile
+    public byte[] smileSerialize() throws Exception {
+        return smile.writeValueAsBytes(obj);
+    }
+
+    public T smileDeserialize() throws Exception {
+        return smile.readValue(smileBytes, type);
+    }
+
+    // CBOR
+    public byte[] cborSerialize() throws Exception {
+        return cbor.writeValueAsBytes(obj);
+    }
+
+    public T cborDeserialize() throws Exception {
+        return cbor.readValue(cborBytes, type);
+    }
+
     // TTLV
     public ByteBuffer ttlvSerialize() throws Exception {
         return ttlv.writeValueAsByteBuffer(obj);
@@ -45,7 +45,8 @@ public final class JmhReportGenerator {
                     subject,
                     BenchmarkSubjects.getJsonStr(subject),
                     BenchmarkSubjects.getXmlStr(subject),
-                    BenchmarkSubjects.getTtlvBuf(subject))
+                    BenchmarkSubjects.getTtlvBuf(subject),
+                    BenchmarkSubjects.getEncodedSizes(subject))
             );
             rows.add(new Row(benchmark, subject, score, scoreError, scoreUnit, mode));
         }
@@ -72,6 +73,7 @@ public final class JmhReportGenerator {
                     .append(String.format("\nJSON: %s  ", subjectMetaInfoMap.get(subject).jsonStr))
                     .append(String.format("\nXML: %s  ", subjectMetaInfoMap.get(subject).xmlStr).replace("<", "&lt;").replace(">", "&gt;"))
                     .append(String.format("\nTTLV: %s  ", subjectMetaInfoMap.get(subject).ttlvStr))
+                    .append(String.format("\nEncoded size (bytes): %s  ", subjectMetaInfoMap.get(subject).encodedSizes))
                     .append("\n\n");
             md.append("Benchmark | Mode | Score | Error margin (99.9%) | Unit\n");
             md.append("---|---|---:|---:|---\n");
@@ -97,6 +99,6 @@ public final class JmhReportGenerator {
         }
     }
 
-    private record SubjectMetaInfo(String subject, String jsonStr, String xmlStr, String ttlvStr) {
+    private record SubjectMetaInfo(String subject, String jsonStr, String xmlStr, String ttlvStr, String encodedSizes) {
     }
 }
@@ -2,6 +2,7 @@ package org.purpleBean.kmip.benchmark.util;
 
 import org.purpleBean.kmip.benchmark.api.KmipBenchmarkSubject;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -46,6 +47,19 @@ public final class BenchmarkSubjects {
         return hexFormat.formatHex(discoverMap().get(subject).getTtlvBuf().array());
     }
 
+    /**
+     * Get encoded sizes in bytes for every format, for comparing wire size alongside speed
+     */
+    public static String getEncodedSizes(String subject) {
+        KmipBenchmarkSubject<?> impl = discoverMap().get(subject);
+        return String.format("TTLV %d, JSON %d, XML %d, Smile %d, CBOR %d",
+                impl.getTtlvBuf().remaining(),
+                impl.getJsonStr().getBytes(StandardCharsets.UTF_8).length,
+                impl.getXmlStr().getBytes(StandardCharsets.UTF_8).length,
+                impl.getSmileBytes().length,
+                impl.getCborBytes().length);
+    }
+
     /**
      * Discover all subjects and return their names in a stable order.
      */
@@ -0,0 +1,105 @@
+package org.purpleBean.kmip.codec;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.KmipDataTypeIndex;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.json.KmipJsonModule;
+import org.purpleBean.kmip.codec.json.serializer.kmip.common.enumeration.StateJsonSerializer;
+import org.purpleBean.kmip.codec.ttlv.KmipTtlvModule;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvMapper;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvSerializer;
+import org.purpleBean.kmip.codec.ttlv.serializer.kmip.common.enumeration.StateTtlvSerializer;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Build-time index Tests")
+class KmipCodecIndexTest extends BaseKmipTest {
+
+    @Override
+    protected void setupDefaultSpec() {
+        defaultSpec = KmipSpec.V1_2;
+    }
+
+    @Nested
+    @DisplayName("Codec index")
+    class CodecIndex {
+
+        @Test
+        @DisplayName("Creates a new codec per call for an indexed type and none for other types")
+        void createsCodecsByTypeName() {
+            Object first = KmipCodecIndex.ttlvSerializer(State.class.getName());
+            Object second = KmipCodecIndex.ttlvSerializer(State.class.getName());
+
+            assertThat(first).isInstanceOf(StateTtlvSerializer.class).isNotSameAs(second);
+            assertThat(KmipCodecIndex.jsonSerializer(State.class.getName())).isInstanceOf(StateJsonSerializer.class);
+            assertThat(KmipCodecIndex.ttlvSerializer(Thread.class.getName())).isNull();
+            assertThat(KmipCodecIndex.jsonSerializer(String.class.getName())).isNull();
+        }
+
+        @Test
+        @DisplayName("Keys nested types by their binary name")
+        void nestedTypesUseBinaryNames() {
+            String name = ProtocolVersion.ProtocolVersionMajor.class.getName();
+
+            assertThat(name).contains("$");
+            assertThat(KmipCodecIndex.ttlvSerializer(name)).isNotNull();
+            assertThat(KmipCodecIndex.xmlDeserializer(name)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("TTLV mapper creates a codec on first lookup and keeps it")
+        void ttlvMapperCreatesLazily() throws IOException {
+            TtlvMapper mapper = new TtlvMapper();
+            mapper.registerModule(new KmipTtlvModule());
+
+            TtlvSerializer<State> serializer = mapper.serializerFor(State.class);
+            State state = new State(State.Standard.ACTIVE);
+
+            assertThat(serializer).isInstanceOf(StateTtlvSerializer.class);
+            assertThat(mapper.serializerFor(State.class)).isSameAs(serializer);
+            assertThat(mapper.readValue(mapper.writeValueAsBytes(state), State.class)).isEqualTo(state);
+        }
+
+        @Test
+        @DisplayName("Jackson modules resolve indexed codecs")
+        void jacksonModuleResolvesIndexedCodecs() throws IOException {
+            JsonMapper mapper = JsonMapper.builder().addModule(new KmipJsonModule()).build();
+            ProtocolVersion version = ProtocolVersion.of(1, 2);
+
+            assertThat(mapper.readValue(mapper.writeValueAsString(version), ProtocolVersion.class)).isEqualTo(version);
+        }
+    }
+
+    @Nested
+    @DisplayName("Data type index")
+    class DataTypeIndex {
+
+        @Test
+        @DisplayName("Initializes the classes declaring a standard tag")
+        void initializesDeclaringClasses() {
+            assertThat(KmipDataTypeIndex.initialize(KmipTag.Standard.STATE)).isTrue();
+            assertThat(KmipDataType.getClassFromRegistry(KmipTag.Standard.STATE, EncodingType.ENUMERATION)).isEqualTo(State.class);
+        }
+
+        @Test
+        @DisplayName("Lists nothing for tags without a data type or outside the standard set")
+        void listsNothingForOtherTags() {
+            KmipTag.Value custom = KmipTag.register(0x540021, "X-Index-Test", Set.of(KmipSpec.V1_2));
+
+            assertThat(KmipDataTypeIndex.initialize(custom)).isFalse();
+            assertThat(KmipDataTypeIndex.initialize(KmipTag.Standard.REQUEST_PAYLOAD)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.purpleBean.kmip.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.NameValue;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KmipCodecManager Tests")
+class KmipCodecManagerTest extends BaseKmipTest {
+
+    record Unregistered(int value) {
+    }
+
+    @Nested
+    @DisplayName("Shared instances")
+    class SharedInstances {
+
+        @Test
+        @DisplayName("Concurrent callers get the same mappers and codecs")
+        void concurrentAccess_sameInstances() throws Exception {
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                Callable<List<Object>> task = () -> {
+                    start.await();
+                    return List.of(KmipCodecManager.getJsonMapper(), KmipCodecManager.getXmlMapper(),
+                            KmipCodecManager.getTtlvMapper(), KmipCodecManager.codecFor(ProtocolVersion.class));
+                };
+                List<Future<List<Object>>> futures = IntStream.range(0, threads).mapToObj(i -> executor.submit(task)).toList();
+                start.countDown();
+
+                List<Object> first = futures.get(0).get();
+                for (Future<List<Object>> future : futures) {
+                    List<Object> instances = future.get();
+                    for (int i = 0; i < first.size(); i++) {
+                        assertThat(instances.get(i)).isSameAs(first.get(i));
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Codecs are cached per type")
+        void codecFor_cachedPerType() {
+            assertThat(KmipCodecManager.codecFor(State.class)).isSameAs(KmipCodecManager.codecFor(State.class));
+            assertThat(KmipCodecManager.codecFor(State.class).getType()).isEqualTo(State.class);
+            assertThat((Object) KmipCodecManager.codecFor(ProtocolVersion.class))
+                    .isNotSameAs(KmipCodecManager.codecFor(State.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("KmipCodec")
+    class Codec {
+
+        @Test
+        @DisplayName("Matches the shared mappers in every encoding")
+        void codec_matchesMappers() throws IOException {
+            KmipCodec<ProtocolVersion> codec = KmipCodecManager.codecFor(ProtocolVersion.class);
+            ProtocolVersion version = ProtocolVersion.of(1, 4);
+
+            assertThat(codec.toJson(version)).isEqualTo(jsonMapper.writeValueAsString(version));
+            assertThat(codec.toXml(version)).isEqualTo(xmlMapper.writeValueAsString(version));
+            assertThat(codec.toTtlvBytes(version)).isEqualTo(ttlvMapper.writeValueAsBytes(version));
+
+            assertThat(codec.fromJson(codec.toJson(version))).isEqualTo(version);
+            assertThat(codec.fromXml(codec.toXml(version))).isEqualTo(version);
+            assertThat(codec.fromTtlv(codec.toTtlv(version))).isEqualTo(version);
+            assertThat(codec.fromTtlv(codec.toTtlvBytes(version))).isEqualTo(version);
+        }
+
+        @Test
+        @DisplayName("Reports types without a TTLV codec on use")
+        void codec_noTtlvCodec() {
+            KmipCodec<Unregistered> codec = KmipCodecManager.codecFor(Unregistered.class);
+
+            assertThatThrownBy(() -> codec.toTtlv(new Unregistered(1))).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Default mapper")
+    class DefaultMapper {
+
+        @Test
+        @DisplayName("Round-trips through the default mapper type")
+        void serialize_roundTrip() throws IOException {
+            KmipCodecManager.MapperType original = KmipCodecManager.getDefaultType();
+            try {
+                State state = new State(State.Standard.ACTIVE);
+                for (KmipCodecManager.MapperType type : List.of(KmipCodecManager.MapperType.XML, KmipCodecManager.MapperType.JSON)) {
+                    KmipCodecManager.setDefaultType(type);
+                    assertThat(KmipCodecManager.deserialize(KmipCodecManager.serialize(state), State.class)).isEqualTo(state);
+                }
+            } finally {
+                KmipCodecManager.setDefaultType(original);
+            }
+        }
+
+        @Test
+        @DisplayName("Returns TTLV as a buffer and round-trips it")
+        void serialize_ttlv() throws IOException {
+            KmipCodecManager.MapperType original = KmipCodecManager.getDefaultType();
+            try {
+                KmipCodecManager.setDefaultType(KmipCodecManager.MapperType.TTLV);
+                ProtocolVersion version = ProtocolVersion.of(1, 4);
+
+                Object encoded = KmipCodecManager.serialize(version);
+
+                assertThat(encoded).isInstanceOf(ByteBuffer.class);
+                assertThat(KmipCodecManager.deserialize(encoded, ProtocolVersion.class)).isEqualTo(version);
+            } finally {
+                KmipCodecManager.setDefaultType(original);
+            }
+        }
+
+        @Test
+        @DisplayName("Escapes text only when enabled")
+        void serialize_escapeOptIn() throws IOException {
+            KmipCodecManager.MapperType original = KmipCodecManager.getDefaultType();
+            try {
+                KmipCodecManager.setDefaultType(KmipCodecManager.MapperType.XML);
+                State state = new State(State.Standard.ACTIVE);
+
+                assertThat(KmipCodecManager.serialize(state)).isEqualTo(xmlMapper.writeValueAsString(state));
+
+                KmipCodecManager.setEscapeText(true);
+                Object escaped = KmipCodecManager.serialize(state);
+                assertThat((String) escaped).startsWith("&lt;State");
+                assertThat(KmipCodecManager.deserialize(escaped, State.class)).isEqualTo(state);
+            } finally {
+                KmipCodecManager.setEscapeText(false);
+                KmipCodecManager.setDefaultType(original);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte-oriented API")
+    class ByteApi {
+
+        @Test
+        @DisplayName("Round-trips through bytes, buffers and streams in every format")
+        void roundTrip_allFormats() throws IOException {
+            ProtocolVersion version = ProtocolVersion.of(1, 4);
+            for (KmipCodecManager.MapperType type : KmipCodecManager.MapperType.values()) {
+                byte[] bytes = KmipCodecManager.serializeToBytes(version, type);
+                assertThat(KmipCodecManager.deserialize(bytes, ProtocolVersion.class, type)).isEqualTo(version);
+
+                ByteBuffer buffer = KmipCodecManager.serializeToByteBuffer(version, type);
+                assertThat(KmipCodecManager.deserialize(buffer, ProtocolVersion.class, type)).isEqualTo(version);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                KmipCodecManager.serialize(version, type, out);
+                assertThat(out.toByteArray()).isEqualTo(bytes);
+                assertThat(KmipCodecManager.deserialize(new ByteArrayInputStream(out.toByteArray()), ProtocolVersion.class, type))
+                        .isEqualTo(version);
+            }
+        }
+
+        @Test
+        @DisplayName("Matches the mapper encodings")
+        void serializeToBytes_matchesMappers() throws IOException {
+            State state = new State(State.Standard.ACTIVE);
+
+            assertThat(KmipCodecManager.serializeToBytes(state, KmipCodecManager.MapperType.TTLV))
+                    .isEqualTo(ttlvMapper.writeValueAsBytes(state));
+            assertThat(KmipCodecManager.serializeToBytes(state, KmipCodecManager.MapperType.XML))
+                    .isEqualTo(xmlMapper.writeValueAsBytes(state));
+            assertThat(KmipCodecManager.serializeToBytes(state, KmipCodecManager.MapperType.JSON))
+                    .isEqualTo(jsonMapper.writeValueAsBytes(state));
+        }
+
+        @Test
+        @DisplayName("Reads consecutive TTLV frames from one stream")
+        void deserialize_ttlvStream() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            KmipCodecManager.serialize(ProtocolVersion.of(1, 2), KmipCodecManager.MapperType.TTLV, out);
+            KmipCodecManager.serialize(ProtocolVersion.of(1, 4), KmipCodecManager.MapperType.TTLV, out);
+
+            ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+            assertThat(KmipCodecManager.deserialize(in, ProtocolVersion.class, KmipCodecManager.MapperType.TTLV))
+                    .isEqualTo(ProtocolVersion.of(1, 2));
+            assertThat(KmipCodecManager.deserialize(in, ProtocolVersion.class, KmipCodecManager.MapperType.TTLV))
+                    .isEqualTo(ProtocolVersion.of(1, 4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary JSON")
+    class BinaryJson {
+
+        @Test
+        @DisplayName("Smile and CBOR carry the same tree as JSON, in fewer bytes")
+        void binaryJson_matchesJsonTree() throws IOException {
+            List<Object> values = List.of(
+                    new State(State.Standard.ACTIVE),
+                    ProtocolVersion.of(1, 4),
+                    Name.builder()
+                            .nameValue(NameValue.of("some-name"))
+                            .nameType(new NameType(NameType.Standard.URI))
+                            .build());
+            List<ObjectMapper> mappers = List.of(KmipCodecManager.getSmileMapper(), KmipCodecManager.getCborMapper());
+            List<KmipCodecManager.MapperType> types = List.of(KmipCodecManager.MapperType.SMILE, KmipCodecManager.MapperType.CBOR);
+
+            for (Object value : values) {
+                byte[] json = KmipCodecManager.serializeToBytes(value, KmipCodecManager.MapperType.JSON);
+                for (int i = 0; i < types.size(); i++) {
+                    byte[] binary = KmipCodecManager.serializeToBytes(value, types.get(i));
+
+                    assertThat(mappers.get(i).readTree(binary)).isEqualTo(jsonMapper.readTree(json));
+                    assertThat(binary.length).isLessThan(json.length);
+                    assertThat(KmipCodecManager.deserialize(binary, value.getClass(), types.get(i))).isEqualTo(value);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Default mapper returns Smile and CBOR as buffers")
+        void serialize_binaryDefault() throws IOException {
+            KmipCodecManager.MapperType original = KmipCodecManager.getDefaultType();
+            try {
+                ProtocolVersion version = ProtocolVersion.of(1, 4);
+                for (KmipCodecManager.MapperType type : List.of(KmipCodecManager.MapperType.SMILE, KmipCodecManager.MapperType.CBOR)) {
+                    KmipCodecManager.setDefaultType(type);
+
+                    Object encoded = KmipCodecManager.serialize(version);
+
+                    assertThat(encoded).isInstanceOf(ByteBuffer.class);
+                    assertThat(KmipCodecManager.deserialize(encoded, ProtocolVersion.class)).isEqualTo(version);
+                }
+            } finally {
+                KmipCodecManager.setDefaultType(original);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.purpleBean.kmip.codec.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KmipJsonFields Tests")
+class KmipJsonFieldsTest extends BaseKmipTest {
+
+    /**
+     * Rewrites every object so that "value" comes first and an unknown field is appended.
+     */
+    private JsonNode valueFirst(JsonNode node) {
+        if (node.isArray()) {
+            ArrayNode array = jsonMapper.createArrayNode();
+            node.forEach(element -> array.add(valueFirst(element)));
+            return array;
+        }
+        if (!node.isObject()) {
+            return node;
+        }
+        ObjectNode object = jsonMapper.createObjectNode();
+        object.set("value", valueFirst(node.get("value")));
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            if (!field.getKey().equals("value")) {
+                object.set(field.getKey(), field.getValue());
+            }
+        }
+        object.put("comment", "ignored");
+        return object;
+    }
+
+    @Test
+    @DisplayName("Scalar value before tag and type is decoded")
+    void scalar_valueFirst() throws Exception {
+        State state = new State(State.Standard.ACTIVE);
+        String json = jsonMapper.writeValueAsString(valueFirst(jsonMapper.valueToTree(state)));
+
+        assertThat(json).startsWith("{\"value\"");
+        assertThat(jsonMapper.readValue(json, State.class)).isEqualTo(state);
+    }
+
+    @Test
+    @DisplayName("Structure value before tag and type is buffered and replayed")
+    void structure_valueFirst() throws Exception {
+        ProtocolVersion version = ProtocolVersion.of(2, 1);
+        String json = jsonMapper.writeValueAsString(valueFirst(jsonMapper.valueToTree(version)));
+
+        assertThat(jsonMapper.readValue(json, ProtocolVersion.class)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Structures decode inside arrays without disturbing later elements")
+    void structure_inArray() throws Exception {
+        ProtocolVersion[] versions = {ProtocolVersion.of(1, 4), ProtocolVersion.of(2, 0)};
+        String json = jsonMapper.writeValueAsString(versions);
+
+        assertThat(jsonMapper.readValue(json, ProtocolVersion[].class)).containsExactly(versions);
+    }
+
+    @Test
+    @DisplayName("Tag mismatch is still reported")
+    void tagMismatch() throws Exception {
+        String json = jsonMapper.writeValueAsString(new State(State.Standard.ACTIVE));
+
+        assertThatThrownBy(() -> jsonMapper.readValue(json, ProtocolVersion.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
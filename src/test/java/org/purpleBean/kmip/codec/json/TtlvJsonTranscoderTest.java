@@ -0,0 +1,186 @@
+package org.purpleBean.kmip.codec.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.ttlv.TtlvWriter;
+import org.purpleBean.kmip.common.ActivationDate;
+import org.purpleBean.kmip.common.AttributeValue;
+import org.purpleBean.kmip.common.CryptographicLength;
+import org.purpleBean.kmip.common.LeaseTime;
+import org.purpleBean.kmip.common.NameValue;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TtlvJsonTranscoder Tests")
+class TtlvJsonTranscoderTest extends BaseKmipTest {
+
+    private static final OffsetDateTime FIXED_TIME = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+    private static final List<Object> VALUES = List.of(
+            new State(State.Standard.ACTIVE),
+            CryptographicLength.of(256),
+            NameValue.of("some-name"),
+            ActivationDate.builder().value(FIXED_TIME).build(),
+            LeaseTime.of(3600),
+            ProtocolVersion.of(1, 2),
+            Name.builder()
+                    .nameValue(NameValue.of("some-name"))
+                    .nameType(new NameType(NameType.Standard.URI))
+                    .build(),
+            AttributeValue.of(EncodingType.BOOLEAN, true),
+            AttributeValue.of(EncodingType.BYTE_STRING, ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})),
+            AttributeValue.of(EncodingType.BIG_INTEGER, BigInteger.valueOf(251)),
+            AttributeValue.of(EncodingType.INTERVAL, 86400),
+            AttributeValue.of(EncodingType.DATE_TIME, FIXED_TIME)
+    );
+
+    @Override
+    protected void setupDefaultSpec() {
+        defaultSpec = KmipSpec.V1_2;
+    }
+
+    private String toJson(byte[] ttlv) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator gen = jsonMapper.getFactory().createGenerator(json)) {
+            TtlvJsonTranscoder.transcode(ByteBuffer.wrap(ttlv), gen);
+        }
+        return json.toString();
+    }
+
+    private byte[] toTtlv(String json) throws IOException {
+        try (JsonParser p = jsonMapper.getFactory().createParser(json)) {
+            ByteBuffer ttlv = TtlvJsonTranscoder.toTtlv(p);
+            byte[] bytes = new byte[ttlv.remaining()];
+            ttlv.get(bytes);
+            return bytes;
+        }
+    }
+
+    @Nested
+    @DisplayName("TTLV to JSON")
+    class ToJson {
+
+        @Test
+        @DisplayName("Matches the JSON mapper output")
+        void transcode_matchesMapper() throws IOException {
+            for (Object value : VALUES) {
+                String json = toJson(ttlvMapper.writeValueAsBytes(value));
+
+                assertThat(jsonMapper.readTree(json)).as(json).isEqualTo(jsonMapper.readTree(jsonMapper.writeValueAsString(value)));
+                assertThat(jsonMapper.readValue(json, value.getClass())).isEqualTo(value);
+            }
+        }
+
+        @Test
+        @DisplayName("Writes unknown tags as hex and unknown enumeration values as numbers")
+        void transcode_unknownTagAndValue() throws IOException {
+            TtlvWriter out = new TtlvWriter();
+            out.writeInt(0x4200FF, EncodingType.INTEGER, 7);
+            out.writeInt(0x42008D, EncodingType.ENUMERATION, 0x7FFF);
+
+            String json = toJson(out.toByteBuffer().array());
+
+            assertThat(json).isEqualTo("{\"tag\":\"0x4200FF\",\"type\":\"Integer\",\"value\":7}"
+                    + " {\"tag\":\"State\",\"type\":\"Enumeration\",\"value\":32767}");
+        }
+
+        @Test
+        @DisplayName("Rejects truncated input")
+        void transcode_truncated() throws IOException {
+            byte[] ttlv = ttlvMapper.writeValueAsBytes(ProtocolVersion.of(1, 2));
+            byte[] truncated = Arrays.copyOf(ttlv, ttlv.length - 8);
+
+            assertThatThrownBy(() -> toJson(truncated)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON to TTLV")
+    class ToTtlv {
+
+        @Test
+        @DisplayName("Matches the TTLV mapper output")
+        void transcode_matchesMapper() throws IOException {
+            for (Object value : VALUES) {
+                String json = jsonMapper.writeValueAsString(value);
+
+                assertThat(toTtlv(json)).as(json).isEqualTo(ttlvMapper.writeValueAsBytes(value));
+            }
+        }
+
+        @Test
+        @DisplayName("Reads every item of a top-level array")
+        void transcode_array() throws IOException {
+            State state = new State(State.Standard.DEACTIVATED);
+            ProtocolVersion version = ProtocolVersion.of(1, 4);
+            String json = "[" + jsonMapper.writeValueAsString(state) + "," + jsonMapper.writeValueAsString(version) + "]";
+
+            ByteBuffer expected = ByteBuffer.allocate(64);
+            expected.put(ttlvMapper.writeValueAsBytes(state)).put(ttlvMapper.writeValueAsBytes(version));
+
+            assertThat(toTtlv(json)).isEqualTo(Arrays.copyOf(expected.array(), expected.position()));
+        }
+
+        @Test
+        @DisplayName("Accepts enumeration values as numbers or hex")
+        void transcode_numericEnumeration() throws IOException {
+            byte[] expected = ttlvMapper.writeValueAsBytes(new State(State.Standard.ACTIVE));
+
+            assertThat(toTtlv("{\"tag\":\"State\",\"type\":\"Enumeration\",\"value\":2}")).isEqualTo(expected);
+            assertThat(toTtlv("{\"tag\":\"State\",\"type\":\"Enumeration\",\"value\":\"0x00000002\"}")).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Rejects Integer text outside 32 bits")
+        void transcode_integerOutOfRange() throws IOException {
+            byte[] expected = ttlvMapper.writeValueAsBytes(CryptographicLength.of(256));
+
+            assertThat(toTtlv("{\"tag\":\"CryptographicLength\",\"type\":\"Integer\",\"value\":\"0x00000100\"}"))
+                    .isEqualTo(expected);
+            for (String value : List.of("5000000000", "-2147483649", "0x100000000")) {
+                assertThatThrownBy(() -> toTtlv("{\"tag\":\"CryptographicLength\",\"type\":\"Integer\",\"value\":\"" + value + "\"}"))
+                        .as(value)
+                        .isInstanceOf(JsonParseException.class)
+                        .hasMessageContaining("Invalid Integer value");
+            }
+        }
+
+        @Test
+        @DisplayName("Requires tag and type before value")
+        void transcode_valueFirst() {
+            assertThatThrownBy(() -> toTtlv("{\"value\":\"Active\",\"tag\":\"State\",\"type\":\"Enumeration\"}"))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("before 'value'");
+        }
+
+        @Test
+        @DisplayName("Rejects unknown tags and enumeration names")
+        void transcode_unknownNames() {
+            assertThatThrownBy(() -> toTtlv("{\"tag\":\"NoSuchTag\",\"type\":\"Integer\",\"value\":1}"))
+                    .isInstanceOf(JsonParseException.class);
+            assertThatThrownBy(() -> toTtlv("{\"tag\":\"State\",\"type\":\"Enumeration\",\"value\":\"NoSuchState\"}"))
+                    .isInstanceOf(JsonParseException.class);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.codec.KmipCodecIndex;
+import org.purpleBean.kmip.codec.ttlv.mapper.TtlvSerializer;
+import org.purpleBean.kmip.common.ActivationDate;
+import org.purpleBean.kmip.common.AttributeIndex;
+import org.purpleBean.kmip.common.CryptographicLength;
+import org.purpleBean.kmip.common.LeaseTime;
+import org.purpleBean.kmip.common.NameValue;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Generated TTLV codec Tests")
+class KmipTypeCodecTest extends BaseKmipTest {
+
+    private static final List<KmipDataType> VALUES = List.of(
+            CryptographicLength.of(256),
+            AttributeIndex.of(3),
+            LeaseTime.of(3600),
+            NameValue.of("some-name"),
+            NameValue.of("eight-ch"),
+            ActivationDate.builder().value(OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC)).build(),
+            new State(State.Standard.ACTIVE)
+    );
+
+    @Override
+    protected void setupDefaultSpec() {
+        defaultSpec = KmipSpec.V1_2;
+    }
+
+    @Test
+    @DisplayName("Indexes generated final codecs in every format that report their type without reflection")
+    void index_listsGeneratedCodecs() {
+        for (KmipDataType value : VALUES) {
+            TtlvSerializer<?> serializer = ttlvMapper.serializerFor(value.getClass());
+
+            assertThat(Modifier.isFinal(serializer.getClass().getModifiers())).as(value.getClass().getSimpleName()).isTrue();
+            assertThat((Object) serializer.handledType()).isEqualTo(value.getClass());
+            assertThat(Modifier.isFinal(ttlvMapper.deserializerFor(value.getClass()).getClass().getModifiers())).isTrue();
+            for (Object codec : List.of(KmipCodecIndex.jsonSerializer(value.getClass().getName()),
+                    KmipCodecIndex.jsonDeserializer(value.getClass().getName()),
+                    KmipCodecIndex.xmlSerializer(value.getClass().getName()),
+                    KmipCodecIndex.xmlDeserializer(value.getClass().getName()))) {
+                assertThat(Modifier.isFinal(codec.getClass().getModifiers())).as(codec.getClass().getName()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Round-trips every generated codec through JSON and XML")
+    void jsonAndXml_roundTrip() throws IOException {
+        for (KmipDataType value : VALUES) {
+            String json = jsonMapper.writeValueAsString(value);
+            String xml = xmlMapper.writeValueAsString(value);
+
+            assertThat(jsonMapper.readValue(json, value.getClass())).as(json).isEqualTo(value);
+            assertThat(xmlMapper.readValue(xml, value.getClass())).as(xml).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("Encodes exactly as a generic TTLV object and decodes back")
+    void codecs_matchGenericEncoding() throws IOException {
+        OffsetDateTime date = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        Map<KmipDataType, byte[]> payloads = new LinkedHashMap<>();
+        payloads.put(CryptographicLength.of(256), ByteBuffer.allocate(4).putInt(256).array());
+        payloads.put(NameValue.of("some-name"), "some-name".getBytes(StandardCharsets.UTF_8));
+        payloads.put(NameValue.of("eight-ch"), "eight-ch".getBytes(StandardCharsets.UTF_8));
+        payloads.put(ActivationDate.builder().value(date).build(), ByteBuffer.allocate(8).putLong(date.toEpochSecond()).array());
+
+        for (Map.Entry<KmipDataType, byte[]> entry : payloads.entrySet()) {
+            KmipDataType value = entry.getKey();
+            byte[] expected = TtlvObject.builder()
+                    .tag(value.getKmipTag().getTagBytes())
+                    .type(value.getEncodingType().getTypeValue())
+                    .value(entry.getValue())
+                    .build()
+                    .toBytes();
+
+            byte[] encoded = ttlvMapper.writeValueAsBytes(value);
+
+            assertThat(encoded).as(value.toString()).isEqualTo(expected);
+            assertThat(ttlvMapper.readValue(encoded, value.getClass())).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("Consumes one padded item and leaves the rest of the buffer")
+    void deserialize_consumesOneItem() throws IOException {
+        NameValue name = NameValue.of("some-name");
+        State state = new State(State.Standard.ACTIVE);
+        byte[] first = ttlvMapper.writeValueAsBytes(name);
+        byte[] second = ttlvMapper.writeValueAsBytes(state);
+        ByteBuffer buffer = ByteBuffer.allocate(first.length + second.length).put(first).put(second).flip();
+
+        assertThat(ttlvMapper.readValue(buffer, NameValue.class)).isEqualTo(name);
+        assertThat(buffer.position()).isEqualTo(first.length);
+        assertThat(ttlvMapper.readValue(buffer, State.class)).isEqualTo(state);
+    }
+
+    @Test
+    @DisplayName("Rejects a wrong type or a truncated value")
+    void deserialize_invalid() throws IOException {
+        byte[] encoded = ttlvMapper.writeValueAsBytes(CryptographicLength.of(256));
+        byte[] wrongType = encoded.clone();
+        wrongType[3] = 0x07;
+        byte[] truncated = Arrays.copyOf(encoded, 12);
+
+        assertThatThrownBy(() -> ttlvMapper.readValue(wrongType, CryptographicLength.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ttlvMapper.readValue(truncated, CryptographicLength.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Applies the checks of the type's factory to decoded values")
+    void deserialize_validatesValue() {
+        byte[] negative = TtlvObject.builder()
+                .tag(CryptographicLength.kmipTag.getTagBytes())
+                .type(CryptographicLength.encodingType.getTypeValue())
+                .value(ByteBuffer.allocate(4).putInt(-128).array())
+                .build()
+                .toBytes();
+
+        assertThatThrownBy(() -> ttlvMapper.readValue(negative, CryptographicLength.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("non-negative");
+        String json = "{\"tag\":\"CryptographicLength\",\"type\":\"Integer\",\"value\":-128}";
+        assertThatThrownBy(() -> jsonMapper.readValue(json, CryptographicLength.class))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("non-negative");
+        String xml = "<CryptographicLength type=\"Integer\" value=\"-128\"/>";
+        assertThatThrownBy(() -> xmlMapper.readValue(xml, CryptographicLength.class))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("non-negative");
+    }
+}
@@ -0,0 +1,102 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TtlvArchiveReader Tests")
+class TtlvArchiveReaderTest extends BaseKmipTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<ProtocolVersion> versions(int count) {
+        return IntStream.range(0, count).mapToObj(i -> ProtocolVersion.of(i % 3, i)).toList();
+    }
+
+    private Path archive(List<?> values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Object value : values) {
+            ttlvMapper.writeValue(out, value);
+        }
+        return Files.write(dir.resolve("archive.ttlv"), out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Reads every frame across window boundaries in order")
+    void readValues_acrossWindows() throws IOException {
+        List<ProtocolVersion> values = versions(25);
+        Path file = archive(values);
+
+        // 100 bytes is not a multiple of the 40-byte frame, so windows are trimmed to frame boundaries
+        try (TtlvArchiveReader reader = TtlvArchiveReader.open(file, 100)) {
+            assertThat(reader.readValues(ttlvMapper, ProtocolVersion.class, false).toList()).containsExactlyElementsOf(values);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel scan decodes every frame in file order")
+    void readValues_parallel() throws IOException {
+        List<ProtocolVersion> values = versions(2_000);
+        Path file = archive(values);
+
+        try (TtlvArchiveReader reader = TtlvArchiveReader.open(file, 4096)) {
+            assertThat(reader.readValues(ttlvMapper, ProtocolVersion.class, true).toList()).containsExactlyElementsOf(values);
+        }
+    }
+
+    @Test
+    @DisplayName("Frames larger than the window are mapped on their own")
+    void frames_oversized() throws IOException {
+        byte[] value = new byte[1000];
+        Arrays.fill(value, (byte) 0x5A);
+        byte[] large = TtlvObject.builder().tag(new byte[]{0x42, 0x00, 0x43}).type(EncodingType.BYTE_STRING.getTypeValue()).value(value).build().toBytes();
+        byte[] small = ttlvMapper.writeValueAsBytes(ProtocolVersion.of(1, 0));
+        Path file = Files.write(dir.resolve("mixed.ttlv"), ByteBuffer.allocate(small.length + large.length + small.length)
+                .put(small).put(large).put(small).array());
+
+        try (TtlvArchiveReader reader = TtlvArchiveReader.open(file, 64)) {
+            List<ByteBuffer> frames = reader.frames().toList();
+
+            assertThat(frames).extracting(ByteBuffer::remaining).containsExactly(small.length, large.length, small.length);
+            assertThat(frames.get(1)).isEqualTo(ByteBuffer.wrap(large));
+            assertThat(reader.objects(false).map(TtlvObject::getStructuredString)).hasSize(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Truncated trailing frame is rejected")
+    void frames_truncated() throws IOException {
+        byte[] encoded = Files.readAllBytes(archive(versions(3)));
+        Path file = Files.write(dir.resolve("truncated.ttlv"), Arrays.copyOf(encoded, encoded.length - 8));
+
+        try (TtlvArchiveReader reader = TtlvArchiveReader.open(file, 64)) {
+            assertThatThrownBy(() -> reader.frames().count()).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Empty archive yields no frames")
+    void frames_empty() throws IOException {
+        Path file = Files.write(dir.resolve("empty.ttlv"), new byte[0]);
+
+        try (TtlvArchiveReader reader = TtlvArchiveReader.open(file)) {
+            assertThat(reader.frames(true).count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TtlvMapper Batch API Tests")
+class TtlvMapperBatchTest extends BaseKmipTest {
+
+    private static List<ProtocolVersion> versions(int count) {
+        return IntStream.range(0, count).mapToObj(i -> ProtocolVersion.of(i % 4, i)).toList();
+    }
+
+    private static List<State> states(int count) {
+        State.Standard[] values = State.Standard.values();
+        List<State> states = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            states.add(new State(values[i % values.length]));
+        }
+        return states;
+    }
+
+    private ByteBuffer encode(List<?> values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Object value : values) {
+            out.write(ttlvMapper.writeValueAsBytes(value));
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    @Nested
+    @DisplayName("writeValues")
+    class WriteValues {
+        @Test
+        @DisplayName("Encodes values back-to-back identically to single-value writes")
+        void writeValues_matchesSingleWrites() throws IOException {
+            List<ProtocolVersion> values = versions(50);
+            ByteBuffer expected = encode(values);
+
+            ByteBuffer out = ByteBuffer.allocate(expected.remaining() + 16);
+            int written = ttlvMapper.writeValues(values, out);
+
+            assertThat(written).isEqualTo(expected.remaining());
+            assertThat(out.flip()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Mixed value types are each encoded with their own serializer")
+        void writeValues_mixedTypes() throws IOException {
+            List<KmipDataType> values = List.of(ProtocolVersion.of(1, 2), new State(State.Standard.ACTIVE), ProtocolVersion.of(2, 1));
+            ByteBuffer expected = encode(values);
+
+            ByteBuffer out = ByteBuffer.allocate(expected.remaining());
+            ttlvMapper.writeValues(values, out);
+
+            assertThat(out.flip()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Undersized buffer overflows")
+        void writeValues_undersizedBuffer() {
+            assertThatThrownBy(() -> ttlvMapper.writeValues(versions(4), ByteBuffer.allocate(8)))
+                    .isInstanceOf(BufferOverflowException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("readValues")
+    class ReadValues {
+        @Test
+        @DisplayName("Round-trips a batch and consumes the buffer")
+        void readValues_roundTrip() throws IOException {
+            List<ProtocolVersion> values = versions(50);
+            ByteBuffer buffer = encode(values);
+
+            List<ProtocolVersion> restored = ttlvMapper.readValues(buffer, ProtocolVersion.class);
+
+            assertThat(restored).containsExactlyElementsOf(values);
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Empty buffer yields no values")
+        void readValues_empty() throws IOException {
+            assertThat(ttlvMapper.readValues(ByteBuffer.allocate(0), State.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Parallel stream decodes every element in encoding order")
+        void readValuesAsStream_parallel() throws IOException {
+            List<State> values = states(2_000);
+            ByteBuffer buffer = encode(values);
+
+            List<State> restored = ttlvMapper.readValuesAsStream(buffer, State.class, true).toList();
+
+            assertThat(restored).containsExactlyElementsOf(values);
+            assertThat(buffer.position()).isZero();
+        }
+
+        @Test
+        @DisplayName("Truncated trailing frame is rejected")
+        void readValues_truncated() throws IOException {
+            ByteBuffer buffer = encode(versions(3));
+            buffer.limit(buffer.limit() - 8);
+
+            assertThatThrownBy(() -> ttlvMapper.readValues(buffer, ProtocolVersion.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TtlvMapper Stream API Tests")
+class TtlvMapperStreamTest extends BaseKmipTest {
+
+    private static byte[] largeByteString(int valueLength) {
+        byte[] value = new byte[valueLength];
+        new Random(42).nextBytes(value);
+        return TtlvObject.builder().tag(new byte[]{0x42, 0x00, 0x43}).type(EncodingType.BYTE_STRING.getTypeValue()).value(value).build().toBytes();
+    }
+
+    @Nested
+    @DisplayName("OutputStream / InputStream")
+    class Streams {
+        @Test
+        @DisplayName("Round-trips consecutive values without over-reading")
+        void stream_roundTripSequence() throws IOException {
+            ProtocolVersion version = ProtocolVersion.of(1, 4);
+            State state = new State(State.Standard.ACTIVE);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ttlvMapper.writeValue(out, version);
+            ttlvMapper.writeValue(out, state);
+            assertThat(out.toByteArray()).hasSize(ttlvMapper.writeValueAsBytes(version).length + ttlvMapper.writeValueAsBytes(state).length);
+
+            ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+            assertThat(ttlvMapper.readValue(in, ProtocolVersion.class)).isEqualTo(version);
+            assertThat(ttlvMapper.readValue(in, State.class)).isEqualTo(state);
+            assertThat(in.available()).isZero();
+        }
+
+        @Test
+        @DisplayName("Writes a large byte string value in chunk-sized writes")
+        void stream_writesInChunks() throws IOException {
+            byte[] keyMaterial = new byte[10 * TtlvConstants.STREAM_CHUNK_SIZE + 5];
+            new Random(7).nextBytes(keyMaterial);
+            CustomAttribute attribute = CustomAttribute.of("x-wrapped-key", ByteBuffer.wrap(keyMaterial));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int[] largestWrite = new int[1];
+            OutputStream recording = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    largestWrite[0] = Math.max(largestWrite[0], 1);
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    largestWrite[0] = Math.max(largestWrite[0], len);
+                    out.write(b, off, len);
+                }
+            };
+
+            ttlvMapper.writeValue(recording, attribute);
+
+            assertThat(largestWrite[0]).isEqualTo(TtlvConstants.STREAM_CHUNK_SIZE);
+            assertThat(out.toByteArray()).isEqualTo(ttlvMapper.writeValueAsBytes(attribute));
+            assertThat(ttlvMapper.readValue(new ByteArrayInputStream(out.toByteArray()), CustomAttribute.class))
+                    .isEqualTo(attribute);
+        }
+
+        @Test
+        @DisplayName("Exhausted stream raises EOFException")
+        void stream_empty() {
+            assertThatThrownBy(() -> ttlvMapper.readValue(new ByteArrayInputStream(new byte[0]), State.class))
+                    .isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        @DisplayName("Stream ending inside a frame raises EOFException")
+        void stream_truncated() throws IOException {
+            byte[] encoded = ttlvMapper.writeValueAsBytes(ProtocolVersion.of(2, 0));
+            byte[] truncated = Arrays.copyOf(encoded, encoded.length - 8);
+
+            assertThatThrownBy(() -> ttlvMapper.readValue(new ByteArrayInputStream(truncated), ProtocolVersion.class))
+                    .isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Channels")
+    class ChannelIo {
+        @Test
+        @DisplayName("Round-trips a value through byte channels")
+        void channel_roundTrip() throws IOException {
+            ProtocolVersion version = ProtocolVersion.of(3, 0);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ttlvMapper.writeValue(Channels.newChannel(out), version);
+
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+            assertThat(ttlvMapper.readValue(channel, ProtocolVersion.class)).isEqualTo(version);
+        }
+
+        @Test
+        @DisplayName("Round-trips a large byte string value through byte channels")
+        void channel_largeByteString() throws IOException {
+            byte[] certificate = new byte[3 * TtlvConstants.STREAM_CHUNK_SIZE + 1];
+            new Random(11).nextBytes(certificate);
+            CustomAttribute attribute = CustomAttribute.of("x-certificate", ByteBuffer.wrap(certificate));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ttlvMapper.writeValue(Channels.newChannel(out), attribute);
+
+            assertThat(out.toByteArray()).isEqualTo(ttlvMapper.writeValueAsBytes(attribute));
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+            assertThat(ttlvMapper.readValue(channel, CustomAttribute.class)).isEqualTo(attribute);
+        }
+
+        @Test
+        @DisplayName("Rejects non-blocking channels instead of spinning on them")
+        void channel_nonBlockingRejected() throws IOException {
+            Pipe pipe = Pipe.open();
+            try (Pipe.SinkChannel sink = pipe.sink(); Pipe.SourceChannel source = pipe.source()) {
+                sink.configureBlocking(false);
+                source.configureBlocking(false);
+
+                assertThatThrownBy(() -> ttlvMapper.writeValue((WritableByteChannel) sink, ProtocolVersion.of(1, 0)))
+                        .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> ttlvMapper.readValue(source, ProtocolVersion.class))
+                        .isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Frame transfer")
+    class FrameTransfer {
+        @Test
+        @DisplayName("Large byte string frames are transferred intact in chunks")
+        void readFrame_largeByteString() throws IOException {
+            byte[] frame = largeByteString(10 * TtlvConstants.STREAM_CHUNK_SIZE + 3);
+
+            ByteBuffer fromStream = TtlvStreams.readFrame(new ByteArrayInputStream(frame), TtlvConstants.DEFAULT_MAX_FRAME_SIZE);
+            ByteBuffer fromChannel = TtlvStreams.readFrame(Channels.newChannel(new ByteArrayInputStream(frame)), TtlvConstants.DEFAULT_MAX_FRAME_SIZE);
+
+            assertThat(fromStream).isEqualTo(ByteBuffer.wrap(frame));
+            assertThat(fromChannel).isEqualTo(ByteBuffer.wrap(frame));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteBuffer direct = ByteBuffer.allocateDirect(frame.length).put(frame).flip();
+            TtlvStreams.writeFrame(direct, out);
+            assertThat(out.toByteArray()).isEqualTo(frame);
+        }
+
+        @Test
+        @DisplayName("Frames above the configured maximum are rejected before their value is read")
+        void readFrame_tooLarge() {
+            byte[] frame = largeByteString(4 * TtlvConstants.STREAM_CHUNK_SIZE);
+            ByteArrayInputStream in = new ByteArrayInputStream(frame);
+
+            assertThatThrownBy(() -> TtlvStreams.readFrame(in, TtlvConstants.STREAM_CHUNK_SIZE))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(in.available()).isEqualTo(frame.length - TtlvConstants.HEADER_SIZE);
+        }
+
+        @Test
+        @DisplayName("Mapper rejects maximum frame sizes smaller than a header")
+        void setMaxFrameSize_invalid() {
+            assertThatThrownBy(() -> ttlvMapper.setMaxFrameSize(4)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.purpleBean.kmip.codec.ttlv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.purpleBean.kmip.KmipDataType;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.ActivationDate;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.common.structure.SampleStructure;
+import org.purpleBean.kmip.common.structure.request.SimpleRequestBatchItem;
+import org.purpleBean.kmip.common.structure.request.SimpleRequestHeader;
+import org.purpleBean.kmip.common.structure.request.SimpleRequestMessage;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TtlvSegments Gathering Output Tests")
+class TtlvSegmentsTest extends BaseKmipTest {
+
+    private static byte[] concat(ByteBuffer[] segments) {
+        int size = Arrays.stream(segments).mapToInt(ByteBuffer::remaining).sum();
+        ByteBuffer joined = ByteBuffer.allocate(size);
+        for (ByteBuffer segment : segments) {
+            joined.put(segment.duplicate());
+        }
+        return joined.array();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(7).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("Segments concatenate to the single-buffer encoding")
+    void segments_matchSingleBuffer() throws IOException {
+        ProtocolVersion version = ProtocolVersion.of(1, 4);
+
+        assertThat(concat(ttlvMapper.writeValueAsSegments(version))).isEqualTo(ttlvMapper.writeValueAsBytes(version));
+    }
+
+    @Test
+    @DisplayName("Every structure writes its fields as segments matching the single-buffer encoding")
+    void segments_matchSingleBufferForStructures() throws IOException {
+        List<KmipDataType> values = List.of(
+                Name.of("key", new NameType(NameType.Standard.UNINTERPRETED_TEXT_STRING)),
+                SampleStructure.builder()
+                        .activationDate(ActivationDate.of(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)))
+                        .state(new State(State.Standard.ACTIVE))
+                        .build(),
+                SimpleRequestMessage.builder()
+                        .requestHeader(SimpleRequestHeader.builder().protocolVersion(ProtocolVersion.of(2, 0)).build())
+                        .requestBatchItem(SimpleRequestBatchItem.builder().build())
+                        .build());
+
+        for (KmipDataType value : values) {
+            assertThat(concat(ttlvMapper.writeValueAsSegments(value))).as(value.getClass().getSimpleName())
+                    .isEqualTo(ttlvMapper.writeValueAsBytes(value));
+        }
+    }
+
+    @Test
+    @DisplayName("Large byte strings are referenced rather than copied")
+    void segments_referenceLargeByteString() throws IOException {
+        byte[] keyMaterial = randomBytes(4096 + 5);
+        CustomAttribute attribute = CustomAttribute.of("x-wrapped-key", ByteBuffer.wrap(keyMaterial));
+
+        ByteBuffer[] segments = ttlvMapper.writeValueAsSegments(attribute);
+
+        assertThat(concat(segments)).isEqualTo(ttlvMapper.writeValueAsBytes(attribute));
+        assertThat(segments).anyMatch(segment -> segment.hasArray() && segment.array() == keyMaterial);
+    }
+
+    @Test
+    @DisplayName("Small byte strings are coalesced into scratch segments")
+    void segments_copySmallByteString() throws IOException {
+        byte[] small = randomBytes(13);
+        CustomAttribute attribute = CustomAttribute.of("x-tiny", ByteBuffer.wrap(small));
+
+        ByteBuffer[] segments = ttlvMapper.writeValueAsSegments(attribute);
+
+        assertThat(concat(segments)).isEqualTo(ttlvMapper.writeValueAsBytes(attribute));
+        assertThat(segments).noneMatch(segment -> segment.hasArray() && segment.array() == small);
+    }
+
+    @Test
+    @DisplayName("Gathering channel write produces the encoded frame")
+    void writeValue_gatheringChannel(@TempDir Path dir) throws IOException {
+        CustomAttribute attribute = CustomAttribute.of("x-certificate", ByteBuffer.wrap(randomBytes(20_000)));
+        Path file = dir.resolve("frame.ttlv");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ttlvMapper.writeValue(channel, attribute);
+        }
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(ttlvMapper.writeValueAsBytes(attribute));
+    }
+
+    @Test
+    @DisplayName("Gathering write rejects non-blocking channels instead of spinning on them")
+    void writeValue_nonBlockingRejected() throws IOException {
+        Pipe pipe = Pipe.open();
+        try (Pipe.SinkChannel sink = pipe.sink()) {
+            sink.configureBlocking(false);
+
+            assertThatThrownBy(() -> ttlvMapper.writeValue((GatheringByteChannel) sink, ProtocolVersion.of(1, 0)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            pipe.source().close();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.time.ZoneOffset;
 import java.util.HashMap;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mockStatic;
 
 @DisplayName("Attribute Ttlv Serialization Tests")
@@ -24,7 +25,7 @@ class AttributeTtlvTest extends AbstractTtlvSerializationSuite<Attribute> {
     @Override
     protected void setupTestSpecificResources() {
         super.setupTestSpecificResources();
-        mockKmipAttribute = mockStatic(KmipAttribute.class);
+        mockKmipAttribute = mockStatic(KmipAttribute.class, CALLS_REAL_METHODS);
         mockKmipAttribute.when(() -> KmipAttribute.getClassFromRegistry(any(), any())).thenReturn(ActivationDate.class);
     }
 
@@ -0,0 +1,167 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.common.*;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.AttributeSet;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ColumnarAttributeStore Tests")
+class ColumnarAttributeStoreTest extends BaseKmipTest {
+
+    private static final int ROWS = 300;
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static AttributeSet object(int i) {
+        AttributeSet set = AttributeSet.of(
+                Name.of("key-" + i, new NameType(NameType.Standard.UNINTERPRETED_TEXT_STRING)),
+                new State(i % 2 == 0 ? State.Standard.ACTIVE : State.Standard.PRE_ACTIVE),
+                CryptographicLength.of(i % 3 == 0 ? 256 : 128),
+                ActivationDate.of(EPOCH.plusSeconds(i)),
+                ObjectGroup.of("g" + i % 4),
+                OperationPolicyName.of("default"));
+        if (i % 5 == 0) {
+            set.add(ObjectGroup.of("five"));
+            set.add(CustomAttribute.of("x-Tier", "gold"));
+        }
+        return set;
+    }
+
+    private ColumnarAttributeStore populated() throws IOException {
+        ColumnarAttributeStore store = new ColumnarAttributeStore(ttlvMapper);
+        for (int i = 0; i < ROWS; i++) {
+            assertThat(store.add(object(i))).isEqualTo(i);
+        }
+        return store;
+    }
+
+    private static BitSet rows(IntPredicate predicate) {
+        BitSet rows = new BitSet();
+        IntStream.range(0, ROWS).filter(predicate).forEach(rows::set);
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("Row access")
+    class RowAccessTests {
+        @Test
+        @DisplayName("Materializes whole rows equal to the stored attribute sets")
+        void getAttributes_roundTrips() throws IOException {
+            ColumnarAttributeStore store = populated();
+
+            for (int i = 0; i < ROWS; i += 7) {
+                AttributeSet expected = object(i);
+                AttributeSet actual = store.getAttributes(i);
+                assertThat(actual.size()).isEqualTo(expected.size());
+                assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+                assertThat(actual.toAttributes()).containsExactlyInAnyOrderElementsOf(expected.toAttributes());
+            }
+        }
+
+        @Test
+        @DisplayName("Materializes single attributes by tag and index")
+        void get_materializesOneAttribute() throws IOException {
+            ColumnarAttributeStore store = populated();
+
+            assertThat(store.get(10, KmipTag.Standard.STATE)).isEqualTo(new State(State.Standard.ACTIVE));
+            assertThat(store.get(10, KmipTag.Standard.ACTIVATION_DATE)).isEqualTo(ActivationDate.of(EPOCH.plusSeconds(10)));
+            assertThat(store.get(10, KmipTag.Standard.OBJECT_GROUP, 1)).isEqualTo(ObjectGroup.of("five"));
+            assertThat(store.get(10, KmipTag.Standard.OPERATION_POLICY_NAME)).isEqualTo(OperationPolicyName.of("default"));
+            assertThat(store.get(11, KmipTag.Standard.OBJECT_GROUP, 1)).isNull();
+            assertThat(store.get(11, KmipTag.Standard.DESTROY_DATE)).isNull();
+        }
+
+        @Test
+        @DisplayName("Stores each distinct variable-width value once")
+        void dictionary_deduplicates() throws IOException {
+            ColumnarAttributeStore store = populated();
+
+            // Names, four groups, "five", the policy name and the custom attribute
+            assertThat(store.dictionarySize()).isEqualTo(ROWS + 4 + 1 + 1 + 1);
+            assertThat(store.offHeapBytes()).isPositive();
+        }
+    }
+
+    @Nested
+    @DisplayName("Scans")
+    class ScanTests {
+        @Test
+        @DisplayName("Scans primitive columns without materializing attributes")
+        void scanPrimitives() throws IOException {
+            ColumnarAttributeStore store = populated();
+            long from = EPOCH.plusSeconds(100).toEpochSecond();
+            long to = EPOCH.plusSeconds(199).toEpochSecond();
+
+            assertThat(store.scanInt(KmipTag.Standard.CRYPTOGRAPHIC_LENGTH, length -> length == 256))
+                    .isEqualTo(rows(i -> i % 3 == 0));
+            assertThat(store.scanLong(KmipTag.Standard.ACTIVATION_DATE, date -> date >= from && date <= to))
+                    .isEqualTo(rows(i -> i >= 100 && i <= 199));
+            assertThatThrownBy(() -> store.scanLong(KmipTag.Standard.STATE, date -> true))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Finds equal values by primitive or dictionary code")
+        void scanEquals() throws IOException {
+            ColumnarAttributeStore store = populated();
+
+            assertThat(store.scanEquals(new State(State.Standard.ACTIVE))).isEqualTo(rows(i -> i % 2 == 0));
+            assertThat(store.scanEquals(ObjectGroup.of("five"))).isEqualTo(rows(i -> i % 5 == 0));
+            assertThat(store.scanEquals(CustomAttribute.of("x-Tier", "gold"))).isEqualTo(rows(i -> i % 5 == 0));
+            assertThat(store.scanEquals(ObjectGroup.of("missing"))).isEqualTo(new BitSet());
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class UpdateTests {
+        @Test
+        @DisplayName("Replaces and removes rows, and compaction keeps the remaining rows")
+        void setRemoveCompact() throws IOException {
+            ColumnarAttributeStore store = populated();
+            AttributeSet replacement = AttributeSet.of(new State(State.Standard.DEACTIVATED), ObjectGroup.of("moved"));
+
+            store.set(4, replacement);
+            assertThat(store.remove(6)).isTrue();
+            assertThat(store.remove(6)).isFalse();
+            store.compact();
+
+            assertThat(store.size()).isEqualTo(ROWS - 1);
+            assertThat(store.getAttributes(6)).isNull();
+            assertThat(store.getAttributes(4)).containsExactlyInAnyOrderElementsOf(replacement);
+            assertThat(store.getAttributes(5)).containsExactlyInAnyOrderElementsOf(object(5));
+            assertThat(store.scanInt(KmipTag.Standard.CRYPTOGRAPHIC_LENGTH, length -> true))
+                    .isEqualTo(rows(i -> i != 4 && i != 6));
+            assertThatThrownBy(() -> store.set(6, replacement)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Rejects values a fixed-width column cannot hold and leaves the row unchanged")
+        void set_rejectsUnfitValues() throws IOException {
+            ColumnarAttributeStore store = new ColumnarAttributeStore(ttlvMapper,
+                    Map.of(KmipTag.Standard.OBJECT_GROUP, ColumnarAttributeStore.ColumnType.INT));
+            int row = store.add(AttributeSet.of(new State(State.Standard.ACTIVE)));
+
+            assertThatThrownBy(() -> store.set(row, AttributeSet.of(ObjectGroup.of("g"))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(store.get(row, KmipTag.Standard.STATE)).isEqualTo(new State(State.Standard.ACTIVE));
+        }
+    }
+}
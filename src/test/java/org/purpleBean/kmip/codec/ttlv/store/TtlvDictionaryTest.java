@@ -0,0 +1,42 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TtlvDictionary Tests")
+class TtlvDictionaryTest {
+
+    private static ByteBuffer value(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Interns values across heap chunks, including one larger than a chunk")
+    void intern_acrossChunks() {
+        TtlvDictionary dictionary = new TtlvDictionary();
+        byte[] large = new byte[3 << 20];
+        Arrays.fill(large, (byte) 7);
+        int values = 50_000;
+
+        int first = dictionary.intern(1, value("value-0"));
+        int largeCode = dictionary.intern(2, ByteBuffer.wrap(large));
+        for (int i = 1; i < values; i++) {
+            assertThat(dictionary.intern(1, value("value-" + i + "-" + "x".repeat(40)))).isEqualTo(i + 1);
+        }
+
+        assertThat(dictionary.size()).isEqualTo(values + 1);
+        assertThat(dictionary.intern(1, value("value-0"))).isEqualTo(first);
+        assertThat(dictionary.find(2, ByteBuffer.wrap(large))).isEqualTo(largeCode);
+        assertThat(dictionary.find(1, ByteBuffer.wrap(large))).isEqualTo(-1);
+        assertThat(dictionary.classId(largeCode)).isEqualTo(2);
+        assertThat(dictionary.value(largeCode)).isEqualTo(ByteBuffer.wrap(large));
+        assertThat(dictionary.value(values)).isEqualTo(value("value-" + (values - 1) + "-" + "x".repeat(40)));
+        assertThat(dictionary.allocatedBytes()).isGreaterThan(large.length + (long) values * 50);
+    }
+}
@@ -0,0 +1,307 @@
+package org.purpleBean.kmip.codec.ttlv.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.UniqueIdentifier;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TtlvJournal Tests")
+class TtlvJournalTest extends BaseKmipTest {
+
+    @TempDir
+    Path dir;
+
+    private static UniqueIdentifier id(int i) {
+        return UniqueIdentifier.builder().value("object-" + i).build();
+    }
+
+    private TtlvJournal open(long segmentSize) throws IOException {
+        return TtlvJournal.open(dir, ttlvMapper, segmentSize, 0);
+    }
+
+    private Map<String, Long> segmentSizes() throws IOException {
+        Map<String, Long> sizes = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".seg"))::iterator) {
+                sizes.put(file.getFileName().toString(), Files.size(file));
+            }
+        }
+        // The active segment is still being written
+        sizes.remove(((TreeMap<String, Long>) sizes).lastKey());
+        return sizes;
+    }
+
+    private long fileCount(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.toString().endsWith(suffix)).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Append and read")
+    class AppendAndRead {
+        @Test
+        @DisplayName("Latest record for an identifier wins")
+        void append_latestWins() throws IOException {
+            try (TtlvJournal journal = open(TtlvJournal.DEFAULT_SEGMENT_SIZE)) {
+                journal.append(id(1), new State(State.Standard.PRE_ACTIVE));
+                journal.append(id(2), ProtocolVersion.of(1, 4));
+                journal.append(id(1), new State(State.Standard.ACTIVE));
+
+                assertThat(journal.get(id(1), State.class)).contains(new State(State.Standard.ACTIVE));
+                assertThat(journal.get(id(2), ProtocolVersion.class)).contains(ProtocolVersion.of(1, 4));
+                assertThat(journal.get(id(3), State.class)).isEmpty();
+                assertThat(journal.size()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("Index is recovered from sealed and active segments on reopen")
+        void reopen_recoversIndex() throws IOException {
+            try (TtlvJournal journal = open(256)) {
+                for (int i = 0; i < 40; i++) {
+                    journal.append(id(i % 10), ProtocolVersion.of(i, i % 7));
+                }
+                assertThat(journal.segmentCount()).isGreaterThan(1);
+            }
+            assertThat(fileCount(".idx")).isPositive();
+
+            try (TtlvJournal journal = open(256)) {
+                assertThat(journal.size()).isEqualTo(10);
+                for (int i = 30; i < 40; i++) {
+                    assertThat(journal.get(id(i % 10), ProtocolVersion.class)).contains(ProtocolVersion.of(i, i % 7));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery")
+    class Recovery {
+        @Test
+        @DisplayName("Torn trailing record is truncated and appends resume")
+        void recover_truncatesTornRecord() throws IOException {
+            Path segment;
+            long completeSize;
+            try (TtlvJournal journal = open(TtlvJournal.DEFAULT_SEGMENT_SIZE)) {
+                journal.append(id(1), ProtocolVersion.of(2, 0));
+                journal.append(id(2), new State(State.Standard.ACTIVE));
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                segment = files.filter(f -> f.toString().endsWith(".seg")).findFirst().orElseThrow();
+            }
+            completeSize = Files.size(segment);
+            // Simulate a crash in the middle of writing a record: a key frame followed by half a value frame
+            byte[] torn = new byte[20];
+            System.arraycopy(Files.readAllBytes(segment), 0, torn, 0, torn.length);
+            Files.write(segment, torn, StandardOpenOption.APPEND);
+
+            try (TtlvJournal journal = open(TtlvJournal.DEFAULT_SEGMENT_SIZE)) {
+                assertThat(Files.size(segment)).isEqualTo(completeSize);
+                assertThat(journal.get(id(1), ProtocolVersion.class)).contains(ProtocolVersion.of(2, 0));
+                assertThat(journal.get(id(2), State.class)).contains(new State(State.Standard.ACTIVE));
+
+                journal.append(id(3), ProtocolVersion.of(3, 0));
+            }
+            try (TtlvJournal journal = open(TtlvJournal.DEFAULT_SEGMENT_SIZE)) {
+                assertThat(journal.get(id(3), ProtocolVersion.class)).contains(ProtocolVersion.of(3, 0));
+            }
+        }
+
+        @Test
+        @DisplayName("Stale sidecar index is ignored and the segment rescanned")
+        void recover_staleIndex() throws IOException {
+            try (TtlvJournal journal = open(256)) {
+                for (int i = 0; i < 20; i++) {
+                    journal.append(id(i), ProtocolVersion.of(i, 0));
+                }
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path index : files.filter(f -> f.toString().endsWith(".idx")).toList()) {
+                    Files.write(index, new byte[]{1, 2, 3});
+                }
+            }
+
+            try (TtlvJournal journal = open(256)) {
+                assertThat(journal.size()).isEqualTo(20);
+                assertThat(journal.get(id(7), ProtocolVersion.class)).contains(ProtocolVersion.of(7, 0));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compaction")
+    class Compaction {
+        @Test
+        @DisplayName("Compaction keeps only live records and survives reopen")
+        void compact_keepsLiveRecords() throws IOException {
+            try (TtlvJournal journal = open(256)) {
+                for (int i = 0; i < 100; i++) {
+                    journal.append(id(i % 5), ProtocolVersion.of(i, 1));
+                }
+                int before = journal.segmentCount();
+
+                journal.compact();
+
+                assertThat(journal.segmentCount()).isLessThan(before);
+                for (int i = 95; i < 100; i++) {
+                    assertThat(journal.get(id(i % 5), ProtocolVersion.class)).contains(ProtocolVersion.of(i, 1));
+                }
+            }
+            assertThat(fileCount(".compact")).isZero();
+
+            try (TtlvJournal journal = open(256)) {
+                assertThat(journal.size()).isEqualTo(5);
+                for (int i = 95; i < 100; i++) {
+                    assertThat(journal.get(id(i % 5), ProtocolVersion.class)).contains(ProtocolVersion.of(i, 1));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Compaction merges segments by tier and never past the maximum compacted size")
+        void compact_tieredAndCapped() throws IOException {
+            long maxCompactedSize = 1024;
+            try (TtlvJournal journal = TtlvJournal.open(dir, ttlvMapper, 256, 0, maxCompactedSize)) {
+                for (int i = 0; i < 200; i++) {
+                    journal.append(id(i), ProtocolVersion.of(i, 3));
+                }
+                journal.roll();
+                int before = journal.segmentCount();
+                int count;
+                do {
+                    count = journal.segmentCount();
+                    journal.compact();
+                } while (journal.segmentCount() < count);
+
+                assertThat(journal.segmentCount()).isLessThan(before);
+                assertThat(segmentSizes().values()).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(maxCompactedSize));
+
+                // Only the newest sealed segment can join a run with a newly sealed one
+                Map<String, Long> settled = segmentSizes();
+                settled.remove(settled.keySet().stream().max(String::compareTo).orElseThrow());
+                journal.append(id(200), ProtocolVersion.of(200, 3));
+                journal.roll();
+                journal.compact();
+                assertThat(segmentSizes()).containsAllEntriesOf(settled);
+                for (int i = 0; i <= 200; i++) {
+                    assertThat(journal.get(id(i), ProtocolVersion.class)).contains(ProtocolVersion.of(i, 3));
+                }
+            }
+
+            try (TtlvJournal journal = open(256)) {
+                assertThat(journal.size()).isEqualTo(201);
+            }
+        }
+
+        @Test
+        @DisplayName("Background compaction runs once enough segments are sealed")
+        void compact_background() throws Exception {
+            try (TtlvJournal journal = TtlvJournal.open(dir, ttlvMapper, 256, 3)) {
+                for (int i = 0; i < 200; i++) {
+                    journal.append(id(i % 3), ProtocolVersion.of(i, 2));
+                }
+                long deadline = System.currentTimeMillis() + 5_000;
+                while (journal.segmentCount() > 4 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+
+                assertThat(journal.segmentCount()).isLessThanOrEqualTo(4);
+                for (int i = 197; i < 200; i++) {
+                    assertThat(journal.get(id(i % 3), ProtocolVersion.class)).contains(ProtocolVersion.of(i, 2));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Reads racing appends and compaction never hit a retired segment")
+        void compact_concurrentReads() throws Exception {
+            int keys = 16;
+            int appends = 1_000;
+            Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+            AtomicBoolean writing = new AtomicBoolean(true);
+            ExecutorService readers = Executors.newFixedThreadPool(4);
+
+            try (TtlvJournal journal = TtlvJournal.open(dir, ttlvMapper, 256, 2)) {
+                for (int i = 0; i < keys; i++) {
+                    journal.append(id(i), ProtocolVersion.of(0, i));
+                }
+                for (int r = 0; r < 4; r++) {
+                    int first = r;
+                    readers.execute(() -> {
+                        int i = first;
+                        while (writing.get()) {
+                            try {
+                                ProtocolVersion version = journal.get(id(i % keys), ProtocolVersion.class).orElseThrow();
+                                assertThat(version.getMinor()).isEqualTo(i % keys);
+                            } catch (Throwable t) {
+                                failures.add(t);
+                                return;
+                            }
+                            i++;
+                        }
+                    });
+                }
+                for (int i = keys; i < appends; i++) {
+                    journal.append(id(i % keys), ProtocolVersion.of(i / keys, i % keys));
+                    if (i % 100 == 0) {
+                        journal.compact();
+                    }
+                }
+                writing.set(false);
+                readers.shutdown();
+                assertThat(readers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+                assertThat(failures).isEmpty();
+                for (int i = appends - keys; i < appends; i++) {
+                    assertThat(journal.get(id(i % keys), ProtocolVersion.class))
+                            .contains(ProtocolVersion.of(i / keys, i % keys));
+                }
+            } finally {
+                readers.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("A record looked up before a compaction stays readable after its segment is retired")
+        void compact_retiredSegmentReadable() throws IOException {
+            try (TtlvJournal journal = TtlvJournal.open(dir, ttlvMapper, 256, 0)) {
+                journal.append(id(0), ProtocolVersion.of(1, 0));
+                for (int i = 1; i < 40; i++) {
+                    journal.append(id(1 + i % 3), ProtocolVersion.of(1, i));
+                }
+            }
+            // Sealed segments are loaded from their index and not mapped until first read
+            try (TtlvJournal journal = TtlvJournal.open(dir, ttlvMapper, 256, 0)) {
+                JournalSegment.Location location = journal.locate(id(0));
+                journal.append(id(0), ProtocolVersion.of(2, 0));
+                journal.roll();
+                journal.compact();
+
+                assertThat(location.segment().path()).doesNotExist();
+                assertThat(ttlvMapper.readValue(location.segment().slice(location.valuePosition(), location.valueLength()),
+                        ProtocolVersion.class)).isEqualTo(ProtocolVersion.of(1, 0));
+            }
+        }
+    }
+}
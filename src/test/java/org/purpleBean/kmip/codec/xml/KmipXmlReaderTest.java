@@ -0,0 +1,79 @@
+package org.purpleBean.kmip.codec.xml;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KmipXmlReader Tests")
+class KmipXmlReaderTest extends BaseKmipTest {
+
+    private String batch(List<?> values) throws IOException {
+        StringBuilder xml = new StringBuilder("<Batch>");
+        for (Object value : values) {
+            xml.append(xmlMapper.writeValueAsString(value));
+        }
+        return xml.append("</Batch>").toString();
+    }
+
+    @Test
+    @DisplayName("Streams every child of the root element")
+    void readValues_children() throws IOException {
+        List<ProtocolVersion> values = IntStream.range(0, 50).mapToObj(i -> ProtocolVersion.of(i % 3, i)).toList();
+
+        try (KmipXmlReader reader = KmipXmlReader.create(xmlMapper, new StringReader(batch(values)))) {
+            assertThat(reader.nextChild()).isTrue();
+            assertThat(reader.readValues(ProtocolVersion.class).toList()).containsExactlyElementsOf(values);
+            assertThat(reader.getDepth()).isZero();
+            assertThat(reader.nextChild()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Exposes tags and attributes, and skips elements that are not read")
+    void walk_mixedChildren() throws IOException {
+        State active = new State(State.Standard.ACTIVE);
+        State destroyed = new State(State.Standard.DESTROYED);
+        String xml = batch(List.of(active, ProtocolVersion.of(1, 4), destroyed));
+
+        List<State> states = new ArrayList<>();
+        try (KmipXmlReader reader = KmipXmlReader.create(xmlMapper, new StringReader(xml))) {
+            reader.nextChild();
+            while (reader.nextChild()) {
+                assertThat(reader.getDepth()).isEqualTo(2);
+                if (reader.getTag() == KmipTag.Standard.STATE) {
+                    assertThat(reader.getEncodingType()).contains(EncodingType.ENUMERATION);
+                    assertThat(reader.getValue()).isNotNull();
+                    states.add(reader.readValue(State.class));
+                } else {
+                    assertThat(reader.getValue()).isNull();
+                    reader.skipElement();
+                }
+            }
+            assertThat(reader.getTagName()).isEqualTo("Batch");
+        }
+        assertThat(states).containsExactly(active, destroyed);
+    }
+
+    @Test
+    @DisplayName("Reading requires a start tag")
+    void readValue_requiresStartTag() throws IOException {
+        try (KmipXmlReader reader = KmipXmlReader.create(xmlMapper, new StringReader("<Batch/>"))) {
+            reader.nextChild();
+            assertThat(reader.nextChild()).isFalse();
+            assertThatThrownBy(() -> reader.readValue(State.class)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
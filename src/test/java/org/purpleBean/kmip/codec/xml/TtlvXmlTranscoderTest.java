@@ -0,0 +1,162 @@
+package org.purpleBean.kmip.codec.xml;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.EncodingType;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.ProtocolVersion;
+import org.purpleBean.kmip.codec.ttlv.TtlvWriter;
+import org.purpleBean.kmip.common.ActivationDate;
+import org.purpleBean.kmip.common.AttributeValue;
+import org.purpleBean.kmip.common.CryptographicLength;
+import org.purpleBean.kmip.common.LeaseTime;
+import org.purpleBean.kmip.common.NameValue;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.Attribute;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TtlvXmlTranscoder Tests")
+class TtlvXmlTranscoderTest extends BaseKmipTest {
+
+    private static final OffsetDateTime FIXED_TIME = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+    private static final List<Object> VALUES = List.of(
+            new State(State.Standard.ACTIVE),
+            CryptographicLength.of(256),
+            NameValue.of("some-name"),
+            ActivationDate.builder().value(FIXED_TIME).build(),
+            LeaseTime.of(3600),
+            ProtocolVersion.of(1, 2),
+            Name.builder()
+                    .nameValue(NameValue.of("some-name"))
+                    .nameType(new NameType(NameType.Standard.URI))
+                    .build(),
+            Attribute.of(ActivationDate.builder().value(FIXED_TIME).build()),
+            AttributeValue.of(EncodingType.BOOLEAN, true),
+            AttributeValue.of(EncodingType.BYTE_STRING, ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})),
+            AttributeValue.of(EncodingType.BIG_INTEGER, BigInteger.valueOf(251)),
+            AttributeValue.of(EncodingType.INTERVAL, 86400),
+            AttributeValue.of(EncodingType.DATE_TIME, FIXED_TIME)
+    );
+
+    @Override
+    protected void setupDefaultSpec() {
+        defaultSpec = KmipSpec.V1_2;
+    }
+
+    private String toXml(ByteBuffer ttlv) throws XMLStreamException {
+        StringWriter xml = new StringWriter();
+        XMLStreamWriter out = xmlMapper.getFactory().getXMLOutputFactory().createXMLStreamWriter(xml);
+        TtlvXmlTranscoder.transcode(ttlv, out);
+        out.close();
+        return xml.toString();
+    }
+
+    private byte[] toTtlv(String xml) throws XMLStreamException {
+        XMLStreamReader in = xmlMapper.getFactory().getXMLInputFactory().createXMLStreamReader(new StringReader(xml));
+        ByteBuffer ttlv = TtlvXmlTranscoder.toTtlv(in);
+        in.close();
+        byte[] bytes = new byte[ttlv.remaining()];
+        ttlv.get(bytes);
+        return bytes;
+    }
+
+    @Nested
+    @DisplayName("TTLV to XML")
+    class ToXml {
+
+        @Test
+        @DisplayName("Matches the XML mapper output")
+        void transcode_matchesMapper() throws IOException, XMLStreamException {
+            for (Object value : VALUES) {
+                String xml = toXml(ByteBuffer.wrap(ttlvMapper.writeValueAsBytes(value)));
+
+                assertThat(xml).isEqualTo(xmlMapper.writeValueAsString(value));
+            }
+        }
+
+        @Test
+        @DisplayName("Writes unknown tags as TTLV elements and unknown enumeration values as numbers")
+        void transcode_unknownTagAndValue() throws XMLStreamException {
+            TtlvWriter out = new TtlvWriter();
+            out.startStructure(0x4200FF);
+            out.writeInt(0x42008D, EncodingType.ENUMERATION, 0x7FFF);
+            out.endStructure();
+
+            assertThat(toXml(out.toByteBuffer())).isEqualTo(
+                    "<TTLV tag=\"0x4200FF\"><State type=\"Enumeration\" value=\"32767\"/></TTLV>");
+        }
+    }
+
+    @Nested
+    @DisplayName("XML to TTLV")
+    class ToTtlv {
+
+        @Test
+        @DisplayName("Matches the TTLV mapper output")
+        void transcode_matchesMapper() throws IOException, XMLStreamException {
+            for (Object value : VALUES) {
+                String xml = xmlMapper.writeValueAsString(value);
+
+                assertThat(toTtlv(xml)).as(xml).isEqualTo(ttlvMapper.writeValueAsBytes(value));
+            }
+        }
+
+        @Test
+        @DisplayName("Round-trips unknown tags")
+        void transcode_unknownTag() throws XMLStreamException {
+            TtlvWriter out = new TtlvWriter();
+            out.startStructure(0x4200FF);
+            out.writeText(0x4200FE, "x");
+            out.endStructure();
+            ByteBuffer ttlv = out.toByteBuffer();
+
+            assertThat(ByteBuffer.wrap(toTtlv(toXml(ttlv)))).isEqualTo(ttlv);
+        }
+
+        @Test
+        @DisplayName("Rejects Integer values outside 32 bits")
+        void transcode_integerOutOfRange() throws IOException, XMLStreamException {
+            byte[] expected = ttlvMapper.writeValueAsBytes(CryptographicLength.of(256));
+
+            assertThat(toTtlv("<CryptographicLength type=\"Integer\" value=\"0x00000100\"/>")).isEqualTo(expected);
+            for (String value : List.of("5000000000", "-2147483649", "0x100000000")) {
+                assertThatThrownBy(() -> toTtlv("<CryptographicLength type=\"Integer\" value=\"" + value + "\"/>"))
+                        .as(value)
+                        .isInstanceOf(XMLStreamException.class)
+                        .hasMessageContaining("Invalid Integer value");
+            }
+        }
+
+        @Test
+        @DisplayName("Rejects unknown tags, bad values and children of scalars")
+        void transcode_invalid() {
+            assertThatThrownBy(() -> toTtlv("<NoSuchTag type=\"Integer\" value=\"1\"/>"))
+                    .isInstanceOf(XMLStreamException.class);
+            assertThatThrownBy(() -> toTtlv("<State type=\"Enumeration\" value=\"NoSuchState\"/>"))
+                    .isInstanceOf(XMLStreamException.class);
+            assertThatThrownBy(() -> toTtlv("<State type=\"Enumeration\"/>"))
+                    .isInstanceOf(XMLStreamException.class);
+            assertThatThrownBy(() -> toTtlv("<State type=\"Enumeration\" value=\"Active\"><State/></State>"))
+                    .isInstanceOf(XMLStreamException.class);
+        }
+    }
+}
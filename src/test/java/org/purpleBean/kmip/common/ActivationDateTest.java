@@ -1,6 +1,7 @@
 package org.purpleBean.kmip.common;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.common.enumeration.State;
@@ -9,6 +10,9 @@ import org.purpleBean.kmip.test.suite.AbstractKmipDataTypeAttributeSuite;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 @DisplayName("ActivationDate Domain Tests")
 class ActivationDateTest extends AbstractKmipDataTypeAttributeSuite<ActivationDate> {
 
@@ -78,4 +82,24 @@ class ActivationDateTest extends AbstractKmipDataTypeAttributeSuite<ActivationDa
     protected State stateForClientModifiableFalse() {
         return new State(State.Standard.ACTIVE);
     }
+
+    @Test
+    @DisplayName("Stores whole epoch seconds and presents the value in UTC")
+    void value_storedAsEpochSeconds() {
+        OffsetDateTime local = OffsetDateTime.of(2024, 1, 2, 8, 34, 5, 999_000_000, ZoneOffset.ofHoursMinutes(5, 30));
+
+        ActivationDate date = ActivationDate.of(local);
+
+        assertThat(date.getEpochSecond()).isEqualTo(FIXED_TIME.toEpochSecond());
+        assertThat(date.getValue()).isEqualTo(FIXED_TIME);
+        assertThat(date).isEqualTo(createDefault()).hasSameHashCodeAs(createDefault());
+    }
+
+    @Test
+    @DisplayName("Builder without a value fails instead of defaulting to the epoch")
+    void builder_requiresValue() {
+        assertThatThrownBy(() -> ActivationDate.builder().build()).isInstanceOf(NullPointerException.class);
+        assertThat(ActivationDate.builder().epochSecond(0).build().getValue())
+                .isEqualTo(OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
 }
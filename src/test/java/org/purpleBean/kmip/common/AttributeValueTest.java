@@ -1,14 +1,20 @@
 package org.purpleBean.kmip.common;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.test.suite.AbstractKmipDataTypeSuite;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("AttributeValue Domain Tests")
 class AttributeValueTest extends AbstractKmipDataTypeSuite<AttributeValue> {
@@ -41,4 +47,52 @@ class AttributeValueTest extends AbstractKmipDataTypeSuite<AttributeValue> {
             assertThat(type).isEqualTo(expectedEncodingType());
         }
     }
+
+    @Nested
+    @DisplayName("Value classes")
+    class ValueClassTests {
+        @Test
+        @DisplayName("Typed factories pick the value class and encoding type")
+        void typedFactories_pickValueClass() {
+            assertThat(AttributeValue.of(7)).isInstanceOf(AttributeValue.IntValue.class)
+                    .extracting(AttributeValue::getEncodingType).isEqualTo(EncodingType.INTEGER);
+            assertThat(AttributeValue.of(EncodingType.INTERVAL, 86400).getInt()).isEqualTo(86400);
+            assertThat(AttributeValue.of(7L).getLong()).isEqualTo(7L);
+            assertThat(AttributeValue.of(true).getBoolean()).isTrue();
+            assertThat(AttributeValue.of(FIXED_TIME).getEpochSecond()).isEqualTo(FIXED_TIME.toEpochSecond());
+            assertThat(AttributeValue.of("text")).isInstanceOf(AttributeValue.TextValue.class);
+            assertThat(AttributeValue.of(BigInteger.TEN)).isInstanceOf(AttributeValue.BigIntValue.class);
+            assertThat(AttributeValue.of(ByteBuffer.wrap(new byte[]{1}))).isInstanceOf(AttributeValue.BytesValue.class);
+            assertThat(AttributeValue.of(AttributeName.of("Name")).getValues()).containsExactly(AttributeName.of("Name"));
+        }
+
+        @Test
+        @DisplayName("The builder and generic factories create the same value classes")
+        void builder_matchesTypedFactories() {
+            Object[][] cases = {
+                    {EncodingType.ENUMERATION, 3, AttributeValue.of(EncodingType.ENUMERATION, 3)},
+                    {EncodingType.LONG_INTEGER, 5L, AttributeValue.of(5L)},
+                    {EncodingType.BOOLEAN, false, AttributeValue.of(false)},
+                    {EncodingType.DATE_TIME, FIXED_TIME, AttributeValue.ofDateTime(FIXED_TIME.toEpochSecond())},
+                    {EncodingType.TEXT_STRING, "text", AttributeValue.of("text")},
+                    {EncodingType.STRUCTURE, List.of(AttributeName.of("Name")), AttributeValue.of(AttributeName.of("Name"))},
+            };
+            for (Object[] c : cases) {
+                AttributeValue built = AttributeValue.builder().encodingType((EncodingType) c[0]).value(c[1]).build();
+
+                assertThat(built).isEqualTo(c[2]).hasSameHashCodeAs(c[2]);
+                assertThat(built.getValue()).isEqualTo(c[1]);
+            }
+        }
+
+        @Test
+        @DisplayName("Rejects values that do not match the encoding type")
+        void mismatchedValue_rejected() {
+            assertThatThrownBy(() -> AttributeValue.of(EncodingType.INTEGER, "1")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> AttributeValue.of(EncodingType.BOOLEAN, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> AttributeValue.of(EncodingType.STRUCTURE, List.of("x"))).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> AttributeValue.of(EncodingType.TEXT_STRING, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> AttributeValue.of(7).getValues()).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
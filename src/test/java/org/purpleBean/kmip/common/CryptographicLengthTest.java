@@ -199,4 +199,19 @@ class CryptographicLengthTest extends AbstractKmipDataTypeAttributeSuite<Cryptog
         CryptographicLength length = CryptographicLength.of(attributeName, attrValue);
         assertThat(length.getValue()).isEqualTo(384);
     }
+
+    @Test
+    @DisplayName("Builder without a value fails instead of defaulting to zero")
+    void builder_requiresValue() {
+        assertThatThrownBy(() -> CryptographicLength.builder().build()).isInstanceOf(NullPointerException.class);
+        assertThat(CryptographicLength.builder().value(0).build().getValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("Rejects a negative length")
+    void of_rejectsNegative() {
+        assertThatThrownBy(() -> CryptographicLength.of(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CryptographicLength.builder().value(-1).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CryptographicLength.fromValue(AttributeValue.of(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -1,11 +1,15 @@
 package org.purpleBean.kmip.common;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.purpleBean.kmip.EncodingType;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.common.enumeration.State;
 import org.purpleBean.kmip.test.suite.AbstractKmipDataTypeAttributeSuite;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 @DisplayName("UniqueIdentifier Domain Tests")
 class UniqueIdentifierTest extends AbstractKmipDataTypeAttributeSuite<UniqueIdentifier> {
 
@@ -79,4 +83,11 @@ class UniqueIdentifierTest extends AbstractKmipDataTypeAttributeSuite<UniqueIden
 
     protected void attribute_clientModifiable_respectsState() {
     }
+
+    @Test
+    @DisplayName("Rejects a blank identifier")
+    void of_rejectsBlank() {
+        assertThat(UniqueIdentifier.of("id").getValue()).isEqualTo("id");
+        assertThatThrownBy(() -> UniqueIdentifier.of(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,191 @@
+package org.purpleBean.kmip.common.structure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.KmipAttribute;
+import org.purpleBean.kmip.KmipSpec;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.common.*;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AttributeSet Tests")
+class AttributeSetTest extends BaseKmipTest {
+
+    private static final OffsetDateTime FIXED_TIME = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+    private static ByteBuffer concat(ByteBuffer[] segments) {
+        int length = 0;
+        for (ByteBuffer segment : segments) {
+            length += segment.remaining();
+        }
+        ByteBuffer out = ByteBuffer.allocate(length);
+        for (ByteBuffer segment : segments) {
+            out.put(segment.duplicate());
+        }
+        return out.flip();
+    }
+
+    @Nested
+    @DisplayName("Single-instance attributes")
+    class SingleInstanceTests {
+        @Test
+        @DisplayName("Gets, replaces and removes by tag and by name")
+        void getSetRemove() {
+            AttributeSet set = new AttributeSet();
+            ActivationDate first = ActivationDate.of(FIXED_TIME);
+            ActivationDate second = ActivationDate.of(FIXED_TIME.plusDays(1));
+
+            assertThat(set.set(first)).isNull();
+            assertThat(set.get(KmipTag.Standard.ACTIVATION_DATE)).isSameAs(first);
+            assertThat(set.get("Activation Date")).isSameAs(first);
+            assertThat(set.set(second)).isSameAs(first);
+            assertThat(set.size()).isEqualTo(1);
+
+            assertThat(set.remove(KmipTag.Standard.ACTIVATION_DATE, 0)).isSameAs(second);
+            assertThat(set.contains(KmipTag.Standard.ACTIVATION_DATE)).isFalse();
+            assertThat(set.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Rejects a second instance or a non-zero index")
+        void rejectsMultipleInstances() {
+            AttributeSet set = AttributeSet.of(CryptographicLength.of(128));
+
+            assertThatThrownBy(() -> set.add(CryptographicLength.of(256)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> set.set(CryptographicLength.of(256), 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(set.get(KmipTag.Standard.CRYPTOGRAPHIC_LENGTH, 1)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-instance attributes")
+    class MultiInstanceTests {
+        @Test
+        @DisplayName("Keeps the indexes of other instances on removal and reuses the lowest free index")
+        void indexesAreStable() {
+            AttributeSet set = new AttributeSet();
+            ObjectGroup a = ObjectGroup.of("a");
+            ObjectGroup b = ObjectGroup.of("b");
+            ObjectGroup c = ObjectGroup.of("c");
+
+            assertThat(set.add(a)).isZero();
+            assertThat(set.add(b)).isEqualTo(1);
+            assertThat(set.add(c)).isEqualTo(2);
+            assertThat(set.remove(KmipTag.Standard.OBJECT_GROUP, 1)).isSameAs(b);
+
+            assertThat(set.get(KmipTag.Standard.OBJECT_GROUP, 2)).isSameAs(c);
+            assertThat(set.getAll(KmipTag.Standard.OBJECT_GROUP)).containsExactly(a, c);
+            assertThat(set.add(b)).isEqualTo(1);
+            assertThat(set.size()).isEqualTo(3);
+            assertThat(set.removeAll(KmipTag.Standard.OBJECT_GROUP)).isEqualTo(3);
+            assertThat(set.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Stores a large Attribute Index without allocating up to it")
+        void largeIndex_storedSparsely() {
+            AttributeSet set = new AttributeSet();
+            ObjectGroup far = ObjectGroup.of("far");
+            ObjectGroup near = ObjectGroup.of("near");
+            int index = 1 << 30;
+
+            assertThat(set.set(far, index)).isNull();
+            assertThat(set.add(near)).isZero();
+            assertThat(set.get(KmipTag.Standard.OBJECT_GROUP, index)).isSameAs(far);
+            assertThat(set).containsExactly(near, far);
+            assertThat(set.toAttributes()).extracting(Attribute::getAttributeIndex)
+                    .containsExactly(null, AttributeIndex.of(index));
+            assertThat(set.remove(KmipTag.Standard.OBJECT_GROUP, index)).isSameAs(far);
+            assertThat(set.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Groups custom attributes by name")
+        void customAttributesByName() {
+            CustomAttribute first = CustomAttribute.of("x-First", "one");
+            CustomAttribute other = CustomAttribute.of("x-First", "two");
+            CustomAttribute second = CustomAttribute.of("y-Second", 2);
+            AttributeSet set = AttributeSet.of(first, second, other);
+
+            assertThat(set.getAll("x-First")).containsExactly(first, other);
+            assertThat(set.get("y-Second")).isSameAs(second);
+            assertThat(set.get(KmipTag.Standard.ATTRIBUTE)).isNull();
+            assertThat(set.remove("y-Second", 0)).isSameAs(second);
+            assertThat(set.get("y-Second")).isNull();
+            assertThat(set).containsExactly(first, other);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering and encoding")
+    class OrderingTests {
+        @Test
+        @DisplayName("Iterates in insertion order through growth, removals and compaction")
+        void iterationOrder_matchesReference() {
+            List<KmipAttribute> attributes = List.of(
+                    ActivationDate.of(FIXED_TIME), ArchiveDate.of(FIXED_TIME), DestroyDate.of(FIXED_TIME),
+                    LastChangeDate.of(FIXED_TIME), CryptographicLength.of(128), CryptographicUsageMask.of(12),
+                    CertificateLength.of(1024), LeaseTime.of(3600), ContactInformation.of("ops"),
+                    OperationPolicyName.of("default"), new State(State.Standard.ACTIVE), ObjectGroup.of("g"));
+            AttributeSet set = new AttributeSet();
+            List<KmipAttribute> reference = new ArrayList<>();
+
+            for (int round = 0; round < 4; round++) {
+                for (KmipAttribute attribute : attributes) {
+                    set.add(attribute);
+                    reference.add(attribute);
+                }
+                for (int i = round % 2; i < attributes.size(); i += 2) {
+                    KmipAttribute attribute = attributes.get(i);
+                    assertThat(set.remove(attribute.getKmipTag().getValue(), 0)).isSameAs(attribute);
+                    reference.remove(attribute);
+                }
+                assertThat(set).containsExactlyElementsOf(reference);
+                for (KmipAttribute attribute : reference) {
+                    assertThat(set.get(attribute.getKmipTag().getValue())).isSameAs(attribute);
+                }
+                for (KmipAttribute attribute : reference) {
+                    set.remove(attribute.getKmipTag().getValue(), 0);
+                }
+                reference.clear();
+                assertThat(set.isEmpty()).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Encodes the same bytes as the Attribute structures and decodes back")
+        void writeTo_matchesAttributes() throws IOException {
+            // Decoding looks up registrations, which are made for concrete specs only
+            withKmipSpec(KmipSpec.V1_2);
+            AttributeSet set = AttributeSet.of(ActivationDate.of(FIXED_TIME), ObjectGroup.of("a"),
+                    CryptographicLength.of(256), ObjectGroup.of("b"), 
+                    CustomAttribute.of("x-Note", AttributeValue.of(AttributeName.of("n"))));
+            List<Attribute> attributes = set.toAttributes();
+            ByteBuffer expected = ByteBuffer.allocate(1024);
+            ttlvMapper.writeValues(attributes, expected);
+
+            ByteBuffer encoded = concat(set.writeAsSegments(ttlvMapper));
+
+            assertThat(encoded).isEqualTo(expected.flip());
+            assertThat(attributes.get(2).getAttributeIndex()).isEqualTo(AttributeIndex.of(1));
+            List<Attribute> decoded = ttlvMapper.readValues(encoded, Attribute.class);
+            AttributeSet restored = AttributeSet.fromAttributes(decoded);
+            assertThat(restored.toAttributes()).isEqualTo(attributes);
+            assertThat(restored.get(KmipTag.Standard.OBJECT_GROUP, 1)).isEqualTo(ObjectGroup.of("b"));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.purpleBean.kmip.locate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.KmipTag;
+import org.purpleBean.kmip.common.ActivationDate;
+import org.purpleBean.kmip.common.ContactInformation;
+import org.purpleBean.kmip.common.CryptographicLength;
+import org.purpleBean.kmip.common.ObjectGroup;
+import org.purpleBean.kmip.common.enumeration.CryptographicAlgorithm;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.Attribute;
+import org.purpleBean.kmip.common.structure.AttributeSet;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocateIndex Tests")
+class LocateIndexTest extends BaseKmipTest {
+
+    private static final int OBJECTS = 500;
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final State.Standard[] STATES = {State.Standard.PRE_ACTIVE, State.Standard.ACTIVE, State.Standard.DEACTIVATED};
+    private static final CryptographicAlgorithm.Standard[] ALGORITHMS = {
+            CryptographicAlgorithm.Standard.AES, CryptographicAlgorithm.Standard.RSA, CryptographicAlgorithm.Standard.TRIPLE_DES};
+    private static final int[] LENGTHS = {128, 256, 2048};
+
+    private static String id(int i) {
+        return "uid-" + i;
+    }
+
+    private static Name name(int i) {
+        return Name.of("key-" + i, new NameType(NameType.Standard.UNINTERPRETED_TEXT_STRING));
+    }
+
+    private static AttributeSet object(int i) {
+        AttributeSet set = AttributeSet.of(
+                name(i),
+                new State(STATES[i % 3]),
+                new CryptographicAlgorithm(ALGORITHMS[i % 3 == 0 ? 0 : i % 2 + 1]),
+                CryptographicLength.of(LENGTHS[i % 3]),
+                ActivationDate.of(EPOCH.plusSeconds(i)),
+                ObjectGroup.of("g" + i % 5),
+                ContactInformation.of(i % 7 == 0 ? "ops" : "dev"));
+        if (i % 4 == 0) {
+            set.add(ObjectGroup.of("even"));
+        }
+        if (i % 10 == 0) {
+            set.add(CustomAttribute.of("x-Tier", "gold"));
+        }
+        return set;
+    }
+
+    private static LocateIndex populated() {
+        LocateIndex index = new LocateIndex();
+        for (int i = 0; i < OBJECTS; i++) {
+            index.put(id(i), object(i));
+        }
+        return index;
+    }
+
+    private static List<String> expected(IntPredicate predicate) {
+        return IntStream.range(0, OBJECTS).filter(predicate).mapToObj(LocateIndexTest::id).toList();
+    }
+
+    private static Attribute state(State.Standard state) {
+        return Attribute.of(new State(state));
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class QueryTests {
+        @Test
+        @DisplayName("Intersects bitmap, hash and range indexes like a scan would")
+        void indexedQueries_matchScan() {
+            LocateIndex index = populated();
+
+            assertThat(index.locate(List.of(state(State.Standard.ACTIVE),
+                    Attribute.of(new CryptographicAlgorithm(CryptographicAlgorithm.Standard.RSA)))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i % 3 == 1 && i % 2 == 0));
+            assertThat(index.locate(List.of(Attribute.of(name(42)))))
+                    .containsExactly(id(42));
+            assertThat(index.locate(List.of(Attribute.of(ObjectGroup.of("g1")), Attribute.of(ObjectGroup.of("even")))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i % 5 == 1 && i % 4 == 0));
+            assertThat(index.locate(List.of(Attribute.of(CryptographicLength.of(256)), state(State.Standard.ACTIVE))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i % 3 == 1));
+            assertThat(index.locate(List.of(Attribute.of(name(42)), state(State.Standard.ACTIVE)))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Treats two filters on a range-indexed attribute as an inclusive range")
+        void dateFilters_formRange() {
+            LocateIndex index = populated();
+
+            assertThat(index.locate(List.of(
+                    Attribute.of(ActivationDate.of(EPOCH.plusSeconds(200))),
+                    Attribute.of(ActivationDate.of(EPOCH.plusSeconds(100))),
+                    Attribute.of(ObjectGroup.of("g3")))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i >= 100 && i <= 200 && i % 5 == 3));
+            assertThat(index.locate(List.of(Attribute.of(ActivationDate.of(EPOCH.plusSeconds(7))))))
+                    .containsExactly(id(7));
+            assertThatThrownBy(() -> index.locate(List.of(
+                    Attribute.of(ActivationDate.of(EPOCH)), Attribute.of(ActivationDate.of(EPOCH)),
+                    Attribute.of(ActivationDate.of(EPOCH)))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Checks filters on attributes that are not indexed against the candidates")
+        void residualFilters_checkedOnCandidates() {
+            LocateIndex index = populated();
+
+            assertThat(index.locate(List.of(Attribute.of(ContactInformation.of("ops")), state(State.Standard.ACTIVE))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i % 7 == 0 && i % 3 == 1));
+            assertThat(index.locate(List.of(Attribute.of(CustomAttribute.of("x-Tier", "gold")))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i % 10 == 0));
+        }
+
+        @Test
+        @DisplayName("Returns every object for no filters and honours the maximum items")
+        void noFilters_andMaximumItems() {
+            LocateIndex index = populated();
+
+            assertThat(index.locate(List.of())).hasSize(OBJECTS);
+            assertThat(index.locate(List.of(state(State.Standard.ACTIVE)), 10)).hasSize(10)
+                    .allSatisfy(id -> assertThat(index.get(id).get(KmipTag.Standard.STATE)).isEqualTo(new State(State.Standard.ACTIVE)));
+            assertThatThrownBy(() -> index.locate(List.of(), -1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class UpdateTests {
+        @Test
+        @DisplayName("Reindexes replaced objects and forgets removed ones")
+        void putAndRemove_updateIndexes() {
+            LocateIndex index = populated();
+            AttributeSet replacement = object(1);
+            replacement.set(new State(State.Standard.DEACTIVATED));
+
+            index.put(id(1), replacement);
+            assertThat(index.remove(id(4))).isTrue();
+            assertThat(index.remove(id(4))).isFalse();
+
+            assertThat(index.size()).isEqualTo(OBJECTS - 1);
+            assertThat(index.locate(List.of(state(State.Standard.ACTIVE))))
+                    .containsExactlyInAnyOrderElementsOf(expected(i -> i % 3 == 1 && i != 1 && i != 4));
+            assertThat(index.locate(List.of(Attribute.of(name(4))))).isEmpty();
+
+            index.put("reused", object(4));
+            assertThat(index.locate(List.of(Attribute.of(name(4))))).containsExactly("reused");
+            assertThat(index.contains(id(4))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Rejects values a bitmap or range index cannot key without changing the index")
+        void put_rejectsUnindexableValues() {
+            LocateIndex index = new LocateIndex(Map.of(KmipTag.Standard.OBJECT_GROUP, LocateIndex.IndexType.RANGE));
+
+            assertThatThrownBy(() -> index.put("a", AttributeSet.of(ObjectGroup.of("g"))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(index.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.purpleBean.kmip.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.purpleBean.kmip.KmipAttribute;
+import org.purpleBean.kmip.common.*;
+import org.purpleBean.kmip.common.enumeration.CryptographicAlgorithm;
+import org.purpleBean.kmip.common.enumeration.NameType;
+import org.purpleBean.kmip.common.enumeration.State;
+import org.purpleBean.kmip.common.structure.AttributeSet;
+import org.purpleBean.kmip.common.structure.CustomAttribute;
+import org.purpleBean.kmip.common.structure.Name;
+import org.purpleBean.kmip.policy.AttributePolicyMatrix.Operation;
+import org.purpleBean.kmip.policy.AttributePolicyMatrix.Violation;
+import org.purpleBean.kmip.test.BaseKmipTest;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AttributePolicyMatrix Tests")
+class AttributePolicyMatrixTest extends BaseKmipTest {
+
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static List<KmipAttribute> attributes() {
+        return List.of(
+                Name.of("key", new NameType(NameType.Standard.UNINTERPRETED_TEXT_STRING)),
+                new State(State.Standard.ACTIVE),
+                new CryptographicAlgorithm(CryptographicAlgorithm.Standard.AES),
+                CryptographicLength.of(256),
+                CryptographicUsageMask.of(12),
+                ActivationDate.of(EPOCH),
+                DestroyDate.of(EPOCH),
+                ObjectGroup.of("g"),
+                ContactInformation.of("ops"),
+                CustomAttribute.of("x-Tier", "gold"),
+                CustomAttribute.of("y-Audit", "on"));
+    }
+
+    private static List<State> states() {
+        List<State> states = new ArrayList<>();
+        for (State.Standard standard : State.Standard.values()) {
+            states.add(new State(standard));
+        }
+        return states;
+    }
+
+    private static boolean permits(Operation operation, State state, KmipAttribute attribute) {
+        return switch (operation) {
+            case INITIALIZE -> attribute.isClientInitializable();
+            case ADD, MODIFY -> attribute.isClientModifiable(state);
+            case DELETE -> attribute.isClientDeletable();
+            case SERVER_INITIALIZE -> attribute.isServerInitializable();
+            case SERVER_MODIFY -> attribute.isServerModifiable(state);
+        };
+    }
+
+    @Nested
+    @DisplayName("Single attributes")
+    class SingleAttributeTests {
+        @Test
+        @DisplayName("Answers like the policy methods for every operation and state")
+        void isAllowed_matchesPolicyMethods() {
+            AttributePolicyMatrix matrix = new AttributePolicyMatrix();
+
+            for (Operation operation : Operation.values()) {
+                for (State state : states()) {
+                    for (KmipAttribute attribute : attributes()) {
+                        assertThat(matrix.isAllowed(operation, state, attribute))
+                                .as("%s of %s in %s", operation, attribute.getAttributeName().getValue(), state)
+                                .isEqualTo(permits(operation, state, attribute));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Separates client and server custom attributes")
+        void customAttributes_byNamePrefix() {
+            AttributePolicyMatrix matrix = new AttributePolicyMatrix();
+            matrix.compile(CustomAttribute.of("y-Audit", "on"));
+
+            assertThat(matrix.isAllowed(Operation.DELETE, null, CustomAttribute.of("x-Other", "v"))).isTrue();
+            assertThat(matrix.isAllowed(Operation.DELETE, null, CustomAttribute.of("y-Other", "v"))).isFalse();
+            assertThat(matrix.isAllowed(Operation.SERVER_MODIFY, new State(State.Standard.ACTIVE),
+                    CustomAttribute.of("y-Other", "v"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Requires a state only for state-dependent operations")
+        void state_requiredForStateDependentOperations() {
+            AttributePolicyMatrix matrix = new AttributePolicyMatrix();
+
+            assertThat(matrix.isAllowed(Operation.INITIALIZE, null, CryptographicLength.of(128))).isTrue();
+            assertThat(matrix.validate(Operation.SERVER_INITIALIZE, null, attributes()))
+                    .extracting(Violation::getAttribute)
+                    .containsExactlyElementsOf(attributes().stream().filter(a -> !a.isServerInitializable()).toList());
+            assertThatThrownBy(() -> matrix.validate(Operation.MODIFY, null, attributes()))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batches")
+    class BatchTests {
+        @Test
+        @DisplayName("Returns no violations for a permitted batch")
+        void validate_permittedBatch() {
+            AttributePolicyMatrix matrix = new AttributePolicyMatrix();
+            AttributeSet set = AttributeSet.of(
+                    Name.of("key", new NameType(NameType.Standard.UNINTERPRETED_TEXT_STRING)),
+                    ObjectGroup.of("a"), CustomAttribute.of("x-Tier", "gold"));
+            set.add(ObjectGroup.of("b"));
+
+            assertThat(matrix.validate(Operation.MODIFY, new State(State.Standard.ACTIVE), set)).isEmpty();
+            assertThat(matrix.validate(Operation.DELETE, new State(State.Standard.ACTIVE), List.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Reports every violation of a batch in order")
+        void validate_reportsEveryViolation() {
+            AttributePolicyMatrix matrix = new AttributePolicyMatrix();
+            List<KmipAttribute> batch = attributes();
+            State active = new State(State.Standard.ACTIVE);
+
+            for (Operation operation : Operation.values()) {
+                List<Violation> violations = matrix.validate(operation, active, batch);
+
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!permits(operation, active, batch.get(i))) {
+                        expected.add(i);
+                    }
+                }
+                assertThat(violations).extracting(Violation::getPosition).as("%s", operation).isEqualTo(expected);
+                assertThat(violations).allSatisfy(violation -> {
+                    assertThat(violation.getAttribute()).isSameAs(batch.get(violation.getPosition()));
+                    assertThat(violation.getOperation()).isEqualTo(operation);
+                    assertThat(violation.getState()).isSameAs(active);
+                });
+            }
+        }
+
+        @Test
+        @DisplayName("Applies state-dependent policies per state")
+        void validate_dependsOnState() {
+            AttributePolicyMatrix matrix = new AttributePolicyMatrix();
+            List<KmipAttribute> batch = List.of(CryptographicLength.of(128), ObjectGroup.of("g"));
+
+            assertThat(matrix.validate(Operation.MODIFY, new State(State.Standard.PRE_ACTIVE), batch)).isEmpty();
+            assertThat(matrix.validate(Operation.MODIFY, new State(State.Standard.ACTIVE), batch))
+                    .extracting(Violation::getPosition).containsExactly(0);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.purpleBean.kmip.test;
+
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Object footprint measurements with JOL, compared against the budgets recorded in
+ * {@code footprint/kmip-footprint.properties}.
+ * <p>
+ * The shallow size is the object itself. The retained size adds everything reachable from it except shared
+ * metadata: enum constants, classes and the values of static fields of KMIP classes, such as the
+ * {@code kmipTag} every data type declares. Every measurement is also written to
+ * {@code target/kmip-footprint.properties}, in the baseline format, to refresh the budgets after an
+ * intended change.
+ */
+public final class FootprintMeter {
+    private static final String BASELINE = "footprint/kmip-footprint.properties";
+    private static final String LAYOUT_KEY = "vm.layout";
+    private static final Path REPORT = Path.of("target", "kmip-footprint.properties");
+    private static final Map<String, String> MEASURED = new TreeMap<>();
+    private static final Properties BUDGETS = loadBudgets();
+
+    private FootprintMeter() {
+    }
+
+    public record Footprint(long shallow, long retained) {
+        static Footprint parse(String text) {
+            String[] parts = text.split(",");
+            return new Footprint(Long.parseLong(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        }
+
+        @Override
+        public String toString() {
+            return shallow + "," + retained;
+        }
+    }
+
+    public static Footprint measure(Object root) {
+        VirtualMachine vm = VM.current();
+        Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Class<?>> scanned = new HashSet<>();
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long retained = 0;
+        while (!pending.isEmpty()) {
+            Object obj = pending.pop();
+            Class<?> type = obj.getClass();
+            collectStatics(type, scanned, shared);
+            if (obj != root && (obj instanceof Enum<?> || obj instanceof Class<?> || shared.contains(obj))) {
+                continue;
+            }
+            if (!visited.add(obj)) {
+                continue;
+            }
+            retained += vm.sizeOf(obj);
+            if (type.isArray()) {
+                if (!type.getComponentType().isPrimitive()) {
+                    for (int i = 0; i < Array.getLength(obj); i++) {
+                        pushIfPresent(pending, Array.get(obj, i));
+                    }
+                }
+                continue;
+            }
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        pushIfPresent(pending, vm.getObject(obj, vm.fieldOffset(field)));
+                    }
+                }
+            }
+        }
+        return new Footprint(vm.sizeOf(root), retained);
+    }
+
+    /**
+     * @return whether the budgets were recorded for the object layout of this VM
+     */
+    public static boolean budgetsApply() {
+        return layout().equals(BUDGETS.getProperty(LAYOUT_KEY));
+    }
+
+    /**
+     * @return the recorded budget for a type, or {@code null} if none is recorded
+     */
+    public static Footprint budget(Class<?> type) {
+        String value = BUDGETS.getProperty(type.getName());
+        return value != null ? Footprint.parse(value) : null;
+    }
+
+    public static synchronized void record(Class<?> type, Footprint footprint) {
+        MEASURED.put(type.getName(), footprint.toString());
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (Writer writer = Files.newBufferedWriter(REPORT)) {
+                writer.write(LAYOUT_KEY + "=" + layout() + System.lineSeparator());
+                for (Map.Entry<String, String> entry : MEASURED.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String layout() {
+        VirtualMachine vm = VM.current();
+        return String.format("addr%d-klass%d-header%d-align%d",
+                vm.addressSize(), vm.classPointerSize(), vm.objectHeaderSize(), vm.objectAlignment());
+    }
+
+    private static void pushIfPresent(Deque<Object> pending, Object value) {
+        if (value != null) {
+            pending.push(value);
+        }
+    }
+
+    private static void collectStatics(Class<?> type, Set<Class<?>> scanned, Set<Object> shared) {
+        for (Class<?> c = type; c != null && scanned.add(c); c = c.getSuperclass()) {
+            if (!c.getName().startsWith("org.purpleBean.")) {
+                continue;
+            }
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive() && field.trySetAccessible()) {
+                    try {
+                        Object value = field.get(null);
+                        if (value != null) {
+                            shared.add(value);
+                        }
+                    } catch (IllegalAccessException ignored) {
+                        // Inaccessible statics are simply counted if reached
+                    }
+                }
+            }
+        }
+    }
+
+    private static Properties loadBudgets() {
+        Properties budgets = new Properties();
+        try (InputStream in = FootprintMeter.class.getClassLoader().getResourceAsStream(BASELINE)) {
+            if (in != null) {
+                budgets.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return budgets;
+    }
+}
@@ -7,8 +7,10 @@ import org.purpleBean.kmip.KmipDataType;
 import org.purpleBean.kmip.KmipSpec;
 import org.purpleBean.kmip.KmipTag;
 import org.purpleBean.kmip.test.BaseKmipTest;
+import org.purpleBean.kmip.test.FootprintMeter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Base domain suite for objects implementing KmipDataType.
@@ -71,4 +73,18 @@ public abstract class AbstractKmipDataTypeSuite<T extends KmipDataType> extends
                 () -> assertThat(obj.isSupported()).isEqualTo(expected)
         );
     }
+
+    @Test
+    @DisplayName("KMIP: footprint within recorded budget")
+    protected void kmip_footprintWithinBudget() {
+        T obj = createDefault();
+        FootprintMeter.Footprint footprint = FootprintMeter.measure(obj);
+        FootprintMeter.record(obj.getClass(), footprint);
+
+        assumeTrue(FootprintMeter.budgetsApply(), "Footprint budgets were recorded for a different VM layout");
+        FootprintMeter.Footprint budget = FootprintMeter.budget(obj.getClass());
+        assertThat(budget).as("footprint budget for " + obj.getClass().getName()).isNotNull();
+        assertThat(footprint.shallow()).as("shallow size").isLessThanOrEqualTo(budget.shallow());
+        assertThat(footprint.retained()).as("retained size").isLessThanOrEqualTo(budget.retained());
+    }
 }